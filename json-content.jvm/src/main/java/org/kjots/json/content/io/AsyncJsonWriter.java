@@ -0,0 +1,335 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.kjots.json.content.shared.JsonContentFlowControl;
+
+/**
+ * Asynchronous JSON Writer.
+ * <p>
+ * This JSON writer produces the same UTF-8 encoded JSON text as the
+ * {@link Utf8JsonWriter}, but never writes to an output itself. Instead, the
+ * encoded JSON text is copied into a bounded pool of fixed-size
+ * {@link ByteBuffer} instances, which are queued for a consumer that writes
+ * them at its own pace, so that no thread blocks on a slow client.
+ * <p>
+ * The queued buffers may be consumed by:
+ * <ul>
+ * <li>{@link #poll()} and {@link #release(ByteBuffer)}, for an asynchronous
+ *     output such as an asynchronous channel, which releases each buffer when
+ *     its write has completed; or</li>
+ * <li>{@link #writeTo(WritableByteChannel)}, for a channel in non-blocking
+ *     mode, which is called again whenever the channel is writable.</li>
+ * </ul>
+ * A buffer is queued whenever it is full, and at the end of the JSON content
+ * or when {@link #flush()} is called.
+ * <p>
+ * The writer is ready as long as fewer buffers than the buffer count are
+ * queued or being written. The writer is a {@link JsonContentFlowControl}, so
+ * a producer of JSON content that can pause, such as the JSON object content
+ * generator of the JSON object module when it is given the writer as its flow
+ * control, checks {@link #isReady()} between values, pauses when it returns
+ * <code>false</code>, and is resumed when the {@link Listener} of the writer
+ * is notified that the writer is writable again. A producer that cannot
+ * pause, such as a JSON reader, is not subject to back-pressure: a value that
+ * is sent while the writer is not ready is still accepted, into a buffer
+ * outside of the pool, so the memory used by the writer is bounded by the
+ * buffer count only for the producers that check.
+ * <p>
+ * The pool and the queue may be accessed by the consumer from a different
+ * thread than the producer, but there must be at most one of each.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class AsyncJsonWriter extends Utf8JsonWriter implements JsonContentFlowControl {
+  /**
+   * Listener.
+   * <p>
+   * The listener is notified outside of the lock of the writer, on the thread
+   * of the producer or the consumer that caused the notification.
+   */
+  public interface Listener {
+    /**
+     * Handle a buffer that has been queued while the queue was empty.
+     *
+     * @param asyncJsonWriter The asynchronous JSON writer.
+     */
+    public void bufferQueued(AsyncJsonWriter asyncJsonWriter);
+
+    /**
+     * Handle a writer that has become ready after it was not ready.
+     *
+     * @param asyncJsonWriter The asynchronous JSON writer.
+     */
+    public void writable(AsyncJsonWriter asyncJsonWriter);
+  }
+
+  /**
+   * Buffer Queue Output.
+   */
+  private static class BufferQueueOutput extends Output {
+    /** The asynchronous JSON writer. */
+    private AsyncJsonWriter asyncJsonWriter;
+
+    /**
+     * Write the given bytes.
+     *
+     * @param bytes The bytes.
+     * @param length The number of bytes.
+     */
+    @Override
+    public void write(byte[] bytes, int length) {
+      this.asyncJsonWriter.queueBuffer(bytes, length);
+    }
+
+    /**
+     * Flush the output.
+     */
+    @Override
+    public void flush() {
+    }
+  }
+
+  /** The default number of buffers. */
+  public static final int DEFAULT_BUFFER_COUNT = 4;
+
+  /** The size of the buffers. */
+  private final int bufferSize;
+
+  /** The number of buffers. */
+  private final int bufferCount;
+
+  /** The lock of the pool and the queue. */
+  private final Object lock = new Object();
+
+  /** The free buffers of the pool. */
+  private final Deque<ByteBuffer> freeBuffers = new ArrayDeque<ByteBuffer>();
+
+  /** The queued buffers. */
+  private final Deque<ByteBuffer> queuedBuffers = new ArrayDeque<ByteBuffer>();
+
+  /** The number of buffers that are queued or being written. */
+  private int pendingBufferCount;
+
+  /** The listener. */
+  private volatile Listener listener;
+
+  /**
+   * Construct a new Asynchronous JSON Writer.
+   */
+  public AsyncJsonWriter() {
+    this(DEFAULT_BUFFER_SIZE, DEFAULT_BUFFER_COUNT);
+  }
+
+  /**
+   * Construct a new Asynchronous JSON Writer.
+   *
+   * @param bufferSize The size of the buffers.
+   * @param bufferCount The number of buffers.
+   */
+  public AsyncJsonWriter(int bufferSize, int bufferCount) {
+    this(new BufferQueueOutput(), checkBufferSize(bufferSize), checkBufferCount(bufferCount));
+  }
+
+  /**
+   * Construct a new Asynchronous JSON Writer.
+   *
+   * @param output The buffer queue output.
+   * @param bufferSize The size of the buffers.
+   * @param bufferCount The number of buffers.
+   */
+  private AsyncJsonWriter(BufferQueueOutput output, int bufferSize, int bufferCount) {
+    super(output, bufferSize);
+
+    this.bufferSize = bufferSize;
+    this.bufferCount = bufferCount;
+
+    output.asyncJsonWriter = this;
+  }
+
+  /**
+   * Set the listener.
+   *
+   * @param listener The listener.
+   * @see #getListener()
+   */
+  public void setListener(Listener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Retrieve the listener.
+   *
+   * @return The listener.
+   * @see #setListener(Listener)
+   */
+  public Listener getListener() {
+    return this.listener;
+  }
+
+  /**
+   * Determine if the writer is ready.
+   * <p>
+   * The writer is ready if fewer buffers than the buffer count are queued or
+   * being written.
+   *
+   * @return <code>true</code> if the writer is ready.
+   */
+  @Override
+  public boolean isReady() {
+    synchronized (this.lock) {
+      return this.pendingBufferCount < this.bufferCount;
+    }
+  }
+
+  /**
+   * Retrieve the next queued buffer.
+   * <p>
+   * The buffer is ready to be read, and must be released with
+   * {@link #release(ByteBuffer)} once its contents have been written.
+   *
+   * @return The next queued buffer, or <code>null</code> if the queue is empty.
+   */
+  public ByteBuffer poll() {
+    synchronized (this.lock) {
+      return this.queuedBuffers.poll();
+    }
+  }
+
+  /**
+   * Release the given buffer that was retrieved by {@link #poll()}.
+   * <p>
+   * The buffer is returned to the pool, unless the pool is already full, and
+   * the listener is notified if the writer has become ready.
+   *
+   * @param buffer The buffer.
+   */
+  public void release(ByteBuffer buffer) {
+    boolean writable;
+
+    synchronized (this.lock) {
+      writable = this.pendingBufferCount-- == this.bufferCount;
+
+      if (this.freeBuffers.size() + this.pendingBufferCount < this.bufferCount) {
+        buffer.clear();
+
+        this.freeBuffers.push(buffer);
+      }
+    }
+
+    Listener listener = this.listener;
+    if (writable && listener != null) {
+      listener.writable(this);
+    }
+  }
+
+  /**
+   * Write the queued buffers to the given channel.
+   * <p>
+   * The buffers are written until the queue is empty, or until the channel
+   * does not accept all of the remaining bytes of a buffer, as a channel in
+   * non-blocking mode does when its send buffer is full. The partially
+   * written buffer remains at the head of the queue.
+   *
+   * @param channel The channel.
+   * @return <code>true</code> if the queue is empty.
+   * @throws IOException
+   */
+  public boolean writeTo(WritableByteChannel channel)
+    throws IOException {
+    for (;;) {
+      ByteBuffer buffer;
+
+      synchronized (this.lock) {
+        buffer = this.queuedBuffers.peek();
+      }
+
+      if (buffer == null) {
+        return true;
+      }
+
+      channel.write(buffer);
+
+      if (buffer.hasRemaining()) {
+        return false;
+      }
+
+      synchronized (this.lock) {
+        this.queuedBuffers.poll();
+      }
+
+      this.release(buffer);
+    }
+  }
+
+  /**
+   * Copy the given bytes into a buffer and queue the buffer.
+   *
+   * @param bytes The bytes.
+   * @param length The number of bytes.
+   */
+  private void queueBuffer(byte[] bytes, int length) {
+    ByteBuffer buffer;
+
+    synchronized (this.lock) {
+      buffer = this.freeBuffers.poll();
+    }
+
+    if (buffer == null) {
+      buffer = ByteBuffer.allocate(this.bufferSize);
+    }
+
+    buffer.put(bytes, 0, length);
+    buffer.flip();
+
+    boolean queued;
+
+    synchronized (this.lock) {
+      queued = this.queuedBuffers.isEmpty();
+
+      this.queuedBuffers.add(buffer);
+      this.pendingBufferCount++;
+    }
+
+    Listener listener = this.listener;
+    if (queued && listener != null) {
+      listener.bufferQueued(this);
+    }
+  }
+
+  /**
+   * Check the given number of buffers.
+   *
+   * @param bufferCount The number of buffers.
+   * @return The number of buffers.
+   */
+  private static int checkBufferCount(int bufferCount) {
+    if (bufferCount < 1) {
+      throw new IllegalArgumentException("bufferCount < 1");
+    }
+
+    return bufferCount;
+  }
+}
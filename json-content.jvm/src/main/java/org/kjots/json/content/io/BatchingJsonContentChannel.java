@@ -0,0 +1,668 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.kjots.json.content.shared.AbstractJsonContentChannel;
+import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.JsonContentTape;
+import org.kjots.json.content.shared.JsonContentTapePlayer;
+import org.kjots.json.content.shared.JsonContentTapeRecorder;
+import org.kjots.json.content.shared.JsonSymbolTable;
+import org.kjots.json.content.shared.TypedJsonContentHandler;
+
+/**
+ * Batching JSON Content Channel.
+ * <p>
+ * This JSON content channel dispatches each event that it handles to each of
+ * any number of JSON content handlers, as the
+ * {@link org.kjots.json.content.shared.FanOutJsonContentChannel} does, but
+ * not on the thread that generates the events. Instead, the events are
+ * recorded into a batch, which is a {@link JsonContentTape}, and each full
+ * batch is replayed into each JSON content handler by a
+ * {@link JsonContentTapePlayer} in a task of the given executor. Each JSON
+ * content handler is fed by at most one task at a time, in the order in
+ * which the batches were recorded, but the JSON content handlers are fed in
+ * parallel, so that, for example, a JSON object builder and a JSON writer may
+ * handle the same JSON content on different threads.
+ * <p>
+ * A batch is published to the JSON content handlers when it holds the batch
+ * size number of events, at the end of the JSON content, and when
+ * {@link #flush()} is called. The batches are taken from a bounded pool, and
+ * a batch is returned to the pool when it has been replayed into every JSON
+ * content handler, so the memory used by the channel is bounded by the batch
+ * count. The thread that generates the events waits for a batch to be
+ * returned to the pool when all of them are in use, so the generator is
+ * slowed to the pace of the slowest JSON content handler.
+ * <p>
+ * An exception thrown by a JSON content handler does not reach the
+ * generator. Instead, no further batches are replayed into that JSON content
+ * handler, and the exception is thrown by {@link #await()}, which also waits
+ * for the JSON content handlers to handle every published event. A task that
+ * the executor rejects is treated in the same way: the batches published to
+ * its JSON content handler are released without being replayed, and the
+ * {@link RejectedExecutionException} is thrown by {@link #await()}. The results
+ * of the JSON content handlers, such as the JSON object built by a JSON
+ * object builder, must not be retrieved until {@link #await()} has returned.
+ * <p>
+ * The channel must be fed by one thread at a time.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class BatchingJsonContentChannel extends AbstractJsonContentChannel implements TypedJsonContentHandler {
+  /**
+   * Batch.
+   */
+  private static class Batch {
+    /** The JSON content tape. */
+    private final JsonContentTape jsonContentTape;
+
+    /** The number of JSON content handlers that have yet to handle the events. */
+    private int pendingHandlerCount;
+
+    /**
+     * Construct a new Batch.
+     *
+     * @param batchSize The number of events.
+     */
+    private Batch(int batchSize) {
+      this.jsonContentTape = new JsonContentTape(batchSize);
+    }
+  }
+
+  /**
+   * Consumer.
+   * <p>
+   * A consumer replays the published batches into a single JSON content
+   * handler, and is executed whenever a batch is published while it is not
+   * already executing.
+   */
+  private class Consumer implements Runnable {
+    /** The JSON content tape player. */
+    private final JsonContentTapePlayer jsonContentTapePlayer;
+
+    /** The published batches that have yet to be replayed. */
+    private final Deque<Batch> batches = new ArrayDeque<Batch>();
+
+    /** The scheduled flag. */
+    private boolean scheduled;
+
+    /** The failure of the JSON content handler. */
+    private Throwable failure;
+
+    /**
+     * Construct a new Consumer.
+     *
+     * @param jsonContentHandler The JSON content handler.
+     */
+    private Consumer(JsonContentHandler jsonContentHandler) {
+      this.jsonContentTapePlayer = new JsonContentTapePlayer(jsonContentHandler);
+    }
+
+    /**
+     * Replay the published batches into the JSON content handler.
+     */
+    @Override
+    public void run() {
+      for (;;) {
+        Batch batch;
+
+        synchronized (BatchingJsonContentChannel.this.lock) {
+          batch = this.batches.poll();
+
+          if (batch == null) {
+            this.scheduled = false;
+
+            return;
+          }
+        }
+
+        if (this.failure == null) {
+          try {
+            this.jsonContentTapePlayer.play(batch.jsonContentTape);
+          }
+          catch (Throwable t) {
+            this.failure = t;
+          }
+        }
+
+        BatchingJsonContentChannel.this.release(batch, this.failure);
+      }
+    }
+  }
+
+  /** The default number of events of a batch. */
+  public static final int DEFAULT_BATCH_SIZE = 4096;
+
+  /** The default number of batches. */
+  public static final int DEFAULT_BATCH_COUNT = 4;
+
+  /** The empty array of consumers. */
+  private static final Consumer[] NO_CONSUMERS = new Consumer[0];
+
+  /** The executor. */
+  private final Executor executor;
+
+  /** The number of events of a batch. */
+  private final int batchSize;
+
+  /** The number of batches. */
+  private final int batchCount;
+
+  /** The lock of the pool and the consumers. */
+  private final Object lock = new Object();
+
+  /** The free batches of the pool. */
+  private final Deque<Batch> freeBatches = new ArrayDeque<Batch>();
+
+  /** The number of batches that have been allocated. */
+  private int allocatedBatchCount;
+
+  /** The number of batches that have been published and not yet released. */
+  private int publishedBatchCount;
+
+  /** The first failure of a JSON content handler. */
+  private Throwable failure;
+
+  /** The JSON content handlers. */
+  private List<JsonContentHandler> jsonContentHandlers = Collections.emptyList();
+
+  /** The consumers. */
+  private Consumer[] consumers = NO_CONSUMERS;
+
+  /** The JSON content tape recorder of the batch that is being recorded. */
+  private final JsonContentTapeRecorder jsonContentTapeRecorder = new JsonContentTapeRecorder();
+
+  /** The batch that is being recorded. */
+  private Batch batch;
+
+  /** The symbol table. */
+  private JsonSymbolTable symbolTable;
+
+  /**
+   * Construct a new Batching JSON Content Channel.
+   *
+   * @param executor The executor.
+   * @param jsonContentHandlers The JSON content handlers.
+   */
+  public BatchingJsonContentChannel(Executor executor, JsonContentHandler... jsonContentHandlers) {
+    this(executor, DEFAULT_BATCH_SIZE, DEFAULT_BATCH_COUNT, jsonContentHandlers);
+  }
+
+  /**
+   * Construct a new Batching JSON Content Channel.
+   *
+   * @param executor The executor.
+   * @param batchSize The number of events of a batch.
+   * @param batchCount The number of batches.
+   * @param jsonContentHandlers The JSON content handlers.
+   */
+  public BatchingJsonContentChannel(Executor executor, int batchSize, int batchCount, JsonContentHandler... jsonContentHandlers) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize < 1");
+    }
+
+    if (batchCount < 1) {
+      throw new IllegalArgumentException("batchCount < 1");
+    }
+
+    this.executor = executor;
+    this.batchSize = batchSize;
+    this.batchCount = batchCount;
+
+    this.setJsonContentHandlers(jsonContentHandlers);
+  }
+
+  /**
+   * Set the JSON content handler.
+   * <p>
+   * The given JSON content handler replaces all of the JSON content handlers
+   * of this channel, or removes them if it is <code>null</code>.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @see #getJsonContentHandler()
+   */
+  @Override
+  public void setJsonContentHandler(JsonContentHandler jsonContentHandler) {
+    if (jsonContentHandler != null) {
+      this.setJsonContentHandlers(jsonContentHandler);
+    }
+    else {
+      this.setJsonContentHandlers();
+    }
+  }
+
+  /**
+   * Set the JSON content handlers.
+   * <p>
+   * The events that have already been handled by this channel are published
+   * to the previous JSON content handlers, and only the subsequent events are
+   * dispatched to the given JSON content handlers. The first JSON content
+   * handler is also the JSON content handler returned by
+   * {@link #getJsonContentHandler()}.
+   *
+   * @param jsonContentHandlers The JSON content handlers.
+   * @see #getJsonContentHandlers()
+   */
+  public void setJsonContentHandlers(JsonContentHandler... jsonContentHandlers) {
+    Consumer[] consumers = new Consumer[jsonContentHandlers.length];
+
+    for (int i = 0; i < jsonContentHandlers.length; i++) {
+      if (jsonContentHandlers[i] == null) {
+        throw new NullPointerException("jsonContentHandlers[" + i + "]");
+      }
+
+      consumers[i] = new Consumer(jsonContentHandlers[i]);
+    }
+
+    this.flush();
+
+    this.jsonContentHandler = jsonContentHandlers.length > 0 ? jsonContentHandlers[0] : null;
+    this.jsonContentHandlers = Collections.unmodifiableList(Arrays.asList(jsonContentHandlers.clone()));
+    this.consumers = consumers;
+  }
+
+  /**
+   * Retrieve the JSON content handlers.
+   *
+   * @return The JSON content handlers.
+   * @see #setJsonContentHandlers(JsonContentHandler...)
+   */
+  public List<JsonContentHandler> getJsonContentHandlers() {
+    return this.jsonContentHandlers;
+  }
+
+  /**
+   * Set the symbol table.
+   * <p>
+   * If a symbol table is set, the member names that are handled as character
+   * sequences are recorded as the canonical strings of the symbol table,
+   * rather than as new strings.
+   *
+   * @param symbolTable The symbol table, or <code>null</code>.
+   * @see #getSymbolTable()
+   */
+  public void setSymbolTable(JsonSymbolTable symbolTable) {
+    this.symbolTable = symbolTable;
+  }
+
+  /**
+   * Retrieve the symbol table.
+   *
+   * @return The symbol table, or <code>null</code>.
+   * @see #setSymbolTable(JsonSymbolTable)
+   */
+  public JsonSymbolTable getSymbolTable() {
+    return this.symbolTable;
+  }
+
+  /**
+   * Publish the events that have been handled by this channel to the JSON
+   * content handlers.
+   */
+  public void flush() {
+    Batch batch = this.batch;
+
+    if (batch != null) {
+      this.batch = null;
+
+      this.publish(batch);
+    }
+  }
+
+  /**
+   * Wait for the JSON content handlers to handle every event that has been
+   * handled by this channel.
+   * <p>
+   * The events that have not yet been published are published first.
+   *
+   * @throws InterruptedException
+   * @throws ExecutionException
+   */
+  public void await()
+    throws InterruptedException, ExecutionException {
+    this.flush();
+
+    synchronized (this.lock) {
+      while (this.publishedBatchCount > 0) {
+        this.lock.wait();
+      }
+
+      if (this.failure != null) {
+        throw new ExecutionException(this.failure);
+      }
+    }
+  }
+
+  /**
+   * Handle the start of the JSON content.
+   */
+  @Override
+  public void startJson() {
+    this.getJsonContentTapeRecorder().startJson();
+  }
+
+  /**
+   * Handle the end of the JSON content.
+   * <p>
+   * The events of the JSON content are published to the JSON content
+   * handlers.
+   */
+  @Override
+  public void endJson() {
+    this.getJsonContentTapeRecorder().endJson();
+
+    this.flush();
+  }
+
+  /**
+   * Handle the start of a JSON object.
+   */
+  @Override
+  public void startObject() {
+    this.getJsonContentTapeRecorder().startObject();
+  }
+
+  /**
+   * Handle the end of a JSON object.
+   */
+  @Override
+  public void endObject() {
+    this.getJsonContentTapeRecorder().endObject();
+  }
+
+  /**
+   * Handle the start of a JSON array.
+   */
+  @Override
+  public void startArray() {
+    this.getJsonContentTapeRecorder().startArray();
+  }
+
+  /**
+   * Handle the end of a JSON array.
+   */
+  @Override
+  public void endArray() {
+    this.getJsonContentTapeRecorder().endArray();
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(String name) {
+    this.getJsonContentTapeRecorder().memberName(name);
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(CharSequence name) {
+    JsonSymbolTable symbolTable = this.symbolTable;
+
+    this.getJsonContentTapeRecorder().memberName(symbolTable != null ? symbolTable.get(name) : name.toString());
+  }
+
+  /**
+   * Handle a JSON primitive.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitive(Object value) {
+    this.getJsonContentTapeRecorder().primitive(value);
+  }
+
+  /**
+   * Handle a JSON primitive with a <code>null</code> value.
+   */
+  @Override
+  public void primitiveNull() {
+    this.getJsonContentTapeRecorder().primitiveNull();
+  }
+
+  /**
+   * Handle a JSON primitive with a boolean value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveBoolean(boolean value) {
+    this.getJsonContentTapeRecorder().primitiveBoolean(value);
+  }
+
+  /**
+   * Handle a JSON primitive with an integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveLong(long value) {
+    this.getJsonContentTapeRecorder().primitiveLong(value);
+  }
+
+  /**
+   * Handle a JSON primitive with a double value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveDouble(double value) {
+    this.getJsonContentTapeRecorder().primitiveDouble(value);
+  }
+
+  /**
+   * Handle a JSON primitive with a string value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveString(CharSequence value) {
+    this.getJsonContentTapeRecorder().primitiveString(value);
+  }
+
+  /**
+   * Retrieve the JSON content tape recorder of the batch into which the next
+   * event is to be recorded.
+   * <p>
+   * If the current batch is full, it is published and a batch is taken from
+   * the pool, waiting for a batch to be released if they are all in use.
+   *
+   * @return The JSON content tape recorder.
+   */
+  private JsonContentTapeRecorder getJsonContentTapeRecorder() {
+    Batch batch = this.batch;
+
+    if (batch == null || batch.jsonContentTape.getEventCount() >= this.batchSize) {
+      if (batch != null) {
+        this.publish(batch);
+      }
+
+      this.batch = batch = this.acquire();
+
+      this.jsonContentTapeRecorder.setJsonContentTape(batch.jsonContentTape);
+    }
+
+    return this.jsonContentTapeRecorder;
+  }
+
+  /**
+   * Take a batch from the pool.
+   * <p>
+   * The current thread waits, uninterruptibly, for a batch to be released if
+   * they are all in use. If the thread is interrupted while waiting, its
+   * interrupt status is restored once a batch has been taken.
+   *
+   * @return The batch.
+   */
+  private Batch acquire() {
+    boolean interrupted = false;
+
+    try {
+      synchronized (this.lock) {
+        for (;;) {
+          Batch batch = this.freeBatches.poll();
+
+          if (batch != null) {
+            return batch;
+          }
+
+          if (this.allocatedBatchCount < this.batchCount) {
+            this.allocatedBatchCount++;
+
+            return new Batch(this.batchSize);
+          }
+
+          try {
+            this.lock.wait();
+          }
+          catch (InterruptedException ie) {
+            interrupted = true;
+          }
+        }
+      }
+    }
+    finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Publish the given batch to the consumers.
+   *
+   * @param batch The batch.
+   */
+  private void publish(Batch batch) {
+    Consumer[] consumers = this.consumers;
+
+    if (consumers.length == 0) {
+      batch.jsonContentTape.clear();
+
+      synchronized (this.lock) {
+        this.freeBatches.push(batch);
+      }
+
+      return;
+    }
+
+    boolean[] scheduled = new boolean[consumers.length];
+
+    synchronized (this.lock) {
+      batch.pendingHandlerCount = consumers.length;
+
+      this.publishedBatchCount++;
+
+      for (int i = 0; i < consumers.length; i++) {
+        Consumer consumer = consumers[i];
+
+        consumer.batches.add(batch);
+
+        if (!consumer.scheduled) {
+          consumer.scheduled = scheduled[i] = true;
+        }
+      }
+    }
+
+    for (int i = 0; i < consumers.length; i++) {
+      if (scheduled[i]) {
+        try {
+          this.executor.execute(consumers[i]);
+        }
+        catch (RejectedExecutionException ree) {
+          this.reject(consumers[i], ree);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reject the given consumer, whose task has been rejected by the executor.
+   * <p>
+   * The consumer is no longer scheduled, and each of its pending batches is
+   * released with the given exception as the failure, so that
+   * {@link #await()} throws it rather than waiting for a task that will never
+   * be executed.
+   *
+   * @param consumer The consumer.
+   * @param ree The rejected execution exception.
+   */
+  private void reject(Consumer consumer, RejectedExecutionException ree) {
+    List<Batch> batches;
+
+    synchronized (this.lock) {
+      consumer.scheduled = false;
+
+      if (consumer.failure == null) {
+        consumer.failure = ree;
+      }
+
+      batches = new ArrayList<Batch>(consumer.batches);
+
+      consumer.batches.clear();
+    }
+
+    for (Batch batch : batches) {
+      this.release(batch, ree);
+    }
+  }
+
+  /**
+   * Release the given batch, which has been replayed into the JSON content
+   * handler of a consumer.
+   * <p>
+   * The batch is returned to the pool once it has been released by every
+   * consumer to which it was published.
+   *
+   * @param batch The batch.
+   * @param failure The failure of the JSON content handler, or <code>null</code>.
+   */
+  private void release(Batch batch, Throwable failure) {
+    synchronized (this.lock) {
+      if (this.failure == null) {
+        this.failure = failure;
+      }
+
+      if (--batch.pendingHandlerCount == 0) {
+        batch.jsonContentTape.clear();
+
+        this.freeBatches.push(batch);
+        this.publishedBatchCount--;
+
+        this.lock.notifyAll();
+      }
+    }
+  }
+}
@@ -0,0 +1,256 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.RoundingMode;
+
+import org.kjots.json.content.shared.JsonContentUtil;
+import org.kjots.json.content.shared.text.JsonTextGenerator;
+
+/**
+ * Buffered JSON Writer.
+ * <p>
+ * This JSON writer produces exactly the same JSON text as the
+ * {@link JsonWriter} for the same format flag, maximum number of decimal
+ * places, rounding mode and escape profile, but escapes the JSON text into
+ * an internal character buffer that is written to the underlying writer in
+ * large blocks, rather than printing each character through a
+ * {@link java.io.PrintWriter}. The runs of characters of string values that
+ * do not need to be escaped are copied into the buffer in bulk.
+ * <p>
+ * The buffer is written to the underlying writer whenever it is full, and
+ * the underlying writer is flushed at the end of the JSON content, or when
+ * {@link #flush()} is called. As with the {@link java.io.PrintWriter} used by
+ * the {@link JsonWriter}, an {@link IOException} thrown by the underlying
+ * writer does not propagate, but is reported by {@link #checkError()}.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class BufferedJsonWriter extends JsonTextGenerator {
+  /** The default size of the buffer. */
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /** The writer. */
+  private final Writer writer;
+
+  /** The buffer. */
+  private final char[] buffer;
+
+  /** The position within the buffer. */
+  private int position;
+
+  /** The error flag. */
+  private boolean error;
+
+  /**
+   * Construct a new Buffered JSON Writer.
+   *
+   * @param writer The writer.
+   */
+  public BufferedJsonWriter(Writer writer) {
+    this(writer, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Construct a new Buffered JSON Writer.
+   *
+   * @param writer The writer.
+   * @param bufferSize The size of the buffer.
+   */
+  public BufferedJsonWriter(Writer writer, int bufferSize) {
+    if (bufferSize < MAX_ESCAPE_LENGTH) {
+      throw new IllegalArgumentException("bufferSize < " + MAX_ESCAPE_LENGTH);
+    }
+
+    this.writer = writer;
+    this.buffer = new char[bufferSize];
+  }
+
+  /**
+   * Handle the end of the JSON content.
+   */
+  @Override
+  public void endJson() {
+    super.endJson();
+
+    this.flush();
+  }
+
+  /**
+   * Set the rounding mode of numeric values.
+   *
+   * @param roundingMode The rounding mode of numeric values.
+   * @see #getRoundingMode()
+   */
+  public void setRoundingMode(RoundingMode roundingMode) {
+    this.setRoundingMode(JsonWriter.toIntRoundingMode(roundingMode));
+  }
+
+  /**
+   * Write the buffer to the writer and flush the writer.
+   */
+  public void flush() {
+    this.writeBuffer();
+
+    try {
+      this.writer.flush();
+    }
+    catch (IOException ioe) {
+      this.error = true;
+    }
+  }
+
+  /**
+   * Flush the buffer and check the error state.
+   *
+   * @return <code>true</code> if the writer has thrown an {@link IOException}.
+   */
+  public boolean checkError() {
+    this.flush();
+
+    return this.error;
+  }
+
+  /**
+   * Print the given string value.
+   * <p>
+   * This implementation copies each run of characters that do not need to be
+   * escaped into the buffer in bulk.
+   *
+   * @param value The string value.
+   */
+  @Override
+  protected void printString(CharSequence value) {
+    EscapeProfile escapeProfile = this.getEscapeProfile();
+
+    this.print('"');
+
+    int length = value.length();
+    int start = 0;
+
+    for (int i = 0; i < length; i++) {
+      char escape = escapeProfile.getEscape(value, i);
+
+      if (escape != 0) {
+        char c = value.charAt(i);
+
+        this.print(value, start, i);
+
+        if (this.buffer.length - this.position < MAX_ESCAPE_LENGTH) {
+          this.writeBuffer();
+        }
+
+        this.position = writeEscape(c, escape, this.buffer, this.position);
+
+        start = i + 1;
+      }
+    }
+
+    this.print(value, start, length);
+    this.print('"');
+  }
+
+  /**
+   * Print the given character.
+   *
+   * @param character The character.
+   */
+  @Override
+  protected void print(char character) {
+    if (this.position == this.buffer.length) {
+      this.writeBuffer();
+    }
+
+    this.buffer[this.position++] = character;
+  }
+
+  /**
+   * Print the given string.
+   *
+   * @param string The string.
+   */
+  @Override
+  protected void print(String string) {
+    this.print(string, 0, string.length());
+  }
+
+  /**
+   * Print the given characters.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   */
+  @Override
+  protected void print(char[] chars, int offset, int length) {
+    while (length > 0) {
+      if (this.position == this.buffer.length) {
+        this.writeBuffer();
+      }
+
+      int count = Math.min(length, this.buffer.length - this.position);
+
+      System.arraycopy(chars, offset, this.buffer, this.position, count);
+
+      this.position += count;
+      offset += count;
+      length -= count;
+    }
+  }
+
+  /**
+   * Print the characters of the given string between the given indices.
+   *
+   * @param string The string.
+   * @param start The index of the first character.
+   * @param end The index after the last character.
+   */
+  private void print(CharSequence string, int start, int end) {
+    while (start < end) {
+      if (this.position == this.buffer.length) {
+        this.writeBuffer();
+      }
+
+      int count = Math.min(end - start, this.buffer.length - this.position);
+
+      JsonContentUtil.getChars(string, start, start + count, this.buffer, this.position);
+
+      this.position += count;
+      start += count;
+    }
+  }
+
+  /**
+   * Write the contents of the buffer to the writer.
+   */
+  private void writeBuffer() {
+    if (this.position > 0) {
+      try {
+        this.writer.write(this.buffer, 0, this.position);
+      }
+      catch (IOException ioe) {
+        this.error = true;
+      }
+
+      this.position = 0;
+    }
+  }
+}
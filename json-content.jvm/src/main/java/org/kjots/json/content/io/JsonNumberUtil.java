@@ -0,0 +1,94 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * JSON Number Utility.
+ * <p>
+ * This class provides the narrowing of numeric values to the types given by
+ * the contract of {@link org.kjots.json.content.shared.JsonContentHandler#primitive(Object)}
+ * without resorting to the exact conversion methods of {@link BigDecimal},
+ * which report failure by throwing an {@link ArithmeticException}.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonNumberUtil {
+  /**
+   * Narrow the given long value.
+   * <p>
+   * The value is returned as an {@link Integer} if it fits, or as a
+   * {@link Long} otherwise.
+   *
+   * @param value The value.
+   * @return The narrowed value.
+   */
+  public static Number narrow(long value) {
+    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+      return Integer.valueOf((int)value);
+    }
+
+    return Long.valueOf(value);
+  }
+
+  /**
+   * Narrow the given big integer value.
+   * <p>
+   * The value is returned as an {@link Integer} or {@link Long} if it fits,
+   * or as the given {@link BigInteger} otherwise.
+   *
+   * @param value The value.
+   * @return The narrowed value.
+   */
+  public static Number narrow(BigInteger value) {
+    int bitLength = value.bitLength();
+    if (bitLength < 32) {
+      return Integer.valueOf(value.intValue());
+    }
+    else if (bitLength < 64) {
+      return Long.valueOf(value.longValue());
+    }
+
+    return value;
+  }
+
+  /**
+   * Narrow the given big decimal value.
+   * <p>
+   * If the value has no fractional part, it is returned as an {@link Integer},
+   * {@link Long} or {@link BigInteger}, whichever is the smallest that fits.
+   * Otherwise, the given {@link BigDecimal} is returned.
+   *
+   * @param value The value.
+   * @return The narrowed value.
+   */
+  public static Number narrow(BigDecimal value) {
+    if (value.signum() == 0) {
+      return Integer.valueOf(0);
+    }
+
+    if (value.scale() > 0 && value.stripTrailingZeros().scale() > 0) {
+      return value;
+    }
+
+    return narrow(value.toBigInteger());
+  }
+}
@@ -16,7 +16,9 @@
 package org.kjots.json.content.io;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 
 import org.kjots.json.content.shared.JsonContentGenerator;
 
@@ -47,4 +49,37 @@ public interface JsonReader extends JsonContentGenerator {
    */
   public void parse(Reader reader)
     throws IOException, JsonReaderException;
+  
+  /**
+   * Parse the given UTF-8 encoded JSON text.
+   * 
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @throws JsonReaderException
+   * @since 1.2
+   */
+  public void parse(byte[] jsonText)
+    throws JsonReaderException;
+  
+  /**
+   * Parse the UTF-8 encoded JSON text remaining in the given byte buffer.
+   * <p>
+   * The position of the given byte buffer is not changed.
+   * 
+   * @param byteBuffer The byte buffer.
+   * @throws JsonReaderException
+   * @since 1.2
+   */
+  public void parse(ByteBuffer byteBuffer)
+    throws JsonReaderException;
+  
+  /**
+   * Parse the UTF-8 encoded JSON text provided by the given input stream.
+   * 
+   * @param inputStream The input stream.
+   * @throws IOException
+   * @throws JsonReaderException
+   * @since 1.2
+   */
+  public void parse(InputStream inputStream)
+    throws IOException, JsonReaderException;
 }
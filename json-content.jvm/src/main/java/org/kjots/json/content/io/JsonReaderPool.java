@@ -0,0 +1,165 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JSON Reader Pool.
+ * <p>
+ * This class implements a thread-safe pool of JSON readers.  The JSON readers
+ * provided by this library retain their parsers and buffers between
+ * invocations of their <code>parse</code> methods, so acquiring a JSON reader
+ * from a pool rather than creating a new one avoids allocating those buffers
+ * for each JSON text.
+ * <p>
+ * A JSON reader acquired from the pool must be used by one thread at a time,
+ * and should be released back to the pool once it is no longer required:
+ * <pre>
+ *   FastJsonReader jsonReader = pool.acquire();
+ *   try {
+ *     jsonReader.setJsonContentHandler(jsonContentHandler);
+ *     jsonReader.parse(jsonText);
+ *   }
+ *   finally {
+ *     pool.release(jsonReader);
+ *   }
+ * </pre>
+ * <p>
+ * A JSON reader is reset when it is released, so that the configuration of
+ * one borrower does not leak to the next.  The JSON content handler is
+ * cleared by this class; subclasses whose JSON readers have other settings
+ * restore them by overriding {@link #resetJsonReader(JsonReader)}, as the
+ * {@link org.kjots.json.content.io.fast.FastJsonReaderPool} does.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ * @param <T> The type of the JSON readers.
+ */
+public abstract class JsonReaderPool<T extends JsonReader> {
+  /** The default maximum number of idle JSON readers. */
+  public static final int DEFAULT_MAXIMUM_IDLE = 16;
+
+  /** The idle JSON readers. */
+  private final Queue<T> idleJsonReaders = new ConcurrentLinkedQueue<T>();
+
+  /** The number of idle JSON readers. */
+  private final AtomicInteger idleCount = new AtomicInteger();
+
+  /** The maximum number of idle JSON readers. */
+  private final int maximumIdle;
+
+  /**
+   * Construct a new JSON Reader Pool.
+   * <p>
+   * This constructor is equivalent to:
+   * <pre>
+   *   new JsonReaderPool({@link #DEFAULT_MAXIMUM_IDLE})
+   * </pre>
+   */
+  public JsonReaderPool() {
+    this(DEFAULT_MAXIMUM_IDLE);
+  }
+
+  /**
+   * Construct a new JSON Reader Pool.
+   * <p>
+   * JSON readers released while the pool already holds the maximum number of
+   * idle JSON readers are discarded.
+   *
+   * @param maximumIdle The maximum number of idle JSON readers.
+   */
+  public JsonReaderPool(int maximumIdle) {
+    if (maximumIdle < 0) {
+      throw new IllegalArgumentException("maximumIdle < 0");
+    }
+
+    this.maximumIdle = maximumIdle;
+  }
+
+  /**
+   * Acquire a JSON reader from the pool.
+   * <p>
+   * An idle JSON reader is returned if one is available; otherwise, a new
+   * JSON reader is created.
+   *
+   * @return The JSON reader.
+   * @see #release(JsonReader)
+   */
+  public T acquire() {
+    T jsonReader = this.idleJsonReaders.poll();
+    if (jsonReader != null) {
+      this.idleCount.decrementAndGet();
+
+      return jsonReader;
+    }
+
+    return this.createJsonReader();
+  }
+
+  /**
+   * Release the given JSON reader back to the pool.
+   * <p>
+   * The JSON reader is reset to the configuration of the pool.  The JSON
+   * reader must not be used after it has been released.
+   *
+   * @param jsonReader The JSON reader.
+   * @see #acquire()
+   * @see #resetJsonReader(JsonReader)
+   */
+  public void release(T jsonReader) {
+    this.resetJsonReader(jsonReader);
+
+    if (this.idleCount.incrementAndGet() <= this.maximumIdle) {
+      this.idleJsonReaders.offer(jsonReader);
+    }
+    else {
+      this.idleCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Retrieve the number of idle JSON readers.
+   *
+   * @return The number of idle JSON readers.
+   */
+  public int getIdleCount() {
+    return this.idleCount.get();
+  }
+
+  /**
+   * Create a new JSON reader.
+   *
+   * @return The JSON reader.
+   */
+  protected abstract T createJsonReader();
+
+  /**
+   * Reset the given JSON reader, which is being released, to the
+   * configuration of the pool.
+   * <p>
+   * This method clears the JSON content handler of the JSON reader.
+   *
+   * @param jsonReader The JSON reader.
+   */
+  protected void resetJsonReader(T jsonReader) {
+    jsonReader.setJsonContentHandler(null);
+  }
+}
@@ -60,6 +60,49 @@ public class JsonWriter extends JsonTextGenerator {
    * @see #getRoundingMode()
    */
   public void setRoundingMode(RoundingMode roundingMode) {
+    this.setRoundingMode(toIntRoundingMode(roundingMode));
+  }
+
+  /**
+   * Print the given character.
+   *
+   * @param character The character.
+   */
+  @Override
+  protected void print(char character) {
+    this.out.print(character);
+  }
+  
+  /**
+   * Print the given string.
+   *
+   * @param string The string.
+   */
+  @Override
+  protected void print(String string) {
+    this.out.print(string);
+  }
+  
+  /**
+   * Print the given characters.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   */
+  @Override
+  protected void print(char[] chars, int offset, int length) {
+    this.out.write(chars, offset, length);
+  }
+  
+  /**
+   * Convert the given rounding mode to the rounding mode constant of
+   * {@link BigDecimal} that is used by the {@link JsonTextGenerator}.
+   *
+   * @param roundingMode The rounding mode.
+   * @return The rounding mode constant.
+   */
+  static int toIntRoundingMode(RoundingMode roundingMode) {
     int intRoundingMode;
     switch (roundingMode) {
     case UP:
@@ -106,26 +149,6 @@ public class JsonWriter extends JsonTextGenerator {
       throw new IllegalStateException();
     }
     
-    this.setRoundingMode(intRoundingMode);
-  }
-
-  /**
-   * Print the given character.
-   *
-   * @param character The character.
-   */
-  @Override
-  protected void print(char character) {
-    this.out.print(character);
-  }
-  
-  /**
-   * Print the given string.
-   *
-   * @param string The string.
-   */
-  @Override
-  protected void print(String string) {
-    this.out.print(string);
+    return intRoundingMode;
   }
 }
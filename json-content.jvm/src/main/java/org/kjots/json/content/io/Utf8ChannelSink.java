@@ -0,0 +1,231 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import org.kjots.json.content.shared.text.ChunkedJsonTextBuilder;
+
+/**
+ * UTF-8 Channel Sink.
+ * <p>
+ * This sink encodes the chunks of a JSON text built by a
+ * {@link ChunkedJsonTextBuilder} into a reusable direct {@link ByteBuffer},
+ * which is written to a {@link WritableByteChannel} whenever it is full and
+ * when the sink is flushed, so that the JSON text is never encoded into a
+ * single byte array. A surrogate pair that is split between two chunks is
+ * encoded as a single character, and a surrogate character that is not part
+ * of a surrogate pair is encoded as a hexadecimal escape sequence.
+ * <p>
+ * The channel is expected to be in blocking mode. As with the
+ * {@link java.io.PrintWriter} used by the {@link JsonWriter}, an
+ * {@link IOException} thrown by the channel does not propagate, but is
+ * reported by {@link #checkError()}.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class Utf8ChannelSink implements ChunkedJsonTextBuilder.Sink {
+  /** The default size of the buffer. */
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /** The channel. */
+  private final WritableByteChannel channel;
+
+  /** The buffer. */
+  private final ByteBuffer buffer;
+
+  /** The hexadecimal digits. */
+  private static final byte[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
+
+  /** The encoder. */
+  private final CharsetEncoder encoder = Charset.forName("UTF-8").newEncoder()
+    .onMalformedInput(CodingErrorAction.REPORT)
+    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+  /** The surrogate pair split between two chunks. */
+  private final CharBuffer surrogatePair = CharBuffer.allocate(2);
+
+  /** The error flag. */
+  private boolean error;
+
+  /**
+   * Construct a new UTF-8 Channel Sink.
+   *
+   * @param channel The channel.
+   */
+  public Utf8ChannelSink(WritableByteChannel channel) {
+    this(channel, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Construct a new UTF-8 Channel Sink.
+   *
+   * @param channel The channel.
+   * @param bufferSize The size of the buffer.
+   */
+  public Utf8ChannelSink(WritableByteChannel channel, int bufferSize) {
+    if (bufferSize < 4) {
+      throw new IllegalArgumentException("bufferSize < 4");
+    }
+
+    this.channel = channel;
+    this.buffer = ByteBuffer.allocateDirect(bufferSize);
+  }
+
+  /**
+   * Write the given characters.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   */
+  @Override
+  public void write(char[] chars, int offset, int length) {
+    while (this.surrogatePair.position() > 0 && length > 0) {
+      this.surrogatePair.put(chars[offset]);
+      this.surrogatePair.flip();
+
+      this.encode(this.surrogatePair, false);
+
+      this.surrogatePair.compact();
+
+      offset++;
+      length--;
+    }
+
+    CharBuffer charBuffer = CharBuffer.wrap(chars, offset, length);
+
+    this.encode(charBuffer, false);
+
+    if (charBuffer.hasRemaining()) {
+      this.surrogatePair.put(charBuffer.get());
+    }
+  }
+
+  /**
+   * Flush the sink after the last chunk of a JSON text.
+   * <p>
+   * The encoder is reset for the next JSON text, and the buffer is written
+   * to the channel.
+   */
+  @Override
+  public void flush() {
+    this.surrogatePair.flip();
+
+    this.encode(this.surrogatePair, true);
+
+    this.surrogatePair.clear();
+
+    while (this.encoder.flush(this.buffer).isOverflow()) {
+      this.writeBuffer();
+    }
+
+    this.encoder.reset();
+
+    this.writeBuffer();
+  }
+
+  /**
+   * Flush the sink and check the error state.
+   *
+   * @return <code>true</code> if the channel has thrown an {@link IOException}.
+   */
+  public boolean checkError() {
+    this.writeBuffer();
+
+    return this.error;
+  }
+
+  /**
+   * Encode the given characters into the buffer.
+   *
+   * @param charBuffer The characters.
+   * @param endOfInput The end of input flag.
+   */
+  private void encode(CharBuffer charBuffer, boolean endOfInput) {
+    for (;;) {
+      CoderResult coderResult = this.encoder.encode(charBuffer, this.buffer, endOfInput);
+
+      if (coderResult.isMalformed()) {
+        for (int i = 0; i < coderResult.length(); i++) {
+          this.escape(charBuffer.get());
+        }
+      }
+      else if (coderResult.isOverflow()) {
+        this.writeBuffer();
+      }
+      else {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Encode the hexadecimal escape sequence of the given character into the
+   * buffer.
+   *
+   * @param c The character.
+   */
+  private void escape(char c) {
+    this.put((byte)'\\');
+    this.put((byte)'u');
+    this.put(HEX_DIGITS[(c >> 12) & 0xF]);
+    this.put(HEX_DIGITS[(c >> 8) & 0xF]);
+    this.put(HEX_DIGITS[(c >> 4) & 0xF]);
+    this.put(HEX_DIGITS[c & 0xF]);
+  }
+
+  /**
+   * Put the given byte into the buffer.
+   *
+   * @param b The byte.
+   */
+  private void put(byte b) {
+    if (!this.buffer.hasRemaining()) {
+      this.writeBuffer();
+    }
+
+    this.buffer.put(b);
+  }
+
+  /**
+   * Write the contents of the buffer to the channel.
+   */
+  private void writeBuffer() {
+    this.buffer.flip();
+
+    try {
+      while (this.buffer.hasRemaining()) {
+        this.channel.write(this.buffer);
+      }
+    }
+    catch (IOException ioe) {
+      this.error = true;
+    }
+
+    this.buffer.clear();
+  }
+}
@@ -0,0 +1,741 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.kjots.json.content.shared.text.JsonTextGenerator;
+
+/**
+ * UTF-8 JSON Writer.
+ * <p>
+ * This JSON writer produces the UTF-8 encoding of exactly the same JSON text
+ * as the {@link JsonWriter} for the same format flag, maximum number of
+ * decimal places, rounding mode and escape profile, but encodes the JSON
+ * text itself into a reusable byte buffer, without the character to byte
+ * encoder of a {@link java.io.OutputStreamWriter}. The literals <code>null</code>,
+ * <code>true</code> and <code>false</code> are copied from precomputed byte
+ * sequences, and the runs of ASCII characters of string values are encoded
+ * in a tight loop.
+ * <p>
+ * The encoded JSON text may be written to:
+ * <ul>
+ * <li>an {@link OutputStream}, to which the byte buffer is written directly;</li>
+ * <li>a {@link WritableByteChannel}, to which the byte buffer is written
+ *     through a reusable direct {@link ByteBuffer}; or</li>
+ * <li>a {@link GatheringByteChannel}, to which the byte buffer is copied
+ *     into a number of reusable direct {@link ByteBuffer} segments that are
+ *     written with a single gathering write when they are all full, or at
+ *     the end of the JSON content.</li>
+ * </ul>
+ * The channels are expected to be in blocking mode.
+ * <p>
+ * The byte buffer is written whenever it is full, and the output is flushed
+ * at the end of the JSON content, or when {@link #flush()} is called. As with
+ * the {@link java.io.PrintWriter} used by the {@link JsonWriter}, an
+ * {@link IOException} thrown by the output does not propagate, but is
+ * reported by {@link #checkError()}.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class Utf8JsonWriter extends JsonTextGenerator {
+  /**
+   * Output.
+   */
+  static abstract class Output {
+    /**
+     * Write the given bytes.
+     *
+     * @param bytes The bytes.
+     * @param length The number of bytes.
+     * @throws IOException
+     */
+    public abstract void write(byte[] bytes, int length)
+      throws IOException;
+
+    /**
+     * Flush the output.
+     *
+     * @throws IOException
+     */
+    public abstract void flush()
+      throws IOException;
+  }
+
+  /**
+   * Output Stream Output.
+   */
+  private static class OutputStreamOutput extends Output {
+    /** The output stream. */
+    private final OutputStream outputStream;
+
+    /**
+     * Construct a new Output Stream Output.
+     *
+     * @param outputStream The output stream.
+     */
+    public OutputStreamOutput(OutputStream outputStream) {
+      this.outputStream = outputStream;
+    }
+
+    /**
+     * Write the given bytes.
+     *
+     * @param bytes The bytes.
+     * @param length The number of bytes.
+     * @throws IOException
+     */
+    @Override
+    public void write(byte[] bytes, int length)
+      throws IOException {
+      this.outputStream.write(bytes, 0, length);
+    }
+
+    /**
+     * Flush the output.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void flush()
+      throws IOException {
+      this.outputStream.flush();
+    }
+  }
+
+  /**
+   * Channel Output.
+   */
+  private static class ChannelOutput extends Output {
+    /** The channel. */
+    private final WritableByteChannel channel;
+
+    /** The direct byte buffer. */
+    private final ByteBuffer byteBuffer;
+
+    /**
+     * Construct a new Channel Output.
+     *
+     * @param channel The channel.
+     * @param bufferSize The size of the buffer.
+     */
+    public ChannelOutput(WritableByteChannel channel, int bufferSize) {
+      this.channel = channel;
+      this.byteBuffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Write the given bytes.
+     *
+     * @param bytes The bytes.
+     * @param length The number of bytes.
+     * @throws IOException
+     */
+    @Override
+    public void write(byte[] bytes, int length)
+      throws IOException {
+      this.byteBuffer.clear();
+      this.byteBuffer.put(bytes, 0, length);
+      this.byteBuffer.flip();
+
+      while (this.byteBuffer.hasRemaining()) {
+        this.channel.write(this.byteBuffer);
+      }
+    }
+
+    /**
+     * Flush the output.
+     */
+    @Override
+    public void flush() {
+    }
+  }
+
+  /**
+   * Gathering Channel Output.
+   */
+  private static class GatheringChannelOutput extends Output {
+    /** The channel. */
+    private final GatheringByteChannel channel;
+
+    /** The direct byte buffer segments. */
+    private final ByteBuffer[] segments;
+
+    /** The number of filled segments. */
+    private int segmentCount;
+
+    /**
+     * Construct a new Gathering Channel Output.
+     *
+     * @param channel The channel.
+     * @param bufferSize The size of the buffer.
+     * @param segmentCount The number of segments.
+     */
+    public GatheringChannelOutput(GatheringByteChannel channel, int bufferSize, int segmentCount) {
+      this.channel = channel;
+      this.segments = new ByteBuffer[segmentCount];
+
+      for (int i = 0; i < segmentCount; i++) {
+        this.segments[i] = ByteBuffer.allocateDirect(bufferSize);
+      }
+    }
+
+    /**
+     * Write the given bytes.
+     *
+     * @param bytes The bytes.
+     * @param length The number of bytes.
+     * @throws IOException
+     */
+    @Override
+    public void write(byte[] bytes, int length)
+      throws IOException {
+      ByteBuffer segment = this.segments[this.segmentCount++];
+
+      segment.clear();
+      segment.put(bytes, 0, length);
+      segment.flip();
+
+      if (this.segmentCount == this.segments.length) {
+        this.flush();
+      }
+    }
+
+    /**
+     * Flush the output.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void flush()
+      throws IOException {
+      try {
+        if (this.segmentCount > 0) {
+          ByteBuffer lastSegment = this.segments[this.segmentCount - 1];
+
+          while (lastSegment.hasRemaining()) {
+            this.channel.write(this.segments, 0, this.segmentCount);
+          }
+        }
+      }
+      finally {
+        this.segmentCount = 0;
+      }
+    }
+  }
+
+  /** The default size of the buffer. */
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /** The default number of segments of a gathering write. */
+  public static final int DEFAULT_SEGMENT_COUNT = 8;
+
+  /** The maximum number of bytes of an encoded character. */
+  private static final int MAX_CHARACTER_LENGTH = 6;
+
+  /** The bytes of the null literal. */
+  private static final byte[] NULL_BYTES = { 'n', 'u', 'l', 'l' };
+
+  /** The bytes of the true literal. */
+  private static final byte[] TRUE_BYTES = { 't', 'r', 'u', 'e' };
+
+  /** The bytes of the false literal. */
+  private static final byte[] FALSE_BYTES = { 'f', 'a', 'l', 's', 'e' };
+
+  /** The number of slots of the member name cache. */
+  private static final int MEMBER_NAME_CACHE_SIZE = 256;
+
+  /** The hexadecimal digits. */
+  private static final byte[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
+
+  /** The output. */
+  private final Output output;
+
+  /** The buffer. */
+  private final byte[] buffer;
+
+  /** The position within the buffer. */
+  private int position;
+
+  /** The error flag. */
+  private boolean error;
+
+  /** The encoded member names of the member name cache. */
+  private final char[][] memberNames = new char[MEMBER_NAME_CACHE_SIZE][];
+
+  /** The bytes of the encoded member names of the member name cache. */
+  private final byte[][] memberNameBytes = new byte[MEMBER_NAME_CACHE_SIZE][];
+
+  /** The byte buffer of encoded member names. */
+  private byte[] memberNameBuffer = new byte[64];
+
+  /**
+   * Construct a new UTF-8 JSON Writer.
+   *
+   * @param outputStream The output stream.
+   */
+  public Utf8JsonWriter(OutputStream outputStream) {
+    this(outputStream, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Construct a new UTF-8 JSON Writer.
+   *
+   * @param outputStream The output stream.
+   * @param bufferSize The size of the buffer.
+   */
+  public Utf8JsonWriter(OutputStream outputStream, int bufferSize) {
+    this(new OutputStreamOutput(outputStream), bufferSize);
+  }
+
+  /**
+   * Construct a new UTF-8 JSON Writer.
+   *
+   * @param channel The channel.
+   */
+  public Utf8JsonWriter(WritableByteChannel channel) {
+    this(channel, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Construct a new UTF-8 JSON Writer.
+   *
+   * @param channel The channel.
+   * @param bufferSize The size of the buffer.
+   */
+  public Utf8JsonWriter(WritableByteChannel channel, int bufferSize) {
+    this(new ChannelOutput(channel, checkBufferSize(bufferSize)), bufferSize);
+  }
+
+  /**
+   * Construct a new UTF-8 JSON Writer.
+   *
+   * @param channel The channel.
+   * @param bufferSize The size of the buffer.
+   * @param segmentCount The number of segments of a gathering write.
+   */
+  public Utf8JsonWriter(GatheringByteChannel channel, int bufferSize, int segmentCount) {
+    this(new GatheringChannelOutput(channel, checkBufferSize(bufferSize), checkSegmentCount(segmentCount)), bufferSize);
+  }
+
+  /**
+   * Construct a new UTF-8 JSON Writer.
+   *
+   * @param output The output.
+   * @param bufferSize The size of the buffer.
+   */
+  Utf8JsonWriter(Output output, int bufferSize) {
+    this.output = output;
+    this.buffer = new byte[checkBufferSize(bufferSize)];
+  }
+
+  /**
+   * Handle the end of the JSON content.
+   */
+  @Override
+  public void endJson() {
+    super.endJson();
+
+    this.flush();
+  }
+
+  /**
+   * Set the rounding mode of numeric values.
+   *
+   * @param roundingMode The rounding mode of numeric values.
+   * @see #getRoundingMode()
+   */
+  public void setRoundingMode(RoundingMode roundingMode) {
+    this.setRoundingMode(JsonWriter.toIntRoundingMode(roundingMode));
+  }
+
+  /**
+   * Write the buffer to the output and flush the output.
+   */
+  public void flush() {
+    this.writeBuffer();
+
+    try {
+      this.output.flush();
+    }
+    catch (IOException ioe) {
+      this.error = true;
+    }
+  }
+
+  /**
+   * Flush the buffer and check the error state.
+   *
+   * @return <code>true</code> if the output has thrown an {@link IOException}.
+   */
+  public boolean checkError() {
+    this.flush();
+
+    return this.error;
+  }
+
+  /**
+   * Print a null value.
+   */
+  @Override
+  protected void printNull() {
+    this.printBytes(NULL_BYTES);
+  }
+
+  /**
+   * Print the given boolean value.
+   *
+   * @param value The boolean value.
+   */
+  @Override
+  protected void printBoolean(boolean value) {
+    this.printBytes(value ? TRUE_BYTES : FALSE_BYTES);
+  }
+
+  /**
+   * Print the given string value.
+   * <p>
+   * This implementation encodes the string value directly into the buffer.
+   *
+   * @param value The string value.
+   */
+  @Override
+  protected void printString(CharSequence value) {
+    EscapeProfile escapeProfile = this.getEscapeProfile();
+
+    this.print('"');
+
+    byte[] buffer = this.buffer;
+    int position = this.position;
+    int limit = buffer.length - MAX_CHARACTER_LENGTH;
+    int length = value.length();
+
+    for (int i = 0; i < length; i++) {
+      if (position > limit) {
+        this.position = position;
+
+        this.writeBuffer();
+
+        position = 0;
+      }
+
+      char c = value.charAt(i);
+      char escape = escapeProfile.getEscape(c);
+
+      if (escape != 0) {
+        position = escape(c, escape, buffer, position);
+      }
+      else if (c < 0x80) {
+        buffer[position++] = (byte)c;
+      }
+      else if (c < 0x800) {
+        buffer[position++] = (byte)(0xC0 | (c >> 6));
+        buffer[position++] = (byte)(0x80 | (c & 0x3F));
+      }
+      else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+
+        buffer[position++] = (byte)(0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte)(0x80 | (codePoint & 0x3F));
+      }
+      else if (c >= 0xD800 && c <= 0xDFFF) {
+        position = escape(c, 'u', buffer, position);
+      }
+      else {
+        buffer[position++] = (byte)(0xE0 | (c >> 12));
+        buffer[position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+        buffer[position++] = (byte)(0x80 | (c & 0x3F));
+      }
+    }
+
+    this.position = position;
+
+    this.print('"');
+  }
+
+  /**
+   * Print the given encoded member name.
+   * <p>
+   * This implementation caches the UTF-8 bytes of the encoded member name by
+   * the identity of the array, so each subsequent occurrence of the member
+   * name is copied into the buffer in bulk.
+   *
+   * @param memberName The encoded member name.
+   */
+  @Override
+  protected void printMemberName(char[] memberName) {
+    int hashCode = System.identityHashCode(memberName);
+    int slot = (hashCode ^ (hashCode >>> 16)) & (MEMBER_NAME_CACHE_SIZE - 1);
+
+    if (this.memberNames[slot] != memberName) {
+      this.memberNames[slot] = memberName;
+      this.memberNameBytes[slot] = this.encode(memberName);
+    }
+
+    this.printBytes(this.memberNameBytes[slot]);
+  }
+
+  /**
+   * Print the given character.
+   *
+   * @param character The character.
+   */
+  @Override
+  protected void print(char character) {
+    if (character < 0x80) {
+      if (this.position == this.buffer.length) {
+        this.writeBuffer();
+      }
+
+      this.buffer[this.position++] = (byte)character;
+    }
+    else {
+      this.print(String.valueOf(character));
+    }
+  }
+
+  /**
+   * Print the given string.
+   * <p>
+   * Unlike {@link #printString(CharSequence)}, the string is encoded without
+   * escaping, with each surrogate pair encoded as a single code point. A
+   * surrogate character that is not part of a surrogate pair cannot be
+   * encoded, and is printed as a hexadecimal escape sequence, which is its
+   * only representation within a JSON string.
+   *
+   * @param string The string.
+   */
+  @Override
+  protected void print(String string) {
+    int length = string.length();
+
+    for (int i = 0; i < length; i++) {
+      if (this.buffer.length - this.position < MAX_CHARACTER_LENGTH) {
+        this.writeBuffer();
+      }
+
+      byte[] buffer = this.buffer;
+      char c = string.charAt(i);
+
+      if (c < 0x80) {
+        buffer[this.position++] = (byte)c;
+      }
+      else if (c < 0x800) {
+        buffer[this.position++] = (byte)(0xC0 | (c >> 6));
+        buffer[this.position++] = (byte)(0x80 | (c & 0x3F));
+      }
+      else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, string.charAt(++i));
+
+        buffer[this.position++] = (byte)(0xF0 | (codePoint >> 18));
+        buffer[this.position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[this.position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[this.position++] = (byte)(0x80 | (codePoint & 0x3F));
+      }
+      else if (c >= 0xD800 && c <= 0xDFFF) {
+        this.position = escape(c, 'u', buffer, this.position);
+      }
+      else {
+        buffer[this.position++] = (byte)(0xE0 | (c >> 12));
+        buffer[this.position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+        buffer[this.position++] = (byte)(0x80 | (c & 0x3F));
+      }
+    }
+  }
+
+  /**
+   * Print the given characters.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   */
+  @Override
+  protected void print(char[] chars, int offset, int length) {
+    for (int i = offset; i < offset + length; i++) {
+      char c = chars[i];
+
+      if (c >= 0x80) {
+        this.print(new String(chars, i, offset + length - i));
+
+        return;
+      }
+
+      if (this.position == this.buffer.length) {
+        this.writeBuffer();
+      }
+
+      this.buffer[this.position++] = (byte)c;
+    }
+  }
+
+  /**
+   * Print the given bytes.
+   *
+   * @param bytes The bytes.
+   */
+  private void printBytes(byte[] bytes) {
+    if (this.buffer.length - this.position < bytes.length) {
+      this.writeBuffer();
+    }
+
+    int offset = 0;
+
+    while (offset < bytes.length) {
+      if (this.position == this.buffer.length) {
+        this.writeBuffer();
+      }
+
+      int count = Math.min(bytes.length - offset, this.buffer.length - this.position);
+
+      System.arraycopy(bytes, offset, this.buffer, this.position, count);
+
+      this.position += count;
+      offset += count;
+    }
+  }
+
+  /**
+   * Write the contents of the buffer to the output.
+   */
+  private void writeBuffer() {
+    if (this.position > 0) {
+      try {
+        this.output.write(this.buffer, this.position);
+      }
+      catch (IOException ioe) {
+        this.error = true;
+      }
+
+      this.position = 0;
+    }
+  }
+
+  /**
+   * Encode the given characters as UTF-8, as {@link #print(String)} does.
+   * <p>
+   * The characters are encoded into a reusable buffer, so only the bytes
+   * themselves are allocated.
+   *
+   * @param chars The characters.
+   * @return The bytes.
+   */
+  private byte[] encode(char[] chars) {
+    int maxLength = chars.length * MAX_CHARACTER_LENGTH;
+
+    if (this.memberNameBuffer.length < maxLength) {
+      this.memberNameBuffer = new byte[Math.max(maxLength, this.memberNameBuffer.length * 2)];
+    }
+
+    byte[] buffer = this.memberNameBuffer;
+    int position = 0;
+
+    for (int i = 0; i < chars.length; i++) {
+      char c = chars[i];
+
+      if (c < 0x80) {
+        buffer[position++] = (byte)c;
+      }
+      else if (c < 0x800) {
+        buffer[position++] = (byte)(0xC0 | (c >> 6));
+        buffer[position++] = (byte)(0x80 | (c & 0x3F));
+      }
+      else if (Character.isHighSurrogate(c) && i + 1 < chars.length && Character.isLowSurrogate(chars[i + 1])) {
+        int codePoint = Character.toCodePoint(c, chars[++i]);
+
+        buffer[position++] = (byte)(0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte)(0x80 | (codePoint & 0x3F));
+      }
+      else if (c >= 0xD800 && c <= 0xDFFF) {
+        position = escape(c, 'u', buffer, position);
+      }
+      else {
+        buffer[position++] = (byte)(0xE0 | (c >> 12));
+        buffer[position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+        buffer[position++] = (byte)(0x80 | (c & 0x3F));
+      }
+    }
+
+    byte[] bytes = new byte[position];
+
+    System.arraycopy(buffer, 0, bytes, 0, position);
+
+    return bytes;
+  }
+
+  /**
+   * Encode the escape sequence of the given character into the given buffer.
+   *
+   * @param c The character.
+   * @param escape The escape of the character.
+   * @param buffer The buffer.
+   * @param position The position within the buffer.
+   * @return The position after the escape sequence.
+   */
+  private static int escape(char c, char escape, byte[] buffer, int position) {
+    buffer[position++] = '\\';
+    buffer[position++] = (byte)escape;
+
+    if (escape == 'u') {
+      buffer[position++] = HEX_DIGITS[(c >> 12) & 0xF];
+      buffer[position++] = HEX_DIGITS[(c >> 8) & 0xF];
+      buffer[position++] = HEX_DIGITS[(c >> 4) & 0xF];
+      buffer[position++] = HEX_DIGITS[c & 0xF];
+    }
+
+    return position;
+  }
+
+  /**
+   * Check the given size of the buffer.
+   *
+   * @param bufferSize The size of the buffer.
+   * @return The size of the buffer.
+   */
+  static int checkBufferSize(int bufferSize) {
+    if (bufferSize < MAX_CHARACTER_LENGTH) {
+      throw new IllegalArgumentException("bufferSize < " + MAX_CHARACTER_LENGTH);
+    }
+
+    return bufferSize;
+  }
+
+  /**
+   * Check the given number of segments of a gathering write.
+   *
+   * @param segmentCount The number of segments.
+   * @return The number of segments.
+   */
+  private static int checkSegmentCount(int segmentCount) {
+    if (segmentCount < 1) {
+      throw new IllegalArgumentException("segmentCount < 1");
+    }
+
+    return segmentCount;
+  }
+}
@@ -0,0 +1,797 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.shared.CharArraySequence;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+/**
+ * Byte JSON Scanner.
+ * <p>
+ * This class implements a hand-written scanner for UTF-8 encoded JSON text
+ * that reads directly from a byte buffer, without decoding the input into
+ * characters.  Only the values of strings are decoded, and only those
+ * strings that contain escape sequences or non-ASCII characters are decoded
+ * as UTF-8; all other strings are converted directly from their bytes.
+ * <p>
+ * Byte arrays and heap byte buffers are scanned in place, while the contents
+ * of direct byte buffers, input streams and files are read into the buffer of
+ * the scanner.  Files are mapped into memory one region at a time, so that
+ * files larger than the maximum size of a single mapping may be scanned.
+ * <p>
+ * In push mode, the input is provided to the scanner in chunks via
+ * {@link #feed(ByteBuffer)}, and {@link #TOKEN_NEED_INPUT} is returned
+ * whenever the input provided so far ends before the next token is complete.
+ * The scanning of a suspended string resumes where it left off, so that long
+ * strings provided in many small chunks are only scanned once.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+final class ByteJsonScanner extends JsonScanner {
+  /** The character set used to convert ASCII bytes into strings. */
+  private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+  /** The buffer owned by the scanner. */
+  private byte[] readBuffer = new byte[DEFAULT_BUFFER_SIZE];
+
+  /** The buffer. */
+  private byte[] buffer = this.readBuffer;
+
+  /** The byte buffer source of the input. */
+  private ByteBuffer byteBuffer;
+
+  /** The input stream source of the input. */
+  private InputStream inputStream;
+
+  /** The file channel source of the input. */
+  private FileChannel fileChannel;
+
+  /** The position of the next region of the file channel source to be mapped. */
+  private long fileChannelPosition;
+
+  /** The size of the file channel source. */
+  private long fileChannelSize;
+
+  /** The size of the regions of the file channel source that are mapped. */
+  private int mappingSize;
+
+  /** The push mode flag. */
+  private boolean push;
+
+  /** The offset from the start of the current token at which the scanning of a suspended string resumes. */
+  private int stringResumeOffset;
+
+  /** The text buffer used to decode strings. */
+  private char[] textBuffer = new char[64];
+
+  /** The length of the decoded value of the current string token. */
+  private int textLength;
+
+  /** The character sequence of the value of the current string token. */
+  private final CharArraySequence stringChars = new CharArraySequence();
+
+  /**
+   * Reset the scanner to read the given UTF-8 encoded JSON text.
+   * <p>
+   * The given bytes are scanned in place, and must not be modified until the
+   * scanner has been released.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param length The length of the JSON text.
+   */
+  public void reset(byte[] jsonText, int offset, int length) {
+    this.reset(jsonText, offset, length, 0);
+  }
+
+  /**
+   * Reset the scanner to read the given UTF-8 encoded JSON text, reporting
+   * positions relative to the given position of its first byte.
+   * <p>
+   * This allows a fragment of a larger JSON text to be scanned while
+   * reporting positions within the larger JSON text.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param length The length of the JSON text.
+   * @param position The position of the first byte of the JSON text.
+   * @see #reset(byte[], int, int)
+   */
+  public void reset(byte[] jsonText, int offset, int length, long position) {
+    this.reset();
+
+    this.buffer = jsonText;
+    this.pos = offset;
+    this.limit = offset + length;
+    this.bufferOffset = position - offset;
+    this.tokenStart = offset;
+    this.endOfInput = true;
+  }
+
+  /**
+   * Reset the scanner to read the UTF-8 encoded JSON text remaining in the
+   * given byte buffer.
+   * <p>
+   * The position of the given byte buffer is not changed.  If the byte buffer
+   * is backed by an accessible array, the array is scanned in place, and must
+   * not be modified until the scanner has been released.
+   *
+   * @param byteBuffer The byte buffer.
+   */
+  public void reset(ByteBuffer byteBuffer) {
+    if (byteBuffer.hasArray()) {
+      this.reset(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+    }
+    else {
+      this.reset();
+
+      this.byteBuffer = byteBuffer.duplicate();
+    }
+  }
+
+  /**
+   * Reset the scanner to read the UTF-8 encoded JSON text provided by the
+   * given input stream.
+   *
+   * @param inputStream The input stream.
+   */
+  public void reset(InputStream inputStream) {
+    this.reset();
+
+    this.inputStream = inputStream;
+  }
+
+  /**
+   * Reset the scanner to read the UTF-8 encoded JSON text provided by the
+   * given file channel.
+   * <p>
+   * The file channel is read from its current position to its end, by
+   * mapping regions of the given size into memory in turn.  The position of
+   * the file channel is not changed.
+   *
+   * @param fileChannel The file channel.
+   * @param mappingSize The size of the mapped regions.
+   * @throws IOException
+   */
+  public void reset(FileChannel fileChannel, int mappingSize)
+    throws IOException {
+    this.reset();
+
+    this.fileChannel = fileChannel;
+    this.fileChannelPosition = fileChannel.position();
+    this.fileChannelSize = fileChannel.size();
+    this.mappingSize = mappingSize;
+  }
+
+  /**
+   * Reset the scanner to read UTF-8 encoded JSON text in push mode.
+   * <p>
+   * The input is provided to the scanner via {@link #feed(ByteBuffer)}, and
+   * the end of input is signalled via {@link #endOfInput()}.
+   */
+  public void resetPush() {
+    this.reset();
+
+    this.push = true;
+  }
+
+  /**
+   * Provide the bytes remaining in the given byte buffer to the scanner in
+   * push mode.
+   * <p>
+   * The bytes are copied into the buffer of the scanner, and the position of
+   * the given byte buffer is advanced to its limit.
+   *
+   * @param byteBuffer The byte buffer.
+   */
+  public void feed(ByteBuffer byteBuffer) {
+    if (!this.push || this.endOfInput) {
+      throw new IllegalStateException("Not accepting input");
+    }
+
+    this.compact();
+
+    int length = byteBuffer.remaining();
+    if (this.limit + length > this.buffer.length) {
+      this.buffer = this.readBuffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.limit + length));
+    }
+
+    byteBuffer.get(this.buffer, this.limit, length);
+
+    this.limit += length;
+  }
+
+  /**
+   * Signal the end of input to the scanner in push mode.
+   */
+  public void endOfInput() {
+    if (!this.push) {
+      throw new IllegalStateException("Not in push mode");
+    }
+
+    this.endOfInput = true;
+  }
+
+  /**
+   * Release the source of the input.
+   */
+  @Override
+  public void release() {
+    this.buffer = this.readBuffer;
+    this.byteBuffer = null;
+    this.inputStream = null;
+    this.fileChannel = null;
+    this.push = false;
+    this.stringResumeOffset = 0;
+  }
+
+  /**
+   * Scan the next token.
+   *
+   * @return The type of the next token.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  @Override
+  public int nextToken()
+    throws IOException, JsonReaderException {
+    if (this.stringResumeOffset != 0) {
+      return this.scanString();
+    }
+
+    byte[] buffer = this.buffer;
+    int pos = this.pos;
+    int limit = this.limit;
+
+    for (;;) {
+      if (pos >= limit) {
+        this.pos = this.tokenStart = pos;
+
+        if (!this.fill()) {
+          return this.endOfInput ? TOKEN_EOF : TOKEN_NEED_INPUT;
+        }
+
+        buffer = this.buffer;
+        pos = this.pos;
+        limit = this.limit;
+      }
+
+      int c = buffer[pos];
+      if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+        pos++;
+
+        continue;
+      }
+
+      this.pos = this.tokenStart = pos;
+
+      switch (c) {
+      case '{':
+        this.pos = pos + 1;
+
+        return TOKEN_START_OBJECT;
+
+      case '}':
+        this.pos = pos + 1;
+
+        return TOKEN_END_OBJECT;
+
+      case '[':
+        this.pos = pos + 1;
+
+        return TOKEN_START_ARRAY;
+
+      case ']':
+        this.pos = pos + 1;
+
+        return TOKEN_END_ARRAY;
+
+      case ',':
+        this.pos = pos + 1;
+
+        return TOKEN_COMMA;
+
+      case ':':
+        this.pos = pos + 1;
+
+        return TOKEN_COLON;
+
+      case '"':
+        return this.scanString();
+
+      case 't':
+        return this.scanLiteral("true", TOKEN_TRUE);
+
+      case 'f':
+        return this.scanLiteral("false", TOKEN_FALSE);
+
+      case 'n':
+        return this.scanLiteral("null", TOKEN_NULL);
+
+      case '-':
+      case '0':
+      case '1':
+      case '2':
+      case '3':
+      case '4':
+      case '5':
+      case '6':
+      case '7':
+      case '8':
+      case '9':
+        return this.scanNumber();
+
+      default:
+        throw this.unexpectedCharacter(c & 0xFF, pos);
+      }
+    }
+  }
+
+  /**
+   * Retrieve the value of the current string token.
+   *
+   * @return The value of the current string token.
+   * @throws JsonReaderException
+   */
+  @Override
+  public String getString()
+    throws JsonReaderException {
+    if (!this.escaped) {
+      return new String(this.buffer, this.valueStart, this.valueEnd - this.valueStart, ISO_8859_1);
+    }
+
+    int length = this.textLength;
+
+    return new String(this.textBuffer, 0, length);
+  }
+
+  /**
+   * Retrieve the value of the current string token as a character sequence.
+   * <p>
+   * The value is decoded into the text buffer, since the buffer of this
+   * scanner holds bytes.
+   *
+   * @return The value of the current string token.
+   * @throws JsonReaderException
+   */
+  @Override
+  public CharSequence getStringChars()
+    throws JsonReaderException {
+    if (this.escaped) {
+      int length = this.textLength;
+
+      return this.stringChars.set(this.textBuffer, 0, length);
+    }
+
+    byte[] buffer = this.buffer;
+    int start = this.valueStart;
+    int length = this.valueEnd - start;
+
+    if (this.textBuffer.length < length) {
+      this.textBuffer = new char[length];
+    }
+
+    char[] textBuffer = this.textBuffer;
+
+    // The value of an unescaped string token is ASCII
+    for (int i = 0; i < length; i++) {
+      textBuffer[i] = (char)buffer[start + i];
+    }
+
+    return this.stringChars.set(textBuffer, 0, length);
+  }
+
+  /**
+   * Retrieve the value of the current string token as a member name from the
+   * given symbol table.
+   * <p>
+   * The bytes of a value that is not escaped are looked up directly, since
+   * they are ASCII characters.
+   *
+   * @param symbolTable The symbol table.
+   * @return The canonical string of the value of the current string token.
+   * @throws JsonReaderException
+   */
+  @Override
+  public String getMemberName(JsonSymbolTable symbolTable)
+    throws JsonReaderException {
+    if (!this.escaped) {
+      return symbolTable.get(this.buffer, this.valueStart, this.valueEnd - this.valueStart);
+    }
+
+    int length = this.textLength;
+
+    return symbolTable.get(this.textBuffer, 0, length);
+  }
+
+  /**
+   * Retrieve the text of the current number token.
+   *
+   * @return The text of the current number token.
+   */
+  @Override
+  protected String getNumberText() {
+    return new String(this.buffer, this.valueStart, this.valueEnd - this.valueStart, ISO_8859_1);
+  }
+
+  /**
+   * Reset the state of the scanner.
+   */
+  @Override
+  protected void reset() {
+    super.reset();
+
+    this.buffer = this.readBuffer;
+    this.byteBuffer = null;
+    this.inputStream = null;
+    this.fileChannel = null;
+    this.push = false;
+    this.stringResumeOffset = 0;
+  }
+
+  /**
+   * Scan a string token.
+   * <p>
+   * The current position is expected to be at the opening quote of the string.
+   * <p>
+   * Strings that contain non-ASCII bytes are flagged as escaped, so that they
+   * are decoded as UTF-8. The value of an escaped string is decoded as soon as
+   * the string has been scanned, so that the escape sequences and the UTF-8
+   * sequences of every string token are validated, even if its value is never
+   * retrieved.
+   *
+   * @return The string token.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  private int scanString()
+    throws IOException, JsonReaderException {
+    boolean escaped = false;
+
+    // Offsets are maintained relative to the start of the token, since the buffer may be compacted by fill()
+    int offset = 1;
+
+    if (this.stringResumeOffset != 0) {
+      escaped = this.escaped;
+      offset = this.stringResumeOffset;
+
+      this.stringResumeOffset = 0;
+    }
+
+    for (;;) {
+      byte[] buffer = this.buffer;
+      int limit = this.limit;
+      int i = this.tokenStart + offset;
+
+      while (i < limit) {
+        int c = buffer[i];
+
+        if (c == '"') {
+          this.valueStart = this.tokenStart + 1;
+          this.valueEnd = i;
+          this.escaped = escaped;
+          this.pos = i + 1;
+
+          if (escaped) {
+            this.textLength = this.decodeString();
+          }
+
+          return TOKEN_STRING;
+        }
+        else if (c == '\\') {
+          escaped = true;
+
+          i += 2;
+        }
+        else if (c < 0) {
+          escaped = true;
+
+          i++;
+        }
+        else if (c < 0x0020) {
+          throw this.unexpectedCharacter(c, i);
+        }
+        else {
+          i++;
+        }
+      }
+
+      offset = i - this.tokenStart;
+
+      if (!this.fill()) {
+        if (!this.endOfInput) {
+          this.escaped = escaped;
+          this.stringResumeOffset = offset;
+
+          return this.suspend();
+        }
+
+        throw new JsonReaderException("Unterminated string at position " + this.getTokenPosition() + ".");
+      }
+    }
+  }
+
+  /**
+   * Decode the value of the current string token into the text buffer.
+   * <p>
+   * Both the escape sequences and the UTF-8 encoded characters of the value
+   * are decoded.
+   *
+   * @return The length of the decoded value.
+   * @throws JsonReaderException
+   */
+  private int decodeString()
+    throws JsonReaderException {
+    byte[] buffer = this.buffer;
+    int end = this.valueEnd;
+
+    // Each byte decodes into at most one character
+    if (this.textBuffer.length < end - this.valueStart) {
+      this.textBuffer = new char[end - this.valueStart];
+    }
+
+    char[] textBuffer = this.textBuffer;
+    int length = 0;
+
+    for (int i = this.valueStart; i < end; i++) {
+      int c = buffer[i];
+
+      if (c < 0) {
+        int start = i;
+        int codePoint;
+        int remaining;
+        int min;
+
+        if ((c & 0xE0) == 0xC0) {
+          codePoint = c & 0x1F;
+          remaining = 1;
+          min = 0x80;
+        }
+        else if ((c & 0xF0) == 0xE0) {
+          codePoint = c & 0x0F;
+          remaining = 2;
+          min = 0x800;
+        }
+        else if ((c & 0xF8) == 0xF0) {
+          codePoint = c & 0x07;
+          remaining = 3;
+          min = 0x10000;
+        }
+        else {
+          throw this.malformedSequence(start);
+        }
+
+        for (; remaining > 0; remaining--) {
+          if (++i >= end || (buffer[i] & 0xC0) != 0x80) {
+            throw this.malformedSequence(start);
+          }
+
+          codePoint = (codePoint << 6) | (buffer[i] & 0x3F);
+        }
+
+        if (codePoint < min || codePoint > Character.MAX_CODE_POINT || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+          throw this.malformedSequence(start);
+        }
+
+        length += Character.toChars(codePoint, textBuffer, length);
+
+        continue;
+      }
+
+      if (c != '\\') {
+        textBuffer[length++] = (char)c;
+
+        continue;
+      }
+
+      c = buffer[++i];
+
+      switch (c) {
+      case '"':
+      case '\\':
+      case '/':
+        textBuffer[length++] = (char)c;
+        break;
+
+      case 'b':
+        textBuffer[length++] = '\b';
+        break;
+
+      case 'f':
+        textBuffer[length++] = '\f';
+        break;
+
+      case 'n':
+        textBuffer[length++] = '\n';
+        break;
+
+      case 'r':
+        textBuffer[length++] = '\r';
+        break;
+
+      case 't':
+        textBuffer[length++] = '\t';
+        break;
+
+      case 'u':
+        if (i + 4 >= end) {
+          throw new JsonReaderException("Invalid unicode escape at position " + (this.bufferOffset + i - 1) + ".");
+        }
+
+        int value = 0;
+        for (int j = 1; j <= 4; j++) {
+          int digit = hexDigit(buffer[i + j]);
+          if (digit < 0) {
+            throw new JsonReaderException("Invalid unicode escape at position " + (this.bufferOffset + i - 1) + ".");
+          }
+
+          value = (value << 4) | digit;
+        }
+
+        textBuffer[length++] = (char)value;
+
+        i += 4;
+
+        break;
+
+      default:
+        throw new JsonReaderException("Invalid escape sequence at position " + (this.bufferOffset + i - 1) + ".");
+      }
+    }
+
+    return length;
+  }
+
+  /**
+   * Peek at the byte at the given offset from the start of the current
+   * token.
+   * <p>
+   * The buffer will be filled if the given offset is beyond the limit of the
+   * buffer.  Since filling the buffer may compact it, the offset is relative
+   * to the start of the current token.
+   *
+   * @param offset The offset from the start of the current token.
+   * @return The unsigned value of the byte, or <code>-1</code> if the end of input has been reached.
+   * @throws IOException
+   */
+  @Override
+  protected int peek(int offset)
+    throws IOException {
+    while (this.tokenStart + offset >= this.limit) {
+      if (!this.fill()) {
+        return -1;
+      }
+    }
+
+    return this.buffer[this.tokenStart + offset] & 0xFF;
+  }
+
+  /**
+   * Fill the buffer.
+   * <p>
+   * The bytes of the buffer preceding the start of the current token are
+   * discarded, and the buffer is expanded if the current token occupies the
+   * entire buffer.
+   *
+   * @return <code>true</code> if more bytes were read into the buffer.
+   * @throws IOException
+   */
+  @Override
+  protected boolean fill()
+    throws IOException {
+    if (this.endOfInput || this.push) {
+      return false;
+    }
+
+    this.compact();
+
+    if (this.limit == this.buffer.length) {
+      this.buffer = this.readBuffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+    }
+
+    if (this.fileChannel != null && (this.byteBuffer == null || !this.byteBuffer.hasRemaining())) {
+      this.mapNextRegion();
+    }
+
+    int count;
+    if (this.byteBuffer != null) {
+      count = Math.min(this.buffer.length - this.limit, this.byteBuffer.remaining());
+      if (count > 0) {
+        this.byteBuffer.get(this.buffer, this.limit, count);
+      }
+      else {
+        count = -1;
+      }
+    }
+    else if (this.inputStream != null) {
+      count = this.inputStream.read(this.buffer, this.limit, this.buffer.length - this.limit);
+    }
+    else {
+      count = -1;
+    }
+
+    if (count < 0) {
+      this.endOfInput = true;
+
+      return false;
+    }
+
+    this.limit += count;
+
+    return true;
+  }
+
+  /**
+   * Compact the buffer.
+   * <p>
+   * The bytes of the buffer preceding the start of the current token are
+   * discarded.
+   */
+  private void compact() {
+    int tokenStart = this.tokenStart;
+    if (tokenStart > 0) {
+      System.arraycopy(this.buffer, tokenStart, this.buffer, 0, this.limit - tokenStart);
+
+      this.pos -= tokenStart;
+      this.limit -= tokenStart;
+      this.bufferOffset += tokenStart;
+      this.tokenStart = 0;
+    }
+  }
+
+  /**
+   * Map the next region of the file channel source into memory.
+   * <p>
+   * The mapped region replaces the byte buffer source of the input; the
+   * previously mapped region is unmapped once it has been garbage collected.
+   *
+   * @throws IOException
+   */
+  private void mapNextRegion()
+    throws IOException {
+    long size = Math.min(this.mappingSize, this.fileChannelSize - this.fileChannelPosition);
+    if (size <= 0) {
+      this.byteBuffer = null;
+
+      return;
+    }
+
+    this.byteBuffer = this.fileChannel.map(MapMode.READ_ONLY, this.fileChannelPosition, size);
+    this.fileChannelPosition += size;
+  }
+
+  /**
+   * Create an exception for a malformed UTF-8 sequence.
+   *
+   * @param index The index of the start of the sequence in the buffer.
+   * @return The exception.
+   */
+  private JsonReaderException malformedSequence(int index) {
+    return new JsonReaderException("Malformed UTF-8 sequence at position " + (this.bufferOffset + index) + ".");
+  }
+}
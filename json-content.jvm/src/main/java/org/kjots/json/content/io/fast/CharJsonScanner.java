@@ -0,0 +1,496 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.shared.CharArraySequence;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+/**
+ * Character JSON Scanner.
+ * <p>
+ * This class implements a hand-written scanner for JSON text that reads
+ * directly from a character buffer.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+final class CharJsonScanner extends JsonScanner {
+  /** The buffer. */
+  private char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+
+  /** The string source of the input. */
+  private String string;
+
+  /** The position of the next character of the string source. */
+  private int stringPos;
+
+  /** The reader source of the input. */
+  private Reader reader;
+
+  /** The text buffer used to decode escaped strings. */
+  private char[] textBuffer = new char[64];
+
+  /** The length of the decoded value of the current string token. */
+  private int textLength;
+
+  /** The character sequence of the value of the current string token. */
+  private final CharArraySequence stringChars = new CharArraySequence();
+
+  /**
+   * Reset the scanner to read the given JSON text.
+   *
+   * @param jsonText The JSON text.
+   */
+  public void reset(String jsonText) {
+    this.reset();
+
+    this.string = jsonText;
+  }
+
+  /**
+   * Reset the scanner to read the JSON text provided by the given reader.
+   *
+   * @param reader The reader.
+   */
+  public void reset(Reader reader) {
+    this.reset();
+
+    this.reader = reader;
+  }
+
+  /**
+   * Release the source of the input.
+   */
+  @Override
+  public void release() {
+    this.string = null;
+    this.reader = null;
+  }
+
+  /**
+   * Scan the next token.
+   *
+   * @return The type of the next token.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  @Override
+  public int nextToken()
+    throws IOException, JsonReaderException {
+    char[] buffer = this.buffer;
+    int pos = this.pos;
+    int limit = this.limit;
+
+    for (;;) {
+      if (pos >= limit) {
+        this.pos = this.tokenStart = pos;
+
+        if (!this.fill()) {
+          return TOKEN_EOF;
+        }
+
+        buffer = this.buffer;
+        pos = this.pos;
+        limit = this.limit;
+      }
+
+      char c = buffer[pos];
+      if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+        pos++;
+
+        continue;
+      }
+
+      this.pos = this.tokenStart = pos;
+
+      switch (c) {
+      case '{':
+        this.pos = pos + 1;
+
+        return TOKEN_START_OBJECT;
+
+      case '}':
+        this.pos = pos + 1;
+
+        return TOKEN_END_OBJECT;
+
+      case '[':
+        this.pos = pos + 1;
+
+        return TOKEN_START_ARRAY;
+
+      case ']':
+        this.pos = pos + 1;
+
+        return TOKEN_END_ARRAY;
+
+      case ',':
+        this.pos = pos + 1;
+
+        return TOKEN_COMMA;
+
+      case ':':
+        this.pos = pos + 1;
+
+        return TOKEN_COLON;
+
+      case '"':
+        return this.scanString();
+
+      case 't':
+        return this.scanLiteral("true", TOKEN_TRUE);
+
+      case 'f':
+        return this.scanLiteral("false", TOKEN_FALSE);
+
+      case 'n':
+        return this.scanLiteral("null", TOKEN_NULL);
+
+      case '-':
+      case '0':
+      case '1':
+      case '2':
+      case '3':
+      case '4':
+      case '5':
+      case '6':
+      case '7':
+      case '8':
+      case '9':
+        return this.scanNumber();
+
+      default:
+        throw this.unexpectedCharacter(c, pos);
+      }
+    }
+  }
+
+  /**
+   * Retrieve the value of the current string token.
+   *
+   * @return The value of the current string token.
+   * @throws JsonReaderException
+   */
+  @Override
+  public String getString()
+    throws JsonReaderException {
+    if (!this.escaped) {
+      return new String(this.buffer, this.valueStart, this.valueEnd - this.valueStart);
+    }
+
+    int length = this.textLength;
+
+    return new String(this.textBuffer, 0, length);
+  }
+
+  /**
+   * Retrieve the value of the current string token as a character sequence.
+   *
+   * @return The value of the current string token.
+   * @throws JsonReaderException
+   */
+  @Override
+  public CharSequence getStringChars()
+    throws JsonReaderException {
+    if (!this.escaped) {
+      return this.stringChars.set(this.buffer, this.valueStart, this.valueEnd - this.valueStart);
+    }
+
+    int length = this.textLength;
+
+    return this.stringChars.set(this.textBuffer, 0, length);
+  }
+
+  /**
+   * Retrieve the value of the current string token as a member name from the
+   * given symbol table.
+   *
+   * @param symbolTable The symbol table.
+   * @return The canonical string of the value of the current string token.
+   * @throws JsonReaderException
+   */
+  @Override
+  public String getMemberName(JsonSymbolTable symbolTable)
+    throws JsonReaderException {
+    if (!this.escaped) {
+      return symbolTable.get(this.buffer, this.valueStart, this.valueEnd - this.valueStart);
+    }
+
+    int length = this.textLength;
+
+    return symbolTable.get(this.textBuffer, 0, length);
+  }
+
+  /**
+   * Retrieve the text of the current number token.
+   *
+   * @return The text of the current number token.
+   */
+  @Override
+  protected String getNumberText() {
+    return new String(this.buffer, this.valueStart, this.valueEnd - this.valueStart);
+  }
+
+  /**
+   * Reset the state of the scanner.
+   */
+  @Override
+  protected void reset() {
+    super.reset();
+
+    this.string = null;
+    this.stringPos = 0;
+    this.reader = null;
+  }
+
+  /**
+   * Scan a string token.
+   * <p>
+   * The current position is expected to be at the opening quote of the string.
+   * <p>
+   * The value of a string that contains escape sequences is decoded as soon
+   * as the string has been scanned, so that every string token is validated,
+   * even if its value is never retrieved.
+   *
+   * @return The string token.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  private int scanString()
+    throws IOException, JsonReaderException {
+    boolean escaped = false;
+
+    // Offsets are maintained relative to the start of the token, since the buffer may be compacted by fill()
+    int offset = 1;
+
+    for (;;) {
+      char[] buffer = this.buffer;
+      int limit = this.limit;
+      int i = this.tokenStart + offset;
+
+      while (i < limit) {
+        char c = buffer[i];
+
+        if (c == '"') {
+          this.valueStart = this.tokenStart + 1;
+          this.valueEnd = i;
+          this.escaped = escaped;
+          this.pos = i + 1;
+
+          if (escaped) {
+            this.textLength = this.decodeString();
+          }
+
+          return TOKEN_STRING;
+        }
+        else if (c == '\\') {
+          escaped = true;
+
+          i += 2;
+        }
+        else if (c < 0x0020) {
+          throw this.unexpectedCharacter(c, i);
+        }
+        else {
+          i++;
+        }
+      }
+
+      offset = i - this.tokenStart;
+
+      if (!this.fill()) {
+        throw new JsonReaderException("Unterminated string at position " + this.getTokenPosition() + ".");
+      }
+    }
+  }
+
+  /**
+   * Decode the escaped value of the current string token into the text buffer.
+   *
+   * @return The length of the decoded value.
+   * @throws JsonReaderException
+   */
+  private int decodeString()
+    throws JsonReaderException {
+    char[] buffer = this.buffer;
+    int end = this.valueEnd;
+
+    if (this.textBuffer.length < end - this.valueStart) {
+      this.textBuffer = new char[end - this.valueStart];
+    }
+
+    char[] textBuffer = this.textBuffer;
+    int length = 0;
+
+    for (int i = this.valueStart; i < end; i++) {
+      char c = buffer[i];
+
+      if (c != '\\') {
+        textBuffer[length++] = c;
+
+        continue;
+      }
+
+      c = buffer[++i];
+
+      switch (c) {
+      case '"':
+      case '\\':
+      case '/':
+        textBuffer[length++] = c;
+        break;
+
+      case 'b':
+        textBuffer[length++] = '\b';
+        break;
+
+      case 'f':
+        textBuffer[length++] = '\f';
+        break;
+
+      case 'n':
+        textBuffer[length++] = '\n';
+        break;
+
+      case 'r':
+        textBuffer[length++] = '\r';
+        break;
+
+      case 't':
+        textBuffer[length++] = '\t';
+        break;
+
+      case 'u':
+        if (i + 4 >= end) {
+          throw new JsonReaderException("Invalid unicode escape at position " + (this.bufferOffset + i - 1) + ".");
+        }
+
+        int value = 0;
+        for (int j = 1; j <= 4; j++) {
+          int digit = hexDigit(buffer[i + j]);
+          if (digit < 0) {
+            throw new JsonReaderException("Invalid unicode escape at position " + (this.bufferOffset + i - 1) + ".");
+          }
+
+          value = (value << 4) | digit;
+        }
+
+        textBuffer[length++] = (char)value;
+
+        i += 4;
+
+        break;
+
+      default:
+        throw new JsonReaderException("Invalid escape sequence at position " + (this.bufferOffset + i - 1) + ".");
+      }
+    }
+
+    return length;
+  }
+
+  /**
+   * Peek at the character at the given offset from the start of the current
+   * token.
+   * <p>
+   * The buffer will be filled if the given offset is beyond the limit of the
+   * buffer.  Since filling the buffer may compact it, the offset is relative
+   * to the start of the current token.
+   *
+   * @param offset The offset from the start of the current token.
+   * @return The character, or <code>-1</code> if the end of input has been reached.
+   * @throws IOException
+   */
+  @Override
+  protected int peek(int offset)
+    throws IOException {
+    while (this.tokenStart + offset >= this.limit) {
+      if (!this.fill()) {
+        return -1;
+      }
+    }
+
+    return this.buffer[this.tokenStart + offset];
+  }
+
+  /**
+   * Fill the buffer.
+   * <p>
+   * The characters of the buffer preceding the start of the current token
+   * are discarded, and the buffer is expanded if the current token occupies
+   * the entire buffer.
+   *
+   * @return <code>true</code> if more characters were read into the buffer.
+   * @throws IOException
+   */
+  @Override
+  protected boolean fill()
+    throws IOException {
+    if (this.endOfInput) {
+      return false;
+    }
+
+    int tokenStart = this.tokenStart;
+    if (tokenStart > 0) {
+      System.arraycopy(this.buffer, tokenStart, this.buffer, 0, this.limit - tokenStart);
+
+      this.pos -= tokenStart;
+      this.limit -= tokenStart;
+      this.bufferOffset += tokenStart;
+      this.tokenStart = 0;
+    }
+
+    if (this.limit == this.buffer.length) {
+      this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+    }
+
+    int count;
+    if (this.string != null) {
+      count = Math.min(this.buffer.length - this.limit, this.string.length() - this.stringPos);
+      if (count > 0) {
+        this.string.getChars(this.stringPos, this.stringPos + count, this.buffer, this.limit);
+
+        this.stringPos += count;
+      }
+      else {
+        count = -1;
+      }
+    }
+    else if (this.reader != null) {
+      count = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+    }
+    else {
+      count = -1;
+    }
+
+    if (count < 0) {
+      this.endOfInput = true;
+
+      return false;
+    }
+
+    this.limit += count;
+
+    return true;
+  }
+}
@@ -0,0 +1,390 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.fast.FastJsonReader.NumberPolicy;
+import org.kjots.json.content.shared.JsonContentCursor;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+/**
+ * Fast JSON Cursor.
+ * <p>
+ * This class implements a JSON content cursor backed by the same scanners and
+ * parser as the {@link FastJsonReader}.  The values of member names and
+ * primitives are only converted when they are retrieved, and skipped values
+ * are only scanned as far as is necessary to match their brackets, without
+ * any of their member names or primitives being converted.  Since the
+ * scanners decode the strings that contain escape sequences or non-ASCII
+ * bytes as they scan them, a skipped value is validated exactly as the
+ * {@link FastJsonReader} validates it.
+ * <p>
+ * A cursor is positioned at a JSON text via one of the <code>reset</code>
+ * methods, and may be reset to another JSON text at any time, including
+ * before the end of the current JSON text has been reached.  Any
+ * {@link IOException} thrown while reading the JSON text is reported as the
+ * cause of a {@link JsonReaderException}.
+ * <p>
+ * Instances of this class are <em>not</em> thread-safe.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonCursor implements JsonContentCursor<JsonReaderException> {
+  /** The events, indexed by the events of the parser. */
+  private static final Event[] EVENTS = {
+    null,
+    Event.START_JSON,
+    Event.END_JSON,
+    Event.START_OBJECT,
+    Event.END_OBJECT,
+    Event.START_ARRAY,
+    Event.END_ARRAY,
+    Event.MEMBER_NAME,
+    Event.PRIMITIVE
+  };
+
+  /** The parser. */
+  private final FastJsonParser parser = new FastJsonParser();
+
+  /** The character scanner. */
+  private CharJsonScanner charScanner;
+
+  /** The byte scanner. */
+  private ByteJsonScanner byteScanner;
+
+  /** The current scanner. */
+  private JsonScanner scanner;
+
+  /** The number policy. */
+  private NumberPolicy numberPolicy;
+
+  /** The current event. */
+  private Event event;
+
+  /**
+   * Construct a new Fast JSON Cursor.
+   * <p>
+   * This constructor is equivalent to:
+   * <pre>
+   *   new FastJsonCursor({@link NumberPolicy#EXACT})
+   * </pre>
+   */
+  public FastJsonCursor() {
+    this(NumberPolicy.EXACT);
+  }
+
+  /**
+   * Construct a new Fast JSON Cursor.
+   *
+   * @param numberPolicy The number policy.
+   */
+  public FastJsonCursor(NumberPolicy numberPolicy) {
+    this.numberPolicy = numberPolicy;
+  }
+
+  /**
+   * Retrieve the number policy.
+   *
+   * @return The number policy.
+   */
+  public NumberPolicy getNumberPolicy() {
+    return this.numberPolicy;
+  }
+
+  /**
+   * Set the number policy.
+   *
+   * @param numberPolicy The number policy.
+   */
+  public void setNumberPolicy(NumberPolicy numberPolicy) {
+    this.numberPolicy = numberPolicy;
+  }
+
+  /**
+   * Retrieve the symbol table of member names.
+   *
+   * @return The symbol table, or <code>null</code>.
+   * @see #setSymbolTable(JsonSymbolTable)
+   */
+  public JsonSymbolTable getSymbolTable() {
+    return this.parser.getSymbolTable();
+  }
+
+  /**
+   * Set the symbol table of member names.
+   * <p>
+   * If the symbol table is not <code>null</code>, each member name is looked
+   * up in the symbol table directly from the buffer of the cursor, so that a
+   * string is created only for the first occurrence of each member name. The
+   * symbol table may be shared with other readers.
+   *
+   * @param symbolTable The symbol table, or <code>null</code>.
+   */
+  public void setSymbolTable(JsonSymbolTable symbolTable) {
+    this.parser.setSymbolTable(symbolTable);
+  }
+
+  /**
+   * Reset the cursor to read the given JSON text.
+   *
+   * @param jsonText The JSON text.
+   */
+  public void reset(String jsonText) {
+    CharJsonScanner charScanner = this.getCharScanner();
+
+    charScanner.reset(jsonText);
+
+    this.reset(charScanner);
+  }
+
+  /**
+   * Reset the cursor to read the JSON text provided by the given reader.
+   *
+   * @param reader The reader.
+   */
+  public void reset(Reader reader) {
+    CharJsonScanner charScanner = this.getCharScanner();
+
+    charScanner.reset(reader);
+
+    this.reset(charScanner);
+  }
+
+  /**
+   * Reset the cursor to read the given UTF-8 encoded JSON text.
+   * <p>
+   * The given bytes are scanned in place.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   */
+  public void reset(byte[] jsonText) {
+    this.reset(jsonText, 0, jsonText.length);
+  }
+
+  /**
+   * Reset the cursor to read the given UTF-8 encoded JSON text.
+   * <p>
+   * The given bytes are scanned in place.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param length The length of the JSON text.
+   */
+  public void reset(byte[] jsonText, int offset, int length) {
+    ByteJsonScanner byteScanner = this.getByteScanner();
+
+    byteScanner.reset(jsonText, offset, length);
+
+    this.reset(byteScanner);
+  }
+
+  /**
+   * Reset the cursor to read the UTF-8 encoded JSON text remaining in the
+   * given byte buffer.
+   * <p>
+   * The position of the given byte buffer is not changed.
+   *
+   * @param byteBuffer The byte buffer.
+   */
+  public void reset(ByteBuffer byteBuffer) {
+    ByteJsonScanner byteScanner = this.getByteScanner();
+
+    byteScanner.reset(byteBuffer);
+
+    this.reset(byteScanner);
+  }
+
+  /**
+   * Reset the cursor to read the UTF-8 encoded JSON text provided by the
+   * given input stream.
+   *
+   * @param inputStream The input stream.
+   */
+  public void reset(InputStream inputStream) {
+    ByteJsonScanner byteScanner = this.getByteScanner();
+
+    byteScanner.reset(inputStream);
+
+    this.reset(byteScanner);
+  }
+
+  /**
+   * Advance the cursor to the next event.
+   *
+   * @return The next event, or <code>null</code> if the end of the JSON content has been reached.
+   * @throws JsonReaderException
+   */
+  @Override
+  public Event nextEvent()
+    throws JsonReaderException {
+    if (this.scanner == null) {
+      return this.event = null;
+    }
+
+    return this.event = EVENTS[this.nextParserEvent()];
+  }
+
+  /**
+   * Retrieve the current event.
+   *
+   * @return The current event, or <code>null</code> if the cursor is not positioned at an event.
+   */
+  @Override
+  public Event getEvent() {
+    return this.event;
+  }
+
+  /**
+   * Retrieve the name of the current member.
+   *
+   * @return The name of the current member.
+   * @throws JsonReaderException
+   */
+  @Override
+  public String getMemberName()
+    throws JsonReaderException {
+    if (this.event != Event.MEMBER_NAME) {
+      throw new IllegalStateException("Current event is " + this.event);
+    }
+
+    return this.parser.getMemberName();
+  }
+
+  /**
+   * Retrieve the value of the current primitive.
+   * <p>
+   * The type of the value is determined by the number policy.
+   *
+   * @return The value of the current primitive.
+   * @throws JsonReaderException
+   */
+  @Override
+  public Object getPrimitive()
+    throws JsonReaderException {
+    if (this.event != Event.PRIMITIVE) {
+      throw new IllegalStateException("Current event is " + this.event);
+    }
+
+    return this.parser.getPrimitive(this.numberPolicy);
+  }
+
+  /**
+   * Skip the value at the current position of the cursor.
+   * <p>
+   * The events of the skipped value are consumed directly from the parser,
+   * tracking only the depth of nesting.
+   *
+   * @throws JsonReaderException
+   */
+  @Override
+  public void skipValue()
+    throws JsonReaderException {
+    if (this.event == Event.START_JSON || this.event == Event.MEMBER_NAME) {
+      this.nextEvent();
+    }
+
+    if (this.event != Event.START_OBJECT && this.event != Event.START_ARRAY) {
+      return;
+    }
+
+    FastJsonParser parser = this.parser;
+    int depth = parser.getDepth();
+
+    int parserEvent;
+    do {
+      parserEvent = this.nextParserEvent();
+    }
+    while (parser.getDepth() >= depth);
+
+    this.event = EVENTS[parserEvent];
+  }
+
+  /**
+   * Reset the cursor to read the JSON text provided by the given scanner.
+   *
+   * @param scanner The scanner.
+   */
+  private void reset(JsonScanner scanner) {
+    if (this.scanner != null && this.scanner != scanner) {
+      this.scanner.release();
+    }
+
+    this.scanner = scanner;
+    this.event = null;
+
+    this.parser.reset(scanner);
+  }
+
+  /**
+   * Retrieve the next event from the parser.
+   * <p>
+   * The scanner is released once the end of input has been reached.
+   *
+   * @return The next event.
+   * @throws JsonReaderException
+   */
+  private int nextParserEvent()
+    throws JsonReaderException {
+    int parserEvent;
+    try {
+      parserEvent = this.parser.nextEvent();
+    }
+    catch (IOException ioe) {
+      throw new JsonReaderException(ioe);
+    }
+
+    if (parserEvent == FastJsonParser.EVENT_END_OF_INPUT) {
+      this.scanner.release();
+      this.scanner = null;
+    }
+
+    return parserEvent;
+  }
+
+  /**
+   * Retrieve the character scanner, creating it if necessary.
+   *
+   * @return The character scanner.
+   */
+  private CharJsonScanner getCharScanner() {
+    if (this.charScanner == null) {
+      this.charScanner = new CharJsonScanner();
+    }
+
+    return this.charScanner;
+  }
+
+  /**
+   * Retrieve the byte scanner, creating it if necessary.
+   *
+   * @return The byte scanner.
+   */
+  private ByteJsonScanner getByteScanner() {
+    if (this.byteScanner == null) {
+      this.byteScanner = new ByteJsonScanner();
+    }
+
+    return this.byteScanner;
+  }
+}
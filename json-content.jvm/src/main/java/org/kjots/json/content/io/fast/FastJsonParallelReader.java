@@ -0,0 +1,961 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.kjots.json.content.io.JsonReader;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.fast.FastJsonReader.NumberPolicy;
+import org.kjots.json.content.shared.AbstractJsonContentGenerator;
+import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.JsonSymbolTable;
+import org.kjots.json.content.shared.TypedJsonContentHandler;
+
+/**
+ * Fast JSON Parallel Reader.
+ * <p>
+ * This class implements a JSON reader that parses a JSON text whose root
+ * value is an array on several threads at once.  A structural pre-scan of the
+ * JSON text, which tracks only strings and the nesting of objects and arrays,
+ * splits the elements of the array into chunks of approximately the chunk
+ * size, and the chunks are then parsed concurrently by the given executor
+ * service.
+ * <p>
+ * The elements may be delivered in one of two ways:
+ * <ul>
+ * <li>In order, to the JSON content handler, via the <code>parse</code>
+ *     methods.  The JSON content events are exactly those produced by the
+ *     {@link FastJsonReader} for the same JSON text.</li>
+ * <li>Each to its own JSON content handler, created by an
+ *     {@link ElementHandlerFactory} on the thread that parses the element,
+ *     via the <code>parseElements</code> methods.  This allows the elements
+ *     to be built into objects, for example with a JSON object builder, in
+ *     parallel.</li>
+ * </ul>
+ * <p>
+ * JSON texts that are not arrays, are not split into more than one chunk, or
+ * cannot be split because they are invalid are parsed on the calling thread.
+ * The JSON texts provided by a reader are always parsed on the calling
+ * thread.
+ * <p>
+ * Instances of this class are <em>not</em> thread-safe.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonParallelReader extends AbstractJsonContentGenerator implements JsonReader {
+  /**
+   * Element Handler Factory.
+   * <p>
+   * Implementations of this interface must be thread-safe.
+   *
+   * @param <H> The type of the JSON content handlers.
+   */
+  public interface ElementHandlerFactory<H extends JsonContentHandler> {
+    /**
+     * Create a JSON content handler for an element.
+     *
+     * @return The JSON content handler.
+     */
+    public H createJsonContentHandler();
+  }
+
+  /**
+   * Partition.
+   * <p>
+   * A partition records the positions of the content of the root array of a
+   * JSON text and of the commas that separate its chunks.
+   */
+  private static final class Partition {
+    /** The position of the start of the content of the root array. */
+    private final int contentStart;
+
+    /** The position of the end of the content of the root array. */
+    private final int contentEnd;
+
+    /** The positions of the commas that separate the chunks. */
+    private final int[] separators;
+
+    /**
+     * Construct a new Partition.
+     *
+     * @param contentStart The position of the start of the content of the root array.
+     * @param contentEnd The position of the end of the content of the root array.
+     * @param separators The positions of the commas that separate the chunks.
+     */
+    public Partition(int contentStart, int contentEnd, int[] separators) {
+      this.contentStart = contentStart;
+      this.contentEnd = contentEnd;
+      this.separators = separators;
+    }
+
+    /**
+     * Retrieve the number of chunks.
+     *
+     * @return The number of chunks.
+     */
+    public int getChunkCount() {
+      return this.separators.length + 1;
+    }
+
+    /**
+     * Retrieve the position of the start of the given chunk.
+     *
+     * @param chunk The chunk.
+     * @return The position of the start of the chunk.
+     */
+    public int getChunkStart(int chunk) {
+      return chunk == 0 ? this.contentStart : this.separators[chunk - 1] + 1;
+    }
+
+    /**
+     * Retrieve the position of the end of the given chunk.
+     *
+     * @param chunk The chunk.
+     * @return The position of the end of the chunk.
+     */
+    public int getChunkEnd(int chunk) {
+      return chunk == this.separators.length ? this.contentEnd : this.separators[chunk];
+    }
+  }
+
+  /**
+   * Recorded Chunk.
+   * <p>
+   * A recorded chunk holds the JSON content events of a chunk, followed by
+   * the exception that ended the parsing of the chunk, if any.
+   */
+  private static final class RecordedChunk {
+    /** The events. */
+    private int[] events = new int[256];
+
+    /** The values of the events. */
+    private Object[] values = new Object[256];
+
+    /** The number of events. */
+    private int eventCount;
+
+    /** The exception. */
+    private JsonReaderException exception;
+
+    /**
+     * Add the given event.
+     *
+     * @param event The event.
+     * @param value The value of the event.
+     */
+    public void add(int event, Object value) {
+      if (this.eventCount == this.events.length) {
+        this.events = Arrays.copyOf(this.events, this.eventCount * 2);
+        this.values = Arrays.copyOf(this.values, this.eventCount * 2);
+      }
+
+      this.events[this.eventCount] = event;
+      this.values[this.eventCount] = value;
+      this.eventCount++;
+    }
+
+    /**
+     * Replay the events to the given JSON content handler.
+     *
+     * @param jsonContentHandler The JSON content handler.
+     * @throws JsonReaderException
+     */
+    public void replay(JsonContentHandler jsonContentHandler)
+      throws JsonReaderException {
+      for (int i = 0; i < this.eventCount; i++) {
+        switch (this.events[i]) {
+        case FastJsonParser.EVENT_START_OBJECT:
+          jsonContentHandler.startObject();
+          break;
+
+        case FastJsonParser.EVENT_END_OBJECT:
+          jsonContentHandler.endObject();
+          break;
+
+        case FastJsonParser.EVENT_START_ARRAY:
+          jsonContentHandler.startArray();
+          break;
+
+        case FastJsonParser.EVENT_END_ARRAY:
+          jsonContentHandler.endArray();
+          break;
+
+        case FastJsonParser.EVENT_MEMBER_NAME:
+          jsonContentHandler.memberName((String)this.values[i]);
+          break;
+
+        case FastJsonParser.EVENT_PRIMITIVE:
+          jsonContentHandler.primitive(this.values[i]);
+          break;
+        }
+      }
+
+      if (this.exception != null) {
+        throw this.exception;
+      }
+    }
+  }
+
+  /**
+   * Chunk Parser.
+   *
+   * @param <T> The type of the result of parsing a chunk.
+   */
+  private abstract static class ChunkParser<T> {
+    /**
+     * Parse the element list with the given parser.
+     *
+     * @param parser The parser.
+     * @return The result.
+     * @throws IOException
+     * @throws JsonReaderException
+     */
+    protected abstract T parse(FastJsonParser parser)
+      throws IOException, JsonReaderException;
+
+    /**
+     * Consume the result of parsing a chunk.
+     * <p>
+     * The results are consumed on the calling thread, in the order of the
+     * chunks.
+     *
+     * @param result The result.
+     * @throws JsonReaderException
+     */
+    protected abstract void consume(T result)
+      throws JsonReaderException;
+  }
+
+  /** The default chunk size. */
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+  /** The executor service. */
+  private final ExecutorService executorService;
+
+  /** The maximum number of chunks parsed or awaiting consumption at once. */
+  private final int parallelism;
+
+  /** The reader used to parse JSON texts on the calling thread. */
+  private final FastJsonReader serialReader;
+
+  /** The chunk size. */
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+  /**
+   * Construct a new Fast JSON Parallel Reader.
+   * <p>
+   * This constructor is equivalent to:
+   * <pre>
+   *   new FastJsonParallelReader(<code>executorService</code>, Runtime.getRuntime().availableProcessors())
+   * </pre>
+   *
+   * @param executorService The executor service.
+   */
+  public FastJsonParallelReader(ExecutorService executorService) {
+    this(executorService, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Construct a new Fast JSON Parallel Reader.
+   * <p>
+   * The given parallelism is the maximum number of chunks that are parsed,
+   * or have been parsed but not yet consumed, at any time.  It bounds both
+   * the number of threads of the executor service used by this reader, and
+   * the memory used to hold the results of the chunks.
+   *
+   * @param executorService The executor service.
+   * @param parallelism The parallelism.
+   */
+  public FastJsonParallelReader(ExecutorService executorService, int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("parallelism <= 0");
+    }
+
+    this.executorService = executorService;
+    this.parallelism = parallelism;
+    this.serialReader = new FastJsonReader();
+  }
+
+  /**
+   * Retrieve the number policy.
+   *
+   * @return The number policy.
+   */
+  public NumberPolicy getNumberPolicy() {
+    return this.serialReader.getNumberPolicy();
+  }
+
+  /**
+   * Set the number policy.
+   *
+   * @param numberPolicy The number policy.
+   */
+  public void setNumberPolicy(NumberPolicy numberPolicy) {
+    this.serialReader.setNumberPolicy(numberPolicy);
+  }
+
+  /**
+   * Retrieve the symbol table of member names.
+   *
+   * @return The symbol table, or <code>null</code>.
+   * @see #setSymbolTable(JsonSymbolTable)
+   */
+  public JsonSymbolTable getSymbolTable() {
+    return this.serialReader.getSymbolTable();
+  }
+
+  /**
+   * Set the symbol table of member names.
+   * <p>
+   * If the symbol table is not <code>null</code>, it is shared by the parsers
+   * of every chunk, so that a string is created only for the first
+   * occurrence of each member name in the JSON text rather than in each
+   * chunk.
+   *
+   * @param symbolTable The symbol table, or <code>null</code>.
+   */
+  public void setSymbolTable(JsonSymbolTable symbolTable) {
+    this.serialReader.setSymbolTable(symbolTable);
+  }
+
+  /**
+   * Retrieve the chunk size.
+   *
+   * @return The chunk size.
+   */
+  public int getChunkSize() {
+    return this.chunkSize;
+  }
+
+  /**
+   * Set the chunk size.
+   * <p>
+   * The chunk size is the minimum number of bytes of each chunk but the last.
+   * Each chunk is extended to the end of the element at which the chunk size
+   * is reached.
+   *
+   * @param chunkSize The chunk size.
+   */
+  public void setChunkSize(int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize <= 0");
+    }
+
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Parse the given JSON text.
+   * <p>
+   * The JSON text is encoded as UTF-8 before it is parsed.
+   *
+   * @param jsonText The JSON text.
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(String jsonText)
+    throws JsonReaderException {
+    this.parse(toUtf8(jsonText));
+  }
+
+  /**
+   * Parse the JSON text provided by the given reader.
+   * <p>
+   * The JSON text is parsed on the calling thread.
+   *
+   * @param reader The reader.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(Reader reader)
+    throws IOException, JsonReaderException {
+    this.serialReader.setJsonContentHandler(this.jsonContentHandler);
+    this.serialReader.parse(reader);
+  }
+
+  /**
+   * Parse the given UTF-8 encoded JSON text.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(byte[] jsonText)
+    throws JsonReaderException {
+    this.parse(jsonText, 0, jsonText.length);
+  }
+
+  /**
+   * Parse the given UTF-8 encoded JSON text.
+   * <p>
+   * The given bytes are scanned in place, and must not be modified until
+   * this method returns.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param length The length of the JSON text.
+   * @throws JsonReaderException
+   */
+  public void parse(byte[] jsonText, int offset, int length)
+    throws JsonReaderException {
+    Partition partition = this.partition(jsonText, offset, length);
+    if (partition == null || partition.getChunkCount() == 1) {
+      this.serialReader.setJsonContentHandler(this.jsonContentHandler);
+      this.serialReader.parse(jsonText, offset, length);
+
+      return;
+    }
+
+    final JsonContentHandler jsonContentHandler = this.jsonContentHandler;
+    final NumberPolicy numberPolicy = this.getNumberPolicy();
+
+    jsonContentHandler.startJson();
+    jsonContentHandler.startArray();
+
+    this.execute(jsonText, offset, partition, new ChunkParser<RecordedChunk>() {
+      @Override
+      protected RecordedChunk parse(FastJsonParser parser)
+        throws IOException {
+        RecordedChunk recordedChunk = new RecordedChunk();
+
+        try {
+          for (;;) {
+            int event = parser.nextEvent();
+
+            switch (event) {
+            case FastJsonParser.EVENT_END_OF_INPUT:
+              return recordedChunk;
+
+            case FastJsonParser.EVENT_START_JSON:
+            case FastJsonParser.EVENT_END_JSON:
+              break;
+
+            case FastJsonParser.EVENT_MEMBER_NAME:
+              recordedChunk.add(event, parser.getMemberName());
+              break;
+
+            case FastJsonParser.EVENT_PRIMITIVE:
+              recordedChunk.add(event, parser.getPrimitive(numberPolicy));
+              break;
+
+            default:
+              recordedChunk.add(event, null);
+              break;
+            }
+          }
+        }
+        catch (JsonReaderException jre) {
+          recordedChunk.exception = jre;
+
+          return recordedChunk;
+        }
+      }
+
+      @Override
+      protected void consume(RecordedChunk recordedChunk)
+        throws JsonReaderException {
+        recordedChunk.replay(jsonContentHandler);
+      }
+    });
+
+    jsonContentHandler.endArray();
+    jsonContentHandler.endJson();
+  }
+
+  /**
+   * Parse the UTF-8 encoded JSON text remaining in the given byte buffer.
+   * <p>
+   * The position of the given byte buffer is not changed.  If the byte buffer
+   * is not backed by an accessible array, its contents are copied into an
+   * array before they are parsed.
+   *
+   * @param byteBuffer The byte buffer.
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(ByteBuffer byteBuffer)
+    throws JsonReaderException {
+    if (byteBuffer.hasArray()) {
+      this.parse(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+    }
+    else {
+      this.parse(toArray(byteBuffer));
+    }
+  }
+
+  /**
+   * Parse the UTF-8 encoded JSON text provided by the given input stream.
+   * <p>
+   * The input stream is read in its entirety before it is parsed.
+   *
+   * @param inputStream The input stream.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(InputStream inputStream)
+    throws IOException, JsonReaderException {
+    byte[] buffer = new byte[JsonScanner.DEFAULT_BUFFER_SIZE];
+    int length = 0;
+
+    for (int count; (count = inputStream.read(buffer, length, buffer.length - length)) >= 0; ) {
+      length += count;
+
+      if (length == buffer.length) {
+        buffer = Arrays.copyOf(buffer, length * 2);
+      }
+    }
+
+    this.parse(buffer, 0, length);
+  }
+
+  /**
+   * Parse the elements of the root array of the given UTF-8 encoded JSON
+   * text.
+   *
+   * @param <H> The type of the JSON content handlers.
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param elementHandlerFactory The element handler factory.
+   * @return The JSON content handlers of the elements.
+   * @throws JsonReaderException
+   * @see #parseElements(byte[], int, int, ElementHandlerFactory)
+   */
+  public <H extends JsonContentHandler> List<H> parseElements(byte[] jsonText, ElementHandlerFactory<H> elementHandlerFactory)
+    throws JsonReaderException {
+    return this.parseElements(jsonText, 0, jsonText.length, elementHandlerFactory);
+  }
+
+  /**
+   * Parse the elements of the root array of the given UTF-8 encoded JSON
+   * text.
+   * <p>
+   * A JSON content handler is created by the given element handler factory
+   * for each element, on the thread that parses the element, and receives
+   * the JSON content events of the element as if the element were a JSON
+   * text in its own right.  The JSON content handler of this reader is not
+   * used.
+   * <p>
+   * The given bytes are scanned in place, and must not be modified until
+   * this method returns.
+   *
+   * @param <H> The type of the JSON content handlers.
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param length The length of the JSON text.
+   * @param elementHandlerFactory The element handler factory.
+   * @return The JSON content handlers of the elements, in the order of the elements.
+   * @throws JsonReaderException
+   */
+  public <H extends JsonContentHandler> List<H> parseElements(byte[] jsonText, int offset, int length, final ElementHandlerFactory<H> elementHandlerFactory)
+    throws JsonReaderException {
+    Partition partition = this.partition(jsonText, offset, length);
+    if (partition == null) {
+      throw this.notAnArray(jsonText, offset, length);
+    }
+
+    final List<H> jsonContentHandlers = new ArrayList<H>();
+    if (isWhitespace(jsonText, partition.contentStart, partition.contentEnd)) {
+      return jsonContentHandlers;
+    }
+
+    final NumberPolicy numberPolicy = this.getNumberPolicy();
+
+    this.execute(jsonText, offset, partition, new ChunkParser<List<H>>() {
+      @Override
+      protected List<H> parse(FastJsonParser parser)
+        throws IOException, JsonReaderException {
+        List<H> chunkJsonContentHandlers = new ArrayList<H>();
+        H jsonContentHandler = null;
+
+        for (;;) {
+          switch (parser.nextEvent()) {
+          case FastJsonParser.EVENT_END_OF_INPUT:
+            return chunkJsonContentHandlers;
+
+          case FastJsonParser.EVENT_START_JSON:
+            jsonContentHandler = elementHandlerFactory.createJsonContentHandler();
+            chunkJsonContentHandlers.add(jsonContentHandler);
+            jsonContentHandler.startJson();
+            break;
+
+          case FastJsonParser.EVENT_END_JSON:
+            jsonContentHandler.endJson();
+            break;
+
+          case FastJsonParser.EVENT_START_OBJECT:
+            jsonContentHandler.startObject();
+            break;
+
+          case FastJsonParser.EVENT_END_OBJECT:
+            jsonContentHandler.endObject();
+            break;
+
+          case FastJsonParser.EVENT_START_ARRAY:
+            jsonContentHandler.startArray();
+            break;
+
+          case FastJsonParser.EVENT_END_ARRAY:
+            jsonContentHandler.endArray();
+            break;
+
+          case FastJsonParser.EVENT_MEMBER_NAME:
+            if (jsonContentHandler instanceof TypedJsonContentHandler) {
+              parser.dispatchMemberName((TypedJsonContentHandler)jsonContentHandler);
+            }
+            else {
+              jsonContentHandler.memberName(parser.getMemberName());
+            }
+            break;
+
+          case FastJsonParser.EVENT_PRIMITIVE:
+            if (jsonContentHandler instanceof TypedJsonContentHandler) {
+              parser.dispatchPrimitive((TypedJsonContentHandler)jsonContentHandler, numberPolicy);
+            }
+            else {
+              jsonContentHandler.primitive(parser.getPrimitive(numberPolicy));
+            }
+            break;
+          }
+        }
+      }
+
+      @Override
+      protected void consume(List<H> chunkJsonContentHandlers) {
+        jsonContentHandlers.addAll(chunkJsonContentHandlers);
+      }
+    });
+
+    return jsonContentHandlers;
+  }
+
+  /**
+   * Parse the chunks of the given partition of the given UTF-8 encoded JSON
+   * text with the given chunk parser.
+   * <p>
+   * The chunks are submitted to the executor service, at most
+   * as many at a time as the parallelism permits, and their results are consumed on the
+   * calling thread in order.
+   *
+   * @param <T> The type of the result of parsing a chunk.
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param partition The partition.
+   * @param chunkParser The chunk parser.
+   * @throws JsonReaderException
+   */
+  private <T> void execute(byte[] jsonText, int offset, Partition partition, ChunkParser<T> chunkParser)
+    throws JsonReaderException {
+    int chunkCount = partition.getChunkCount();
+    int nextChunk = 0;
+
+    Deque<Future<T>> futures = new ArrayDeque<Future<T>>(this.parallelism);
+
+    try {
+      for (int i = 0; i < chunkCount; i++) {
+        while (nextChunk < chunkCount && futures.size() < this.parallelism) {
+          int chunkStart = partition.getChunkStart(nextChunk);
+          int chunkEnd = partition.getChunkEnd(nextChunk);
+
+          futures.add(this.executorService.submit(createTask(jsonText, chunkStart, chunkEnd - chunkStart, chunkStart - offset, this.getSymbolTable(), chunkParser)));
+
+          nextChunk++;
+        }
+
+        chunkParser.consume(getResult(futures.remove()));
+      }
+    }
+    finally {
+      for (Future<T> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Partition the given UTF-8 encoded JSON text.
+   * <p>
+   * The structural pre-scan tracks only strings and the nesting of objects
+   * and arrays, and records a comma that separates two elements of the root
+   * array whenever the current chunk has reached the chunk size.
+   * <p>
+   * This method returns <code>null</code> if the root value of the JSON text
+   * is not an array, or if the JSON text is found to be invalid.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param length The length of the JSON text.
+   * @return The partition.
+   */
+  private Partition partition(byte[] jsonText, int offset, int length) {
+    int end = offset + length;
+
+    int contentStart = skipWhitespace(jsonText, offset, end);
+    if (contentStart == end || jsonText[contentStart] != '[') {
+      return null;
+    }
+
+    contentStart++;
+
+    int[] separators = new int[16];
+    int separatorCount = 0;
+    int chunkStart = contentStart;
+    int depth = 0;
+
+    for (int i = contentStart; i < end; i++) {
+      switch (jsonText[i]) {
+      case '"':
+        i = skipString(jsonText, i + 1, end);
+        if (i < 0) {
+          return null;
+        }
+
+        break;
+
+      case '[':
+      case '{':
+        depth++;
+        break;
+
+      case ']':
+      case '}':
+        if (depth == 0) {
+          if (jsonText[i] != ']' || skipWhitespace(jsonText, i + 1, end) != end) {
+            return null;
+          }
+
+          return new Partition(contentStart, i, Arrays.copyOf(separators, separatorCount));
+        }
+
+        depth--;
+        break;
+
+      case ',':
+        if (depth == 0 && i - chunkStart >= this.chunkSize) {
+          if (separatorCount == separators.length) {
+            separators = Arrays.copyOf(separators, separatorCount * 2);
+          }
+
+          separators[separatorCount++] = i;
+          chunkStart = i + 1;
+        }
+
+        break;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Create an exception for a JSON text whose root value is not an array.
+   * <p>
+   * If the JSON text is invalid, the exception that reports the error is
+   * returned instead.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param length The length of the JSON text.
+   * @return The exception.
+   */
+  private JsonReaderException notAnArray(byte[] jsonText, int offset, int length) {
+    FastJsonCursor fastJsonCursor = new FastJsonCursor();
+
+    fastJsonCursor.reset(jsonText, offset, length);
+
+    try {
+      while (fastJsonCursor.nextEvent() != null) {
+        // Validate the JSON text
+      }
+    }
+    catch (JsonReaderException jre) {
+      return jre;
+    }
+
+    return new JsonReaderException("Expected an array at position " + (skipWhitespace(jsonText, offset, offset + length) - offset) + ".");
+  }
+
+  /**
+   * Create a task that parses the given chunk with the given chunk parser.
+   *
+   * @param <T> The type of the result of parsing a chunk.
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param chunkOffset The offset of the chunk.
+   * @param chunkLength The length of the chunk.
+   * @param chunkPosition The position of the chunk within the JSON text.
+   * @param symbolTable The symbol table of member names, or <code>null</code>.
+   * @param chunkParser The chunk parser.
+   * @return The task.
+   */
+  private static <T> Callable<T> createTask(final byte[] jsonText, final int chunkOffset, final int chunkLength, final long chunkPosition, final JsonSymbolTable symbolTable, final ChunkParser<T> chunkParser) {
+    return new Callable<T>() {
+      @Override
+      public T call()
+        throws IOException, JsonReaderException {
+        ByteJsonScanner byteScanner = new ByteJsonScanner();
+        FastJsonParser parser = new FastJsonParser();
+
+        byteScanner.reset(jsonText, chunkOffset, chunkLength, chunkPosition);
+        parser.resetElements(byteScanner);
+        parser.setSymbolTable(symbolTable);
+
+        try {
+          return chunkParser.parse(parser);
+        }
+        finally {
+          byteScanner.release();
+        }
+      }
+    };
+  }
+
+  /**
+   * Retrieve the result of the given future.
+   *
+   * @param <T> The type of the result.
+   * @param future The future.
+   * @return The result.
+   * @throws JsonReaderException
+   */
+  private static <T> T getResult(Future<T> future)
+    throws JsonReaderException {
+    try {
+      return future.get();
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+
+      throw new JsonReaderException(ie);
+    }
+    catch (ExecutionException ee) {
+      Throwable cause = ee.getCause();
+      if (cause instanceof JsonReaderException) {
+        throw (JsonReaderException)cause;
+      }
+      else if (cause instanceof RuntimeException) {
+        throw (RuntimeException)cause;
+      }
+      else if (cause instanceof Error) {
+        throw (Error)cause;
+      }
+
+      throw new JsonReaderException(cause);
+    }
+  }
+
+  /**
+   * Skip the string starting at the given position.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param start The position following the opening quote of the string.
+   * @param end The end of the JSON text.
+   * @return The position of the closing quote of the string, or <code>-1</code> if the string is not terminated.
+   */
+  private static int skipString(byte[] jsonText, int start, int end) {
+    for (int i = start; i < end; i++) {
+      byte b = jsonText[i];
+      if (b == '"') {
+        return i;
+      }
+      else if (b == '\\') {
+        i++;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Skip the whitespace starting at the given position.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param start The start position.
+   * @param end The end of the JSON text.
+   * @return The position of the first byte that is not whitespace, or the end of the JSON text.
+   */
+  private static int skipWhitespace(byte[] jsonText, int start, int end) {
+    int i = start;
+    while (i < end && (jsonText[i] == ' ' || jsonText[i] == '\t' || jsonText[i] == '\n' || jsonText[i] == '\r')) {
+      i++;
+    }
+
+    return i;
+  }
+
+  /**
+   * Determine if the given range of the given UTF-8 encoded JSON text
+   * consists only of whitespace.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param start The start of the range.
+   * @param end The end of the range.
+   * @return <code>true</code> if the range consists only of whitespace.
+   */
+  private static boolean isWhitespace(byte[] jsonText, int start, int end) {
+    return skipWhitespace(jsonText, start, end) == end;
+  }
+
+  /**
+   * Encode the given JSON text as UTF-8.
+   *
+   * @param jsonText The JSON text.
+   * @return The UTF-8 encoded JSON text.
+   * @throws JsonReaderException
+   */
+  private static byte[] toUtf8(String jsonText)
+    throws JsonReaderException {
+    try {
+      return jsonText.getBytes("UTF-8");
+    }
+    catch (UnsupportedEncodingException uee) {
+      // Actually it will never happen.
+      throw new JsonReaderException(uee);
+    }
+  }
+
+  /**
+   * Copy the bytes remaining in the given byte buffer into an array.
+   * <p>
+   * The position of the given byte buffer is not changed.
+   *
+   * @param byteBuffer The byte buffer.
+   * @return The array.
+   */
+  private static byte[] toArray(ByteBuffer byteBuffer) {
+    byte[] array = new byte[byteBuffer.remaining()];
+
+    byteBuffer.duplicate().get(array);
+
+    return array;
+  }
+}
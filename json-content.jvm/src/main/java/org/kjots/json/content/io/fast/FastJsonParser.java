@@ -0,0 +1,660 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.fast.FastJsonReader.NumberPolicy;
+import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.JsonSymbolTable;
+import org.kjots.json.content.shared.TypedJsonContentHandler;
+
+/**
+ * Fast JSON Parser.
+ * <p>
+ * This class drives a {@link JsonScanner} through the JSON grammar and
+ * produces JSON content events one at a time.  The nesting of the JSON
+ * content is tracked with a primitive stack of parser states rather than with
+ * a stack of objects.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+final class FastJsonParser {
+  /** The end of input event. */
+  public static final int EVENT_END_OF_INPUT = 0;
+
+  /** The start JSON event. */
+  public static final int EVENT_START_JSON = 1;
+
+  /** The end JSON event. */
+  public static final int EVENT_END_JSON = 2;
+
+  /** The start object event. */
+  public static final int EVENT_START_OBJECT = 3;
+
+  /** The end object event. */
+  public static final int EVENT_END_OBJECT = 4;
+
+  /** The start array event. */
+  public static final int EVENT_START_ARRAY = 5;
+
+  /** The end array event. */
+  public static final int EVENT_END_ARRAY = 6;
+
+  /** The member name event. */
+  public static final int EVENT_MEMBER_NAME = 7;
+
+  /** The primitive event. */
+  public static final int EVENT_PRIMITIVE = 8;
+
+  /** The need input event. */
+  public static final int EVENT_NEED_INPUT = 9;
+
+  /** The initial state. */
+  private static final int S_INIT = 0;
+
+  /** The state expecting the root value. */
+  private static final int S_ROOT_VALUE = 1;
+
+  /** The state following the root value. */
+  private static final int S_ROOT_END = 2;
+
+  /** The final state. */
+  private static final int S_END = 3;
+
+  /** The state following the start of an object. */
+  private static final int S_OBJECT_START = 4;
+
+  /** The state expecting a member name. */
+  private static final int S_OBJECT_NAME = 5;
+
+  /** The state expecting the colon following a member name. */
+  private static final int S_OBJECT_COLON = 6;
+
+  /** The state expecting a member value. */
+  private static final int S_OBJECT_VALUE = 7;
+
+  /** The state following a member value. */
+  private static final int S_OBJECT_NEXT = 8;
+
+  /** The state following the start of an array. */
+  private static final int S_ARRAY_START = 9;
+
+  /** The state expecting an element value. */
+  private static final int S_ARRAY_VALUE = 10;
+
+  /** The state following an element value. */
+  private static final int S_ARRAY_NEXT = 11;
+
+  /** The state following the root value of a record of a sequence. */
+  private static final int S_RECORD_END = 12;
+
+  /** The state expecting the next record of a sequence. */
+  private static final int S_RECORD_NEXT = 13;
+
+  /** The state following the start of a record of a sequence, whose first token has already been scanned. */
+  private static final int S_RECORD_VALUE = 14;
+
+  /** The state expecting an element of an element list. */
+  private static final int S_ELEMENT_FIRST = 15;
+
+  /** The state following the start of an element of an element list, whose first token has already been scanned. */
+  private static final int S_ELEMENT_VALUE = 16;
+
+  /** The state following the root value of an element of an element list. */
+  private static final int S_ELEMENT_END = 17;
+
+  /** The state expecting either the comma preceding the next element of an element list, or the end of input. */
+  private static final int S_ELEMENT_NEXT = 18;
+
+  /** The scanner. */
+  private JsonScanner scanner;
+
+  /** The state stack. */
+  private int[] stateStack = new int[32];
+
+  /** The depth of the state stack. */
+  private int depth;
+
+  /** The current state. */
+  private int state;
+
+  /** The token of the current primitive. */
+  private int primitiveToken;
+
+  /** The first token of the current record of a sequence or element of an element list. */
+  private int recordToken;
+
+  /** The symbol table of member names, or <code>null</code>. */
+  private JsonSymbolTable symbolTable;
+
+  /**
+   * Retrieve the symbol table of member names.
+   *
+   * @return The symbol table, or <code>null</code>.
+   */
+  public JsonSymbolTable getSymbolTable() {
+    return this.symbolTable;
+  }
+
+  /**
+   * Set the symbol table of member names.
+   * <p>
+   * If the symbol table is not <code>null</code>, each member name is
+   * reported as its canonical string from the symbol table.
+   *
+   * @param symbolTable The symbol table, or <code>null</code>.
+   */
+  public void setSymbolTable(JsonSymbolTable symbolTable) {
+    this.symbolTable = symbolTable;
+  }
+
+  /**
+   * Reset the parser to the initial state with the given scanner.
+   * <p>
+   * This method is equivalent to:
+   * <pre>
+   *   {@link #reset(JsonScanner, boolean) reset}(<code>scanner</code>, <code>false</code>)
+   * </pre>
+   *
+   * @param scanner The scanner.
+   */
+  public void reset(JsonScanner scanner) {
+    this.reset(scanner, false);
+  }
+
+  /**
+   * Reset the parser to the initial state with the given scanner.
+   * <p>
+   * If the given sequence flag is <code>true</code>, the parser will parse a
+   * sequence of zero or more root values, such as JSON Lines or concatenated
+   * JSON texts, rather than a single root value.  The events of each root
+   * value are enclosed in {@link #EVENT_START_JSON} and
+   * {@link #EVENT_END_JSON} events, and the end JSON event is produced as
+   * soon as the root value is complete.
+   *
+   * @param scanner The scanner.
+   * @param sequence The sequence flag.
+   */
+  public void reset(JsonScanner scanner, boolean sequence) {
+    this.scanner = scanner;
+    this.depth = 0;
+    this.state = sequence ? S_RECORD_NEXT : S_INIT;
+  }
+
+  /**
+   * Reset the parser to the initial state with the given scanner, to parse
+   * an element list.
+   * <p>
+   * An element list is the content of a JSON array without its enclosing
+   * brackets; that is, one or more values separated by commas.  The events of
+   * each value are enclosed in {@link #EVENT_START_JSON} and
+   * {@link #EVENT_END_JSON} events, as per a sequence.
+   *
+   * @param scanner The scanner.
+   * @see #reset(JsonScanner, boolean)
+   */
+  public void resetElements(JsonScanner scanner) {
+    this.scanner = scanner;
+    this.depth = 0;
+    this.state = S_ELEMENT_FIRST;
+  }
+
+  /**
+   * Retrieve the next event.
+   * <p>
+   * If the scanner is in push mode and the input provided so far ends before
+   * the next event is complete, {@link #EVENT_NEED_INPUT} is returned, and
+   * the parser remains in its current state until more input is provided.
+   *
+   * @return The next event.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  public int nextEvent()
+    throws IOException, JsonReaderException {
+    JsonScanner scanner = this.scanner;
+
+    for (;;) {
+      if (this.state == S_INIT) {
+        this.state = S_ROOT_VALUE;
+
+        return EVENT_START_JSON;
+      }
+      else if (this.state == S_END) {
+        return EVENT_END_OF_INPUT;
+      }
+      else if (this.state == S_RECORD_END) {
+        this.state = S_RECORD_NEXT;
+
+        return EVENT_END_JSON;
+      }
+      else if (this.state == S_RECORD_VALUE) {
+        return this.startValue(this.recordToken, S_RECORD_END);
+      }
+      else if (this.state == S_ELEMENT_END) {
+        this.state = S_ELEMENT_NEXT;
+
+        return EVENT_END_JSON;
+      }
+      else if (this.state == S_ELEMENT_VALUE) {
+        return this.startValue(this.recordToken, S_ELEMENT_END);
+      }
+
+      int token = scanner.nextToken();
+      if (token == JsonScanner.TOKEN_NEED_INPUT) {
+        return EVENT_NEED_INPUT;
+      }
+
+      switch (this.state) {
+      case S_ROOT_VALUE:
+        return this.startValue(token, S_ROOT_END);
+
+      case S_RECORD_NEXT:
+        if (token == JsonScanner.TOKEN_EOF) {
+          this.state = S_END;
+
+          return EVENT_END_OF_INPUT;
+        }
+
+        // The scanner retains the token until the next token is scanned
+        this.recordToken = token;
+        this.state = S_RECORD_VALUE;
+
+        return EVENT_START_JSON;
+
+      case S_ELEMENT_FIRST:
+        if (token == JsonScanner.TOKEN_EOF) {
+          throw this.unexpectedToken(token);
+        }
+
+        // The scanner retains the token until the next token is scanned
+        this.recordToken = token;
+        this.state = S_ELEMENT_VALUE;
+
+        return EVENT_START_JSON;
+
+      case S_ELEMENT_NEXT:
+        if (token == JsonScanner.TOKEN_COMMA) {
+          this.state = S_ELEMENT_FIRST;
+
+          break;
+        }
+        else if (token == JsonScanner.TOKEN_EOF) {
+          this.state = S_END;
+
+          return EVENT_END_OF_INPUT;
+        }
+
+        throw this.unexpectedToken(token);
+
+      case S_ROOT_END:
+        if (token != JsonScanner.TOKEN_EOF) {
+          throw this.unexpectedToken(token);
+        }
+
+        this.state = S_END;
+
+        return EVENT_END_JSON;
+
+      case S_OBJECT_START:
+        if (token == JsonScanner.TOKEN_END_OBJECT) {
+          this.state = this.stateStack[--this.depth];
+
+          return EVENT_END_OBJECT;
+        }
+        else if (token == JsonScanner.TOKEN_STRING) {
+          this.state = S_OBJECT_COLON;
+
+          return EVENT_MEMBER_NAME;
+        }
+
+        throw this.unexpectedToken(token);
+
+      case S_OBJECT_NAME:
+        if (token == JsonScanner.TOKEN_STRING) {
+          this.state = S_OBJECT_COLON;
+
+          return EVENT_MEMBER_NAME;
+        }
+
+        throw this.unexpectedToken(token);
+
+      case S_OBJECT_COLON:
+        if (token != JsonScanner.TOKEN_COLON) {
+          throw this.unexpectedToken(token);
+        }
+
+        this.state = S_OBJECT_VALUE;
+
+        break;
+
+      case S_OBJECT_VALUE:
+        return this.startValue(token, S_OBJECT_NEXT);
+
+      case S_OBJECT_NEXT:
+        if (token == JsonScanner.TOKEN_COMMA) {
+          this.state = S_OBJECT_NAME;
+
+          break;
+        }
+        else if (token == JsonScanner.TOKEN_END_OBJECT) {
+          this.state = this.stateStack[--this.depth];
+
+          return EVENT_END_OBJECT;
+        }
+
+        throw this.unexpectedToken(token);
+
+      case S_ARRAY_START:
+        if (token == JsonScanner.TOKEN_END_ARRAY) {
+          this.state = this.stateStack[--this.depth];
+
+          return EVENT_END_ARRAY;
+        }
+
+        return this.startValue(token, S_ARRAY_NEXT);
+
+      case S_ARRAY_VALUE:
+        return this.startValue(token, S_ARRAY_NEXT);
+
+      case S_ARRAY_NEXT:
+        if (token == JsonScanner.TOKEN_COMMA) {
+          this.state = S_ARRAY_VALUE;
+
+          break;
+        }
+        else if (token == JsonScanner.TOKEN_END_ARRAY) {
+          this.state = this.stateStack[--this.depth];
+
+          return EVENT_END_ARRAY;
+        }
+
+        throw this.unexpectedToken(token);
+
+      default:
+        throw new IllegalStateException();
+      }
+    }
+  }
+
+  /**
+   * Dispatch events to the given JSON content handler.
+   * <p>
+   * Events are dispatched until either the end of input has been reached, or
+   * more input is needed.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @param numberPolicy The number policy.
+   * @return The last event, either {@link #EVENT_END_OF_INPUT} or {@link #EVENT_NEED_INPUT}.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  public int dispatch(JsonContentHandler jsonContentHandler, NumberPolicy numberPolicy)
+    throws IOException, JsonReaderException {
+    TypedJsonContentHandler typedJsonContentHandler = jsonContentHandler instanceof TypedJsonContentHandler ? (TypedJsonContentHandler)jsonContentHandler : null;
+
+    for (;;) {
+      int event = this.nextEvent();
+
+      switch (event) {
+      case EVENT_START_JSON:
+        jsonContentHandler.startJson();
+        break;
+
+      case EVENT_END_JSON:
+        jsonContentHandler.endJson();
+        break;
+
+      case EVENT_START_OBJECT:
+        jsonContentHandler.startObject();
+        break;
+
+      case EVENT_END_OBJECT:
+        jsonContentHandler.endObject();
+        break;
+
+      case EVENT_START_ARRAY:
+        jsonContentHandler.startArray();
+        break;
+
+      case EVENT_END_ARRAY:
+        jsonContentHandler.endArray();
+        break;
+
+      case EVENT_MEMBER_NAME:
+        if (typedJsonContentHandler != null) {
+          this.dispatchMemberName(typedJsonContentHandler);
+        }
+        else {
+          jsonContentHandler.memberName(this.getMemberName());
+        }
+        break;
+
+      case EVENT_PRIMITIVE:
+        if (typedJsonContentHandler != null) {
+          this.dispatchPrimitive(typedJsonContentHandler, numberPolicy);
+        }
+        else {
+          jsonContentHandler.primitive(this.getPrimitive(numberPolicy));
+        }
+        break;
+
+      default:
+        return event;
+      }
+    }
+  }
+
+  /**
+   * Retrieve the depth of nesting of the current object or array.
+   *
+   * @return The depth of nesting.
+   */
+  public int getDepth() {
+    return this.depth;
+  }
+
+  /**
+   * Determine if the parser has reached its final state.
+   *
+   * @return <code>true</code> if the parser has reached its final state.
+   */
+  public boolean isEnded() {
+    return this.state == S_END;
+  }
+
+  /**
+   * Retrieve the name of the current member.
+   * <p>
+   * This method may only be invoked immediately following an
+   * {@link #EVENT_MEMBER_NAME} event.
+   *
+   * @return The name of the current member.
+   * @throws JsonReaderException
+   */
+  public String getMemberName()
+    throws JsonReaderException {
+    if (this.symbolTable != null) {
+      return this.scanner.getMemberName(this.symbolTable);
+    }
+
+    return this.scanner.getString();
+  }
+
+  /**
+   * Retrieve the value of the current primitive.
+   * <p>
+   * This method may only be invoked immediately following an
+   * {@link #EVENT_PRIMITIVE} event.
+   *
+   * @param numberPolicy The number policy.
+   * @return The value of the current primitive.
+   * @throws JsonReaderException
+   */
+  public Object getPrimitive(NumberPolicy numberPolicy)
+    throws JsonReaderException {
+    switch (this.primitiveToken) {
+    case JsonScanner.TOKEN_STRING:
+      return this.scanner.getString();
+
+    case JsonScanner.TOKEN_NUMBER:
+      return this.scanner.getNumber(numberPolicy);
+
+    case JsonScanner.TOKEN_TRUE:
+      return Boolean.TRUE;
+
+    case JsonScanner.TOKEN_FALSE:
+      return Boolean.FALSE;
+
+    default:
+      return null;
+    }
+  }
+
+  /**
+   * Dispatch the name of the current member to the given typed JSON content
+   * handler, as a character sequence that views the buffers of the scanner,
+   * or as its canonical string if there is a symbol table.
+   * <p>
+   * This method may only be invoked immediately following an
+   * {@link #EVENT_MEMBER_NAME} event.
+   *
+   * @param typedJsonContentHandler The typed JSON content handler.
+   * @throws JsonReaderException
+   * @see TypedJsonContentHandler#memberName(CharSequence)
+   */
+  public void dispatchMemberName(TypedJsonContentHandler typedJsonContentHandler)
+    throws JsonReaderException {
+    if (this.symbolTable != null) {
+      typedJsonContentHandler.memberName(this.scanner.getMemberName(this.symbolTable));
+    }
+    else {
+      typedJsonContentHandler.memberName(this.scanner.getStringChars());
+    }
+  }
+
+  /**
+   * Dispatch the value of the current primitive to the given typed JSON
+   * content handler, without boxing the values of literals and of numbers
+   * that are reported as a {@link Double}, an {@link Integer} or a
+   * {@link Long}, and without copying the values of strings into new strings.
+   * <p>
+   * This method may only be invoked immediately following an
+   * {@link #EVENT_PRIMITIVE} event.
+   *
+   * @param typedJsonContentHandler The typed JSON content handler.
+   * @param numberPolicy The number policy.
+   * @throws JsonReaderException
+   */
+  public void dispatchPrimitive(TypedJsonContentHandler typedJsonContentHandler, NumberPolicy numberPolicy)
+    throws JsonReaderException {
+    switch (this.primitiveToken) {
+    case JsonScanner.TOKEN_STRING:
+      typedJsonContentHandler.primitiveString(this.scanner.getStringChars());
+      break;
+
+    case JsonScanner.TOKEN_NUMBER:
+      this.scanner.dispatchNumber(typedJsonContentHandler, numberPolicy);
+      break;
+
+    case JsonScanner.TOKEN_TRUE:
+      typedJsonContentHandler.primitiveBoolean(true);
+      break;
+
+    case JsonScanner.TOKEN_FALSE:
+      typedJsonContentHandler.primitiveBoolean(false);
+      break;
+
+    default:
+      typedJsonContentHandler.primitiveNull();
+      break;
+    }
+  }
+
+  /**
+   * Start a value with the given token.
+   *
+   * @param token The token.
+   * @param nextState The state following the value.
+   * @return The event.
+   * @throws JsonReaderException
+   */
+  private int startValue(int token, int nextState)
+    throws JsonReaderException {
+    switch (token) {
+    case JsonScanner.TOKEN_START_OBJECT:
+      this.push(nextState);
+
+      this.state = S_OBJECT_START;
+
+      return EVENT_START_OBJECT;
+
+    case JsonScanner.TOKEN_START_ARRAY:
+      this.push(nextState);
+
+      this.state = S_ARRAY_START;
+
+      return EVENT_START_ARRAY;
+
+    case JsonScanner.TOKEN_STRING:
+    case JsonScanner.TOKEN_NUMBER:
+    case JsonScanner.TOKEN_TRUE:
+    case JsonScanner.TOKEN_FALSE:
+    case JsonScanner.TOKEN_NULL:
+      this.primitiveToken = token;
+
+      this.state = nextState;
+
+      return EVENT_PRIMITIVE;
+
+    default:
+      throw this.unexpectedToken(token);
+    }
+  }
+
+  /**
+   * Push the given state onto the state stack.
+   *
+   * @param state The state.
+   */
+  private void push(int state) {
+    if (this.depth == this.stateStack.length) {
+      this.stateStack = Arrays.copyOf(this.stateStack, this.depth * 2);
+    }
+
+    this.stateStack[this.depth++] = state;
+  }
+
+  /**
+   * Create an exception for an unexpected token.
+   *
+   * @param token The unexpected token.
+   * @return The exception.
+   */
+  private JsonReaderException unexpectedToken(int token) {
+    if (token == JsonScanner.TOKEN_EOF) {
+      return new JsonReaderException("Unexpected end of input at position " + this.scanner.getTokenPosition() + ".");
+    }
+
+    return new JsonReaderException("Unexpected token at position " + this.scanner.getTokenPosition() + ".");
+  }
+}
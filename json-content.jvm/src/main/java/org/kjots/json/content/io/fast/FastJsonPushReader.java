@@ -0,0 +1,192 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.fast.FastJsonReader.NumberPolicy;
+import org.kjots.json.content.shared.AbstractJsonContentGenerator;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+/**
+ * Fast JSON Push Reader.
+ * <p>
+ * This class implements an incremental JSON reader for UTF-8 encoded JSON
+ * text that is pushed to it in chunks, such as the chunks received from a
+ * non-blocking channel.  Each chunk is provided via {@link #feed(ByteBuffer)},
+ * and the end of the JSON text is signalled via {@link #endOfInput()}.
+ * <p>
+ * The JSON content events are generated as soon as the tokens that produce
+ * them are complete, and the state of the scanner and the parser is retained
+ * between chunks, so the reader never blocks waiting for input.  A number
+ * at the end of a chunk is only reported once a following character or the
+ * end of input shows that it is complete.
+ * <p>
+ * If a {@link JsonReaderException} is thrown, the reader must be reset via
+ * {@link #reset()} before it is used again.
+ * <p>
+ * Instances of this class are <em>not</em> thread-safe.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonPushReader extends AbstractJsonContentGenerator {
+  /** The scanner. */
+  private final ByteJsonScanner scanner = new ByteJsonScanner();
+
+  /** The parser. */
+  private final FastJsonParser parser = new FastJsonParser();
+
+  /** The number policy. */
+  private NumberPolicy numberPolicy;
+
+  /**
+   * Construct a new Fast JSON Push Reader.
+   * <p>
+   * This constructor is equivalent to:
+   * <pre>
+   *   new FastJsonPushReader({@link NumberPolicy#EXACT})
+   * </pre>
+   */
+  public FastJsonPushReader() {
+    this(NumberPolicy.EXACT);
+  }
+
+  /**
+   * Construct a new Fast JSON Push Reader.
+   *
+   * @param numberPolicy The number policy.
+   */
+  public FastJsonPushReader(NumberPolicy numberPolicy) {
+    this.numberPolicy = numberPolicy;
+
+    this.reset();
+  }
+
+  /**
+   * Retrieve the number policy.
+   *
+   * @return The number policy.
+   */
+  public NumberPolicy getNumberPolicy() {
+    return this.numberPolicy;
+  }
+
+  /**
+   * Set the number policy.
+   *
+   * @param numberPolicy The number policy.
+   */
+  public void setNumberPolicy(NumberPolicy numberPolicy) {
+    this.numberPolicy = numberPolicy;
+  }
+
+  /**
+   * Retrieve the symbol table of member names.
+   *
+   * @return The symbol table, or <code>null</code>.
+   * @see #setSymbolTable(JsonSymbolTable)
+   */
+  public JsonSymbolTable getSymbolTable() {
+    return this.parser.getSymbolTable();
+  }
+
+  /**
+   * Set the symbol table of member names.
+   * <p>
+   * If the symbol table is not <code>null</code>, each member name is looked
+   * up in the symbol table directly from the buffer of the reader, so that a
+   * string is created only for the first occurrence of each member name. The
+   * symbol table may be shared with other readers.
+   *
+   * @param symbolTable The symbol table, or <code>null</code>.
+   */
+  public void setSymbolTable(JsonSymbolTable symbolTable) {
+    this.parser.setSymbolTable(symbolTable);
+  }
+
+  /**
+   * Reset the reader to read a new JSON text.
+   * <p>
+   * Any input provided since the previous reset is discarded.
+   */
+  public void reset() {
+    this.scanner.resetPush();
+    this.parser.reset(this.scanner);
+  }
+
+  /**
+   * Provide the next chunk of the UTF-8 encoded JSON text.
+   * <p>
+   * The bytes remaining in the given byte buffer are consumed, and the
+   * JSON content events for the tokens they complete are generated before
+   * this method returns.  Input may not be provided once the end of input has
+   * been signalled.
+   *
+   * @param byteBuffer The byte buffer.
+   * @throws JsonReaderException
+   */
+  public void feed(ByteBuffer byteBuffer)
+    throws JsonReaderException {
+    this.scanner.feed(byteBuffer);
+
+    this.dispatch();
+  }
+
+  /**
+   * Signal the end of the UTF-8 encoded JSON text.
+   * <p>
+   * The JSON content events for the remaining tokens are generated before
+   * this method returns.
+   *
+   * @throws JsonReaderException
+   */
+  public void endOfInput()
+    throws JsonReaderException {
+    this.scanner.endOfInput();
+
+    this.dispatch();
+  }
+
+  /**
+   * Determine if the JSON text has been completely read.
+   *
+   * @return <code>true</code> if the JSON text has been completely read.
+   */
+  public boolean isEnded() {
+    return this.parser.isEnded();
+  }
+
+  /**
+   * Dispatch the JSON content events for the input provided so far.
+   *
+   * @throws JsonReaderException
+   */
+  private void dispatch()
+    throws JsonReaderException {
+    try {
+      this.parser.dispatch(this.jsonContentHandler, this.numberPolicy);
+    }
+    catch (IOException ioe) {
+      // Actually it will never happen.
+      throw new JsonReaderException(ioe);
+    }
+  }
+}
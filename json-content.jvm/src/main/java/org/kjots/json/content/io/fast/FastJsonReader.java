@@ -0,0 +1,453 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import org.kjots.json.content.io.JsonReader;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.shared.AbstractJsonContentGenerator;
+import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+/**
+ * Fast JSON Reader.
+ * <p>
+ * This class implements a JSON reader backed by hand-written scanners that
+ * read directly from a character or byte buffer and emit JSON content events
+ * without creating intermediate token objects.  UTF-8 encoded JSON text is
+ * scanned as bytes, without first being decoded into characters.  The
+ * scanners and their buffers are retained by the reader and reused for
+ * subsequent invocations of the <code>parse</code> methods.
+ * <p>
+ * This reader is strict: it accepts exactly the JSON texts of RFC 8259,
+ * whereas the {@link org.kjots.json.content.io.simple.SimpleJsonReader} is
+ * lenient and accepts some malformed JSON texts that this reader rejects with
+ * a {@link JsonReaderException}, namely:
+ * <ul>
+ * <li>trailing, leading and repeated value separators, such as
+ *     <code>[1,]</code>, <code>{"a":1,}</code>, <code>[,1]</code> and
+ *     <code>[1,,2]</code>;</li>
+ * <li>missing value and name separators, such as <code>[1 2]</code> and
+ *     <code>{"a" 1}</code>;</li>
+ * <li>numbers with leading zeros, such as <code>[01]</code>;</li>
+ * <li>invalid escape sequences, such as <code>\x</code> and incomplete
+ *     unicode escapes; and</li>
+ * <li>unescaped control characters, such as a tab, within strings.</li>
+ * </ul>
+ * Both readers produce the same JSON content events for every valid JSON
+ * text.
+ * <p>
+ * Instances of this class are <em>not</em> thread-safe; a
+ * {@link FastJsonReaderPool} may be used to share
+ * instances between threads.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonReader extends AbstractJsonContentGenerator implements JsonReader {
+  /**
+   * Number Policy.
+   * <p>
+   * The number policy determines the type of the values reported for JSON
+   * numbers.  Each number is classified while it is scanned, so none of the
+   * policies requires a {@link BigDecimal} to be created for a number that
+   * fits into a primitive type.
+   */
+  public enum NumberPolicy {
+    /**
+     * Report every number as a {@link Double}.
+     * <p>
+     * Numbers beyond the range of a double are reported as infinite.
+     */
+    DOUBLE,
+
+    /**
+     * Report every number exactly.
+     * <p>
+     * Numbers without a fractional part are reported as an {@link Integer},
+     * {@link Long} or {@link BigInteger}, and all other numbers are reported
+     * as a {@link BigDecimal}, as per the contract of
+     * {@link JsonContentHandler#primitive(Object)}.
+     */
+    EXACT,
+
+    /**
+     * Report every number with the smallest type that represents it.
+     * <p>
+     * Numbers without a fractional part are reported as for {@link #EXACT}.
+     * Numbers with a fractional part are reported as a {@link Double} if they
+     * have at most 15 significant digits and lie within the range of a
+     * double, or as a {@link BigDecimal} otherwise.
+     */
+    SMALLEST
+  }
+
+  /** The default size of the regions of a file that are mapped into memory. */
+  public static final int DEFAULT_MAPPING_SIZE = 1 << 30;
+
+  /** The parser. */
+  private final FastJsonParser parser = new FastJsonParser();
+
+  /** The character scanner. */
+  private CharJsonScanner charScanner;
+
+  /** The byte scanner. */
+  private ByteJsonScanner byteScanner;
+
+  /** The number policy. */
+  private NumberPolicy numberPolicy;
+
+  /** The size of the regions of a file that are mapped into memory. */
+  private int mappingSize = DEFAULT_MAPPING_SIZE;
+
+  /**
+   * Construct a new Fast JSON Reader.
+   * <p>
+   * This constructor is equivalent to:
+   * <pre>
+   *   new FastJsonReader({@link NumberPolicy#EXACT})
+   * </pre>
+   */
+  public FastJsonReader() {
+    this(NumberPolicy.EXACT);
+  }
+
+  /**
+   * Construct a new Fast JSON Reader.
+   *
+   * @param numberPolicy The number policy.
+   */
+  public FastJsonReader(NumberPolicy numberPolicy) {
+    this.numberPolicy = numberPolicy;
+  }
+
+  /**
+   * Retrieve the number policy.
+   *
+   * @return The number policy.
+   */
+  public NumberPolicy getNumberPolicy() {
+    return this.numberPolicy;
+  }
+
+  /**
+   * Set the number policy.
+   *
+   * @param numberPolicy The number policy.
+   */
+  public void setNumberPolicy(NumberPolicy numberPolicy) {
+    this.numberPolicy = numberPolicy;
+  }
+
+  /**
+   * Retrieve the symbol table of member names.
+   *
+   * @return The symbol table, or <code>null</code>.
+   * @see #setSymbolTable(JsonSymbolTable)
+   */
+  public JsonSymbolTable getSymbolTable() {
+    return this.parser.getSymbolTable();
+  }
+
+  /**
+   * Set the symbol table of member names.
+   * <p>
+   * If the symbol table is not <code>null</code>, each member name is looked
+   * up in the symbol table directly from the buffer of the reader, so that a
+   * string is created only for the first occurrence of each member name. The
+   * symbol table may be shared with other readers.
+   *
+   * @param symbolTable The symbol table, or <code>null</code>.
+   */
+  public void setSymbolTable(JsonSymbolTable symbolTable) {
+    this.parser.setSymbolTable(symbolTable);
+  }
+
+  /**
+   * Parse the given JSON text.
+   *
+   * @param jsonText The JSON text.
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(String jsonText)
+    throws JsonReaderException {
+    CharJsonScanner charScanner = this.getCharScanner();
+
+    charScanner.reset(jsonText);
+
+    try {
+      this.parse(charScanner, false);
+    }
+    catch (IOException ioe) {
+      // Actually it will never happen.
+      throw new JsonReaderException(ioe);
+    }
+  }
+
+  /**
+   * Parse the JSON text provided by the given reader.
+   *
+   * @param reader The reader.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(Reader reader)
+    throws IOException, JsonReaderException {
+    CharJsonScanner charScanner = this.getCharScanner();
+
+    charScanner.reset(reader);
+
+    this.parse(charScanner, false);
+  }
+
+  /**
+   * Parse the given UTF-8 encoded JSON text.
+   * <p>
+   * The given bytes are scanned in place.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(byte[] jsonText)
+    throws JsonReaderException {
+    this.parse(jsonText, 0, jsonText.length);
+  }
+
+  /**
+   * Parse the given UTF-8 encoded JSON text.
+   * <p>
+   * The given bytes are scanned in place.
+   *
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @param offset The offset of the JSON text.
+   * @param length The length of the JSON text.
+   * @throws JsonReaderException
+   */
+  public void parse(byte[] jsonText, int offset, int length)
+    throws JsonReaderException {
+    ByteJsonScanner byteScanner = this.getByteScanner();
+
+    byteScanner.reset(jsonText, offset, length);
+
+    try {
+      this.parse(byteScanner, false);
+    }
+    catch (IOException ioe) {
+      // Actually it will never happen.
+      throw new JsonReaderException(ioe);
+    }
+  }
+
+  /**
+   * Parse the UTF-8 encoded JSON text remaining in the given byte buffer.
+   * <p>
+   * The position of the given byte buffer is not changed.  If the byte buffer
+   * is backed by an accessible array, the array is scanned in place;
+   * otherwise, the bytes are copied into the buffer of the scanner in chunks.
+   *
+   * @param byteBuffer The byte buffer.
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(ByteBuffer byteBuffer)
+    throws JsonReaderException {
+    ByteJsonScanner byteScanner = this.getByteScanner();
+
+    byteScanner.reset(byteBuffer);
+
+    try {
+      this.parse(byteScanner, false);
+    }
+    catch (IOException ioe) {
+      // Actually it will never happen.
+      throw new JsonReaderException(ioe);
+    }
+  }
+
+  /**
+   * Parse the UTF-8 encoded JSON text provided by the given input stream.
+   *
+   * @param inputStream The input stream.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(InputStream inputStream)
+    throws IOException, JsonReaderException {
+    ByteJsonScanner byteScanner = this.getByteScanner();
+
+    byteScanner.reset(inputStream);
+
+    this.parse(byteScanner, false);
+  }
+
+  /**
+   * Parse the sequence of JSON texts provided by the given reader.
+   * <p>
+   * The reader may provide any number of JSON texts, separated by optional
+   * whitespace, such as JSON Lines or concatenated JSON texts.  The JSON
+   * content events of each JSON text are enclosed in invocations of
+   * {@link JsonContentHandler#startJson()} and {@link JsonContentHandler#endJson()},
+   * and the latter is invoked as soon as the JSON text is complete, without
+   * waiting for any further input.  The buffers of the scanner are retained
+   * across the JSON texts.
+   * <p>
+   * Parsing stops at the first invalid JSON text.
+   *
+   * @param reader The reader.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  public void parseSequence(Reader reader)
+    throws IOException, JsonReaderException {
+    CharJsonScanner charScanner = this.getCharScanner();
+
+    charScanner.reset(reader);
+
+    this.parse(charScanner, true);
+  }
+
+  /**
+   * Parse the sequence of UTF-8 encoded JSON texts provided by the given
+   * input stream.
+   * <p>
+   * The input stream is parsed as per {@link #parseSequence(Reader)}.
+   *
+   * @param inputStream The input stream.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  public void parseSequence(InputStream inputStream)
+    throws IOException, JsonReaderException {
+    ByteJsonScanner byteScanner = this.getByteScanner();
+
+    byteScanner.reset(inputStream);
+
+    this.parse(byteScanner, true);
+  }
+
+  /**
+   * Retrieve the size of the regions of a file that are mapped into memory.
+   *
+   * @return The mapping size.
+   * @see #parse(File)
+   */
+  public int getMappingSize() {
+    return this.mappingSize;
+  }
+
+  /**
+   * Set the size of the regions of a file that are mapped into memory.
+   *
+   * @param mappingSize The mapping size.
+   * @see #parse(File)
+   */
+  public void setMappingSize(int mappingSize) {
+    if (mappingSize <= 0) {
+      throw new IllegalArgumentException("mappingSize <= 0");
+    }
+
+    this.mappingSize = mappingSize;
+  }
+
+  /**
+   * Parse the UTF-8 encoded JSON text contained in the given file.
+   * <p>
+   * The file is mapped into memory and parsed directly from the mapping,
+   * rather than through a stream.  Files larger than the mapping size are
+   * mapped one region at a time, which allows files larger than 2GB to be
+   * parsed.
+   *
+   * @param file The file.
+   * @throws IOException
+   * @throws JsonReaderException
+   * @see #setMappingSize(int)
+   */
+  public void parse(File file)
+    throws IOException, JsonReaderException {
+    FileInputStream fileInputStream = new FileInputStream(file);
+
+    try {
+      ByteJsonScanner byteScanner = this.getByteScanner();
+
+      byteScanner.reset(fileInputStream.getChannel(), this.mappingSize);
+
+      this.parse(byteScanner, false);
+    }
+    finally {
+      fileInputStream.close();
+    }
+  }
+
+  /**
+   * Parse the JSON text provided by the given scanner.
+   *
+   * @param scanner The scanner.
+   * @param sequence The flag indicating that a sequence of JSON texts is to be parsed.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  private void parse(JsonScanner scanner, boolean sequence)
+    throws IOException, JsonReaderException {
+    this.parser.reset(scanner, sequence);
+
+    try {
+      this.parser.dispatch(this.jsonContentHandler, this.numberPolicy);
+    }
+    finally {
+      scanner.release();
+    }
+  }
+
+  /**
+   * Retrieve the character scanner, creating it if necessary.
+   *
+   * @return The character scanner.
+   */
+  private CharJsonScanner getCharScanner() {
+    if (this.charScanner == null) {
+      this.charScanner = new CharJsonScanner();
+    }
+
+    return this.charScanner;
+  }
+
+  /**
+   * Retrieve the byte scanner, creating it if necessary.
+   *
+   * @return The byte scanner.
+   */
+  private ByteJsonScanner getByteScanner() {
+    if (this.byteScanner == null) {
+      this.byteScanner = new ByteJsonScanner();
+    }
+
+    return this.byteScanner;
+  }
+}
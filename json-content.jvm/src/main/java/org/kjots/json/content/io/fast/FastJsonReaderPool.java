@@ -0,0 +1,110 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import org.kjots.json.content.io.JsonReaderPool;
+import org.kjots.json.content.io.fast.FastJsonReader.NumberPolicy;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+/**
+ * Fast JSON Reader Pool.
+ * <p>
+ * This class implements a pool of fast JSON readers that are configured with
+ * the number policy, the symbol table and the mapping size of the pool.  A
+ * borrower may change the configuration of a fast JSON reader that it has
+ * acquired, since the fast JSON reader is reset to the configuration of the
+ * pool when it is released.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonReaderPool extends JsonReaderPool<FastJsonReader> {
+  /** The number policy. */
+  private final NumberPolicy numberPolicy;
+
+  /** The symbol table. */
+  private final JsonSymbolTable symbolTable;
+
+  /** The mapping size. */
+  private final int mappingSize;
+
+  /**
+   * Construct a new Fast JSON Reader Pool.
+   * <p>
+   * This constructor is equivalent to:
+   * <pre>
+   *   new FastJsonReaderPool({@link JsonReaderPool#DEFAULT_MAXIMUM_IDLE}, {@link NumberPolicy#EXACT}, null, {@link FastJsonReader#DEFAULT_MAPPING_SIZE})
+   * </pre>
+   */
+  public FastJsonReaderPool() {
+    this(DEFAULT_MAXIMUM_IDLE, NumberPolicy.EXACT, null, FastJsonReader.DEFAULT_MAPPING_SIZE);
+  }
+
+  /**
+   * Construct a new Fast JSON Reader Pool.
+   *
+   * @param maximumIdle The maximum number of idle JSON readers.
+   * @param numberPolicy The number policy.
+   * @param symbolTable The symbol table of member names, or <code>null</code>.
+   * @param mappingSize The size of the regions of a file that are mapped into memory.
+   */
+  public FastJsonReaderPool(int maximumIdle, NumberPolicy numberPolicy, JsonSymbolTable symbolTable, int mappingSize) {
+    super(maximumIdle);
+
+    if (numberPolicy == null) {
+      throw new IllegalArgumentException("numberPolicy == null");
+    }
+
+    if (mappingSize <= 0) {
+      throw new IllegalArgumentException("mappingSize <= 0");
+    }
+
+    this.numberPolicy = numberPolicy;
+    this.symbolTable = symbolTable;
+    this.mappingSize = mappingSize;
+  }
+
+  /**
+   * Create a new fast JSON reader.
+   *
+   * @return The fast JSON reader.
+   */
+  @Override
+  protected FastJsonReader createJsonReader() {
+    FastJsonReader jsonReader = new FastJsonReader(this.numberPolicy);
+
+    jsonReader.setSymbolTable(this.symbolTable);
+    jsonReader.setMappingSize(this.mappingSize);
+
+    return jsonReader;
+  }
+
+  /**
+   * Reset the given fast JSON reader to the configuration of the pool.
+   *
+   * @param jsonReader The fast JSON reader.
+   */
+  @Override
+  protected void resetJsonReader(FastJsonReader jsonReader) {
+    super.resetJsonReader(jsonReader);
+
+    jsonReader.setNumberPolicy(this.numberPolicy);
+    jsonReader.setSymbolTable(this.symbolTable);
+    jsonReader.setMappingSize(this.mappingSize);
+  }
+}
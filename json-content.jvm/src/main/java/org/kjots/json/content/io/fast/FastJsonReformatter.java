@@ -0,0 +1,1492 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+
+import org.kjots.json.content.io.JsonReaderException;
+
+/**
+ * Fast JSON Reformatter.
+ * <p>
+ * This class reformats JSON text, either into the formatted layout or the
+ * compact layout of the {@link org.kjots.json.content.io.JsonWriter}, without
+ * creating JSON content events. Only the whitespace between the tokens is
+ * rewritten; the string and number literals are copied verbatim from the
+ * input buffer to the output buffer in bulk, without being decoded, boxed or
+ * escaped again. UTF-8 encoded JSON text is reformatted as bytes, without
+ * being decoded into characters.
+ * <p>
+ * By default, the JSON text is not validated, and malformed JSON text is
+ * reformatted on a best effort basis. If the validating flag is set, the
+ * JSON text is validated while it is copied, to the same grammar as the
+ * {@link FastJsonReader}, and a {@link JsonReaderException} is thrown at the
+ * first error, after the JSON text before the error has been written.
+ * <p>
+ * A sequence of JSON texts is reformatted into a sequence of JSON texts that
+ * are separated by newlines. The buffers are retained by the reformatter and
+ * reused for subsequent invocations of the <code>reformat</code> methods.
+ * <p>
+ * Instances of this class are <em>not</em> thread-safe.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonReformatter {
+  /**
+   * Copier.
+   * <p>
+   * A copier reads from an input buffer and writes to an output buffer of
+   * the same element type.
+   */
+  private static abstract class Copier {
+    /** The position within the input buffer. */
+    protected int pos;
+
+    /** The limit of the input buffer. */
+    protected int limit;
+
+    /** The offset of the input buffer within the input. */
+    protected long bufferOffset;
+
+    /** The end of input flag. */
+    protected boolean endOfInput;
+
+    /** The position within the output buffer. */
+    protected int outputPos;
+
+    /** The characters of the current literal. */
+    private char[] literal = new char[32];
+
+    /** The length of the current literal. */
+    private int literalLength;
+
+    /**
+     * Skip whitespace and retrieve the next character of the input.
+     *
+     * @return The next character, or <code>-1</code> at the end of the input.
+     * @throws IOException
+     */
+    public abstract int peek()
+      throws IOException;
+
+    /**
+     * Copy the next character of the input.
+     */
+    public abstract void copy();
+
+    /**
+     * Write the given ASCII character.
+     *
+     * @param c The character.
+     * @throws IOException
+     */
+    public abstract void write(char c)
+      throws IOException;
+
+    /**
+     * Write a newline followed by the indentation of the given depth.
+     *
+     * @param depth The depth.
+     * @throws IOException
+     */
+    public abstract void writeNewlineIndent(int depth)
+      throws IOException;
+
+    /**
+     * Copy the string literal at the position of the input.
+     *
+     * @param validate The validate flag.
+     * @throws IOException
+     * @throws JsonReaderException
+     */
+    public abstract void copyString(boolean validate)
+      throws IOException, JsonReaderException;
+
+    /**
+     * Copy the number or literal name at the position of the input.
+     *
+     * @param validate The validate flag.
+     * @throws IOException
+     * @throws JsonReaderException
+     */
+    public abstract void copyLiteral(boolean validate)
+      throws IOException, JsonReaderException;
+
+    /**
+     * Write the output buffer to the output and flush the output.
+     *
+     * @throws IOException
+     */
+    public abstract void flush()
+      throws IOException;
+
+    /**
+     * Release the input and the output.
+     */
+    public abstract void release();
+
+    /**
+     * Retrieve the position of the input.
+     *
+     * @return The position of the input.
+     */
+    public long getPosition() {
+      return this.bufferOffset + this.pos;
+    }
+
+    /**
+     * Reset the state of the input buffer and the output buffer.
+     */
+    protected void resetBuffers() {
+      this.pos = 0;
+      this.limit = 0;
+      this.bufferOffset = 0;
+      this.endOfInput = false;
+      this.outputPos = 0;
+    }
+
+    /**
+     * Begin a literal.
+     */
+    protected void beginLiteral() {
+      this.literalLength = 0;
+    }
+
+    /**
+     * Append the given character to the current literal.
+     *
+     * @param c The character.
+     */
+    protected void appendLiteral(char c) {
+      if (this.literalLength == this.literal.length) {
+        char[] literal = new char[this.literal.length * 2];
+
+        System.arraycopy(this.literal, 0, literal, 0, this.literalLength);
+
+        this.literal = literal;
+      }
+
+      this.literal[this.literalLength++] = c;
+    }
+
+    /**
+     * Validate the current literal.
+     *
+     * @param position The position of the literal.
+     * @throws JsonReaderException
+     */
+    protected void validateLiteral(long position)
+      throws JsonReaderException {
+      if (!isValidLiteral(this.literal, this.literalLength)) {
+        throw new JsonReaderException("Invalid literal at position " + position + ".");
+      }
+    }
+  }
+
+  /**
+   * Character Copier.
+   */
+  private static class CharCopier extends Copier {
+    /** The input buffer. */
+    private final char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+
+    /** The output buffer. */
+    private final char[] outputBuffer = new char[DEFAULT_BUFFER_SIZE];
+
+    /** The newline followed by the indentation of the deepest depth written so far. */
+    private char[] newlineIndent = new char[1 + INITIAL_DEPTH * 2];
+
+    /** The reader. */
+    private Reader reader;
+
+    /** The writer. */
+    private Writer writer;
+
+    /**
+     * Construct a new Character Copier.
+     */
+    public CharCopier() {
+      initNewlineIndent(this.newlineIndent);
+    }
+
+    /**
+     * Reset the character copier to copy from the given reader to the given
+     * writer.
+     *
+     * @param reader The reader.
+     * @param writer The writer.
+     */
+    public void reset(Reader reader, Writer writer) {
+      this.reader = reader;
+      this.writer = writer;
+
+      this.resetBuffers();
+    }
+
+    /**
+     * Skip whitespace and retrieve the next character of the input.
+     *
+     * @return The next character, or <code>-1</code> at the end of the input.
+     * @throws IOException
+     */
+    @Override
+    public int peek()
+      throws IOException {
+      for (;;) {
+        char[] buffer = this.buffer;
+        int pos = this.pos;
+        int limit = this.limit;
+
+        while (pos < limit) {
+          char c = buffer[pos];
+
+          if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+            this.pos = pos;
+
+            return c;
+          }
+
+          pos++;
+        }
+
+        this.pos = pos;
+
+        if (!this.fill()) {
+          return -1;
+        }
+      }
+    }
+
+    /**
+     * Copy the next character of the input.
+     */
+    @Override
+    public void copy() {
+      if (this.outputPos == this.outputBuffer.length) {
+        this.writeOutputBuffer();
+      }
+
+      this.outputBuffer[this.outputPos++] = this.buffer[this.pos++];
+    }
+
+    /**
+     * Write the given ASCII character.
+     *
+     * @param c The character.
+     */
+    @Override
+    public void write(char c) {
+      if (this.outputPos == this.outputBuffer.length) {
+        this.writeOutputBuffer();
+      }
+
+      this.outputBuffer[this.outputPos++] = c;
+    }
+
+    /**
+     * Write a newline followed by the indentation of the given depth.
+     *
+     * @param depth The depth.
+     */
+    @Override
+    public void writeNewlineIndent(int depth) {
+      int length = 1 + depth * 2;
+
+      if (this.newlineIndent.length < length) {
+        this.newlineIndent = new char[length * 2];
+
+        initNewlineIndent(this.newlineIndent);
+      }
+
+      this.write(this.newlineIndent, 0, length);
+    }
+
+    /**
+     * Copy the string literal at the position of the input.
+     *
+     * @param validate The validate flag.
+     * @throws IOException
+     * @throws JsonReaderException
+     */
+    @Override
+    public void copyString(boolean validate)
+      throws IOException, JsonReaderException {
+      long position = this.getPosition();
+      int start = this.pos++;
+      int escape = 0;
+
+      for (;;) {
+        char[] buffer = this.buffer;
+        int pos = this.pos;
+        int limit = this.limit;
+
+        while (pos < limit) {
+          char c = buffer[pos++];
+
+          if (escape == 0) {
+            if (c == '"') {
+              this.pos = pos;
+
+              this.write(buffer, start, pos - start);
+
+              return;
+            }
+            else if (c == '\\') {
+              escape = 1;
+            }
+            else if (c < 0x20 && validate) {
+              throw new JsonReaderException("Invalid control character at position " + (this.bufferOffset + pos - 1) + ".");
+            }
+          }
+          else {
+            escape = nextEscape(escape, c, validate, this.bufferOffset + pos - 1);
+          }
+        }
+
+        this.pos = pos;
+
+        this.write(buffer, start, pos - start);
+
+        if (!this.fill()) {
+          if (validate) {
+            throw new JsonReaderException("Unterminated string at position " + position + ".");
+          }
+
+          return;
+        }
+
+        start = 0;
+      }
+    }
+
+    /**
+     * Copy the number or literal name at the position of the input.
+     *
+     * @param validate The validate flag.
+     * @throws IOException
+     * @throws JsonReaderException
+     */
+    @Override
+    public void copyLiteral(boolean validate)
+      throws IOException, JsonReaderException {
+      long position = this.getPosition();
+      int start = this.pos;
+
+      this.beginLiteral();
+
+      for (;;) {
+        char[] buffer = this.buffer;
+        int pos = this.pos;
+        int limit = this.limit;
+
+        while (pos < limit) {
+          char c = buffer[pos];
+
+          if (c < 0x80 && DELIMITERS[c]) {
+            break;
+          }
+
+          if (validate) {
+            this.appendLiteral(c);
+          }
+
+          pos++;
+        }
+
+        this.pos = pos;
+
+        this.write(buffer, start, pos - start);
+
+        if (pos < limit || !this.fill()) {
+          break;
+        }
+
+        start = 0;
+      }
+
+      if (validate) {
+        this.validateLiteral(position);
+      }
+    }
+
+    /**
+     * Write the output buffer to the writer and flush the writer.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void flush()
+      throws IOException {
+      this.writeOutputBuffer();
+
+      this.writer.flush();
+    }
+
+    /**
+     * Release the reader and the writer.
+     */
+    @Override
+    public void release() {
+      this.reader = null;
+      this.writer = null;
+    }
+
+    /**
+     * Fill the input buffer from the reader.
+     *
+     * @return <code>true</code> if the input buffer has been filled.
+     * @throws IOException
+     */
+    private boolean fill()
+      throws IOException {
+      if (this.endOfInput) {
+        return false;
+      }
+
+      this.bufferOffset += this.limit;
+      this.pos = 0;
+      this.limit = 0;
+
+      int count = this.reader.read(this.buffer, 0, this.buffer.length);
+
+      if (count <= 0) {
+        this.endOfInput = true;
+
+        return false;
+      }
+
+      this.limit = count;
+
+      return true;
+    }
+
+    /**
+     * Write the given characters.
+     *
+     * @param chars The characters.
+     * @param offset The offset of the first character.
+     * @param length The number of characters.
+     */
+    private void write(char[] chars, int offset, int length) {
+      if (this.outputBuffer.length - this.outputPos < length) {
+        this.writeOutputBuffer();
+
+        if (length > this.outputBuffer.length) {
+          this.writeOutput(chars, offset, length);
+
+          return;
+        }
+      }
+
+      System.arraycopy(chars, offset, this.outputBuffer, this.outputPos, length);
+
+      this.outputPos += length;
+    }
+
+    /**
+     * Write the output buffer to the writer.
+     */
+    private void writeOutputBuffer() {
+      if (this.outputPos > 0) {
+        this.writeOutput(this.outputBuffer, 0, this.outputPos);
+
+        this.outputPos = 0;
+      }
+    }
+
+    /**
+     * Write the given characters to the writer.
+     *
+     * @param chars The characters.
+     * @param offset The offset of the first character.
+     * @param length The number of characters.
+     */
+    private void writeOutput(char[] chars, int offset, int length) {
+      try {
+        this.writer.write(chars, offset, length);
+      }
+      catch (IOException ioe) {
+        throw new OutputException(ioe);
+      }
+    }
+  }
+
+  /**
+   * Byte Copier.
+   */
+  private static class ByteCopier extends Copier {
+    /** The input buffer. */
+    private final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+
+    /** The output buffer. */
+    private final byte[] outputBuffer = new byte[DEFAULT_BUFFER_SIZE];
+
+    /** The newline followed by the indentation of the deepest depth written so far. */
+    private byte[] newlineIndent = new byte[1 + INITIAL_DEPTH * 2];
+
+    /** The input stream. */
+    private InputStream inputStream;
+
+    /** The output stream. */
+    private OutputStream outputStream;
+
+    /**
+     * Construct a new Byte Copier.
+     */
+    public ByteCopier() {
+      initNewlineIndent(this.newlineIndent);
+    }
+
+    /**
+     * Reset the byte copier to copy from the given input stream to the given
+     * output stream.
+     *
+     * @param inputStream The input stream.
+     * @param outputStream The output stream.
+     */
+    public void reset(InputStream inputStream, OutputStream outputStream) {
+      this.inputStream = inputStream;
+      this.outputStream = outputStream;
+
+      this.resetBuffers();
+    }
+
+    /**
+     * Skip whitespace and retrieve the next character of the input.
+     *
+     * @return The next character, or <code>-1</code> at the end of the input.
+     * @throws IOException
+     */
+    @Override
+    public int peek()
+      throws IOException {
+      for (;;) {
+        byte[] buffer = this.buffer;
+        int pos = this.pos;
+        int limit = this.limit;
+
+        while (pos < limit) {
+          byte b = buffer[pos];
+
+          if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+            this.pos = pos;
+
+            return b & 0xFF;
+          }
+
+          pos++;
+        }
+
+        this.pos = pos;
+
+        if (!this.fill()) {
+          return -1;
+        }
+      }
+    }
+
+    /**
+     * Copy the next character of the input.
+     */
+    @Override
+    public void copy() {
+      if (this.outputPos == this.outputBuffer.length) {
+        this.writeOutputBuffer();
+      }
+
+      this.outputBuffer[this.outputPos++] = this.buffer[this.pos++];
+    }
+
+    /**
+     * Write the given ASCII character.
+     *
+     * @param c The character.
+     */
+    @Override
+    public void write(char c) {
+      if (this.outputPos == this.outputBuffer.length) {
+        this.writeOutputBuffer();
+      }
+
+      this.outputBuffer[this.outputPos++] = (byte)c;
+    }
+
+    /**
+     * Write a newline followed by the indentation of the given depth.
+     *
+     * @param depth The depth.
+     */
+    @Override
+    public void writeNewlineIndent(int depth) {
+      int length = 1 + depth * 2;
+
+      if (this.newlineIndent.length < length) {
+        this.newlineIndent = new byte[length * 2];
+
+        initNewlineIndent(this.newlineIndent);
+      }
+
+      this.write(this.newlineIndent, 0, length);
+    }
+
+    /**
+     * Copy the string literal at the position of the input.
+     * <p>
+     * If the validate flag is set, the UTF-8 sequences of the string literal
+     * are validated as well.
+     *
+     * @param validate The validate flag.
+     * @throws IOException
+     * @throws JsonReaderException
+     */
+    @Override
+    public void copyString(boolean validate)
+      throws IOException, JsonReaderException {
+      long position = this.getPosition();
+      int start = this.pos++;
+      int escape = 0;
+      int continuation = 0;
+      int continuationMin = 0x80;
+      int continuationMax = 0xBF;
+
+      for (;;) {
+        byte[] buffer = this.buffer;
+        int pos = this.pos;
+        int limit = this.limit;
+
+        while (pos < limit) {
+          int c = buffer[pos++] & 0xFF;
+
+          if (continuation > 0) {
+            if (c < continuationMin || c > continuationMax) {
+              throw malformed(this.bufferOffset + pos - 1);
+            }
+
+            continuation--;
+            continuationMin = 0x80;
+            continuationMax = 0xBF;
+          }
+          else if (escape == 0) {
+            if (c == '"') {
+              this.pos = pos;
+
+              this.write(buffer, start, pos - start);
+
+              return;
+            }
+            else if (c == '\\') {
+              escape = 1;
+            }
+            else if (validate) {
+              if (c < 0x20) {
+                throw new JsonReaderException("Invalid control character at position " + (this.bufferOffset + pos - 1) + ".");
+              }
+              else if (c >= 0x80) {
+                if (c >= 0xC2 && c <= 0xDF) {
+                  continuation = 1;
+                }
+                else if (c >= 0xE0 && c <= 0xEF) {
+                  continuation = 2;
+                  continuationMin = c == 0xE0 ? 0xA0 : 0x80;
+                  continuationMax = c == 0xED ? 0x9F : 0xBF;
+                }
+                else if (c >= 0xF0 && c <= 0xF4) {
+                  continuation = 3;
+                  continuationMin = c == 0xF0 ? 0x90 : 0x80;
+                  continuationMax = c == 0xF4 ? 0x8F : 0xBF;
+                }
+                else {
+                  throw malformed(this.bufferOffset + pos - 1);
+                }
+              }
+            }
+          }
+          else {
+            escape = nextEscape(escape, (char)c, validate, this.bufferOffset + pos - 1);
+          }
+        }
+
+        this.pos = pos;
+
+        this.write(buffer, start, pos - start);
+
+        if (!this.fill()) {
+          if (validate) {
+            throw new JsonReaderException("Unterminated string at position " + position + ".");
+          }
+
+          return;
+        }
+
+        start = 0;
+      }
+    }
+
+    /**
+     * Copy the number or literal name at the position of the input.
+     *
+     * @param validate The validate flag.
+     * @throws IOException
+     * @throws JsonReaderException
+     */
+    @Override
+    public void copyLiteral(boolean validate)
+      throws IOException, JsonReaderException {
+      long position = this.getPosition();
+      int start = this.pos;
+
+      this.beginLiteral();
+
+      for (;;) {
+        byte[] buffer = this.buffer;
+        int pos = this.pos;
+        int limit = this.limit;
+
+        while (pos < limit) {
+          byte b = buffer[pos];
+
+          if (b >= 0 && DELIMITERS[b]) {
+            break;
+          }
+
+          if (validate) {
+            this.appendLiteral((char)(b & 0xFF));
+          }
+
+          pos++;
+        }
+
+        this.pos = pos;
+
+        this.write(buffer, start, pos - start);
+
+        if (pos < limit || !this.fill()) {
+          break;
+        }
+
+        start = 0;
+      }
+
+      if (validate) {
+        this.validateLiteral(position);
+      }
+    }
+
+    /**
+     * Write the output buffer to the output stream and flush the output
+     * stream.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void flush()
+      throws IOException {
+      this.writeOutputBuffer();
+
+      this.outputStream.flush();
+    }
+
+    /**
+     * Release the input stream and the output stream.
+     */
+    @Override
+    public void release() {
+      this.inputStream = null;
+      this.outputStream = null;
+    }
+
+    /**
+     * Fill the input buffer from the input stream.
+     *
+     * @return <code>true</code> if the input buffer has been filled.
+     * @throws IOException
+     */
+    private boolean fill()
+      throws IOException {
+      if (this.endOfInput) {
+        return false;
+      }
+
+      this.bufferOffset += this.limit;
+      this.pos = 0;
+      this.limit = 0;
+
+      int count = this.inputStream.read(this.buffer, 0, this.buffer.length);
+
+      if (count <= 0) {
+        this.endOfInput = true;
+
+        return false;
+      }
+
+      this.limit = count;
+
+      return true;
+    }
+
+    /**
+     * Write the given bytes.
+     *
+     * @param bytes The bytes.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     */
+    private void write(byte[] bytes, int offset, int length) {
+      if (this.outputBuffer.length - this.outputPos < length) {
+        this.writeOutputBuffer();
+
+        if (length > this.outputBuffer.length) {
+          this.writeOutput(bytes, offset, length);
+
+          return;
+        }
+      }
+
+      System.arraycopy(bytes, offset, this.outputBuffer, this.outputPos, length);
+
+      this.outputPos += length;
+    }
+
+    /**
+     * Write the output buffer to the output stream.
+     */
+    private void writeOutputBuffer() {
+      if (this.outputPos > 0) {
+        this.writeOutput(this.outputBuffer, 0, this.outputPos);
+
+        this.outputPos = 0;
+      }
+    }
+
+    /**
+     * Write the given bytes to the output stream.
+     *
+     * @param bytes The bytes.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     */
+    private void writeOutput(byte[] bytes, int offset, int length) {
+      try {
+        this.outputStream.write(bytes, offset, length);
+      }
+      catch (IOException ioe) {
+        throw new OutputException(ioe);
+      }
+    }
+
+    /**
+     * Create an exception for a malformed UTF-8 sequence at the given
+     * position.
+     *
+     * @param position The position.
+     * @return The exception.
+     */
+    private static JsonReaderException malformed(long position) {
+      return new JsonReaderException("Malformed UTF-8 sequence at position " + position + ".");
+    }
+  }
+
+  /**
+   * Output Exception.
+   * <p>
+   * This exception carries an {@link IOException} thrown by the output out
+   * of the methods of a copier that write to the output buffer, so that they
+   * need not declare it.
+   */
+  private static class OutputException extends RuntimeException {
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Construct a new Output Exception.
+     *
+     * @param cause The cause of the exception.
+     */
+    public OutputException(IOException cause) {
+      super(cause);
+    }
+
+    /**
+     * Retrieve the cause of the exception.
+     *
+     * @return The cause of the exception.
+     */
+    @Override
+    public IOException getCause() {
+      return (IOException)super.getCause();
+    }
+  }
+
+  /** The default size of the buffers. */
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /** The initial depth of the container stack. */
+  private static final int INITIAL_DEPTH = 16;
+
+  /** The state before a JSON text. */
+  private static final int STATE_ROOT = 0;
+
+  /** The state after the start of a JSON array. */
+  private static final int STATE_ARRAY_FIRST = 1;
+
+  /** The state after a comma within a JSON array. */
+  private static final int STATE_ARRAY_NEXT = 2;
+
+  /** The state after the start of a JSON object. */
+  private static final int STATE_OBJECT_FIRST = 3;
+
+  /** The state after a comma within a JSON object. */
+  private static final int STATE_OBJECT_NEXT = 4;
+
+  /** The state after the name of a member. */
+  private static final int STATE_COLON = 5;
+
+  /** The state after the colon of a member. */
+  private static final int STATE_MEMBER_VALUE = 6;
+
+  /** The state after a value within a JSON object or a JSON array. */
+  private static final int STATE_COMMA_OR_END = 7;
+
+  /** The flags of the ASCII characters that delimit a number or a literal name. */
+  private static final boolean[] DELIMITERS = new boolean[128];
+
+  static {
+    for (char c : " \t\n\r{}[],:\"".toCharArray()) {
+      DELIMITERS[c] = true;
+    }
+  }
+
+  /** The character copier. */
+  private CharCopier charCopier;
+
+  /** The byte copier. */
+  private ByteCopier byteCopier;
+
+  /** The container stack, with <code>true</code> for a JSON object. */
+  private boolean[] containers = new boolean[INITIAL_DEPTH];
+
+  /** The format flag. */
+  private boolean format;
+
+  /** The validating flag. */
+  private boolean validating;
+
+  /**
+   * Retrieve the format flag.
+   *
+   * @return The format flag.
+   * @see #setFormat(boolean)
+   */
+  public boolean getFormat() {
+    return this.format;
+  }
+
+  /**
+   * Set the format flag.
+   * <p>
+   * If the format flag is <code>true</code>, the JSON text is reformatted
+   * into the formatted layout, otherwise into the compact layout.
+   *
+   * @param format The format flag.
+   * @see #getFormat()
+   */
+  public void setFormat(boolean format) {
+    this.format = format;
+  }
+
+  /**
+   * Determine if the JSON text is validated while it is reformatted.
+   *
+   * @return The validating flag.
+   * @see #setValidating(boolean)
+   */
+  public boolean isValidating() {
+    return this.validating;
+  }
+
+  /**
+   * Set the validating flag.
+   *
+   * @param validating The validating flag.
+   * @see #isValidating()
+   */
+  public void setValidating(boolean validating) {
+    this.validating = validating;
+  }
+
+  /**
+   * Reformat the given JSON text.
+   *
+   * @param jsonText The JSON text.
+   * @return The reformatted JSON text.
+   * @throws JsonReaderException
+   */
+  public String reformat(String jsonText)
+    throws JsonReaderException {
+    StringWriter stringWriter = new StringWriter(jsonText.length());
+
+    try {
+      this.reformat(new StringReader(jsonText), stringWriter);
+    }
+    catch (IOException ioe) {
+      // Actually it will never happen.
+      throw new JsonReaderException(ioe);
+    }
+
+    return stringWriter.toString();
+  }
+
+  /**
+   * Reformat the JSON text provided by the given reader to the given writer.
+   *
+   * @param reader The reader.
+   * @param writer The writer.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  public void reformat(Reader reader, Writer writer)
+    throws IOException, JsonReaderException {
+    if (this.charCopier == null) {
+      this.charCopier = new CharCopier();
+    }
+
+    this.charCopier.reset(reader, writer);
+
+    this.reformat(this.charCopier);
+  }
+
+  /**
+   * Reformat the UTF-8 encoded JSON text provided by the given input stream
+   * to the given output stream.
+   *
+   * @param inputStream The input stream.
+   * @param outputStream The output stream.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  public void reformat(InputStream inputStream, OutputStream outputStream)
+    throws IOException, JsonReaderException {
+    if (this.byteCopier == null) {
+      this.byteCopier = new ByteCopier();
+    }
+
+    this.byteCopier.reset(inputStream, outputStream);
+
+    this.reformat(this.byteCopier);
+  }
+
+  /**
+   * Reformat the JSON text with the given copier.
+   *
+   * @param copier The copier.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  private void reformat(Copier copier)
+    throws IOException, JsonReaderException {
+    try {
+      this.copy(copier);
+    }
+    catch (OutputException oe) {
+      throw oe.getCause();
+    }
+    finally {
+      try {
+        copier.flush();
+      }
+      catch (OutputException oe) {
+        throw oe.getCause();
+      }
+      finally {
+        copier.release();
+      }
+    }
+  }
+
+  /**
+   * Copy the JSON text with the given copier.
+   *
+   * @param copier The copier.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  private void copy(Copier copier)
+    throws IOException, JsonReaderException {
+    boolean format = this.format;
+    boolean validating = this.validating;
+    int state = STATE_ROOT;
+    int depth = 0;
+    int count = 0;
+
+    for (;;) {
+      int c = copier.peek();
+
+      switch (c) {
+      case -1:
+        if (validating && (state != STATE_ROOT || count == 0)) {
+          throw new JsonReaderException("Unexpected end of input at position " + copier.getPosition() + ".");
+        }
+
+        return;
+
+      case '{':
+      case '[':
+        if (validating && state != STATE_ROOT && state != STATE_ARRAY_FIRST && state != STATE_ARRAY_NEXT && state != STATE_MEMBER_VALUE) {
+          throw unexpected(copier);
+        }
+
+        this.beginValue(copier, state, depth, count);
+
+        copier.copy();
+
+        if (depth == this.containers.length) {
+          this.containers = Arrays.copyOf(this.containers, depth * 2);
+        }
+
+        this.containers[depth++] = c == '{';
+
+        state = c == '{' ? STATE_OBJECT_FIRST : STATE_ARRAY_FIRST;
+
+        break;
+
+      case '}':
+      case ']':
+        if (depth == 0 || this.containers[depth - 1] != (c == '}')) {
+          if (validating) {
+            throw unexpected(copier);
+          }
+
+          copier.copy();
+
+          break;
+        }
+
+        if (validating && state != STATE_COMMA_OR_END && state != (c == '}' ? STATE_OBJECT_FIRST : STATE_ARRAY_FIRST)) {
+          throw unexpected(copier);
+        }
+
+        if (format && state != STATE_OBJECT_FIRST && state != STATE_ARRAY_FIRST) {
+          copier.writeNewlineIndent(depth - 1);
+        }
+
+        copier.copy();
+
+        depth--;
+
+        state = this.endValue(copier, depth);
+
+        if (depth == 0) {
+          count++;
+        }
+
+        break;
+
+      case ',':
+        if (validating && state != STATE_COMMA_OR_END) {
+          throw unexpected(copier);
+        }
+
+        copier.copy();
+
+        state = depth == 0 ? STATE_ROOT : this.containers[depth - 1] ? STATE_OBJECT_NEXT : STATE_ARRAY_NEXT;
+
+        break;
+
+      case ':':
+        if (validating && state != STATE_COLON) {
+          throw unexpected(copier);
+        }
+
+        if (format) {
+          copier.write(' ');
+          copier.copy();
+          copier.write(' ');
+        }
+        else {
+          copier.copy();
+        }
+
+        state = STATE_MEMBER_VALUE;
+
+        break;
+
+      case '"':
+        if (state == STATE_OBJECT_FIRST || state == STATE_OBJECT_NEXT) {
+          if (format) {
+            copier.writeNewlineIndent(depth);
+          }
+
+          copier.copyString(validating);
+
+          state = STATE_COLON;
+
+          break;
+        }
+
+        if (validating && state != STATE_ROOT && state != STATE_ARRAY_FIRST && state != STATE_ARRAY_NEXT && state != STATE_MEMBER_VALUE) {
+          throw unexpected(copier);
+        }
+
+        this.beginValue(copier, state, depth, count);
+
+        copier.copyString(validating);
+
+        state = this.endValue(copier, depth);
+
+        if (depth == 0) {
+          count++;
+        }
+
+        break;
+
+      default:
+        if (validating && state != STATE_ROOT && state != STATE_ARRAY_FIRST && state != STATE_ARRAY_NEXT && state != STATE_MEMBER_VALUE) {
+          throw unexpected(copier);
+        }
+
+        this.beginValue(copier, state, depth, count);
+
+        copier.copyLiteral(validating);
+
+        state = this.endValue(copier, depth);
+
+        if (depth == 0) {
+          count++;
+        }
+
+        break;
+      }
+    }
+  }
+
+  /**
+   * Begin a value.
+   * <p>
+   * In the formatted layout, an element of a JSON array begins on a new line.
+   * In the compact layout, a JSON text that follows another JSON text begins
+   * on a new line.
+   *
+   * @param copier The copier.
+   * @param state The state.
+   * @param depth The depth.
+   * @param count The number of JSON texts.
+   * @throws IOException
+   */
+  private void beginValue(Copier copier, int state, int depth, int count)
+    throws IOException {
+    if (state == STATE_ARRAY_FIRST || state == STATE_ARRAY_NEXT) {
+      if (this.format) {
+        copier.writeNewlineIndent(depth);
+      }
+    }
+    else if (depth == 0 && count > 0 && !this.format) {
+      copier.write('\n');
+    }
+  }
+
+  /**
+   * End a value.
+   * <p>
+   * In the formatted layout, a JSON text is followed by a newline.
+   *
+   * @param copier The copier.
+   * @param depth The depth.
+   * @return The next state.
+   * @throws IOException
+   */
+  private int endValue(Copier copier, int depth)
+    throws IOException {
+    if (depth > 0) {
+      return STATE_COMMA_OR_END;
+    }
+
+    if (this.format) {
+      copier.write('\n');
+    }
+
+    return STATE_ROOT;
+  }
+
+  /**
+   * Advance the state of an escape sequence with the given character.
+   * <p>
+   * The state is <code>0</code> outside of an escape sequence,
+   * <code>1</code> after the reverse solidus, and <code>n + 1</code> while
+   * <code>n</code> hexadecimal digits of a unicode escape remain.
+   *
+   * @param escape The state of the escape sequence.
+   * @param c The character.
+   * @param validate The validate flag.
+   * @param position The position of the character.
+   * @return The next state of the escape sequence.
+   * @throws JsonReaderException
+   */
+  private static int nextEscape(int escape, char c, boolean validate, long position)
+    throws JsonReaderException {
+    if (escape == 1) {
+      if (c == 'u') {
+        return 5;
+      }
+
+      if (validate && c != '"' && c != '\\' && c != '/' && c != 'b' && c != 'f' && c != 'n' && c != 'r' && c != 't') {
+        throw new JsonReaderException("Invalid escape sequence at position " + (position - 1) + ".");
+      }
+
+      return 0;
+    }
+
+    if (validate && !(c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F')) {
+      throw new JsonReaderException("Invalid unicode escape at position " + position + ".");
+    }
+
+    return escape == 2 ? 0 : escape - 1;
+  }
+
+  /**
+   * Determine if the given characters are a valid number or literal name.
+   *
+   * @param chars The characters.
+   * @param length The number of characters.
+   * @return <code>true</code> if the characters are a valid number or literal name.
+   */
+  private static boolean isValidLiteral(char[] chars, int length) {
+    String literal = null;
+
+    switch (chars[0]) {
+    case 't':
+      literal = "true";
+      break;
+
+    case 'f':
+      literal = "false";
+      break;
+
+    case 'n':
+      literal = "null";
+      break;
+    }
+
+    if (literal != null) {
+      if (length != literal.length()) {
+        return false;
+      }
+
+      for (int i = 0; i < length; i++) {
+        if (chars[i] != literal.charAt(i)) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    int i = 0;
+
+    if (chars[i] == '-') {
+      i++;
+    }
+
+    if (i < length && chars[i] == '0') {
+      i++;
+    }
+    else {
+      int start = i;
+
+      while (i < length && chars[i] >= '0' && chars[i] <= '9') {
+        i++;
+      }
+
+      if (i == start) {
+        return false;
+      }
+    }
+
+    if (i < length && chars[i] == '.') {
+      int start = ++i;
+
+      while (i < length && chars[i] >= '0' && chars[i] <= '9') {
+        i++;
+      }
+
+      if (i == start) {
+        return false;
+      }
+    }
+
+    if (i < length && (chars[i] == 'e' || chars[i] == 'E')) {
+      i++;
+
+      if (i < length && (chars[i] == '+' || chars[i] == '-')) {
+        i++;
+      }
+
+      int start = i;
+
+      while (i < length && chars[i] >= '0' && chars[i] <= '9') {
+        i++;
+      }
+
+      if (i == start) {
+        return false;
+      }
+    }
+
+    return i == length;
+  }
+
+  /**
+   * Fill the given characters with a newline followed by spaces.
+   *
+   * @param chars The characters.
+   */
+  private static void initNewlineIndent(char[] chars) {
+    Arrays.fill(chars, ' ');
+
+    chars[0] = '\n';
+  }
+
+  /**
+   * Fill the given bytes with a newline followed by spaces.
+   *
+   * @param bytes The bytes.
+   */
+  private static void initNewlineIndent(byte[] bytes) {
+    Arrays.fill(bytes, (byte)' ');
+
+    bytes[0] = '\n';
+  }
+
+  /**
+   * Create an exception for an unexpected character at the position of the
+   * given copier.
+   *
+   * @param copier The copier.
+   * @return The exception.
+   */
+  private static JsonReaderException unexpected(Copier copier) {
+    return new JsonReaderException("Unexpected token at position " + copier.getPosition() + ".");
+  }
+}
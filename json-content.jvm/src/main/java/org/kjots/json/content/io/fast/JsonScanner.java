@@ -0,0 +1,701 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.kjots.json.content.io.JsonNumberUtil;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.fast.FastJsonReader.NumberPolicy;
+import org.kjots.json.content.shared.JsonSymbolTable;
+import org.kjots.json.content.shared.TypedJsonContentHandler;
+
+/**
+ * JSON Scanner.
+ * <p>
+ * This class provides the base for the hand-written scanners of JSON text.
+ * The scanner maintains a single token slot; the value of the current token
+ * is only decoded on demand and is only valid until the next invocation of
+ * {@link #nextToken()}.  The scanning of numbers and literals, which only
+ * consist of ASCII characters, is shared by all scanners, while the scanning
+ * of strings is left to the scanner of each encoding.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+abstract class JsonScanner {
+  /** The end of input token. */
+  public static final int TOKEN_EOF = 0;
+
+  /** The start object token. */
+  public static final int TOKEN_START_OBJECT = 1;
+
+  /** The end object token. */
+  public static final int TOKEN_END_OBJECT = 2;
+
+  /** The start array token. */
+  public static final int TOKEN_START_ARRAY = 3;
+
+  /** The end array token. */
+  public static final int TOKEN_END_ARRAY = 4;
+
+  /** The comma token. */
+  public static final int TOKEN_COMMA = 5;
+
+  /** The colon token. */
+  public static final int TOKEN_COLON = 6;
+
+  /** The string token. */
+  public static final int TOKEN_STRING = 7;
+
+  /** The number token. */
+  public static final int TOKEN_NUMBER = 8;
+
+  /** The true token. */
+  public static final int TOKEN_TRUE = 9;
+
+  /** The false token. */
+  public static final int TOKEN_FALSE = 10;
+
+  /** The null token. */
+  public static final int TOKEN_NULL = 11;
+
+  /**
+   * The need input token.
+   * <p>
+   * This token is returned by a scanner in push mode when the input that has
+   * been provided so far ends before the next token is complete.
+   */
+  public static final int TOKEN_NEED_INPUT = 12;
+
+  /** The default size of the buffer. */
+  protected static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /** The maximum number of significant digits that can be accumulated into a long without overflow. */
+  private static final int MAX_SIGNIFICAND_DIGITS = 18;
+
+  /** The maximum number of significant digits that always survive a round trip through a double. */
+  private static final int MAX_DOUBLE_DIGITS = 15;
+
+  /** The maximum magnitude of an exponent that is accumulated without overflow. */
+  private static final int MAX_EXPONENT = 100000;
+
+  /** The maximum significand that can be represented exactly by a double. */
+  private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+
+  /** The powers of ten that can be represented exactly by a long. */
+  private static final long[] LONG_POWERS_OF_TEN = {
+    1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+    10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+    1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+  };
+
+  /** The powers of ten that can be represented exactly by a double. */
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  /** The position of the next character in the buffer. */
+  protected int pos;
+
+  /** The limit of the valid characters in the buffer. */
+  protected int limit;
+
+  /** The offset of the start of the buffer within the input. */
+  protected long bufferOffset;
+
+  /** The end of input flag. */
+  protected boolean endOfInput;
+
+  /** The start of the current token in the buffer. */
+  protected int tokenStart;
+
+  /** The start of the value of the current token in the buffer. */
+  protected int valueStart;
+
+  /** The end of the value of the current token in the buffer. */
+  protected int valueEnd;
+
+  /** The escaped flag of the current string token. */
+  protected boolean escaped;
+
+  /** The negative flag of the current number token. */
+  protected boolean negative;
+
+  /** The significand of the current number token. */
+  protected long significand;
+
+  /** The number of significant digits of the current number token. */
+  protected int digits;
+
+  /** The scale of the current number token. */
+  protected int scale;
+
+  /** The flag indicating that the current number token does not fit the significand and scale. */
+  protected boolean overflow;
+
+  /** The value of the current number token, if it is an integer within the range of a long. */
+  private long longValue;
+
+  /**
+   * Release the source of the input.
+   */
+  public abstract void release();
+
+  /**
+   * Scan the next token.
+   *
+   * @return The type of the next token.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  public abstract int nextToken()
+    throws IOException, JsonReaderException;
+
+  /**
+   * Retrieve the value of the current string token.
+   *
+   * @return The value of the current string token.
+   * @throws JsonReaderException
+   */
+  public abstract String getString()
+    throws JsonReaderException;
+
+  /**
+   * Retrieve the value of the current string token as a character sequence.
+   * <p>
+   * The character sequence views either the buffer of this scanner or the
+   * text buffer into which an escaped value is decoded. It is reused for
+   * each string token, and is only valid until the next token is scanned.
+   *
+   * @return The value of the current string token.
+   * @throws JsonReaderException
+   */
+  public abstract CharSequence getStringChars()
+    throws JsonReaderException;
+
+  /**
+   * Retrieve the value of the current string token as a member name from the
+   * given symbol table.
+   * <p>
+   * The characters of the value are looked up in the symbol table without
+   * creating a string, unless the member name is not in the symbol table.
+   *
+   * @param symbolTable The symbol table.
+   * @return The canonical string of the value of the current string token.
+   * @throws JsonReaderException
+   */
+  public abstract String getMemberName(JsonSymbolTable symbolTable)
+    throws JsonReaderException;
+
+  /**
+   * Retrieve the value of the current number token.
+   * <p>
+   * The type of the value is determined by the given number policy.
+   *
+   * @param numberPolicy The number policy.
+   * @return The value of the current number token.
+   */
+  public Number getNumber(NumberPolicy numberPolicy) {
+    switch (numberPolicy) {
+    case DOUBLE:
+      return Double.valueOf(this.getDouble());
+
+    case SMALLEST:
+      if (!this.isIntegral() && this.isDoubleExact()) {
+        return Double.valueOf(this.getDouble());
+      }
+
+      return this.getExactNumber();
+
+    default:
+      return this.getExactNumber();
+    }
+  }
+
+  /**
+   * Dispatch the value of the current number token to the given typed JSON
+   * content handler.
+   * <p>
+   * The value is dispatched to {@link TypedJsonContentHandler#primitiveDouble(double)}
+   * or {@link TypedJsonContentHandler#primitiveLong(long)} if it would be
+   * reported as a {@link Double}, an {@link Integer} or a {@link Long} by
+   * {@link #getNumber(NumberPolicy)}, and to
+   * {@link TypedJsonContentHandler#primitive(Object)} otherwise.
+   *
+   * @param typedJsonContentHandler The typed JSON content handler.
+   * @param numberPolicy The number policy.
+   */
+  public void dispatchNumber(TypedJsonContentHandler typedJsonContentHandler, NumberPolicy numberPolicy) {
+    switch (numberPolicy) {
+    case DOUBLE:
+      typedJsonContentHandler.primitiveDouble(this.getDouble());
+      return;
+
+    case SMALLEST:
+      if (!this.isIntegral() && this.isDoubleExact()) {
+        typedJsonContentHandler.primitiveDouble(this.getDouble());
+        return;
+      }
+      break;
+    }
+
+    if (this.isLong()) {
+      typedJsonContentHandler.primitiveLong(this.longValue);
+      return;
+    }
+
+    // A long whose magnitude overflows the significand, such as Long.MIN_VALUE
+    Number number = this.getExactNumber();
+
+    if (number instanceof Long || number instanceof Integer) {
+      typedJsonContentHandler.primitiveLong(number.longValue());
+    }
+    else {
+      typedJsonContentHandler.primitive(number);
+    }
+  }
+
+  /**
+   * Retrieve the value of the current number token as a double.
+   * <p>
+   * If the significand and the scale of the number are small enough to be
+   * represented exactly by doubles, the value is computed with a single
+   * correctly rounded multiplication or division.  Otherwise, the text of the
+   * number is parsed.
+   *
+   * @return The value of the current number token.
+   */
+  private double getDouble() {
+    long significand = this.significand;
+    int scale = this.scale;
+
+    if (!this.overflow && significand < MAX_EXACT_DOUBLE_SIGNIFICAND && scale >= -22 && scale <= 22) {
+      double value = scale >= 0 ? significand / DOUBLE_POWERS_OF_TEN[scale] : significand * DOUBLE_POWERS_OF_TEN[-scale];
+
+      return this.negative ? -value : value;
+    }
+
+    return Double.parseDouble(this.getNumberText());
+  }
+
+  /**
+   * Retrieve the value of the current number token as an exact value.
+   * <p>
+   * The type of the value is determined as per the contract of
+   * {@link org.kjots.json.content.shared.JsonContentHandler#primitive(Object)}.
+   *
+   * @return The value of the current number token.
+   */
+  private Number getExactNumber() {
+    if (this.isLong()) {
+      return JsonNumberUtil.narrow(this.longValue);
+    }
+
+    if (this.overflow) {
+      return JsonNumberUtil.narrow(new BigDecimal(this.getNumberText()));
+    }
+
+    long significand = this.significand;
+    int scale = this.scale;
+
+    // Discard the trailing zeros of the fractional part
+    long integralSignificand = significand;
+    int integralScale = scale;
+    while (integralScale > 0 && integralSignificand % 10 == 0) {
+      integralSignificand /= 10;
+      integralScale--;
+    }
+
+    if (integralScale > 0) {
+      return BigDecimal.valueOf(this.negative ? -significand : significand, scale);
+    }
+
+    BigInteger value = BigInteger.valueOf(integralSignificand).multiply(BigInteger.TEN.pow(-integralScale));
+
+    return this.negative ? value.negate() : value;
+  }
+
+  /**
+   * Determine if the current number token is an integer within the range of
+   * a long.
+   * <p>
+   * If it is, its value is stored for {@link #getExactNumber()} and
+   * {@link #dispatchNumber(TypedJsonContentHandler, NumberPolicy)}.
+   *
+   * @return <code>true</code> if the current number token is an integer within the range of a long.
+   */
+  private boolean isLong() {
+    if (this.overflow) {
+      return false;
+    }
+
+    long significand = this.significand;
+    int scale = this.scale;
+
+    if (significand == 0) {
+      this.longValue = 0;
+
+      return true;
+    }
+
+    // Discard the trailing zeros of the fractional part
+    while (scale > 0 && significand % 10 == 0) {
+      significand /= 10;
+      scale--;
+    }
+
+    if (scale > 0 || -scale >= LONG_POWERS_OF_TEN.length || significand > Long.MAX_VALUE / LONG_POWERS_OF_TEN[-scale]) {
+      return false;
+    }
+
+    long value = significand * LONG_POWERS_OF_TEN[-scale];
+
+    this.longValue = this.negative ? -value : value;
+
+    return true;
+  }
+
+  /**
+   * Determine if the current number token has no fractional part.
+   *
+   * @return <code>true</code> if the current number token has no fractional part.
+   */
+  private boolean isIntegral() {
+    if (this.overflow) {
+      return new BigDecimal(this.getNumberText()).stripTrailingZeros().scale() <= 0;
+    }
+
+    long significand = this.significand;
+    int scale = this.scale;
+    while (scale > 0 && significand % 10 == 0) {
+      significand /= 10;
+      scale--;
+    }
+
+    return scale <= 0;
+  }
+
+  /**
+   * Determine if the current number token survives a round trip through a
+   * double.
+   * <p>
+   * This is the case if the number has at most 15 significant digits and its
+   * magnitude lies within the range of the normal doubles.
+   *
+   * @return <code>true</code> if the current number token survives a round trip through a double.
+   */
+  private boolean isDoubleExact() {
+    if (this.overflow || this.digits > MAX_DOUBLE_DIGITS) {
+      return false;
+    }
+
+    int exponent = this.digits - this.scale;
+
+    return exponent > -307 && exponent <= 308;
+  }
+
+  /**
+   * Retrieve the text of the current number token.
+   *
+   * @return The text of the current number token.
+   */
+  protected abstract String getNumberText();
+
+  /**
+   * Retrieve the position of the current token within the input.
+   *
+   * @return The position of the current token.
+   */
+  public long getTokenPosition() {
+    return this.bufferOffset + this.tokenStart;
+  }
+
+  /**
+   * Reset the state of the scanner.
+   */
+  protected void reset() {
+    this.pos = 0;
+    this.limit = 0;
+    this.bufferOffset = 0;
+    this.endOfInput = false;
+    this.tokenStart = 0;
+  }
+
+  /**
+   * Scan a number token.
+   * <p>
+   * The current position is expected to be at the first character of the
+   * number.
+   *
+   * @return The number token.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  protected final int scanNumber()
+    throws IOException, JsonReaderException {
+    int i = 0;
+
+    boolean negative = false;
+    long significand = 0;
+    int digits = 0;
+    int scale = 0;
+    boolean overflow = false;
+
+    int c = this.peek(i);
+    if (c == '-') {
+      negative = true;
+
+      c = this.peek(++i);
+    }
+
+    if (c == '0') {
+      c = this.peek(++i);
+    }
+    else if (c >= '1' && c <= '9') {
+      do {
+        if (digits < MAX_SIGNIFICAND_DIGITS) {
+          significand = significand * 10 + (c - '0');
+        }
+        else {
+          overflow = true;
+        }
+
+        digits++;
+
+        c = this.peek(++i);
+      }
+      while (c >= '0' && c <= '9');
+    }
+    else {
+      if (this.isStarved(c)) {
+        return this.suspend();
+      }
+
+      throw this.unexpectedCharacter(c, this.tokenStart + i);
+    }
+
+    if (c == '.') {
+      c = this.peek(++i);
+      if (c < '0' || c > '9') {
+        if (this.isStarved(c)) {
+          return this.suspend();
+        }
+
+        throw this.unexpectedCharacter(c, this.tokenStart + i);
+      }
+
+      do {
+        if (digits == 0 && c == '0') {
+          // Leading zeros are not significant
+          scale++;
+        }
+        else if (digits < MAX_SIGNIFICAND_DIGITS) {
+          significand = significand * 10 + (c - '0');
+          scale++;
+          digits++;
+        }
+        else {
+          overflow = true;
+        }
+
+        c = this.peek(++i);
+      }
+      while (c >= '0' && c <= '9');
+    }
+
+    if (c == 'e' || c == 'E') {
+      boolean negativeExponent = false;
+      int exponent = 0;
+
+      c = this.peek(++i);
+      if (c == '-' || c == '+') {
+        negativeExponent = c == '-';
+
+        c = this.peek(++i);
+      }
+
+      if (c < '0' || c > '9') {
+        if (this.isStarved(c)) {
+          return this.suspend();
+        }
+
+        throw this.unexpectedCharacter(c, this.tokenStart + i);
+      }
+
+      do {
+        if (exponent < MAX_EXPONENT) {
+          exponent = exponent * 10 + (c - '0');
+        }
+        else {
+          overflow = true;
+        }
+
+        c = this.peek(++i);
+      }
+      while (c >= '0' && c <= '9');
+
+      scale = negativeExponent ? scale + exponent : scale - exponent;
+    }
+
+    // The number may continue in input that has not yet been provided
+    if (this.isStarved(c)) {
+      return this.suspend();
+    }
+
+    this.valueStart = this.tokenStart;
+    this.valueEnd = this.tokenStart + i;
+    this.negative = negative;
+    this.significand = significand;
+    this.digits = digits;
+    this.scale = scale;
+    this.overflow = overflow;
+    this.pos = this.tokenStart + i;
+
+    return TOKEN_NUMBER;
+  }
+
+  /**
+   * Scan a literal token.
+   * <p>
+   * The current position is expected to be at the first character of the
+   * literal.
+   *
+   * @param literal The expected literal.
+   * @param token The literal token.
+   * @return The literal token.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  protected final int scanLiteral(String literal, int token)
+    throws IOException, JsonReaderException {
+    for (int i = 1; i < literal.length(); i++) {
+      int c = this.peek(i);
+      if (c != literal.charAt(i)) {
+        if (this.isStarved(c)) {
+          return this.suspend();
+        }
+
+        throw this.unexpectedCharacter(c, this.tokenStart + i);
+      }
+    }
+
+    this.pos = this.tokenStart + literal.length();
+
+    return token;
+  }
+
+  /**
+   * Peek at the character at the given offset from the start of the current
+   * token.
+   * <p>
+   * The buffer will be filled if the given offset is beyond the limit of the
+   * buffer.  Since filling the buffer may compact it, the offset is relative
+   * to the start of the current token.
+   *
+   * @param offset The offset from the start of the current token.
+   * @return The character, or <code>-1</code> if the end of input has been reached.
+   * @throws IOException
+   */
+  protected abstract int peek(int offset)
+    throws IOException;
+
+  /**
+   * Fill the buffer.
+   * <p>
+   * The characters of the buffer preceding the start of the current token
+   * are discarded, and the buffer is expanded if the current token occupies
+   * the entire buffer.
+   * <p>
+   * If no more characters could be read into the buffer, the end of input has
+   * been reached, unless the scanner is in push mode.
+   *
+   * @return <code>true</code> if more characters were read into the buffer.
+   * @throws IOException
+   */
+  protected abstract boolean fill()
+    throws IOException;
+
+  /**
+   * Determine if the scanner has run out of the input provided so far.
+   * <p>
+   * This is the case if the given character, as returned by
+   * {@link #peek(int)}, indicates that no more input is available, even
+   * though the end of input has not been reached.  This can only happen in
+   * push mode.
+   *
+   * @param c The character.
+   * @return <code>true</code> if the scanner has run out of input.
+   */
+  protected boolean isStarved(int c) {
+    return c < 0 && !this.endOfInput;
+  }
+
+  /**
+   * Suspend the scanning of the current token until more input has been
+   * provided.
+   * <p>
+   * The current token will be scanned again from its start.
+   *
+   * @return The need input token.
+   */
+  protected int suspend() {
+    this.pos = this.tokenStart;
+
+    return TOKEN_NEED_INPUT;
+  }
+
+  /**
+   * Retrieve the value of the given hexadecimal digit.
+   *
+   * @param c The hexadecimal digit.
+   * @return The value of the hexadecimal digit, or <code>-1</code> if the character is not a hexadecimal digit.
+   */
+  protected static int hexDigit(int c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    else if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    else if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    else {
+      return -1;
+    }
+  }
+
+  /**
+   * Create an exception for an unexpected character.
+   *
+   * @param c The unexpected character, or <code>-1</code> for the end of input.
+   * @param index The index of the character in the buffer.
+   * @return The exception.
+   */
+  protected JsonReaderException unexpectedCharacter(int c, int index) {
+    if (c < 0) {
+      return new JsonReaderException("Unexpected end of input at position " + (this.bufferOffset + index) + ".");
+    }
+
+    return new JsonReaderException("Unexpected character (" + (char)c + ") at position " + (this.bufferOffset + index) + ".");
+  }
+}
@@ -16,15 +16,22 @@
 package org.kjots.json.content.io.simple;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
+import org.kjots.json.content.io.JsonNumberUtil;
 import org.kjots.json.content.io.JsonReader;
 import org.kjots.json.content.io.JsonReaderException;
 import org.kjots.json.content.rebase.org.json.simple.parser.ContentHandler;
 import org.kjots.json.content.rebase.org.json.simple.parser.JSONParser;
 import org.kjots.json.content.rebase.org.json.simple.parser.ParseException;
 import org.kjots.json.content.shared.AbstractJsonContentGenerator;
+import org.kjots.json.content.shared.JsonSymbolTable;
 
 /**
  * Simple JSON Reader.
@@ -33,12 +40,56 @@ import org.kjots.json.content.shared.AbstractJsonContentGenerator;
  * [<a href="http://code.google.com/p/json-simple/">http://code.google.com/p/json-simple/</a>],
  * slightly modified to remove functionality not relevant to this library.
  * <p>
+ * The parser, along with the buffers of its lexer, is retained by the reader
+ * and reused for subsequent invocations of the <code>parse</code> methods.
+ * Instances of this class are <em>not</em> thread-safe; a
+ * {@link org.kjots.json.content.io.JsonReaderPool} may be used to share
+ * instances between threads.
+ * <p>
  * Created: 1st February 2010.
  *
  * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
  * @since 1.0
  */
 public class SimpleJsonReader extends AbstractJsonContentGenerator implements JsonReader {
+  /** The UTF-8 character set. */
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  
+  /** The parser. */
+  private final JSONParser parser = new JSONParser();
+  
+  /** The content handler. */
+  private final ContentHandler contentHandler = this.createContentHandler();
+  
+  /** The symbol table of member names, or <code>null</code>. */
+  private JsonSymbolTable symbolTable;
+  
+  /**
+   * Retrieve the symbol table of member names.
+   *
+   * @return The symbol table, or <code>null</code>.
+   * @see #setSymbolTable(JsonSymbolTable)
+   */
+  public JsonSymbolTable getSymbolTable() {
+    return this.symbolTable;
+  }
+  
+  /**
+   * Set the symbol table of member names.
+   * <p>
+   * If the symbol table is not <code>null</code>, each member name is
+   * replaced by its canonical string from the symbol table before it is
+   * reported. The lexer still creates a string for each member name, so
+   * unlike the {@link org.kjots.json.content.io.fast.FastJsonReader}, this
+   * reader does not avoid the allocation of the member names, but the member
+   * names that are retained by the JSON content handler are shared.
+   *
+   * @param symbolTable The symbol table, or <code>null</code>.
+   */
+  public void setSymbolTable(JsonSymbolTable symbolTable) {
+    this.symbolTable = symbolTable;
+  }
+  
   /**
    * Parse the given JSON text.
    * 
@@ -49,11 +100,14 @@ public class SimpleJsonReader extends AbstractJsonContentGenerator implements Js
   public void parse(String jsonText)
     throws JsonReaderException {
     try {
-      new JSONParser().parse(jsonText, this.createContentHandler());
+      this.parser.parse(jsonText, this.contentHandler);
     }
     catch (ParseException pe) {
       throw new JsonReaderException(pe);
     }
+    finally {
+      this.release();
+    }
   }
   
   /**
@@ -67,11 +121,71 @@ public class SimpleJsonReader extends AbstractJsonContentGenerator implements Js
   public void parse(Reader reader)
     throws IOException, JsonReaderException {
     try {
-      new JSONParser().parse(reader, this.createContentHandler());
+      this.parser.parse(reader, this.contentHandler);
     }
     catch (ParseException pe) {
       throw new JsonReaderException(pe);
     }
+    finally {
+      this.release();
+    }
+  }
+  
+  /**
+   * Parse the given UTF-8 encoded JSON text.
+   * <p>
+   * The JSON text is decoded into a string before it is parsed.
+   * 
+   * @param jsonText The UTF-8 encoded JSON text.
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(byte[] jsonText)
+    throws JsonReaderException {
+    try {
+      this.parse(new String(jsonText, "UTF-8"));
+    }
+    catch (UnsupportedEncodingException uee) {
+      // Actually it will never happen.
+      throw new JsonReaderException(uee);
+    }
+  }
+  
+  /**
+   * Parse the UTF-8 encoded JSON text remaining in the given byte buffer.
+   * <p>
+   * The JSON text is decoded into a string before it is parsed.  The position
+   * of the given byte buffer is not changed.
+   * 
+   * @param byteBuffer The byte buffer.
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(ByteBuffer byteBuffer)
+    throws JsonReaderException {
+    this.parse(UTF_8.decode(byteBuffer.duplicate()).toString());
+  }
+  
+  /**
+   * Parse the UTF-8 encoded JSON text provided by the given input stream.
+   * <p>
+   * The JSON text is decoded by an {@link InputStreamReader} as it is parsed.
+   * 
+   * @param inputStream The input stream.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  @Override
+  public void parse(InputStream inputStream)
+    throws IOException, JsonReaderException {
+    this.parse(new InputStreamReader(inputStream, UTF_8));
+  }
+  
+  /**
+   * Release the input of the parser, retaining its buffers.
+   */
+  private void release() {
+    this.parser.reset(null);
   }
   
   /**
@@ -107,7 +221,9 @@ public class SimpleJsonReader extends AbstractJsonContentGenerator implements Js
 
       @Override
       public boolean startObjectEntry(String key) {
-        SimpleJsonReader.this.jsonContentHandler.memberName(key);
+        JsonSymbolTable symbolTable = SimpleJsonReader.this.symbolTable;
+        
+        SimpleJsonReader.this.jsonContentHandler.memberName(symbolTable != null ? symbolTable.get(key) : key);
         
         return true;
       }
@@ -134,27 +250,7 @@ public class SimpleJsonReader extends AbstractJsonContentGenerator implements Js
       @Override
       public boolean primitive(Object value) {
         if (value instanceof BigDecimal) {
-          BigDecimal numericValue = (BigDecimal)value;
-          
-          // Attempt to coerce the value into an integer
-          try {
-            value = Integer.valueOf(numericValue.intValueExact());
-          }
-          catch (ArithmeticException ae1) {
-            // Attempt to coerce the value into a long
-            try {
-              value = Long.valueOf(numericValue.longValueExact());
-            }
-            catch (ArithmeticException ae2) {
-              // Attempt to coerce the value into a BigInteger
-              try {
-                value = numericValue.toBigIntegerExact();
-              }
-              catch (ArithmeticException ae3) {
-                // Ignore this exception - value will remain a BigDecimal
-              }
-            }
-          }
+          value = JsonNumberUtil.narrow((BigDecimal)value);
         }
         
         SimpleJsonReader.this.jsonContentHandler.primitive(value);
@@ -7,7 +7,6 @@ package org.kjots.json.content.rebase.org.json.simple.parser;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
-import java.util.LinkedList;
 
 
 /**
@@ -16,7 +15,7 @@ import java.util.LinkedList;
  * Modified for use in <em>JSON Toolkit</em> by <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>:
  * <ul>
  * <li>Rebased into <code>org.kjots.json.content.rebase.org.json.simple.parser</code></li>
- * <li>Added generic type information to <code>handlerStatusStack</code> field</li>
+ * <li>Replaced the <code>handlerStatusStack</code> linked list with an array of status values, retained across parses</li>
  * <li>Removed <code>ContainerFactory</code> functionality</li>
  * </ul>
  * 
@@ -32,16 +31,29 @@ public class JSONParser {
 	public static final int S_END=6;
 	public static final int S_IN_ERROR=-1;
 	
-	private LinkedList<Integer> handlerStatusStack;
+	private int[] handlerStatusStack = new int[16];
+	private int handlerStatusDepth = -1;
 	private Yylex lexer = new Yylex((Reader)null);
 	private Yytoken token = null;
 	private int status = S_INIT;
 	
-	private int peekStatus(LinkedList<Integer> statusStack){
-		if(statusStack.size()==0)
+	private int peekStatus(){
+		if(handlerStatusDepth<=0)
 			return -1;
-		Integer status=(Integer)statusStack.getFirst();
-		return status.intValue();
+		return handlerStatusStack[handlerStatusDepth-1];
+	}
+	
+	private void pushStatus(int status){
+		if(handlerStatusDepth==handlerStatusStack.length){
+			int[] newStack=new int[handlerStatusStack.length*2];
+			System.arraycopy(handlerStatusStack, 0, newStack, 0, handlerStatusDepth);
+			handlerStatusStack=newStack;
+		}
+		handlerStatusStack[handlerStatusDepth++]=status;
+	}
+	
+	private void popStatus(){
+		handlerStatusDepth--;
 	}
 	
     /**
@@ -51,7 +63,7 @@ public class JSONParser {
     public void reset(){
         token = null;
         status = S_INIT;
-        handlerStatusStack = null;
+        handlerStatusDepth = -1;
     }
     
     /**
@@ -117,18 +129,16 @@ public class JSONParser {
 	public void parse(Reader in, ContentHandler contentHandler, boolean isResume) throws IOException, ParseException{
 		if(!isResume){
 			reset(in);
-			handlerStatusStack = new LinkedList<Integer>();
+			handlerStatusDepth = 0;
 		}
 		else{
-			if(handlerStatusStack == null){
+			if(handlerStatusDepth < 0){
 				isResume = false;
 				reset(in);
-				handlerStatusStack = new LinkedList<Integer>();
+				handlerStatusDepth = 0;
 			}
 		}
 		
-		LinkedList<Integer> statusStack = handlerStatusStack;	
-		
 		try{
 			do{
 				switch(status){
@@ -138,19 +148,19 @@ public class JSONParser {
 					switch(token.type){
 					case Yytoken.TYPE_VALUE:
 						status=S_IN_FINISHED_VALUE;
-						statusStack.addFirst(new Integer(status));
+						pushStatus(status);
 						if(!contentHandler.primitive(token.value))
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_BRACE:
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						pushStatus(status);
 						if(!contentHandler.startObject())
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						pushStatus(status);
 						if(!contentHandler.startArray())
 							return;
 						break;
@@ -180,7 +190,7 @@ public class JSONParser {
 						if(token.value instanceof String){
 							String key=(String)token.value;
 							status=S_PASSED_PAIR_KEY;
-							statusStack.addFirst(new Integer(status));
+							pushStatus(status);
 							if(!contentHandler.startObjectEntry(key))
 								return;
 						}
@@ -189,9 +199,9 @@ public class JSONParser {
 						}
 						break;
 					case Yytoken.TYPE_RIGHT_BRACE:
-						if(statusStack.size()>1){
-							statusStack.removeFirst();
-							status=peekStatus(statusStack);
+						if(handlerStatusDepth>1){
+							popStatus();
+							status=peekStatus();
 						}
 						else{
 							status=S_IN_FINISHED_VALUE;
@@ -211,26 +221,26 @@ public class JSONParser {
 					case Yytoken.TYPE_COLON:
 						break;
 					case Yytoken.TYPE_VALUE:
-						statusStack.removeFirst();
-						status=peekStatus(statusStack);
+						popStatus();
+						status=peekStatus();
 						if(!contentHandler.primitive(token.value))
 							return;
 						if(!contentHandler.endObjectEntry())
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
-						statusStack.removeFirst();
-						statusStack.addFirst(new Integer(S_IN_PAIR_VALUE));
+						popStatus();
+						pushStatus(S_IN_PAIR_VALUE);
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						pushStatus(status);
 						if(!contentHandler.startArray())
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_BRACE:
-						statusStack.removeFirst();
-						statusStack.addFirst(new Integer(S_IN_PAIR_VALUE));
+						popStatus();
+						pushStatus(S_IN_PAIR_VALUE);
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						pushStatus(status);
 						if(!contentHandler.startObject())
 							return;
 						break;
@@ -244,8 +254,8 @@ public class JSONParser {
 					 * S_IN_PAIR_VALUE is just a marker to indicate the end of an object entry, it doesn't proccess any token,
 					 * therefore delay consuming token until next round.
 					 */
-					statusStack.removeFirst();
-					status = peekStatus(statusStack);
+					popStatus();
+					status = peekStatus();
 					if(!contentHandler.endObjectEntry())
 						return;
 					break;
@@ -260,9 +270,9 @@ public class JSONParser {
 							return;
 						break;
 					case Yytoken.TYPE_RIGHT_SQUARE:
-						if(statusStack.size()>1){
-							statusStack.removeFirst();
-							status=peekStatus(statusStack);
+						if(handlerStatusDepth>1){
+							popStatus();
+							status=peekStatus();
 						}
 						else{
 							status=S_IN_FINISHED_VALUE;
@@ -272,13 +282,13 @@ public class JSONParser {
 						break;
 					case Yytoken.TYPE_LEFT_BRACE:
 						status=S_IN_OBJECT;
-						statusStack.addFirst(new Integer(status));
+						pushStatus(status);
 						if(!contentHandler.startObject())
 							return;
 						break;
 					case Yytoken.TYPE_LEFT_SQUARE:
 						status=S_IN_ARRAY;
-						statusStack.addFirst(new Integer(status));
+						pushStatus(status);
 						if(!contentHandler.startArray())
 							return;
 						break;
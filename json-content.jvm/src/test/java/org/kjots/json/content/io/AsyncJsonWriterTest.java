@@ -0,0 +1,265 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.kjots.json.content.shared.JsonContentHandler;
+
+/**
+ * Asynchronous JSON Writer Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class AsyncJsonWriterTest {
+  /**
+   * Non-Blocking Byte Channel.
+   * <p>
+   * This channel accepts at most a few bytes per call, and no bytes at all on
+   * every other call, as a channel in non-blocking mode with a full send
+   * buffer does.
+   */
+  private static class NonBlockingByteChannel implements WritableByteChannel {
+    /** The output stream. */
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    /** The number of writes. */
+    private int writeCount;
+
+    /**
+     * Write the bytes of the given buffer.
+     *
+     * @param src The buffer.
+     * @return The number of bytes written.
+     */
+    @Override
+    public int write(ByteBuffer src) {
+      int count = this.writeCount++ % 2 == 0 ? 0 : Math.min(src.remaining(), 7);
+
+      for (int i = 0; i < count; i++) {
+        this.outputStream.write(src.get());
+      }
+
+      return count;
+    }
+
+    /**
+     * Determine if the channel is open.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    /**
+     * Close the channel.
+     */
+    @Override
+    public void close() {
+    }
+  }
+
+  /**
+   * Counting Listener.
+   */
+  private static class CountingListener implements AsyncJsonWriter.Listener {
+    /** The number of queued buffer notifications. */
+    private int bufferQueuedCount;
+
+    /** The number of writable notifications. */
+    private int writableCount;
+
+    /**
+     * Handle a buffer that has been queued while the queue was empty.
+     *
+     * @param asyncJsonWriter The asynchronous JSON writer.
+     */
+    @Override
+    public void bufferQueued(AsyncJsonWriter asyncJsonWriter) {
+      this.bufferQueuedCount++;
+    }
+
+    /**
+     * Handle a writer that has become ready after it was not ready.
+     *
+     * @param asyncJsonWriter The asynchronous JSON writer.
+     */
+    @Override
+    public void writable(AsyncJsonWriter asyncJsonWriter) {
+      this.writableCount++;
+    }
+  }
+
+  /** The number of records. */
+  private static final int RECORD_COUNT = 200;
+
+  /**
+   * Test the consumption of the buffers of an asynchronous JSON writer by
+   * polling and releasing them.
+   * <p>
+   * This test asserts that a producer that pauses while the writer is not
+   * ready never causes more buffers than the buffer count to be allocated,
+   * that the listener is notified when the writer becomes writable again, and
+   * that the consumed bytes are the JSON text written by the JSON writer.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testPollAndRelease()
+    throws Exception {
+    AsyncJsonWriter asyncJsonWriter = new AsyncJsonWriter(64, 3);
+    CountingListener countingListener = new CountingListener();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Map<ByteBuffer, Boolean> buffers = new IdentityHashMap<ByteBuffer, Boolean>();
+    int pauseCount = 0;
+
+    asyncJsonWriter.setListener(countingListener);
+
+    asyncJsonWriter.startJson();
+    asyncJsonWriter.startArray();
+
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      if (!asyncJsonWriter.isReady()) {
+        pauseCount++;
+
+        for (ByteBuffer buffer = asyncJsonWriter.poll(); buffer != null; buffer = asyncJsonWriter.poll()) {
+          buffers.put(buffer, Boolean.TRUE);
+
+          outputStream.write(buffer.array(), buffer.position(), buffer.remaining());
+
+          asyncJsonWriter.release(buffer);
+        }
+      }
+
+      writeRecord(asyncJsonWriter, i);
+    }
+
+    int bufferCount = buffers.size();
+
+    asyncJsonWriter.endArray();
+    asyncJsonWriter.endJson();
+
+    for (ByteBuffer buffer = asyncJsonWriter.poll(); buffer != null; buffer = asyncJsonWriter.poll()) {
+      buffers.put(buffer, Boolean.TRUE);
+
+      outputStream.write(buffer.array(), buffer.position(), buffer.remaining());
+
+      asyncJsonWriter.release(buffer);
+    }
+
+    assertFalse(asyncJsonWriter.checkError());
+    assertTrue(pauseCount > 0);
+    assertTrue(bufferCount <= 3);
+    assertTrue(countingListener.writableCount >= pauseCount);
+    assertTrue(countingListener.bufferQueuedCount > 0);
+    assertEquals(writeRecords(), outputStream.toString("UTF-8"));
+  }
+
+  /**
+   * Test the writing of the buffers of an asynchronous JSON writer to a
+   * channel in non-blocking mode.
+   * <p>
+   * This test asserts that the buffers that are not accepted by the channel
+   * remain queued until the channel is writable again, and that the written
+   * bytes are the JSON text written by the JSON writer.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testWriteTo()
+    throws Exception {
+    AsyncJsonWriter asyncJsonWriter = new AsyncJsonWriter(32, 2);
+    NonBlockingByteChannel channel = new NonBlockingByteChannel();
+    int incompleteWriteCount = 0;
+
+    asyncJsonWriter.startJson();
+    asyncJsonWriter.startArray();
+
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      while (!asyncJsonWriter.isReady()) {
+        if (!asyncJsonWriter.writeTo(channel)) {
+          incompleteWriteCount++;
+        }
+      }
+
+      writeRecord(asyncJsonWriter, i);
+    }
+
+    asyncJsonWriter.endArray();
+    asyncJsonWriter.endJson();
+
+    while (!asyncJsonWriter.writeTo(channel)) {
+      incompleteWriteCount++;
+    }
+
+    assertTrue(incompleteWriteCount > 0);
+    assertTrue(asyncJsonWriter.isReady());
+    assertEquals(writeRecords(), channel.outputStream.toString("UTF-8"));
+  }
+
+  /**
+   * Write the records with the JSON writer.
+   *
+   * @return The JSON text.
+   */
+  private static String writeRecords() {
+    StringWriter stringWriter = new StringWriter();
+    JsonWriter jsonWriter = new JsonWriter(stringWriter);
+
+    jsonWriter.startJson();
+    jsonWriter.startArray();
+
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      writeRecord(jsonWriter, i);
+    }
+
+    jsonWriter.endArray();
+    jsonWriter.endJson();
+
+    return stringWriter.toString();
+  }
+
+  /**
+   * Write the record with the given index to the given JSON content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @param index The index of the record.
+   */
+  private static void writeRecord(JsonContentHandler jsonContentHandler, int index) {
+    jsonContentHandler.startObject();
+    jsonContentHandler.memberName("id");
+    jsonContentHandler.primitive(index);
+    jsonContentHandler.memberName("name");
+    jsonContentHandler.primitive("Café " + index);
+    jsonContentHandler.endObject();
+  }
+}
@@ -0,0 +1,296 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.fail;
+
+import java.io.StringWriter;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.kjots.json.content.io.fast.FastJsonReader;
+import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+/**
+ * Batching JSON Content Channel Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class BatchingJsonContentChannelTest {
+  /**
+   * Failing JSON Content Recorder.
+   * <p>
+   * This JSON content recorder fails when it handles the end of a JSON
+   * object for the given number of times.
+   */
+  private static class FailingJsonContentRecorder extends JsonContentRecorder {
+    /** The number of JSON objects to handle before failing. */
+    private int objectCount;
+
+    /**
+     * Construct a new Failing JSON Content Recorder.
+     *
+     * @param objectCount The number of JSON objects to handle before failing.
+     */
+    private FailingJsonContentRecorder(int objectCount) {
+      this.objectCount = objectCount;
+    }
+
+    /**
+     * Handle the end of a JSON object.
+     */
+    @Override
+    public void endObject() {
+      if (--this.objectCount == 0) {
+        throw new IllegalStateException("Failure");
+      }
+
+      super.endObject();
+    }
+  }
+
+  /** The number of records. */
+  private static final int RECORD_COUNT = 500;
+
+  /** The executor service. */
+  private ExecutorService executorService;
+
+  /**
+   * Create the executor service.
+   */
+  @Before
+  public void setUp() {
+    this.executorService = Executors.newFixedThreadPool(2);
+  }
+
+  /**
+   * Shut down the executor service.
+   */
+  @After
+  public void tearDown() {
+    this.executorService.shutdownNow();
+  }
+
+  /**
+   * Test the dispatching of the events of a single parse to several JSON
+   * content handlers on other threads.
+   * <p>
+   * This test asserts that a JSON content recorder and a JSON writer fed by
+   * a batching JSON content channel with few small batches receive the same
+   * events as when they are fed directly by a reader, across several JSON
+   * texts.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testDispatch()
+    throws Exception {
+    String jsonText = createJsonText();
+
+    JsonContentRecorder expectedRecorder = new JsonContentRecorder();
+    StringWriter expectedWriter = new StringWriter();
+
+    parse(jsonText, expectedRecorder);
+    parse(jsonText, new JsonWriter(expectedWriter));
+
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+    StringWriter stringWriter = new StringWriter();
+    BatchingJsonContentChannel batchingJsonContentChannel = new BatchingJsonContentChannel(this.executorService, 16, 2, jsonContentRecorder, new JsonWriter(stringWriter));
+    batchingJsonContentChannel.setSymbolTable(new JsonSymbolTable());
+
+    for (int i = 0; i < 3; i++) {
+      parse(jsonText, batchingJsonContentChannel);
+    }
+
+    batchingJsonContentChannel.await();
+
+    assertEquals(3 * expectedRecorder.getEvents().size(), jsonContentRecorder.getEvents().size());
+    assertEquals(expectedRecorder.getEvents(), jsonContentRecorder.getEvents().subList(0, expectedRecorder.getEvents().size()));
+    assertEquals(expectedRecorder.getEvents(), jsonContentRecorder.getEvents().subList(2 * expectedRecorder.getEvents().size(), jsonContentRecorder.getEvents().size()));
+    assertEquals(expectedWriter.toString() + expectedWriter + expectedWriter, stringWriter.toString());
+  }
+
+  /**
+   * Test the failure of a JSON content handler fed by a batching JSON content
+   * channel.
+   * <p>
+   * This test asserts that the failure of a JSON content handler does not
+   * reach the reader, does not prevent the other JSON content handler from
+   * receiving every event, and is thrown by
+   * {@link BatchingJsonContentChannel#await()}.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testFailure()
+    throws Exception {
+    String jsonText = createJsonText();
+
+    JsonContentRecorder expectedRecorder = new JsonContentRecorder();
+
+    parse(jsonText, expectedRecorder);
+
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+    FailingJsonContentRecorder failingJsonContentRecorder = new FailingJsonContentRecorder(10);
+    BatchingJsonContentChannel batchingJsonContentChannel = new BatchingJsonContentChannel(this.executorService, 32, 2, failingJsonContentRecorder, jsonContentRecorder);
+
+    parse(jsonText, batchingJsonContentChannel);
+
+    try {
+      batchingJsonContentChannel.await();
+
+      fail("ExecutionException expected");
+    }
+    catch (ExecutionException ee) {
+      assertSame(IllegalStateException.class, ee.getCause().getClass());
+    }
+
+    assertEquals(expectedRecorder.getEvents(), jsonContentRecorder.getEvents());
+  }
+
+  /**
+   * Test the rejection of the tasks of a batching JSON content channel by
+   * its executor.
+   * <p>
+   * This test asserts that the rejection of every task neither blocks the
+   * reader once the batches are all published nor makes
+   * {@link BatchingJsonContentChannel#await()} wait forever, and that the
+   * {@link RejectedExecutionException} is thrown by
+   * {@link BatchingJsonContentChannel#await()}.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testRejectedExecution()
+    throws Exception {
+    Executor rejectingExecutor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        throw new RejectedExecutionException();
+      }
+    };
+
+    BatchingJsonContentChannel batchingJsonContentChannel = new BatchingJsonContentChannel(rejectingExecutor, 32, 2, new JsonContentRecorder());
+
+    parse(createJsonText(), batchingJsonContentChannel);
+
+    try {
+      batchingJsonContentChannel.await();
+
+      fail("ExecutionException expected");
+    }
+    catch (ExecutionException ee) {
+      assertSame(RejectedExecutionException.class, ee.getCause().getClass());
+    }
+  }
+
+  /**
+   * Test the dispatching of JSON primitives with number values of types
+   * other than those produced by a reader.
+   * <p>
+   * This test asserts that the {@link Float}, {@link Short} and {@link Byte}
+   * values that a JSON object may hold are written by a JSON writer fed by a
+   * batching JSON content channel as they are written by a JSON writer fed
+   * directly.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testNumberTypes()
+    throws Exception {
+    StringWriter expectedWriter = new StringWriter();
+
+    writeNumbers(new JsonWriter(expectedWriter));
+
+    StringWriter stringWriter = new StringWriter();
+    BatchingJsonContentChannel batchingJsonContentChannel = new BatchingJsonContentChannel(this.executorService, new JsonWriter(stringWriter));
+
+    writeNumbers(batchingJsonContentChannel);
+
+    batchingJsonContentChannel.await();
+
+    assertEquals("[1.5,0.1,-3.4028235E38,3,-7]", expectedWriter.toString());
+    assertEquals(expectedWriter.toString(), stringWriter.toString());
+  }
+
+  /**
+   * Write the numbers of various types to the given JSON content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   */
+  private static void writeNumbers(JsonContentHandler jsonContentHandler) {
+    jsonContentHandler.startJson();
+    jsonContentHandler.startArray();
+    jsonContentHandler.primitive(Float.valueOf(1.5f));
+    jsonContentHandler.primitive(Float.valueOf(0.1f));
+    jsonContentHandler.primitive(Float.valueOf(-Float.MAX_VALUE));
+    jsonContentHandler.primitive(Short.valueOf((short)3));
+    jsonContentHandler.primitive(Byte.valueOf((byte)-7));
+    jsonContentHandler.endArray();
+    jsonContentHandler.endJson();
+  }
+
+  /**
+   * Parse the given JSON text with the given JSON content handler.
+   *
+   * @param jsonText The JSON text.
+   * @param jsonContentHandler The JSON content handler.
+   * @throws Exception
+   */
+  private static void parse(String jsonText, JsonContentHandler jsonContentHandler)
+    throws Exception {
+    FastJsonReader fastJsonReader = new FastJsonReader();
+
+    fastJsonReader.setJsonContentHandler(jsonContentHandler);
+    fastJsonReader.parse(jsonText);
+  }
+
+  /**
+   * Create the JSON text of the records.
+   *
+   * @return The JSON text.
+   */
+  private static String createJsonText() {
+    StringBuilder jsonText = new StringBuilder("[");
+
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      if (i > 0) {
+        jsonText.append(',');
+      }
+
+      jsonText.append("{\"id\":").append(i)
+        .append(",\"name\":\"Caf\\u00E9 ").append(i)
+        .append("\",\"price\":").append(i).append(".25")
+        .append(",\"total\":").append(i + 1).append("000000000000000000000")
+        .append(",\"tags\":[true,false,null]}");
+    }
+
+    return jsonText.append(']').toString();
+  }
+}
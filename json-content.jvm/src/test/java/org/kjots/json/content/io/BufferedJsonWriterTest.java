@@ -0,0 +1,168 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.RoundingMode;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.fast.FastJsonReader;
+import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.text.JsonTextGenerator.EscapeProfile;
+
+/**
+ * Buffered JSON Writer Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class BufferedJsonWriterTest {
+  /**
+   * Test the writing of the corpus.
+   * <p>
+   * This test asserts that the {@link BufferedJsonWriter} produces exactly
+   * the same JSON text as the {@link JsonWriter} for each JSON text of the
+   * corpus, with and without formatting, with and without a maximum number
+   * of decimal places, and with each buffer size.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testWrite()
+    throws Exception {
+    for (String jsonText : JsonContentTestSupport.createCorpus()) {
+      for (boolean format : new boolean[] { false, true }) {
+        for (int maxDecimalPlaces : new int[] { -1, 0, 2 }) {
+          StringWriter expectedWriter = new StringWriter();
+          JsonWriter jsonWriter = new JsonWriter(expectedWriter);
+
+          jsonWriter.setFormat(format);
+          jsonWriter.setMaxDecimalPlaces(maxDecimalPlaces);
+          jsonWriter.setRoundingMode(RoundingMode.HALF_EVEN);
+
+          write(jsonWriter, jsonText);
+
+          for (int bufferSize : JsonContentTestSupport.BUFFER_SIZES) {
+            StringWriter actualWriter = new StringWriter();
+            BufferedJsonWriter bufferedJsonWriter = new BufferedJsonWriter(actualWriter, bufferSize);
+
+            bufferedJsonWriter.setFormat(format);
+            bufferedJsonWriter.setMaxDecimalPlaces(maxDecimalPlaces);
+            bufferedJsonWriter.setRoundingMode(RoundingMode.HALF_EVEN);
+
+            write(bufferedJsonWriter, jsonText);
+
+            assertEquals(bufferSize + ": " + jsonText, expectedWriter.toString(), actualWriter.toString());
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Test the writing with each escape profile.
+   * <p>
+   * This test asserts that the {@link BufferedJsonWriter} produces exactly
+   * the same JSON text as the {@link JsonWriter}
+   * with each escape profile.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testEscapeProfiles()
+    throws Exception {
+    for (EscapeProfile escapeProfile : EscapeProfile.values()) {
+      StringWriter expectedWriter = new StringWriter();
+      JsonWriter jsonWriter = new JsonWriter(expectedWriter);
+
+      jsonWriter.setEscapeProfile(escapeProfile);
+
+      write(jsonWriter, JsonContentTestSupport.ESCAPE_JSON_TEXT);
+
+      StringWriter actualWriter = new StringWriter();
+
+      BufferedJsonWriter bufferedJsonWriter = new BufferedJsonWriter(actualWriter, 7);
+
+      bufferedJsonWriter.setEscapeProfile(escapeProfile);
+
+      write(bufferedJsonWriter, JsonContentTestSupport.ESCAPE_JSON_TEXT);
+
+      assertEquals(escapeProfile.name(), expectedWriter.toString(), actualWriter.toString());
+    }
+  }
+
+  /**
+   * Test the error state.
+   * <p>
+   * This test asserts that an {@link IOException} thrown by the underlying
+   * writer is reported by {@link BufferedJsonWriter#checkError()}.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testCheckError()
+    throws Exception {
+    BufferedJsonWriter bufferedJsonWriter = new BufferedJsonWriter(new StringWriter());
+
+    write(bufferedJsonWriter, "[1]");
+
+    assertFalse(bufferedJsonWriter.checkError());
+
+    bufferedJsonWriter = new BufferedJsonWriter(new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len)
+        throws IOException {
+        throw new IOException();
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    });
+
+    write(bufferedJsonWriter, "[1]");
+
+    assertTrue(bufferedJsonWriter.checkError());
+  }
+
+  /**
+   * Write the given JSON text to the given JSON content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @param jsonText The JSON text.
+   * @throws JsonReaderException
+   */
+  private static void write(JsonContentHandler jsonContentHandler, String jsonText)
+    throws JsonReaderException {
+    FastJsonReader fastJsonReader = new FastJsonReader();
+
+    fastJsonReader.setJsonContentHandler(jsonContentHandler);
+    fastJsonReader.parse(jsonText);
+  }
+}
@@ -0,0 +1,55 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import org.kjots.json.content.io.fast.FastJsonCursorTest;
+import org.kjots.json.content.io.fast.FastJsonParallelReaderTest;
+import org.kjots.json.content.io.fast.FastJsonPushReaderTest;
+import org.kjots.json.content.io.fast.FastJsonReaderNumberTest;
+import org.kjots.json.content.io.fast.FastJsonReaderParityTest;
+import org.kjots.json.content.io.fast.FastJsonReaderSequenceTest;
+import org.kjots.json.content.io.fast.FastJsonReformatterTest;
+
+/**
+ * JSON Content JVM Test Suite.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+@RunWith(Suite.class)
+@SuiteClasses({
+  FastJsonReaderParityTest.class,
+  FastJsonReaderNumberTest.class,
+  FastJsonPushReaderTest.class,
+  FastJsonCursorTest.class,
+  FastJsonReaderSequenceTest.class,
+  JsonReaderPoolTest.class,
+  FastJsonParallelReaderTest.class,
+  BufferedJsonWriterTest.class,
+  Utf8JsonWriterTest.class,
+  FastJsonReformatterTest.class,
+  AsyncJsonWriterTest.class,
+  Utf8ChannelSinkTest.class,
+  BatchingJsonContentChannelTest.class
+})
+public class JsonContentJvmTestSuite {
+}
@@ -0,0 +1,115 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.kjots.json.content.shared.JsonContentHandler;
+
+/**
+ * JSON Content Recorder.
+ * <p>
+ * This class records the JSON content events it receives as strings,
+ * including the type of the value of each JSON primitive, so that the events
+ * produced by different JSON content generators may be compared.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonContentRecorder implements JsonContentHandler {
+  /** The events. */
+  private final List<String> events = new ArrayList<String>();
+
+  /**
+   * Handle the start of the JSON content.
+   */
+  @Override
+  public void startJson() {
+    this.events.add("startJson");
+  }
+
+  /**
+   * Handle the end of the JSON content.
+   */
+  @Override
+  public void endJson() {
+    this.events.add("endJson");
+  }
+
+  /**
+   * Handle the start of a JSON object.
+   */
+  @Override
+  public void startObject() {
+    this.events.add("startObject");
+  }
+
+  /**
+   * Handle the end of a JSON object.
+   */
+  @Override
+  public void endObject() {
+    this.events.add("endObject");
+  }
+
+  /**
+   * Handle the start of a JSON array.
+   */
+  @Override
+  public void startArray() {
+    this.events.add("startArray");
+  }
+
+  /**
+   * Handle the end of a JSON array.
+   */
+  @Override
+  public void endArray() {
+    this.events.add("endArray");
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(String name) {
+    this.events.add("memberName(" + name + ")");
+  }
+
+  /**
+   * Handle a JSON primitive.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitive(Object value) {
+    this.events.add("primitive(" + (value != null ? value.getClass().getSimpleName() + ":" + value : null) + ")");
+  }
+
+  /**
+   * Retrieve the events.
+   *
+   * @return The events.
+   */
+  public List<String> getEvents() {
+    return this.events;
+  }
+}
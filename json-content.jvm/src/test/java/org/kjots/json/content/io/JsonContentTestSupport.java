@@ -0,0 +1,153 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.kjots.json.content.io.fast.FastJsonReaderParityTest;
+
+/**
+ * JSON Content Test Support.
+ * <p>
+ * This class holds the corpus of the JSON writer tests and the helpers that
+ * record the JSON content events produced by a JSON reader, so that the tests
+ * of the readers and the writers share a single copy of each.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonContentTestSupport {
+  /** The buffer sizes of the JSON writers. */
+  public static final int[] BUFFER_SIZES = { 6, 7, 64, 8192 };
+
+  /** The JSON text that exercises the escape profiles. */
+  public static final String ESCAPE_JSON_TEXT = "{\"</script>\" : [\"a<b>&'c\", \"\\u2028\\u2029\\u007f\", \"caf\\u00e9 \\u20ac \\ud83d\\ude00 \\udc00\", \"\\u0001\\n\\\"\\\\\"]}";
+
+  /** The additional JSON texts of the corpus. */
+  private static final String[] JSON_TEXTS = {
+    "[\"\\u0000\\u001f\\b\\f\\n\\r\\t\\\"\\\\/\", \"\\ud83d\\ude00 caf\\u00e9 \\u20ac \\u07ff \\u0800\", \"\\udc00\"]",
+    "{\"a\\tb\" : [1.005, -2.5, 3.14159, 1e-7, 12345678901234567890.125], \"\" : {}}",
+    "{\"na\\u00efve\" : [1.005, -2.5, 3.14159, 1e-7, 12345678901234567890.125], \"\" : {}}",
+    "[[], {}, [[[]]], {\"a\" : {\"b\" : {\"c\" : [true, false, null]}}}]"
+  };
+
+  /**
+   * Create the corpus of the JSON writer tests.
+   * <p>
+   * The corpus consists of the JSON texts of the corpus of the parity test
+   * that have an object or array at the root, since the JSON text generator
+   * does not support primitives at the root, along with JSON texts that
+   * exercise the escaping and encoding of strings, the rounding of numbers
+   * and the nesting of composite values, and a JSON text with a string that
+   * is longer than the largest buffer.
+   *
+   * @return The corpus.
+   */
+  public static List<String> createCorpus() {
+    List<String> corpus = new ArrayList<String>();
+    for (String jsonText : FastJsonReaderParityTest.CORPUS) {
+      String trimmedJsonText = jsonText.trim();
+
+      if (trimmedJsonText.startsWith("{") || trimmedJsonText.startsWith("[")) {
+        corpus.add(jsonText);
+      }
+    }
+
+    corpus.addAll(Arrays.asList(JSON_TEXTS));
+    corpus.add(createLongJsonText());
+
+    return corpus;
+  }
+
+  /**
+   * Create a JSON text with a string that is longer than the largest buffer.
+   *
+   * @return The JSON text.
+   */
+  public static String createLongJsonText() {
+    StringBuilder stringBuilder = new StringBuilder("[\"");
+    for (int i = 0; i < 20000; i++) {
+      stringBuilder.append(i % 97 == 0 ? "\\n" : i % 89 == 0 ? "\u00e9" : i % 83 == 0 ? "\u20ac" : Character.toString((char)('a' + i % 26)));
+    }
+    stringBuilder.append("\"]");
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Parse the given JSON text with the given JSON reader.
+   *
+   * @param jsonReader The JSON reader.
+   * @param jsonText The JSON text.
+   * @return The recorded events.
+   * @throws JsonReaderException
+   */
+  public static List<String> parse(JsonReader jsonReader, String jsonText)
+    throws JsonReaderException {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    jsonReader.setJsonContentHandler(jsonContentRecorder);
+    jsonReader.parse(jsonText);
+
+    return jsonContentRecorder.getEvents();
+  }
+
+  /**
+   * Parse the JSON text provided by the given reader with the given JSON
+   * reader.
+   *
+   * @param jsonReader The JSON reader.
+   * @param reader The reader.
+   * @return The recorded events.
+   * @throws IOException
+   * @throws JsonReaderException
+   */
+  public static List<String> parse(JsonReader jsonReader, Reader reader)
+    throws IOException, JsonReaderException {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    jsonReader.setJsonContentHandler(jsonContentRecorder);
+    jsonReader.parse(reader);
+
+    return jsonContentRecorder.getEvents();
+  }
+
+  /**
+   * Parse the UTF-8 encoded JSON text remaining in the given byte buffer with
+   * the given JSON reader.
+   *
+   * @param jsonReader The JSON reader.
+   * @param byteBuffer The byte buffer.
+   * @return The recorded events.
+   * @throws JsonReaderException
+   */
+  public static List<String> parse(JsonReader jsonReader, ByteBuffer byteBuffer)
+    throws JsonReaderException {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    jsonReader.setJsonContentHandler(jsonContentRecorder);
+    jsonReader.parse(byteBuffer);
+
+    return jsonContentRecorder.getEvents();
+  }
+}
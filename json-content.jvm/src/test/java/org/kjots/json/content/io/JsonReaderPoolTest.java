@@ -0,0 +1,179 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.fail;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.fast.FastJsonReader;
+import org.kjots.json.content.io.fast.FastJsonReader.NumberPolicy;
+import org.kjots.json.content.io.fast.FastJsonReaderParityTest;
+import org.kjots.json.content.io.fast.FastJsonReaderPool;
+import org.kjots.json.content.io.simple.SimpleJsonReader;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+/**
+ * JSON Reader Pool Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonReaderPoolTest {
+  /**
+   * Test the acquisition of a released JSON reader.
+   * <p>
+   * This test asserts that a released JSON reader is returned by the next
+   * acquisition, with its JSON content handler cleared.
+   */
+  @Test
+  public void testAcquireReleased() {
+    JsonReaderPool<FastJsonReader> jsonReaderPool = createFastJsonReaderPool(JsonReaderPool.DEFAULT_MAXIMUM_IDLE);
+
+    FastJsonReader jsonReader = jsonReaderPool.acquire();
+
+    jsonReader.setJsonContentHandler(new JsonContentRecorder());
+
+    jsonReaderPool.release(jsonReader);
+
+    assertEquals(1, jsonReaderPool.getIdleCount());
+
+    FastJsonReader reusedJsonReader = jsonReaderPool.acquire();
+
+    assertSame(jsonReader, reusedJsonReader);
+    assertNull(reusedJsonReader.getJsonContentHandler());
+    assertEquals(0, jsonReaderPool.getIdleCount());
+    assertNotSame(jsonReader, jsonReaderPool.acquire());
+  }
+
+  /**
+   * Test the release of more JSON readers than the maximum number of idle
+   * JSON readers.
+   * <p>
+   * This test asserts that the JSON readers beyond the maximum are discarded.
+   */
+  @Test
+  public void testReleaseBeyondMaximumIdle() {
+    JsonReaderPool<FastJsonReader> jsonReaderPool = createFastJsonReaderPool(2);
+
+    FastJsonReader jsonReader1 = jsonReaderPool.acquire();
+    FastJsonReader jsonReader2 = jsonReaderPool.acquire();
+    FastJsonReader jsonReader3 = jsonReaderPool.acquire();
+
+    jsonReaderPool.release(jsonReader1);
+    jsonReaderPool.release(jsonReader2);
+    jsonReaderPool.release(jsonReader3);
+
+    assertEquals(2, jsonReaderPool.getIdleCount());
+    assertSame(jsonReader1, jsonReaderPool.acquire());
+    assertSame(jsonReader2, jsonReaderPool.acquire());
+    assertEquals(0, jsonReaderPool.getIdleCount());
+  }
+
+  /**
+   * Test the release of a reconfigured JSON reader.
+   * <p>
+   * This test asserts that a JSON reader whose number policy, symbol table
+   * and mapping size have been changed by its borrower is returned by the
+   * next acquisition with the configuration of the pool.
+   */
+  @Test
+  public void testReleaseReconfigured() {
+    JsonSymbolTable symbolTable = new JsonSymbolTable();
+    JsonReaderPool<FastJsonReader> jsonReaderPool = new FastJsonReaderPool(JsonReaderPool.DEFAULT_MAXIMUM_IDLE, NumberPolicy.SMALLEST, symbolTable, 4096);
+
+    FastJsonReader jsonReader = jsonReaderPool.acquire();
+
+    assertSame(NumberPolicy.SMALLEST, jsonReader.getNumberPolicy());
+    assertSame(symbolTable, jsonReader.getSymbolTable());
+    assertEquals(4096, jsonReader.getMappingSize());
+
+    jsonReader.setJsonContentHandler(new JsonContentRecorder());
+    jsonReader.setNumberPolicy(NumberPolicy.EXACT);
+    jsonReader.setSymbolTable(new JsonSymbolTable());
+    jsonReader.setMappingSize(1024);
+
+    jsonReaderPool.release(jsonReader);
+
+    FastJsonReader reusedJsonReader = jsonReaderPool.acquire();
+
+    assertSame(jsonReader, reusedJsonReader);
+    assertNull(reusedJsonReader.getJsonContentHandler());
+    assertSame(NumberPolicy.SMALLEST, reusedJsonReader.getNumberPolicy());
+    assertSame(symbolTable, reusedJsonReader.getSymbolTable());
+    assertEquals(4096, reusedJsonReader.getMappingSize());
+  }
+
+  /**
+   * Test the reuse of a pooled simple JSON reader.
+   * <p>
+   * This test asserts that a simple JSON reader produces the same JSON
+   * content events as a new simple JSON reader for each JSON text of the
+   * corpus, including after it has rejected an invalid JSON text.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testReuseSimpleJsonReader()
+    throws Exception {
+    JsonReaderPool<SimpleJsonReader> jsonReaderPool = new JsonReaderPool<SimpleJsonReader>() {
+      @Override
+      protected SimpleJsonReader createJsonReader() {
+        return new SimpleJsonReader();
+      }
+    };
+
+    for (int i = 0; i < FastJsonReaderParityTest.CORPUS.length; i++) {
+      String jsonText = FastJsonReaderParityTest.CORPUS[i];
+
+      SimpleJsonReader jsonReader = jsonReaderPool.acquire();
+      try {
+        assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), JsonContentTestSupport.parse(jsonReader, jsonText));
+
+        try {
+          jsonReader.parse(FastJsonReaderParityTest.INVALID_CORPUS[i % FastJsonReaderParityTest.INVALID_CORPUS.length]);
+
+          fail("JsonReaderException expected");
+        }
+        catch (JsonReaderException jre) {
+          // Expected
+        }
+      }
+      finally {
+        jsonReaderPool.release(jsonReader);
+      }
+    }
+
+    assertEquals(1, jsonReaderPool.getIdleCount());
+  }
+
+  /**
+   * Create a pool of fast JSON readers.
+   *
+   * @param maximumIdle The maximum number of idle JSON readers.
+   * @return The pool of fast JSON readers.
+   */
+  private static JsonReaderPool<FastJsonReader> createFastJsonReaderPool(int maximumIdle) {
+    return new FastJsonReaderPool(maximumIdle, NumberPolicy.EXACT, null, FastJsonReader.DEFAULT_MAPPING_SIZE);
+  }
+
+}
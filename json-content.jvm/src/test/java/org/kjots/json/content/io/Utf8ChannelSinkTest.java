@@ -0,0 +1,102 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+
+import org.junit.Test;
+
+import org.kjots.json.content.shared.text.ChunkedJsonTextBuilder;
+import org.kjots.json.content.shared.text.JsonTextGenerator.EscapeProfile;
+
+/**
+ * UTF-8 Channel Sink Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class Utf8ChannelSinkTest {
+  /**
+   * Test the writing of a chunked JSON text to a channel.
+   * <p>
+   * This test asserts that the UTF-8 encoding of the chunks written to the
+   * channel is the UTF-8 encoding of the JSON text, for chunk and buffer sizes
+   * that split surrogate pairs and multi-byte sequences, and that the sink
+   * can be reused for a second JSON text.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testWriteTo()
+    throws Exception {
+    for (int chunkSize : new int[] { 1, 2, 3, 5, 64 }) {
+      for (int bufferSize : new int[] { 4, 5, 7, Utf8ChannelSink.DEFAULT_BUFFER_SIZE }) {
+        ChunkedJsonTextBuilder chunkedJsonTextBuilder = new ChunkedJsonTextBuilder(chunkSize);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Utf8ChannelSink utf8ChannelSink = new Utf8ChannelSink(Channels.newChannel(outputStream), bufferSize);
+
+        chunkedJsonTextBuilder.setEscapeProfile(EscapeProfile.MINIMAL);
+        chunkedJsonTextBuilder.startJson();
+        chunkedJsonTextBuilder.startArray();
+        chunkedJsonTextBuilder.primitive("caf\u00E9 \u20AC \uD83D\uDE00\uD83D\uDE01 \u07FF\u0800 \uDC00 \uD83D");
+        chunkedJsonTextBuilder.primitive("\uD83D\uDE00\uD83D\uDE00\uD83D\uDE00");
+        chunkedJsonTextBuilder.endArray();
+        chunkedJsonTextBuilder.endJson();
+
+        String jsonText = chunkedJsonTextBuilder.toString();
+
+        chunkedJsonTextBuilder.writeTo(utf8ChannelSink);
+        chunkedJsonTextBuilder.writeTo(utf8ChannelSink);
+
+        assertFalse(utf8ChannelSink.checkError());
+        assertEquals(chunkSize + "/" + bufferSize, new String((jsonText + jsonText).getBytes("UTF-8"), "UTF-8"), outputStream.toString("UTF-8"));
+      }
+    }
+  }
+
+  /**
+   * Test the writing of unpaired surrogates.
+   * <p>
+   * This test asserts that the surrogate characters that are not part of a
+   * surrogate pair, including a high surrogate at the end of a chunk that is
+   * not followed by a low surrogate in the next chunk or at all, are written
+   * as escape sequences rather than being replaced.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testUnpairedSurrogates()
+    throws Exception {
+    for (int bufferSize : new int[] { 4, 5, 7, Utf8ChannelSink.DEFAULT_BUFFER_SIZE }) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      Utf8ChannelSink utf8ChannelSink = new Utf8ChannelSink(Channels.newChannel(outputStream), bufferSize);
+
+      for (String chunk : new String[] { "a\uDC00b\uD83D", "c\uD83D", "\uD83D", "\uDE00\uD800", "\uDE00\uD83D" }) {
+        utf8ChannelSink.write(chunk.toCharArray(), 0, chunk.length());
+      }
+      utf8ChannelSink.flush();
+
+      assertFalse(utf8ChannelSink.checkError());
+      assertEquals(Integer.toString(bufferSize), "a\\uDC00b\\uD83Dc\\uD83D\uD83D\uDE00\uD800\uDE00\\uD83D", outputStream.toString("UTF-8"));
+    }
+  }
+}
@@ -0,0 +1,356 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.fast.FastJsonReader;
+import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.text.JsonTextGenerator.EscapeProfile;
+
+/**
+ * UTF-8 JSON Writer Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class Utf8JsonWriterTest {
+  /**
+   * Recording Gathering Byte Channel.
+   * <p>
+   * This channel writes at most a few bytes per call, so that the writer must
+   * repeat partially completed gathering writes.
+   */
+  private static class RecordingGatheringByteChannel implements GatheringByteChannel {
+    /** The output stream. */
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    /** The number of gathering writes. */
+    private int gatheringWriteCount;
+
+    /**
+     * Write the bytes of the given buffer.
+     *
+     * @param src The buffer.
+     * @return The number of bytes written.
+     */
+    @Override
+    public int write(ByteBuffer src) {
+      int count = Math.min(src.remaining(), 5);
+
+      for (int i = 0; i < count; i++) {
+        this.outputStream.write(src.get());
+      }
+
+      return count;
+    }
+
+    /**
+     * Write the bytes of the given buffers.
+     *
+     * @param srcs The buffers.
+     * @param offset The offset of the first buffer.
+     * @param length The number of buffers.
+     * @return The number of bytes written.
+     */
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) {
+      this.gatheringWriteCount++;
+
+      long count = 0;
+      for (int i = offset; i < offset + length && count < 100; i++) {
+        while (srcs[i].hasRemaining() && count < 100) {
+          count += this.write(srcs[i]);
+        }
+      }
+
+      return count;
+    }
+
+    /**
+     * Write the bytes of the given buffers.
+     *
+     * @param srcs The buffers.
+     * @return The number of bytes written.
+     */
+    @Override
+    public long write(ByteBuffer[] srcs) {
+      return this.write(srcs, 0, srcs.length);
+    }
+
+    /**
+     * Determine if the channel is open.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    /**
+     * Close the channel.
+     */
+    @Override
+    public void close() {
+    }
+  }
+
+  /**
+   * Test the writing of the corpus.
+   * <p>
+   * This test asserts that the {@link Utf8JsonWriter} produces exactly the
+   * UTF-8 encoding of the JSON text produced by the {@link JsonWriter} for
+   * each JSON text of the corpus, with and without formatting, with each
+   * buffer size, and to each kind of output.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testWrite()
+    throws Exception {
+    for (String jsonText : JsonContentTestSupport.createCorpus()) {
+      for (boolean format : new boolean[] { false, true }) {
+        StringWriter stringWriter = new StringWriter();
+        JsonWriter jsonWriter = new JsonWriter(stringWriter);
+
+        jsonWriter.setFormat(format);
+        jsonWriter.setMaxDecimalPlaces(format ? 2 : -1);
+
+        write(jsonWriter, jsonText);
+
+        String expected = stringWriter.toString();
+
+        for (int bufferSize : JsonContentTestSupport.BUFFER_SIZES) {
+          ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+          write(createUtf8JsonWriter(new Utf8JsonWriter(outputStream, bufferSize), format), jsonText);
+
+          assertEquals(bufferSize + ": " + jsonText, expected, new String(outputStream.toByteArray(), "UTF-8"));
+
+          ByteArrayOutputStream channelOutputStream = new ByteArrayOutputStream();
+
+          write(createUtf8JsonWriter(new Utf8JsonWriter(Channels.newChannel(channelOutputStream), bufferSize), format), jsonText);
+
+          assertEquals(bufferSize + ": " + jsonText, expected, new String(channelOutputStream.toByteArray(), "UTF-8"));
+
+          RecordingGatheringByteChannel channel = new RecordingGatheringByteChannel();
+
+          write(createUtf8JsonWriter(new Utf8JsonWriter(channel, bufferSize, 3), format), jsonText);
+
+          assertEquals(bufferSize + ": " + jsonText, expected, new String(channel.outputStream.toByteArray(), "UTF-8"));
+        }
+      }
+    }
+  }
+
+  /**
+   * Test the writing with each escape profile.
+   * <p>
+   * This test asserts that the {@link Utf8JsonWriter} produces exactly the
+   * UTF-8 encoding of the JSON text produced by the {@link JsonWriter}
+   * with each escape profile.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testEscapeProfiles()
+    throws Exception {
+    for (EscapeProfile escapeProfile : EscapeProfile.values()) {
+      StringWriter expectedWriter = new StringWriter();
+      JsonWriter jsonWriter = new JsonWriter(expectedWriter);
+
+      jsonWriter.setEscapeProfile(escapeProfile);
+
+      write(jsonWriter, JsonContentTestSupport.ESCAPE_JSON_TEXT);
+
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+      Utf8JsonWriter utf8JsonWriter = new Utf8JsonWriter(outputStream, 7);
+
+      utf8JsonWriter.setEscapeProfile(escapeProfile);
+
+      write(utf8JsonWriter, JsonContentTestSupport.ESCAPE_JSON_TEXT);
+
+      assertTrue(escapeProfile.name(), Arrays.equals(expectedWriter.toString().getBytes("UTF-8"), outputStream.toByteArray()));
+    }
+  }
+
+  /**
+   * Test the writing of unpaired surrogates with the minimal escape profile.
+   * <p>
+   * This test asserts that the surrogate characters that are not part of a
+   * surrogate pair are written as escape sequences in string values and in
+   * repeated and registered member names, rather than being replaced by the
+   * UTF-8 encoding, and that surrogate pairs are written as code points.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testMinimalEscapeProfileUnpairedSurrogates()
+    throws Exception {
+    String[] names = { "a\uDC00", "\uD83D\uDE00\uD83D" };
+
+    for (int bufferSize : JsonContentTestSupport.BUFFER_SIZES) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      Utf8JsonWriter utf8JsonWriter = new Utf8JsonWriter(outputStream, bufferSize);
+
+      utf8JsonWriter.setEscapeProfile(EscapeProfile.MINIMAL);
+      utf8JsonWriter.registerMemberNames(names[0]);
+      utf8JsonWriter.startJson();
+      utf8JsonWriter.startArray();
+      for (int i = 0; i < 3; i++) {
+        utf8JsonWriter.startObject();
+        for (String name : names) {
+          utf8JsonWriter.memberName(name);
+          utf8JsonWriter.primitive("\uD800b\uD83D\uDE00\uDE00");
+        }
+        utf8JsonWriter.endObject();
+      }
+      utf8JsonWriter.endArray();
+      utf8JsonWriter.endJson();
+
+      String object = "{\"a\\uDC00\":\"\\uD800b\uD83D\uDE00\\uDE00\",\"\uD83D\uDE00\\uD83D\":\"\\uD800b\uD83D\uDE00\\uDE00\"}";
+
+      assertTrue(Integer.toString(bufferSize), Arrays.equals(("[" + object + "," + object + "," + object + "]").getBytes("UTF-8"), outputStream.toByteArray()));
+    }
+  }
+
+  /**
+   * Test the writing of repeated member names.
+   * <p>
+   * This test asserts that the cached encodings of repeated and registered
+   * member names, including non-ASCII member names and member names that are
+   * longer than the buffer, are written as the JSON writer writes them.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testMemberNames()
+    throws Exception {
+    String[] names = { "id", "caf\u00e9", "\u20ac\ud83d\ude00", "<name>", "a long member name that does not fit in the buffer" };
+
+    for (boolean format : new boolean[] { false, true }) {
+      StringWriter expectedWriter = new StringWriter();
+      JsonWriter jsonWriter = new JsonWriter(expectedWriter);
+
+      jsonWriter.setFormat(format);
+
+      writeRecords(jsonWriter, names);
+
+      for (int bufferSize : JsonContentTestSupport.BUFFER_SIZES) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Utf8JsonWriter utf8JsonWriter = new Utf8JsonWriter(outputStream, bufferSize);
+
+        utf8JsonWriter.setFormat(format);
+        utf8JsonWriter.registerMemberNames(names[0], names[1]);
+
+        writeRecords(utf8JsonWriter, names);
+
+        assertEquals(format + ", " + bufferSize, expectedWriter.toString(), outputStream.toString("UTF-8"));
+      }
+    }
+  }
+
+  /**
+   * Test the gathering writes.
+   * <p>
+   * This test asserts that a JSON text that spans many buffers is written
+   * with gathering writes of the segments, rather than a write per buffer.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testGatheringWrite()
+    throws Exception {
+    RecordingGatheringByteChannel channel = new RecordingGatheringByteChannel();
+    String jsonText = JsonContentTestSupport.createLongJsonText();
+
+    write(new Utf8JsonWriter(channel, 64, 8), jsonText);
+
+    StringWriter stringWriter = new StringWriter();
+
+    write(new JsonWriter(stringWriter), jsonText);
+
+    byte[] bytes = channel.outputStream.toByteArray();
+
+    assertEquals(stringWriter.toString(), new String(bytes, "UTF-8"));
+    assertTrue(Integer.toString(channel.gatheringWriteCount), channel.gatheringWriteCount <= bytes.length / 100 + bytes.length / (64 * 8) + 2);
+  }
+
+  /**
+   * Configure the given UTF-8 JSON writer.
+   *
+   * @param utf8JsonWriter The UTF-8 JSON writer.
+   * @param format The format flag.
+   * @return The UTF-8 JSON writer.
+   */
+  private static Utf8JsonWriter createUtf8JsonWriter(Utf8JsonWriter utf8JsonWriter, boolean format) {
+    utf8JsonWriter.setFormat(format);
+    utf8JsonWriter.setMaxDecimalPlaces(format ? 2 : -1);
+
+    return utf8JsonWriter;
+  }
+
+  /**
+   * Write the given JSON text to the given JSON content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @param jsonText The JSON text.
+   * @throws JsonReaderException
+   */
+  private static void write(JsonContentHandler jsonContentHandler, String jsonText)
+    throws JsonReaderException {
+    FastJsonReader fastJsonReader = new FastJsonReader();
+
+    fastJsonReader.setJsonContentHandler(jsonContentHandler);
+    fastJsonReader.parse(jsonText);
+  }
+
+  /**
+   * Write an array of records with the given member names to the given JSON
+   * content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @param names The member names.
+   */
+  private static void writeRecords(JsonContentHandler jsonContentHandler, String[] names) {
+    jsonContentHandler.startJson();
+    jsonContentHandler.startArray();
+    for (int i = 0; i < 100; i++) {
+      jsonContentHandler.startObject();
+      for (String name : names) {
+        jsonContentHandler.memberName(name);
+        jsonContentHandler.primitive(i);
+      }
+      jsonContentHandler.endObject();
+    }
+    jsonContentHandler.endArray();
+    jsonContentHandler.endJson();
+  }
+}
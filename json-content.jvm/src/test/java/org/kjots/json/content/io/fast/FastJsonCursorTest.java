@@ -0,0 +1,348 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.fail;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.JsonContentRecorder;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.simple.SimpleJsonReader;
+import org.kjots.json.content.shared.JsonContentCursor.Event;
+
+/**
+ * Fast JSON Cursor Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonCursorTest {
+  /** The envelope JSON text. */
+  private static final String ENVELOPE = "{\"header\":{\"id\":7,\"route\":\"orders\"},\"body\":{\"items\":[1,2,[3,{\"x\":\"\\u00e9\"}]],\"empty\":{}},\"trailer\":true}";
+
+  /**
+   * Test the events of the corpus.
+   * <p>
+   * This test asserts that the {@link FastJsonCursor} produces exactly the
+   * same events as the {@link SimpleJsonReader} for the same JSON text.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testCorpusEvents()
+    throws Exception {
+    FastJsonCursor fastJsonCursor = new FastJsonCursor();
+
+    for (String jsonText : FastJsonReaderParityTest.CORPUS) {
+      JsonContentRecorder expectedJsonContentRecorder = new JsonContentRecorder();
+
+      SimpleJsonReader simpleJsonReader = new SimpleJsonReader();
+      simpleJsonReader.setJsonContentHandler(expectedJsonContentRecorder);
+      simpleJsonReader.parse(jsonText);
+
+      fastJsonCursor.reset(jsonText);
+
+      assertEquals(jsonText, expectedJsonContentRecorder.getEvents(), record(fastJsonCursor));
+
+      fastJsonCursor.reset(jsonText.getBytes("UTF-8"));
+
+      assertEquals(jsonText, expectedJsonContentRecorder.getEvents(), record(fastJsonCursor));
+    }
+  }
+
+  /**
+   * Test the skipping of a member value.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testSkipMemberValue()
+    throws Exception {
+    FastJsonCursor fastJsonCursor = new FastJsonCursor();
+    fastJsonCursor.reset(new StringReader(ENVELOPE));
+
+    assertEquals(Event.START_JSON, fastJsonCursor.nextEvent());
+    assertEquals(Event.START_OBJECT, fastJsonCursor.nextEvent());
+    assertEquals(Event.MEMBER_NAME, fastJsonCursor.nextEvent());
+    assertEquals("header", fastJsonCursor.getMemberName());
+    assertEquals(Event.START_OBJECT, fastJsonCursor.nextEvent());
+    assertEquals(Event.MEMBER_NAME, fastJsonCursor.nextEvent());
+    assertEquals("id", fastJsonCursor.getMemberName());
+    assertEquals(Event.PRIMITIVE, fastJsonCursor.nextEvent());
+    assertEquals(7, fastJsonCursor.getPrimitive());
+    assertEquals(Event.MEMBER_NAME, fastJsonCursor.nextEvent());
+
+    fastJsonCursor.skipValue();
+
+    assertEquals(Event.PRIMITIVE, fastJsonCursor.getEvent());
+    assertEquals(Event.END_OBJECT, fastJsonCursor.nextEvent());
+    assertEquals(Event.MEMBER_NAME, fastJsonCursor.nextEvent());
+    assertEquals("body", fastJsonCursor.getMemberName());
+
+    fastJsonCursor.skipValue();
+
+    assertEquals(Event.END_OBJECT, fastJsonCursor.getEvent());
+    assertEquals(Event.MEMBER_NAME, fastJsonCursor.nextEvent());
+    assertEquals("trailer", fastJsonCursor.getMemberName());
+    assertEquals(Event.PRIMITIVE, fastJsonCursor.nextEvent());
+    assertEquals(Boolean.TRUE, fastJsonCursor.getPrimitive());
+    assertEquals(Event.END_OBJECT, fastJsonCursor.nextEvent());
+    assertEquals(Event.END_JSON, fastJsonCursor.nextEvent());
+    assertNull(fastJsonCursor.nextEvent());
+    assertNull(fastJsonCursor.nextEvent());
+  }
+
+  /**
+   * Test the skipping of the remainder of an array.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testSkipRemainderOfArray()
+    throws Exception {
+    FastJsonCursor fastJsonCursor = new FastJsonCursor();
+    fastJsonCursor.reset("[[1,[2,3],{\"a\":[]}],4]");
+
+    assertEquals(Event.START_JSON, fastJsonCursor.nextEvent());
+    assertEquals(Event.START_ARRAY, fastJsonCursor.nextEvent());
+    assertEquals(Event.START_ARRAY, fastJsonCursor.nextEvent());
+    assertEquals(Event.PRIMITIVE, fastJsonCursor.nextEvent());
+
+    fastJsonCursor.skipValue();
+
+    assertEquals(Event.PRIMITIVE, fastJsonCursor.getEvent());
+    assertEquals(Event.START_ARRAY, fastJsonCursor.nextEvent());
+
+    fastJsonCursor.skipValue();
+
+    assertEquals(Event.END_ARRAY, fastJsonCursor.getEvent());
+    assertEquals(Event.START_OBJECT, fastJsonCursor.nextEvent());
+
+    fastJsonCursor.skipValue();
+
+    assertEquals(Event.END_OBJECT, fastJsonCursor.getEvent());
+    assertEquals(Event.END_ARRAY, fastJsonCursor.nextEvent());
+    assertEquals(Event.PRIMITIVE, fastJsonCursor.nextEvent());
+    assertEquals(4, fastJsonCursor.getPrimitive());
+  }
+
+  /**
+   * Test the skipping of the root value.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testSkipRootValue()
+    throws Exception {
+    FastJsonCursor fastJsonCursor = new FastJsonCursor();
+    fastJsonCursor.reset(ENVELOPE.getBytes("UTF-8"));
+
+    assertEquals(Event.START_JSON, fastJsonCursor.nextEvent());
+
+    fastJsonCursor.skipValue();
+
+    assertEquals(Event.END_OBJECT, fastJsonCursor.getEvent());
+    assertEquals(Event.END_JSON, fastJsonCursor.nextEvent());
+    assertNull(fastJsonCursor.nextEvent());
+  }
+
+  /**
+   * Test that invalid content is rejected within a skipped value.
+   */
+  @Test
+  public void testSkipInvalidValue() {
+    FastJsonCursor fastJsonCursor = new FastJsonCursor();
+    fastJsonCursor.reset("{\"a\":[1,}]}");
+
+    try {
+      fastJsonCursor.nextEvent();
+      fastJsonCursor.nextEvent();
+      fastJsonCursor.nextEvent();
+      fastJsonCursor.skipValue();
+
+      fail("FastJsonCursor accepted invalid content");
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+  }
+
+  /**
+   * Test that invalid strings are rejected within a skipped value and when
+   * the cursor steps over them.
+   * <p>
+   * This test asserts that invalid escape sequences in string values and
+   * member names, and malformed UTF-8 sequences, are rejected even though
+   * their values are never retrieved, as the {@link FastJsonReader} rejects
+   * them.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testSkipInvalidStrings()
+    throws Exception {
+    String[] jsonTexts = {
+      "{\"a\":[\"\\q\"],\"b\":1}",
+      "{\"a\":[\"\\u12\"],\"b\":1}",
+      "{\"a\":{\"\\q\":1},\"b\":1}"
+    };
+
+    byte[] malformedJsonText = { '{', '"', 'a', '"', ':', '[', '"', (byte)0xC3, '(', '"', ']', ',', '"', 'b', '"', ':', '1', '}' };
+
+    for (String jsonText : jsonTexts) {
+      FastJsonCursor fastJsonCursor = new FastJsonCursor();
+
+      fastJsonCursor.reset(jsonText);
+      assertSkipInvalid(fastJsonCursor, jsonText);
+
+      fastJsonCursor.reset(jsonText.getBytes("UTF-8"));
+      assertSkipInvalid(fastJsonCursor, jsonText);
+
+      fastJsonCursor.reset(jsonText);
+      assertStepInvalid(fastJsonCursor, jsonText);
+    }
+
+    FastJsonCursor fastJsonCursor = new FastJsonCursor();
+
+    fastJsonCursor.reset(malformedJsonText);
+    assertSkipInvalid(fastJsonCursor, "malformed UTF-8");
+
+    fastJsonCursor.reset(malformedJsonText);
+    assertStepInvalid(fastJsonCursor, "malformed UTF-8");
+  }
+
+  /**
+   * Test the resetting of a cursor before the end of the JSON text.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testResetBeforeEnd()
+    throws Exception {
+    FastJsonCursor fastJsonCursor = new FastJsonCursor();
+    fastJsonCursor.reset(ENVELOPE);
+
+    assertEquals(Event.START_JSON, fastJsonCursor.nextEvent());
+    assertEquals(Event.START_OBJECT, fastJsonCursor.nextEvent());
+
+    fastJsonCursor.reset("\"next\"");
+
+    assertNull(fastJsonCursor.getEvent());
+    assertEquals(Event.START_JSON, fastJsonCursor.nextEvent());
+    assertEquals(Event.PRIMITIVE, fastJsonCursor.nextEvent());
+    assertEquals("next", fastJsonCursor.getPrimitive());
+  }
+
+  /**
+   * Assert that the given cursor rejects the value of the first member of
+   * the root JSON object when it is skipped.
+   *
+   * @param fastJsonCursor The cursor.
+   * @param message The message.
+   */
+  private static void assertSkipInvalid(FastJsonCursor fastJsonCursor, String message) {
+    try {
+      fastJsonCursor.nextEvent();
+      fastJsonCursor.nextEvent();
+      fastJsonCursor.nextEvent();
+      fastJsonCursor.skipValue();
+
+      fail("FastJsonCursor accepted " + message);
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+  }
+
+  /**
+   * Assert that the given cursor rejects its JSON text when it steps over
+   * every event without retrieving any member names or primitives.
+   *
+   * @param fastJsonCursor The cursor.
+   * @param message The message.
+   */
+  private static void assertStepInvalid(FastJsonCursor fastJsonCursor, String message) {
+    try {
+      while (fastJsonCursor.nextEvent() != null) {
+        continue;
+      }
+
+      fail("FastJsonCursor accepted " + message);
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+  }
+
+  /**
+   * Record the events of the given cursor in the format of the
+   * {@link JsonContentRecorder}.
+   *
+   * @param fastJsonCursor The cursor.
+   * @return The recorded events.
+   * @throws JsonReaderException
+   */
+  private static List<String> record(FastJsonCursor fastJsonCursor)
+    throws JsonReaderException {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    for (Event event = fastJsonCursor.nextEvent(); event != null; event = fastJsonCursor.nextEvent()) {
+      switch (event) {
+      case START_JSON:
+        jsonContentRecorder.startJson();
+        break;
+
+      case END_JSON:
+        jsonContentRecorder.endJson();
+        break;
+
+      case START_OBJECT:
+        jsonContentRecorder.startObject();
+        break;
+
+      case END_OBJECT:
+        jsonContentRecorder.endObject();
+        break;
+
+      case START_ARRAY:
+        jsonContentRecorder.startArray();
+        break;
+
+      case END_ARRAY:
+        jsonContentRecorder.endArray();
+        break;
+
+      case MEMBER_NAME:
+        jsonContentRecorder.memberName(fastJsonCursor.getMemberName());
+        break;
+
+      case PRIMITIVE:
+        jsonContentRecorder.primitive(fastJsonCursor.getPrimitive());
+        break;
+      }
+    }
+
+    return jsonContentRecorder.getEvents();
+  }
+}
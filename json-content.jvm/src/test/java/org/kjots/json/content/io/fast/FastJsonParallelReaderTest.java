@@ -0,0 +1,244 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.kjots.json.content.io.JsonContentRecorder;
+import org.kjots.json.content.io.JsonContentTestSupport;
+import org.kjots.json.content.io.JsonReader;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.fast.FastJsonParallelReader.ElementHandlerFactory;
+
+/**
+ * Fast JSON Parallel Reader Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonParallelReaderTest {
+  /** The chunk sizes. */
+  private static final int[] CHUNK_SIZES = { 1, 7, 64, FastJsonParallelReader.DEFAULT_CHUNK_SIZE };
+
+  /** The factory of JSON content recorders. */
+  private static final ElementHandlerFactory<JsonContentRecorder> JSON_CONTENT_RECORDER_FACTORY = new ElementHandlerFactory<JsonContentRecorder>() {
+    @Override
+    public JsonContentRecorder createJsonContentHandler() {
+      return new JsonContentRecorder();
+    }
+  };
+
+  /** The executor service. */
+  private ExecutorService executorService;
+
+  /**
+   * Set up the test.
+   */
+  @Before
+  public void setUp() {
+    this.executorService = Executors.newFixedThreadPool(4);
+  }
+
+  /**
+   * Tear down the test.
+   */
+  @After
+  public void tearDown() {
+    this.executorService.shutdownNow();
+  }
+
+  /**
+   * Test the parsing of the corpus.
+   * <p>
+   * This test asserts that the {@link FastJsonParallelReader} produces
+   * exactly the same JSON content events as the {@link FastJsonReader} for
+   * each JSON text of the corpus, with each chunk size.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParse()
+    throws Exception {
+    for (int chunkSize : CHUNK_SIZES) {
+      FastJsonParallelReader fastJsonParallelReader = this.createFastJsonParallelReader(chunkSize);
+
+      for (String jsonText : FastJsonReaderParityTest.CORPUS) {
+        assertEquals(chunkSize + ": " + jsonText, JsonContentTestSupport.parse(new FastJsonReader(), jsonText), JsonContentTestSupport.parse(fastJsonParallelReader, jsonText));
+      }
+
+      String jsonText = createRecordsJsonText(500);
+
+      assertEquals(chunkSize + ": records", JsonContentTestSupport.parse(new FastJsonReader(), jsonText), JsonContentTestSupport.parse(fastJsonParallelReader, jsonText));
+    }
+  }
+
+  /**
+   * Test the parsing of the elements of a JSON text.
+   * <p>
+   * This test asserts that each element is delivered to its own JSON content
+   * handler, in order, with the same JSON content events as the element
+   * parsed as a JSON text in its own right.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseElements()
+    throws Exception {
+    List<List<String>> expectedEvents = new ArrayList<List<String>>();
+    for (int i = 0; i < 500; i++) {
+      expectedEvents.add(JsonContentTestSupport.parse(new FastJsonReader(), createRecordJsonText(i)));
+    }
+
+    byte[] jsonText = createRecordsJsonText(500).getBytes("UTF-8");
+
+    for (int chunkSize : CHUNK_SIZES) {
+      List<JsonContentRecorder> jsonContentRecorders = this.createFastJsonParallelReader(chunkSize).parseElements(jsonText, JSON_CONTENT_RECORDER_FACTORY);
+
+      List<List<String>> events = new ArrayList<List<String>>();
+      for (JsonContentRecorder jsonContentRecorder : jsonContentRecorders) {
+        events.add(jsonContentRecorder.getEvents());
+      }
+
+      assertEquals(Integer.toString(chunkSize), expectedEvents, events);
+    }
+
+    assertEquals(0, this.createFastJsonParallelReader(1).parseElements(" [ ] ".getBytes("UTF-8"), JSON_CONTENT_RECORDER_FACTORY).size());
+  }
+
+  /**
+   * Test the parsing of invalid JSON texts.
+   * <p>
+   * This test asserts that the {@link FastJsonParallelReader} rejects each
+   * JSON text of the invalid corpus, and invalid elements of a JSON text that
+   * is split into chunks.
+   */
+  @Test
+  public void testParseInvalid() {
+    FastJsonParallelReader fastJsonParallelReader = this.createFastJsonParallelReader(1);
+
+    for (String jsonText : FastJsonReaderParityTest.INVALID_CORPUS) {
+      assertInvalid(fastJsonParallelReader, jsonText);
+    }
+
+    assertInvalid(fastJsonParallelReader, "[1,2,3,]");
+    assertInvalid(fastJsonParallelReader, "[1,2,,3]");
+    assertInvalid(fastJsonParallelReader, "[1,2 3,4]");
+    assertInvalid(fastJsonParallelReader, "[1,{\"a\":2],3]");
+    assertInvalid(fastJsonParallelReader, "[1,2,3] 4");
+
+    try {
+      fastJsonParallelReader.parseElements("{\"a\":[1,2]}".getBytes("UTF-8"), JSON_CONTENT_RECORDER_FACTORY);
+
+      fail("JsonReaderException expected");
+    }
+    catch (JsonReaderException jre) {
+      assertEquals("Expected an array at position 0.", jre.getMessage());
+    }
+    catch (Exception e) {
+      fail(e.toString());
+    }
+  }
+
+  /**
+   * Create a fast JSON parallel reader with the given chunk size.
+   *
+   * @param chunkSize The chunk size.
+   * @return The fast JSON parallel reader.
+   */
+  private FastJsonParallelReader createFastJsonParallelReader(int chunkSize) {
+    FastJsonParallelReader fastJsonParallelReader = new FastJsonParallelReader(this.executorService, 3);
+
+    fastJsonParallelReader.setChunkSize(chunkSize);
+
+    return fastJsonParallelReader;
+  }
+
+  /**
+   * Assert that the given JSON reader rejects the given JSON text.
+   *
+   * @param jsonReader The JSON reader.
+   * @param jsonText The JSON text.
+   */
+  private static void assertInvalid(JsonReader jsonReader, String jsonText) {
+    try {
+      JsonContentTestSupport.parse(jsonReader, jsonText);
+
+      fail("JsonReaderException expected: " + jsonText);
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+  }
+
+  /**
+   * Create a JSON text of an array of the given number of records.
+   *
+   * @param recordCount The number of records.
+   * @return The JSON text.
+   */
+  private static String createRecordsJsonText(int recordCount) {
+    StringBuilder stringBuilder = new StringBuilder("[\n");
+
+    for (int i = 0; i < recordCount; i++) {
+      if (i > 0) {
+        stringBuilder.append(",\n");
+      }
+
+      stringBuilder.append(createRecordJsonText(i));
+    }
+
+    stringBuilder.append("\n]");
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Create the JSON text of a record.
+   * <p>
+   * The strings of the record contain structural characters and escaped
+   * quotes, which the structural pre-scan must not mistake for structure.
+   *
+   * @param i The index of the record.
+   * @return The JSON text.
+   */
+  private static String createRecordJsonText(int i) {
+    switch (i % 4) {
+    case 0:
+      return "{\"id\":" + i + ",\"name\":\"record, [" + i + "]\",\"tags\":[\"a\",\"b\"],\"score\":" + (i * 0.25) + "}";
+
+    case 1:
+      return "{\"id\":" + i + ",\"quote\":\"\\\"},{\\\\\",\"nested\":{\"list\":[[],{}],\"flag\":true}}";
+
+    case 2:
+      return "[" + i + ",null,\"caf\u00e9 \\u0041\"]";
+
+    default:
+      return "\"" + i + "\"";
+    }
+  }
+}
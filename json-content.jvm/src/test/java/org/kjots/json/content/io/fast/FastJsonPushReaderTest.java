@@ -0,0 +1,177 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.JsonContentRecorder;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.simple.SimpleJsonReader;
+
+/**
+ * Fast JSON Push Reader Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonPushReaderTest {
+  /** The chunk sizes. */
+  private static final int[] CHUNK_SIZES = { 1, 2, 7, 4096, Integer.MAX_VALUE };
+
+  /**
+   * Test the reading of the corpus in chunks.
+   * <p>
+   * This test asserts that the {@link FastJsonPushReader} produces exactly
+   * the same JSON content events as the {@link SimpleJsonReader}, regardless
+   * of how the JSON text is split into chunks.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testFeedCorpus()
+    throws Exception {
+    for (String jsonText : FastJsonReaderParityTest.CORPUS) {
+      JsonContentRecorder expectedJsonContentRecorder = new JsonContentRecorder();
+
+      SimpleJsonReader simpleJsonReader = new SimpleJsonReader();
+      simpleJsonReader.setJsonContentHandler(expectedJsonContentRecorder);
+      simpleJsonReader.parse(jsonText);
+
+      byte[] bytes = jsonText.getBytes("UTF-8");
+
+      for (int chunkSize : CHUNK_SIZES) {
+        assertEquals(jsonText, expectedJsonContentRecorder.getEvents(), feed(new FastJsonPushReader(), bytes, chunkSize));
+      }
+    }
+  }
+
+  /**
+   * Test the reading of the invalid corpus in chunks.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testFeedInvalidCorpus()
+    throws Exception {
+    for (String jsonText : FastJsonReaderParityTest.INVALID_CORPUS) {
+      byte[] bytes = jsonText.getBytes("UTF-8");
+
+      for (int chunkSize : CHUNK_SIZES) {
+        try {
+          feed(new FastJsonPushReader(), bytes, chunkSize);
+
+          fail("FastJsonPushReader accepted " + jsonText);
+        }
+        catch (JsonReaderException jre) {
+          // Expected
+        }
+      }
+    }
+  }
+
+  /**
+   * Test that the JSON content events are generated as soon as the tokens
+   * that produce them are complete.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testEventsGeneratedPerToken()
+    throws Exception {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    FastJsonPushReader fastJsonPushReader = new FastJsonPushReader();
+    fastJsonPushReader.setJsonContentHandler(jsonContentRecorder);
+
+    fastJsonPushReader.feed(ByteBuffer.wrap("{\"na".getBytes("UTF-8")));
+
+    assertEquals(Arrays.asList("startJson", "startObject"), jsonContentRecorder.getEvents());
+
+    fastJsonPushReader.feed(ByteBuffer.wrap("me\": [12".getBytes("UTF-8")));
+
+    assertEquals(Arrays.asList("startJson", "startObject", "memberName(name)", "startArray"), jsonContentRecorder.getEvents());
+
+    fastJsonPushReader.feed(ByteBuffer.wrap("3, tr".getBytes("UTF-8")));
+
+    assertEquals(Arrays.asList("startJson", "startObject", "memberName(name)", "startArray", "primitive(Integer:123)"), jsonContentRecorder.getEvents());
+
+    fastJsonPushReader.feed(ByteBuffer.wrap("ue]}".getBytes("UTF-8")));
+
+    assertFalse(fastJsonPushReader.isEnded());
+
+    fastJsonPushReader.endOfInput();
+
+    assertTrue(fastJsonPushReader.isEnded());
+    assertEquals(Arrays.asList("startJson", "startObject", "memberName(name)", "startArray", "primitive(Integer:123)", "primitive(Boolean:true)", "endArray", "endObject", "endJson"), jsonContentRecorder.getEvents());
+  }
+
+  /**
+   * Test the reuse of a reader after a reset.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testReset()
+    throws Exception {
+    FastJsonPushReader fastJsonPushReader = new FastJsonPushReader();
+
+    fastJsonPushReader.setJsonContentHandler(new JsonContentRecorder());
+    fastJsonPushReader.feed(ByteBuffer.wrap("[\"abandoned".getBytes("UTF-8")));
+    fastJsonPushReader.reset();
+
+    assertEquals(Arrays.asList("startJson", "primitive(Integer:42)", "endJson"), feed(fastJsonPushReader, "42".getBytes("UTF-8"), 1));
+  }
+
+  /**
+   * Feed the given UTF-8 encoded JSON text to the given reader in chunks of
+   * the given size.
+   *
+   * @param fastJsonPushReader The reader.
+   * @param bytes The UTF-8 encoded JSON text.
+   * @param chunkSize The chunk size.
+   * @return The recorded events.
+   * @throws JsonReaderException
+   */
+  private static List<String> feed(FastJsonPushReader fastJsonPushReader, byte[] bytes, int chunkSize)
+    throws JsonReaderException {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    fastJsonPushReader.setJsonContentHandler(jsonContentRecorder);
+
+    for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+      ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, Math.min(chunkSize, bytes.length - offset));
+
+      fastJsonPushReader.feed(byteBuffer);
+
+      assertFalse(byteBuffer.hasRemaining());
+    }
+
+    fastJsonPushReader.endOfInput();
+
+    return jsonContentRecorder.getEvents();
+  }
+}
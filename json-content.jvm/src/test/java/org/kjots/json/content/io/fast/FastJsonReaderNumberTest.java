@@ -0,0 +1,263 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.JsonContentRecorder;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.fast.FastJsonReader.NumberPolicy;
+import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.JsonContentUtil;
+import org.kjots.json.content.shared.TypedJsonContentHandler;
+
+/**
+ * Fast JSON Reader Number Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonReaderNumberTest {
+  /**
+   * Test the parsing of numbers with the exact number policy.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testExactNumberPolicy()
+    throws Exception {
+    assertEquals(Integer.valueOf(0), parse(NumberPolicy.EXACT, "-0.0"));
+    assertEquals(Integer.valueOf(15), parse(NumberPolicy.EXACT, "1.5e1"));
+    assertEquals(Long.valueOf(5000000000L), parse(NumberPolicy.EXACT, "5e9"));
+    assertEquals(new BigInteger("100000000000000000000"), parse(NumberPolicy.EXACT, "1e20"));
+    assertEquals(new BigDecimal("1.50"), parse(NumberPolicy.EXACT, "1.50"));
+    assertEquals(new BigDecimal("-0.0025"), parse(NumberPolicy.EXACT, "-2.5e-3"));
+    assertEquals(new BigDecimal("0.1234567890123456789012345"), parse(NumberPolicy.EXACT, "0.1234567890123456789012345"));
+  }
+
+  /**
+   * Test the parsing of numbers with the double number policy.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testDoubleNumberPolicy()
+    throws Exception {
+    assertEquals(Double.valueOf(1), parse(NumberPolicy.DOUBLE, "1"));
+    assertEquals(Double.valueOf(-0.0), parse(NumberPolicy.DOUBLE, "-0"));
+    assertEquals(Double.valueOf(0.1), parse(NumberPolicy.DOUBLE, "0.1"));
+    assertEquals(Double.valueOf(-2.5e-3), parse(NumberPolicy.DOUBLE, "-2.5e-3"));
+    assertEquals(Double.valueOf(1e22), parse(NumberPolicy.DOUBLE, "1e22"));
+    assertEquals(Double.valueOf(1e23), parse(NumberPolicy.DOUBLE, "1e23"));
+    assertEquals(Double.valueOf(9007199254740993.0), parse(NumberPolicy.DOUBLE, "9007199254740993"));
+    assertEquals(Double.valueOf(Double.MAX_VALUE), parse(NumberPolicy.DOUBLE, "1.7976931348623157e308"));
+    assertEquals(Double.valueOf(Double.MIN_VALUE), parse(NumberPolicy.DOUBLE, "4.9e-324"));
+    assertEquals(Double.valueOf(Double.POSITIVE_INFINITY), parse(NumberPolicy.DOUBLE, "1e400"));
+  }
+
+  /**
+   * Test the parsing of numbers with the smallest number policy.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testSmallestNumberPolicy()
+    throws Exception {
+    assertEquals(Integer.valueOf(42), parse(NumberPolicy.SMALLEST, "42"));
+    assertEquals(Integer.valueOf(100), parse(NumberPolicy.SMALLEST, "1.00e2"));
+    assertEquals(Long.valueOf(-9223372036854775808L), parse(NumberPolicy.SMALLEST, "-9223372036854775808"));
+    assertEquals(new BigInteger("9223372036854775808"), parse(NumberPolicy.SMALLEST, "9223372036854775808"));
+    assertEquals(Double.valueOf(3.14159), parse(NumberPolicy.SMALLEST, "3.14159"));
+    assertEquals(Double.valueOf(-1.5e-300), parse(NumberPolicy.SMALLEST, "-1.5e-300"));
+    assertEquals(new BigDecimal("0.1234567890123456"), parse(NumberPolicy.SMALLEST, "0.1234567890123456"));
+    assertEquals(new BigDecimal("1.5e-400"), parse(NumberPolicy.SMALLEST, "1.5e-400"));
+  }
+
+  /**
+   * Test the changing of the number policy of a reader.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testSetNumberPolicy()
+    throws Exception {
+    FastJsonReader fastJsonReader = new FastJsonReader();
+
+    assertEquals(NumberPolicy.EXACT, fastJsonReader.getNumberPolicy());
+    assertEquals(new BigDecimal("0.5"), parse(fastJsonReader, "0.5"));
+
+    fastJsonReader.setNumberPolicy(NumberPolicy.DOUBLE);
+
+    assertEquals(NumberPolicy.DOUBLE, fastJsonReader.getNumberPolicy());
+    assertEquals(Double.valueOf(0.5), parse(fastJsonReader, "0.5"));
+  }
+
+  /**
+   * Test the parsing of numbers with a typed JSON content handler.
+   * <p>
+   * This test asserts that the integers and doubles are reported to the
+   * typed methods of the handler, that all other numbers are reported to
+   * {@link JsonContentHandler#primitive(Object)}, and that the reported values
+   * are equal to the values reported to a handler that is not typed, for
+   * every number policy.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testTypedJsonContentHandler()
+    throws Exception {
+    String[] jsonTexts = {
+      "0", "-0.0", "42", "1.00e2", "5e9", "-9223372036854775808", "9223372036854775808", "1e20",
+      "0.5", "3.14159", "-2.5e-3", "0.1234567890123456", "1.5e-400", "1e400"
+    };
+
+    for (NumberPolicy numberPolicy : NumberPolicy.values()) {
+      for (String jsonText : jsonTexts) {
+        Object[] typedValue = parseTyped(new FastJsonReader(numberPolicy), jsonText);
+        Object value = parse(numberPolicy, jsonText);
+
+        assertEquals(numberPolicy + " " + jsonText, value, typedValue[1]);
+
+        if (value instanceof Integer || value instanceof Long) {
+          assertEquals(numberPolicy + " " + jsonText, "primitiveLong", typedValue[0]);
+        }
+        else if (value instanceof Double) {
+          assertEquals(numberPolicy + " " + jsonText, "primitiveDouble", typedValue[0]);
+        }
+        else {
+          assertEquals(numberPolicy + " " + jsonText, "primitive", typedValue[0]);
+        }
+      }
+    }
+
+    Object[] typedValue = parseTyped(new FastJsonReader(), "\"a\", true, false, null");
+
+    assertEquals("primitiveString", typedValue[0]);
+    assertTrue(typedValue[1] instanceof String);
+  }
+
+  /**
+   * Parse the given JSON text containing a single number with a new reader
+   * using the given number policy.
+   *
+   * @param numberPolicy The number policy.
+   * @param jsonText The JSON text.
+   * @return The number.
+   * @throws JsonReaderException
+   */
+  private static Object parse(NumberPolicy numberPolicy, String jsonText)
+    throws JsonReaderException {
+    return parse(new FastJsonReader(numberPolicy), jsonText);
+  }
+
+  /**
+   * Parse the given JSON text containing a single number with the given
+   * reader.
+   *
+   * @param fastJsonReader The reader.
+   * @param jsonText The JSON text.
+   * @return The number.
+   * @throws JsonReaderException
+   */
+  private static Object parse(FastJsonReader fastJsonReader, String jsonText)
+    throws JsonReaderException {
+    final Object[] values = new Object[1];
+
+    JsonContentHandler jsonContentHandler = new JsonContentRecorder() {
+      @Override
+      public void primitive(Object value) {
+        values[0] = value;
+      }
+    };
+
+    fastJsonReader.setJsonContentHandler(jsonContentHandler);
+    fastJsonReader.parse("[" + jsonText + "]");
+
+    return values[0];
+  }
+
+  /**
+   * Parse the given JSON text containing primitives with the given reader and
+   * a typed JSON content handler.
+   *
+   * @param fastJsonReader The reader.
+   * @param jsonText The JSON text.
+   * @return The name of the method that handled the first primitive, and its
+   *   boxed value.
+   * @throws JsonReaderException
+   */
+  private static Object[] parseTyped(FastJsonReader fastJsonReader, String jsonText)
+    throws JsonReaderException {
+    final Object[] typedValue = new Object[2];
+
+    class TypedJsonContentRecorder extends JsonContentRecorder implements TypedJsonContentHandler {
+      @Override
+      public void memberName(CharSequence name) {
+        this.memberName(name.toString());
+      }
+
+      @Override
+      public void primitive(Object value) {
+        this.record("primitive", value);
+      }
+
+      @Override
+      public void primitiveNull() {
+        this.record("primitiveNull", null);
+      }
+
+      @Override
+      public void primitiveBoolean(boolean value) {
+        this.record("primitiveBoolean", Boolean.valueOf(value));
+      }
+
+      @Override
+      public void primitiveLong(long value) {
+        this.record("primitiveLong", JsonContentUtil.toNumber(value));
+      }
+
+      @Override
+      public void primitiveDouble(double value) {
+        this.record("primitiveDouble", Double.valueOf(value));
+      }
+
+      @Override
+      public void primitiveString(CharSequence value) {
+        this.record("primitiveString", value.toString());
+      }
+
+      private void record(String methodName, Object value) {
+        if (typedValue[0] == null) {
+          typedValue[0] = methodName;
+          typedValue[1] = value;
+        }
+      }
+    }
+
+    fastJsonReader.setJsonContentHandler(new TypedJsonContentRecorder());
+    fastJsonReader.parse("[" + jsonText + "]");
+
+    return typedValue;
+  }
+}
@@ -0,0 +1,664 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.JsonContentRecorder;
+import org.kjots.json.content.io.JsonContentTestSupport;
+import org.kjots.json.content.io.JsonReader;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.simple.SimpleJsonReader;
+import org.kjots.json.content.shared.JsonContentTape;
+import org.kjots.json.content.shared.JsonContentTapePlayer;
+import org.kjots.json.content.shared.JsonContentTapeRecorder;
+import org.kjots.json.content.shared.JsonSymbolTable;
+import org.kjots.json.content.shared.text.JsonTextBuilder;
+
+/**
+ * Fast JSON Reader Parity Test.
+ * <p>
+ * This test asserts that the {@link FastJsonReader} produces exactly the same
+ * JSON content events as the {@link SimpleJsonReader} for the same JSON text.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonReaderParityTest {
+  /**
+   * Trickle Reader.
+   * <p>
+   * This reader provides at most one character per read, so as to exercise the
+   * handling of tokens that span the buffer of a reader.
+   */
+  static class TrickleReader extends FilterReader {
+    /**
+     * Construct a new Trickle Reader.
+     *
+     * @param in The underlying reader.
+     */
+    public TrickleReader(Reader in) {
+      super(in);
+    }
+
+    /**
+     * Read characters into the given buffer.
+     *
+     * @param cbuf The buffer.
+     * @param off The offset.
+     * @param len The length.
+     * @return The number of characters read.
+     * @throws IOException
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len)
+      throws IOException {
+      return super.read(cbuf, off, Math.min(len, 1));
+    }
+  }
+
+  /**
+   * Trickle Input Stream.
+   * <p>
+   * This input stream provides at most one byte per read, so as to exercise
+   * the handling of tokens and UTF-8 sequences that span the buffer of a
+   * reader.
+   */
+  static class TrickleInputStream extends FilterInputStream {
+    /**
+     * Construct a new Trickle Input Stream.
+     *
+     * @param in The underlying input stream.
+     */
+    public TrickleInputStream(InputStream in) {
+      super(in);
+    }
+
+    /**
+     * Read bytes into the given buffer.
+     *
+     * @param b The buffer.
+     * @param off The offset.
+     * @param len The length.
+     * @return The number of bytes read.
+     * @throws IOException
+     */
+    @Override
+    public int read(byte[] b, int off, int len)
+      throws IOException {
+      return super.read(b, off, Math.min(len, 1));
+    }
+  }
+
+  /** The valid JSON text corpus. */
+  public static final String[] CORPUS = {
+    "{}",
+    "[]",
+    " \t\r\n{ \t\r\n} \t\r\n",
+    "{\"a\":1,\"b\":[true,false,null],\"c\":{\"d\":\"e\"}}",
+    "[[],[[]],{},[{}],{\"a\":[]}]",
+    "[0,-0,1,-1,2147483647,-2147483648,2147483648,-2147483649]",
+    "[9223372036854775807,-9223372036854775808,9223372036854775808,-9223372036854775809,123456789012345678901234567890]",
+    "[0.0,-0.0,1.0,1.5,-1.5,3.14159,1e2,1E2,1e+2,1e-2,1.5e1,1.25e1,2.5E-3,1e400,-1.7976931348623157e308]",
+    "[123456789012345678,1234567890123456789,0.1234567890123456789012345]",
+    "[0.05,0.000,1.50,100e-2,1.50e5,-12.5e-1,12345678901234567.5,1234567890123456789e-19,1e-400,5e18,-9.5e18]",
+    "[\"\",\"a\",\"abc def\",\"\\\"\",\"\\\\\",\"\\/\",\"\\b\\f\\n\\r\\t\"]",
+    "[\"\u00e9\\n\u00e9\",\"\ud834\udd1e\",\"\u0800\uffff\\u0041\",\"\u0080\u07ff\\/\"]",
+    "[\"\\u0000\",\"\\u001f\",\"\\u00e9\",\"\\u00E9\",\"\\uD834\\uDD1E\",\"caf\u00e9\",\"\u4e2d\u6587\"]",
+    "{\"\\u0061\\n\":\"key with escapes\",\"\":\"empty key\"}",
+    "\"top-level string\"",
+    "42",
+    "-3.5e-7",
+    "true",
+    "false",
+    "null",
+    "{\"name\":\"value\",\"nested\":{\"array\":[1,{\"deep\":[[[[\"x\"]]]]}]}}",
+    createDeepJsonText(100),
+    createLongJsonText(20000)
+  };
+
+  /** The invalid JSON text corpus. */
+  public static final String[] INVALID_CORPUS = {
+    "",
+    "   ",
+    "{",
+    "[",
+    "[1,",
+    "]",
+    "}",
+    "[1]]",
+    "{1:2}",
+    "[tru]",
+    "[nul]",
+    "[-]",
+    "\"abc",
+    "{\"a\":1}}",
+    "[1][2]"
+  };
+
+  /**
+   * The divergent JSON text corpus.
+   * <p>
+   * Each entry is a malformed JSON text that the lenient simple JSON reader
+   * accepts and the strict fast JSON reader rejects, along with the events
+   * of the simple JSON reader.
+   */
+  public static final String[][] DIVERGENT_CORPUS = {
+    { "[1,]", "[startJson, startArray, primitive(Integer:1), endArray, endJson]" },
+    { "{\"a\":1,}", "[startJson, startObject, memberName(a), primitive(Integer:1), endObject, endJson]" },
+    { "[01]", "[startJson, startArray, primitive(Integer:0), primitive(Integer:1), endArray, endJson]" },
+    { "[\"\\x\"]", "[startJson, startArray, primitive(String:\\x), endArray, endJson]" },
+    { "[\"\\u12\"]", "[startJson, startArray, primitive(String:\\u12), endArray, endJson]" },
+    { "[\"a\tb\"]", "[startJson, startArray, primitive(String:a\tb), endArray, endJson]" },
+    { "[1 2]", "[startJson, startArray, primitive(Integer:1), primitive(Integer:2), endArray, endJson]" },
+    { "{\"a\" 1}", "[startJson, startObject, memberName(a), primitive(Integer:1), endObject, endJson]" },
+    { "[,1]", "[startJson, startArray, primitive(Integer:1), endArray, endJson]" },
+    { "[1,,2]", "[startJson, startArray, primitive(Integer:1), primitive(Integer:2), endArray, endJson]" }
+  };
+
+  /**
+   * Test the parsing of the corpus from strings.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseString()
+    throws Exception {
+    for (String jsonText : CORPUS) {
+      assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), JsonContentTestSupport.parse(new FastJsonReader(), jsonText));
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus from readers.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseReader()
+    throws Exception {
+    for (String jsonText : CORPUS) {
+      assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), JsonContentTestSupport.parse(new FastJsonReader(), new StringReader(jsonText)));
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus from readers that provide a single
+   * character per read.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseTrickleReader()
+    throws Exception {
+    for (String jsonText : CORPUS) {
+      assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), JsonContentTestSupport.parse(new FastJsonReader(), new TrickleReader(new StringReader(jsonText))));
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus from UTF-8 encoded byte arrays.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseBytes()
+    throws Exception {
+    for (String jsonText : CORPUS) {
+      JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+      FastJsonReader fastJsonReader = new FastJsonReader();
+      fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+      fastJsonReader.parse(toUtf8(jsonText));
+
+      assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), jsonContentRecorder.getEvents());
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus from UTF-8 encoded byte arrays with an
+   * offset.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseBytesWithOffset()
+    throws Exception {
+    for (String jsonText : CORPUS) {
+      byte[] bytes = toUtf8("[[" + jsonText + "]]");
+
+      JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+      FastJsonReader fastJsonReader = new FastJsonReader();
+      fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+      fastJsonReader.parse(bytes, 2, bytes.length - 4);
+
+      assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), jsonContentRecorder.getEvents());
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus from heap and direct byte buffers.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseByteBuffer()
+    throws Exception {
+    for (String jsonText : CORPUS) {
+      byte[] bytes = toUtf8("[[" + jsonText + "]]");
+
+      ByteBuffer heapByteBuffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+
+      ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(bytes.length);
+      directByteBuffer.put(bytes).position(2);
+      directByteBuffer.limit(bytes.length - 2);
+
+      for (ByteBuffer byteBuffer : new ByteBuffer[] { heapByteBuffer, directByteBuffer }) {
+        int position = byteBuffer.position();
+
+        assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), JsonContentTestSupport.parse(new FastJsonReader(), byteBuffer));
+        assertEquals(jsonText, position, byteBuffer.position());
+      }
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus from input streams that provide a single
+   * byte per read.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseTrickleInputStream()
+    throws Exception {
+    for (String jsonText : CORPUS) {
+      JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+      FastJsonReader fastJsonReader = new FastJsonReader();
+      fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+      fastJsonReader.parse(new TrickleInputStream(new ByteArrayInputStream(toUtf8(jsonText))));
+
+      assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), jsonContentRecorder.getEvents());
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus from memory-mapped files.
+   * <p>
+   * The files are mapped with a variety of mapping sizes, so as to exercise
+   * the handling of tokens and UTF-8 sequences that span mapped regions.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseFile()
+    throws Exception {
+    File file = File.createTempFile("FastJsonReaderParityTest", ".json");
+
+    try {
+      for (String jsonText : CORPUS) {
+        FileOutputStream fileOutputStream = new FileOutputStream(file);
+        try {
+          fileOutputStream.write(toUtf8(jsonText));
+        }
+        finally {
+          fileOutputStream.close();
+        }
+
+        for (int mappingSize : new int[] { 61, 4096, FastJsonReader.DEFAULT_MAPPING_SIZE }) {
+          JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+          FastJsonReader fastJsonReader = new FastJsonReader();
+          fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+          fastJsonReader.setMappingSize(mappingSize);
+          fastJsonReader.parse(file);
+
+          assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), jsonContentRecorder.getEvents());
+        }
+      }
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  /**
+   * Test the parsing of the invalid corpus from UTF-8 encoded byte arrays.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseInvalidBytes()
+    throws Exception {
+    for (String jsonText : INVALID_CORPUS) {
+      assertInvalid(new FastJsonReader(), toUtf8(jsonText));
+    }
+  }
+
+  /**
+   * Test the parsing of malformed UTF-8 sequences.
+   */
+  @Test
+  public void testParseMalformedUtf8() {
+    byte[][] malformedSequences = {
+      { (byte)0x80 },
+      { (byte)0xC3 },
+      { (byte)0xC0, (byte)0xAF },
+      { (byte)0xE0, (byte)0x80, (byte)0xAF },
+      { (byte)0xED, (byte)0xA0, (byte)0x80 },
+      { (byte)0xF4, (byte)0x90, (byte)0x80, (byte)0x80 },
+      { (byte)0xF8, (byte)0x88, (byte)0x80, (byte)0x80, (byte)0x80 }
+    };
+
+    for (byte[] malformedSequence : malformedSequences) {
+      byte[] bytes = new byte[malformedSequence.length + 4];
+      bytes[0] = '[';
+      bytes[1] = '"';
+      System.arraycopy(malformedSequence, 0, bytes, 2, malformedSequence.length);
+      bytes[bytes.length - 2] = '"';
+      bytes[bytes.length - 1] = ']';
+
+      assertInvalid(new FastJsonReader(), bytes);
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus into a JSON text builder.
+   * <p>
+   * This test asserts that the member names and string values that the
+   * {@link FastJsonReader} passes as character sequences to a typed JSON
+   * content handler, for both strings and UTF-8 encoded byte arrays, produce
+   * the same JSON text as the strings passed by the {@link SimpleJsonReader}.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseCharSequences()
+    throws Exception {
+    for (String corpusJsonText : CORPUS) {
+      // The JSON text builder does not support primitives in the root context
+      String jsonText = "[" + corpusJsonText + "]";
+
+      JsonTextBuilder expectedJsonTextBuilder = new JsonTextBuilder();
+      JsonTextBuilder stringJsonTextBuilder = new JsonTextBuilder();
+      JsonTextBuilder bytesJsonTextBuilder = new JsonTextBuilder();
+
+      SimpleJsonReader simpleJsonReader = new SimpleJsonReader();
+      simpleJsonReader.setJsonContentHandler(expectedJsonTextBuilder);
+      simpleJsonReader.parse(jsonText);
+
+      FastJsonReader fastJsonReader = new FastJsonReader();
+      fastJsonReader.setJsonContentHandler(stringJsonTextBuilder);
+      fastJsonReader.parse(jsonText);
+      fastJsonReader.setJsonContentHandler(bytesJsonTextBuilder);
+      fastJsonReader.parse(toUtf8(jsonText));
+
+      assertEquals(jsonText, expectedJsonTextBuilder.toString(), stringJsonTextBuilder.toString());
+      assertEquals(jsonText, expectedJsonTextBuilder.toString(), bytesJsonTextBuilder.toString());
+    }
+  }
+
+  /**
+   * Test the recording of the corpus into a JSON content tape.
+   * <p>
+   * This test asserts that the events of each text of the corpus, recorded
+   * into a JSON content tape with each number policy and replayed from the
+   * serialized form of the tape, are the events produced by parsing the text
+   * directly.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseIntoTape()
+    throws Exception {
+    for (FastJsonReader.NumberPolicy numberPolicy : FastJsonReader.NumberPolicy.values()) {
+      FastJsonReader fastJsonReader = new FastJsonReader(numberPolicy);
+
+      for (String jsonText : CORPUS) {
+        JsonContentTapeRecorder jsonContentTapeRecorder = new JsonContentTapeRecorder();
+        JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+        fastJsonReader.setJsonContentHandler(jsonContentTapeRecorder);
+        fastJsonReader.parse(jsonText);
+
+        byte[] bytes = jsonContentTapeRecorder.getJsonContentTape().toByteArray();
+
+        new JsonContentTapePlayer(jsonContentRecorder).play(JsonContentTape.fromByteArray(bytes));
+
+        assertEquals(numberPolicy + ": " + jsonText, JsonContentTestSupport.parse(fastJsonReader, jsonText), jsonContentRecorder.getEvents());
+      }
+    }
+  }
+
+  /**
+   * Test the parsing of the corpus with a symbol table.
+   * <p>
+   * This test asserts that a reader with a symbol table produces the same
+   * events as a reader without one, and that each occurrence of a member
+   * name, whether escaped or not and whether parsed from a string or from
+   * UTF-8 encoded bytes, is reported as the same string instance.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseWithSymbolTable()
+    throws Exception {
+    JsonSymbolTable symbolTable = new JsonSymbolTable();
+
+    FastJsonReader fastJsonReader = new FastJsonReader();
+    fastJsonReader.setSymbolTable(symbolTable);
+
+    for (String jsonText : CORPUS) {
+      assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), JsonContentTestSupport.parse(fastJsonReader, jsonText));
+    }
+
+    final List<String> memberNames = new ArrayList<String>();
+
+    fastJsonReader.setJsonContentHandler(new JsonContentRecorder() {
+      @Override
+      public void memberName(String name) {
+        memberNames.add(name);
+      }
+    });
+    fastJsonReader.parse("[{\"id\":1,\"na\\u006De\":2},{\"id\":3,\"name\":4}]");
+    fastJsonReader.parse(toUtf8("{\"id\":5,\"n\u00E4me\":6,\"name\":7}"));
+    fastJsonReader.parse(toUtf8("{\"n\u00E4me\":8}"));
+
+    assertEquals(Arrays.asList("id", "name", "id", "name", "id", "n\u00E4me", "name", "n\u00E4me"), memberNames);
+    assertSame(memberNames.get(0), memberNames.get(2));
+    assertSame(memberNames.get(0), memberNames.get(4));
+    assertSame(memberNames.get(1), memberNames.get(3));
+    assertSame(memberNames.get(1), memberNames.get(6));
+    assertSame(memberNames.get(5), memberNames.get(7));
+  }
+
+  /**
+   * Test the reuse of a reader for the parsing of the corpus.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseWithReusedReader()
+    throws Exception {
+    FastJsonReader fastJsonReader = new FastJsonReader();
+
+    for (String jsonText : CORPUS) {
+      assertEquals(jsonText, JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText), JsonContentTestSupport.parse(fastJsonReader, jsonText));
+    }
+  }
+
+  /**
+   * Test the parsing of the invalid corpus.
+   * <p>
+   * This test asserts that both readers reject each JSON text of the invalid
+   * corpus.
+   */
+  @Test
+  public void testParseInvalid() {
+    for (String jsonText : INVALID_CORPUS) {
+      assertInvalid(new SimpleJsonReader(), jsonText);
+      assertInvalid(new FastJsonReader(), jsonText);
+    }
+  }
+
+  /**
+   * Test the parsing of the divergent corpus.
+   * <p>
+   * This test asserts that the simple JSON reader accepts each JSON text of
+   * the divergent corpus with the recorded events, and that the fast JSON
+   * reader, which accepts only the JSON texts of RFC 8259, rejects each of
+   * them from a string and from UTF-8 encoded bytes.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseDivergent()
+    throws Exception {
+    for (String[] divergentJsonText : DIVERGENT_CORPUS) {
+      String jsonText = divergentJsonText[0];
+
+      assertEquals(jsonText, divergentJsonText[1], JsonContentTestSupport.parse(new SimpleJsonReader(), jsonText).toString());
+
+      assertInvalid(new FastJsonReader(), jsonText);
+      assertInvalid(new FastJsonReader(), toUtf8(jsonText));
+    }
+  }
+
+  /**
+   * Assert that the given JSON reader rejects the given UTF-8 encoded JSON
+   * text.
+   *
+   * @param jsonReader The JSON reader.
+   * @param jsonText The UTF-8 encoded JSON text.
+   */
+  private static void assertInvalid(JsonReader jsonReader, byte[] jsonText) {
+    jsonReader.setJsonContentHandler(new JsonContentRecorder());
+
+    try {
+      jsonReader.parse(jsonText);
+
+      fail(jsonReader.getClass().getSimpleName() + " accepted " + Arrays.toString(jsonText));
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+  }
+
+  /**
+   * Encode the given JSON text as UTF-8.
+   *
+   * @param jsonText The JSON text.
+   * @return The UTF-8 encoded JSON text.
+   * @throws UnsupportedEncodingException
+   */
+  private static byte[] toUtf8(String jsonText)
+    throws UnsupportedEncodingException {
+    return jsonText.getBytes("UTF-8");
+  }
+
+  /**
+   * Assert that the given JSON reader rejects the given JSON text.
+   *
+   * @param jsonReader The JSON reader.
+   * @param jsonText The JSON text.
+   */
+  private static void assertInvalid(JsonReader jsonReader, String jsonText) {
+    jsonReader.setJsonContentHandler(new JsonContentRecorder());
+
+    try {
+      jsonReader.parse(jsonText);
+
+      fail(jsonReader.getClass().getSimpleName() + " accepted " + jsonText);
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+  }
+
+  /**
+   * Create a deeply nested JSON text.
+   *
+   * @param depth The depth.
+   * @return The JSON text.
+   */
+  private static String createDeepJsonText(int depth) {
+    StringBuilder stringBuilder = new StringBuilder();
+
+    for (int i = 0; i < depth; i++) {
+      stringBuilder.append(i % 2 == 0 ? "[" : "{\"k\":");
+    }
+
+    stringBuilder.append("\"bottom\"");
+
+    for (int i = depth - 1; i >= 0; i--) {
+      stringBuilder.append(i % 2 == 0 ? "]" : "}");
+    }
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Create a JSON text with tokens that exceed the default buffer sizes.
+   *
+   * @param length The length of the long string values.
+   * @return The JSON text.
+   */
+  private static String createLongJsonText(int length) {
+    StringBuilder stringBuilder = new StringBuilder("[\"");
+
+    for (int i = 0; i < length; i++) {
+      stringBuilder.append((char)('a' + i % 26));
+    }
+
+    stringBuilder.append("\",\"");
+
+    for (int i = 0; i < length; i++) {
+      stringBuilder.append(i % 7 == 0 ? "\\n" : "x");
+    }
+
+    stringBuilder.append("\"");
+
+    for (int i = 0; i < length / 10; i++) {
+      stringBuilder.append(",{\"member").append(i).append("\":").append(i * 1.5).append("}");
+    }
+
+    stringBuilder.append("]");
+
+    return stringBuilder.toString();
+  }
+}
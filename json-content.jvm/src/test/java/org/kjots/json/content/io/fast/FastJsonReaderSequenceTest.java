@@ -0,0 +1,201 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.JsonContentRecorder;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.simple.SimpleJsonReader;
+
+/**
+ * Fast JSON Reader Sequence Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonReaderSequenceTest {
+  /**
+   * Test the parsing of the corpus as JSON Lines.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseJsonLines()
+    throws Exception {
+    StringBuilder jsonLines = new StringBuilder();
+    List<String> expectedEvents = new ArrayList<String>();
+
+    for (String jsonText : FastJsonReaderParityTest.CORPUS) {
+      jsonLines.append(jsonText.replaceAll("[\r\n]", " ")).append('\n');
+
+      JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+      SimpleJsonReader simpleJsonReader = new SimpleJsonReader();
+      simpleJsonReader.setJsonContentHandler(jsonContentRecorder);
+      simpleJsonReader.parse(jsonText);
+
+      expectedEvents.addAll(jsonContentRecorder.getEvents());
+    }
+
+    FastJsonReader fastJsonReader = new FastJsonReader();
+
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+    fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+    fastJsonReader.parseSequence(new StringReader(jsonLines.toString()));
+
+    assertEquals(expectedEvents, jsonContentRecorder.getEvents());
+
+    jsonContentRecorder = new JsonContentRecorder();
+    fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+    fastJsonReader.parseSequence(new ByteArrayInputStream(jsonLines.toString().getBytes("UTF-8")));
+
+    assertEquals(expectedEvents, jsonContentRecorder.getEvents());
+  }
+
+  /**
+   * Test the parsing of concatenated JSON texts.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseConcatenated()
+    throws Exception {
+    assertEquals(Arrays.asList(
+        "startJson", "startObject", "endObject", "endJson",
+        "startJson", "startArray", "primitive(Integer:1)", "endArray", "endJson",
+        "startJson", "primitive(String:a)", "endJson",
+        "startJson", "primitive(Boolean:true)", "endJson",
+        "startJson", "primitive(Integer:2)", "endJson"),
+      parseSequence("{}[1]\"a\"true 2"));
+  }
+
+  /**
+   * Test the parsing of an empty sequence.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseEmpty()
+    throws Exception {
+    assertEquals(Collections.<String>emptyList(), parseSequence(""));
+    assertEquals(Collections.<String>emptyList(), parseSequence(" \n\n "));
+  }
+
+  /**
+   * Test that each JSON text is completed without waiting for further input.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testRecordCompletedWithoutFurtherInput()
+    throws Exception {
+    Reader reader = new Reader() {
+      private boolean read;
+
+      @Override
+      public int read(char[] cbuf, int off, int len)
+        throws IOException {
+        if (this.read) {
+          throw new IOException("No further input");
+        }
+
+        this.read = true;
+
+        "{\"a\":1}\n[".getChars(0, 9, cbuf, off);
+
+        return 9;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    FastJsonReader fastJsonReader = new FastJsonReader();
+    fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+
+    try {
+      fastJsonReader.parseSequence(reader);
+
+      fail("Expected IOException");
+    }
+    catch (IOException ioe) {
+      // Expected
+    }
+
+    assertEquals(Arrays.asList("startJson", "startObject", "memberName(a)", "primitive(Integer:1)", "endObject", "endJson", "startJson", "startArray"), jsonContentRecorder.getEvents());
+  }
+
+  /**
+   * Test the parsing of a sequence containing an invalid JSON text.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testParseInvalid()
+    throws Exception {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    FastJsonReader fastJsonReader = new FastJsonReader();
+    fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+
+    try {
+      fastJsonReader.parseSequence(new StringReader("{\"a\":1}\n{\"b\"}\n{\"c\":3}\n"));
+
+      fail("Expected JsonReaderException");
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+
+    assertEquals(Arrays.asList("startJson", "startObject", "memberName(a)", "primitive(Integer:1)", "endObject", "endJson"), jsonContentRecorder.getEvents().subList(0, 6));
+  }
+
+  /**
+   * Parse the given sequence of JSON texts.
+   *
+   * @param jsonText The sequence of JSON texts.
+   * @return The recorded events.
+   * @throws Exception
+   */
+  private static List<String> parseSequence(String jsonText)
+    throws Exception {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+
+    FastJsonReader fastJsonReader = new FastJsonReader();
+    fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+    fastJsonReader.parseSequence(new StringReader(jsonText));
+
+    return jsonContentRecorder.getEvents();
+  }
+}
@@ -0,0 +1,300 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.io.fast;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import org.kjots.json.content.io.JsonContentRecorder;
+import org.kjots.json.content.io.JsonReaderException;
+import org.kjots.json.content.io.JsonWriter;
+
+/**
+ * Fast JSON Reformatter Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FastJsonReformatterTest {
+  /** The JSON texts whose literals are written unchanged by the JSON writer. */
+  private static final String[] CANONICAL_JSON_TEXTS = {
+    "{}",
+    "[]",
+    "{\"a\":1,\"b\":[true,false,null],\"c\":{\"d\":\"e\"}}",
+    "[[],[[]],{},[{}],{\"a\":[]}]",
+    "{\"name\":\"value\",\"nested\":{\"array\":[1,{\"deep\":[[[[\"x\"]]]]}]}}"
+  };
+
+  /**
+   * Test the reformatting of JSON texts into the layouts of the JSON writer.
+   * <p>
+   * This test asserts that the reformatted JSON text is the same as the JSON
+   * text written by the {@link JsonWriter}, in both layouts, and that the
+   * reformatted JSON text can be reformatted back into the compact layout.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testReformat()
+    throws Exception {
+    for (String jsonText : CANONICAL_JSON_TEXTS) {
+      for (boolean format : new boolean[] { false, true }) {
+        String expectedJsonText = write(jsonText, format);
+        String reformattedJsonText = reformat(jsonText, format, true);
+
+        assertEquals(jsonText, expectedJsonText, reformattedJsonText);
+        assertEquals(jsonText, jsonText, reformat(reformattedJsonText, false, true));
+      }
+    }
+  }
+
+  /**
+   * Test the reformatting of the corpus.
+   * <p>
+   * This test asserts that the JSON text reformatted from the corpus, in both
+   * layouts, from characters and from bytes, and with and without validation,
+   * produces the same JSON content events as the original JSON text.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testReformatCorpus()
+    throws Exception {
+    for (String jsonText : FastJsonReaderParityTest.CORPUS) {
+      for (boolean format : new boolean[] { false, true }) {
+        for (boolean validating : new boolean[] { false, true }) {
+          String reformattedJsonText = reformat(jsonText, format, validating);
+
+          assertEquals(jsonText, parse(jsonText), parse(reformattedJsonText));
+          assertEquals(jsonText, reformattedJsonText, reformatBytes(jsonText, format, validating));
+          assertEquals(jsonText, reformattedJsonText, reformatTrickle(jsonText, format, validating));
+        }
+      }
+    }
+  }
+
+  /**
+   * Test the reformatting of a sequence of JSON texts.
+   * <p>
+   * This test asserts that the JSON texts of a sequence are separated by
+   * newlines in the compact layout, and followed by newlines in the formatted
+   * layout.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testReformatSequence()
+    throws Exception {
+    String jsonText = " 1 \"a\"[ 2 ,{ \"b\" : 3 } ]\n{}";
+
+    assertEquals("1\n\"a\"\n[2,{\"b\":3}]\n{}", reformat(jsonText, false, true));
+    assertEquals("1\n\"a\"\n[\n  2,\n  {\n    \"b\" : 3\n  }\n]\n{}\n", reformat(jsonText, true, true));
+  }
+
+  /**
+   * Test the validation of invalid JSON texts.
+   * <p>
+   * This test asserts that the invalid JSON texts are rejected from characters
+   * and from bytes when the validating flag is set, and are reformatted
+   * without an exception otherwise.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testValidate()
+    throws Exception {
+    String[] invalidJsonTexts = {
+      "[1 2]",
+      "{\"a\" 1}",
+      "{\"a\":1,}",
+      "[1,]",
+      "[01]",
+      "[1.]",
+      "[1e]",
+      "[truex]",
+      "[\"\\x\"]",
+      "[\"\\u12G4\"]",
+      "[\"\u0001\"]"
+    };
+
+    for (String jsonText : FastJsonReaderParityTest.INVALID_CORPUS) {
+      // A sequence of JSON texts is valid input to the reformatter
+      if (!jsonText.equals("[1][2]")) {
+        assertInvalid(jsonText);
+      }
+    }
+
+    for (String jsonText : invalidJsonTexts) {
+      assertInvalid(jsonText);
+    }
+
+    for (byte[] utf8JsonText : new byte[][] { { '"', (byte)0xC0, (byte)0x80, '"' }, { '"', (byte)0xE2, (byte)0x82, '"' }, { '"', (byte)0xED, (byte)0xA0, (byte)0x80, '"' } }) {
+      FastJsonReformatter fastJsonReformatter = new FastJsonReformatter();
+
+      fastJsonReformatter.setValidating(true);
+
+      try {
+        fastJsonReformatter.reformat(new ByteArrayInputStream(utf8JsonText), new ByteArrayOutputStream());
+
+        fail("JsonReaderException expected");
+      }
+      catch (JsonReaderException jre) {
+        // Expected
+      }
+    }
+  }
+
+  /**
+   * Assert that the given JSON text is rejected with validation and accepted
+   * without validation.
+   *
+   * @param jsonText The JSON text.
+   * @throws Exception
+   */
+  private static void assertInvalid(String jsonText)
+    throws Exception {
+    reformat(jsonText, true, false);
+
+    try {
+      reformat(jsonText, true, true);
+
+      fail("JsonReaderException expected for " + jsonText);
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+
+    try {
+      reformatBytes(jsonText, true, true);
+
+      fail("JsonReaderException expected for " + jsonText);
+    }
+    catch (JsonReaderException jre) {
+      // Expected
+    }
+  }
+
+  /**
+   * Reformat the given JSON text.
+   *
+   * @param jsonText The JSON text.
+   * @param format The format flag.
+   * @param validating The validating flag.
+   * @return The reformatted JSON text.
+   * @throws Exception
+   */
+  private static String reformat(String jsonText, boolean format, boolean validating)
+    throws Exception {
+    FastJsonReformatter fastJsonReformatter = new FastJsonReformatter();
+
+    fastJsonReformatter.setFormat(format);
+    fastJsonReformatter.setValidating(validating);
+
+    return fastJsonReformatter.reformat(jsonText);
+  }
+
+  /**
+   * Reformat the given JSON text as UTF-8 encoded bytes.
+   *
+   * @param jsonText The JSON text.
+   * @param format The format flag.
+   * @param validating The validating flag.
+   * @return The reformatted JSON text.
+   * @throws Exception
+   */
+  private static String reformatBytes(String jsonText, boolean format, boolean validating)
+    throws Exception {
+    FastJsonReformatter fastJsonReformatter = new FastJsonReformatter();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    fastJsonReformatter.setFormat(format);
+    fastJsonReformatter.setValidating(validating);
+    fastJsonReformatter.reformat(new FastJsonReaderParityTest.TrickleInputStream(new ByteArrayInputStream(jsonText.getBytes("UTF-8"))), outputStream);
+
+    return outputStream.toString("UTF-8");
+  }
+
+  /**
+   * Reformat the given JSON text from a reader that provides one character
+   * per read.
+   *
+   * @param jsonText The JSON text.
+   * @param format The format flag.
+   * @param validating The validating flag.
+   * @return The reformatted JSON text.
+   * @throws Exception
+   */
+  private static String reformatTrickle(String jsonText, boolean format, boolean validating)
+    throws Exception {
+    FastJsonReformatter fastJsonReformatter = new FastJsonReformatter();
+    StringWriter stringWriter = new StringWriter();
+
+    fastJsonReformatter.setFormat(format);
+    fastJsonReformatter.setValidating(validating);
+    fastJsonReformatter.reformat(new FastJsonReaderParityTest.TrickleReader(new StringReader(jsonText)), stringWriter);
+
+    return stringWriter.toString();
+  }
+
+  /**
+   * Write the given JSON text with the JSON writer.
+   *
+   * @param jsonText The JSON text.
+   * @param format The format flag.
+   * @return The written JSON text.
+   * @throws Exception
+   */
+  private static String write(String jsonText, boolean format)
+    throws Exception {
+    StringWriter stringWriter = new StringWriter();
+    JsonWriter jsonWriter = new JsonWriter(stringWriter);
+    FastJsonReader fastJsonReader = new FastJsonReader();
+
+    jsonWriter.setFormat(format);
+
+    fastJsonReader.setJsonContentHandler(jsonWriter);
+    fastJsonReader.parse(jsonText);
+
+    return stringWriter.toString();
+  }
+
+  /**
+   * Parse the given JSON text.
+   *
+   * @param jsonText The JSON text.
+   * @return The recorded events.
+   * @throws Exception
+   */
+  private static Object parse(String jsonText)
+    throws Exception {
+    JsonContentRecorder jsonContentRecorder = new JsonContentRecorder();
+    FastJsonReader fastJsonReader = new FastJsonReader();
+
+    fastJsonReader.setJsonContentHandler(jsonContentRecorder);
+    fastJsonReader.parse(jsonText);
+
+    return jsonContentRecorder.getEvents();
+  }
+}
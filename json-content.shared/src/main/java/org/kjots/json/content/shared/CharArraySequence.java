@@ -0,0 +1,171 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+/**
+ * Character Array Sequence.
+ * <p>
+ * This class is a reusable view of a range of a character array, which a
+ * generator of JSON content events passes to the methods of a
+ * {@link TypedJsonContentHandler} that take a {@link CharSequence}, so that
+ * the member names and string values are not copied into strings. The view
+ * is only valid for the duration of the call, after which the range and the
+ * characters within it may change.
+ * <p>
+ * A handler that needs to retain the characters must copy them, for example
+ * with {@link #toString()}. A handler that only compares the characters or
+ * prints them may use {@link #contentEquals(CharSequence)}, or access the
+ * range of the array directly with {@link #getChars()}, {@link #getOffset()}
+ * and {@link #length()}.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public final class CharArraySequence implements CharSequence {
+  /** The empty character array. */
+  private static final char[] EMPTY_CHARS = new char[0];
+
+  /** The characters. */
+  private char[] chars = EMPTY_CHARS;
+
+  /** The offset of the first character. */
+  private int offset;
+
+  /** The number of characters. */
+  private int length;
+
+  /**
+   * Set the range of the character array that is viewed by this sequence.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   * @return This sequence.
+   */
+  public CharArraySequence set(char[] chars, int offset, int length) {
+    if (offset < 0 || length < 0 || offset + length > chars.length) {
+      throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length);
+    }
+
+    this.chars = chars;
+    this.offset = offset;
+    this.length = length;
+
+    return this;
+  }
+
+  /**
+   * Retrieve the viewed character array.
+   * <p>
+   * The array must not be modified.
+   *
+   * @return The characters.
+   */
+  public char[] getChars() {
+    return this.chars;
+  }
+
+  /**
+   * Retrieve the offset of the first character within the viewed character
+   * array.
+   *
+   * @return The offset of the first character.
+   */
+  public int getOffset() {
+    return this.offset;
+  }
+
+  /**
+   * Retrieve the number of characters.
+   *
+   * @return The number of characters.
+   */
+  @Override
+  public int length() {
+    return this.length;
+  }
+
+  /**
+   * Retrieve the character at the given index.
+   *
+   * @param index The index.
+   * @return The character.
+   */
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= this.length) {
+      throw new IndexOutOfBoundsException("index: " + index);
+    }
+
+    return this.chars[this.offset + index];
+  }
+
+  /**
+   * Retrieve a copy of the characters between the given indices.
+   *
+   * @param start The index of the first character.
+   * @param end The index after the last character.
+   * @return The characters.
+   */
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > this.length || start > end) {
+      throw new IndexOutOfBoundsException("start: " + start + ", end: " + end);
+    }
+
+    return new String(this.chars, this.offset + start, end - start);
+  }
+
+  /**
+   * Determine if the characters of this sequence are equal to the characters
+   * of the given character sequence.
+   *
+   * @param charSequence The character sequence.
+   * @return <code>true</code> if the characters are equal.
+   */
+  public boolean contentEquals(CharSequence charSequence) {
+    int length = this.length;
+
+    if (charSequence.length() != length) {
+      return false;
+    }
+
+    char[] chars = this.chars;
+    int offset = this.offset;
+
+    for (int i = 0; i < length; i++) {
+      if (chars[offset + i] != charSequence.charAt(i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Create a string representation of this object.
+   * <p>
+   * The string is a copy of the characters.
+   *
+   * @return The string representation.
+   */
+  @Override
+  public String toString() {
+    return new String(this.chars, this.offset, this.length);
+  }
+}
@@ -0,0 +1,272 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fan-Out JSON Content Channel.
+ * <p>
+ * This JSON content channel dispatches each event that it handles to each of
+ * any number of JSON content handlers, in the order in which they were set,
+ * so that a single generator of JSON content events, such as a reader, may
+ * feed several handlers at once, for example a JSON object builder and a
+ * JSON writer.
+ * <p>
+ * The channel is a {@link TypedJsonContentHandler}, and dispatches the typed
+ * events to each JSON content handler that is itself a typed JSON content
+ * handler without boxing the values or copying the character sequences. The
+ * JSON content handlers that are not typed JSON content handlers are adapted
+ * with {@link JsonContentUtil#toTypedJsonContentHandler(JsonContentHandler)}.
+ * <p>
+ * The events are dispatched on the thread that generates them. An exception
+ * thrown by a JSON content handler is propagated to the generator, and the
+ * event is not dispatched to the remaining JSON content handlers.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FanOutJsonContentChannel extends AbstractJsonContentChannel implements TypedJsonContentHandler {
+  /** The empty array of typed JSON content handlers. */
+  private static final TypedJsonContentHandler[] NO_HANDLERS = new TypedJsonContentHandler[0];
+
+  /** The JSON content handlers. */
+  private List<JsonContentHandler> jsonContentHandlers = Collections.emptyList();
+
+  /** The typed JSON content handlers. */
+  private TypedJsonContentHandler[] typedJsonContentHandlers = NO_HANDLERS;
+
+  /**
+   * Construct a new Fan-Out JSON Content Channel.
+   *
+   * @param jsonContentHandlers The JSON content handlers.
+   */
+  public FanOutJsonContentChannel(JsonContentHandler... jsonContentHandlers) {
+    this.setJsonContentHandlers(jsonContentHandlers);
+  }
+
+  /**
+   * Set the JSON content handler.
+   * <p>
+   * The given JSON content handler replaces all of the JSON content handlers
+   * of this channel, or removes them if it is <code>null</code>.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @see #getJsonContentHandler()
+   */
+  @Override
+  public void setJsonContentHandler(JsonContentHandler jsonContentHandler) {
+    if (jsonContentHandler != null) {
+      this.setJsonContentHandlers(jsonContentHandler);
+    }
+    else {
+      this.setJsonContentHandlers();
+    }
+  }
+
+  /**
+   * Set the JSON content handlers.
+   * <p>
+   * The first JSON content handler is also the JSON content handler returned
+   * by {@link #getJsonContentHandler()}.
+   *
+   * @param jsonContentHandlers The JSON content handlers.
+   * @see #getJsonContentHandlers()
+   */
+  public void setJsonContentHandlers(JsonContentHandler... jsonContentHandlers) {
+    TypedJsonContentHandler[] typedJsonContentHandlers = new TypedJsonContentHandler[jsonContentHandlers.length];
+
+    for (int i = 0; i < jsonContentHandlers.length; i++) {
+      if (jsonContentHandlers[i] == null) {
+        throw new NullPointerException("jsonContentHandlers[" + i + "]");
+      }
+
+      typedJsonContentHandlers[i] = JsonContentUtil.toTypedJsonContentHandler(jsonContentHandlers[i]);
+    }
+
+    this.jsonContentHandler = jsonContentHandlers.length > 0 ? jsonContentHandlers[0] : null;
+    this.jsonContentHandlers = Collections.unmodifiableList(Arrays.asList(jsonContentHandlers.clone()));
+    this.typedJsonContentHandlers = typedJsonContentHandlers;
+  }
+
+  /**
+   * Retrieve the JSON content handlers.
+   *
+   * @return The JSON content handlers.
+   * @see #setJsonContentHandlers(JsonContentHandler...)
+   */
+  public List<JsonContentHandler> getJsonContentHandlers() {
+    return this.jsonContentHandlers;
+  }
+
+  /**
+   * Handle the start of the JSON content.
+   */
+  @Override
+  public void startJson() {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.startJson();
+    }
+  }
+
+  /**
+   * Handle the end of the JSON content.
+   */
+  @Override
+  public void endJson() {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.endJson();
+    }
+  }
+
+  /**
+   * Handle the start of a JSON object.
+   */
+  @Override
+  public void startObject() {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.startObject();
+    }
+  }
+
+  /**
+   * Handle the end of a JSON object.
+   */
+  @Override
+  public void endObject() {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.endObject();
+    }
+  }
+
+  /**
+   * Handle the start of a JSON array.
+   */
+  @Override
+  public void startArray() {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.startArray();
+    }
+  }
+
+  /**
+   * Handle the end of a JSON array.
+   */
+  @Override
+  public void endArray() {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.endArray();
+    }
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(String name) {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.memberName(name);
+    }
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(CharSequence name) {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.memberName(name);
+    }
+  }
+
+  /**
+   * Handle a JSON primitive.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitive(Object value) {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.primitive(value);
+    }
+  }
+
+  /**
+   * Handle a JSON primitive with a <code>null</code> value.
+   */
+  @Override
+  public void primitiveNull() {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.primitiveNull();
+    }
+  }
+
+  /**
+   * Handle a JSON primitive with a boolean value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveBoolean(boolean value) {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.primitiveBoolean(value);
+    }
+  }
+
+  /**
+   * Handle a JSON primitive with an integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveLong(long value) {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.primitiveLong(value);
+    }
+  }
+
+  /**
+   * Handle a JSON primitive with a double value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveDouble(double value) {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.primitiveDouble(value);
+    }
+  }
+
+  /**
+   * Handle a JSON primitive with a string value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveString(CharSequence value) {
+    for (TypedJsonContentHandler typedJsonContentHandler : this.typedJsonContentHandlers) {
+      typedJsonContentHandler.primitiveString(value);
+    }
+  }
+}
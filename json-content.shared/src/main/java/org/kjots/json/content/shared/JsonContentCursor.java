@@ -0,0 +1,127 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+/**
+ * JSON Content Cursor.
+ * <p>
+ * This interface defines a cursor over JSON content, similar in nature to the
+ * StAX {@link javax.xml.stream.XMLStreamReader}.  Rather than pushing the
+ * events of the JSON content to a {@link JsonContentHandler}, the cursor
+ * allows the consumer to pull the events one at a time, to skip entire values
+ * without receiving their events, and to stop at any point.
+ * <p>
+ * The events of a cursor follow the same sequence as the invocations of the
+ * methods of a {@link JsonContentHandler} for the same JSON content.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @param <E> The type of the exception thrown when the JSON content cannot be read.
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public interface JsonContentCursor<E extends Exception> {
+  /**
+   * Event.
+   * <p>
+   * Each event corresponds to the method of {@link JsonContentHandler} with
+   * the same name.
+   */
+  public enum Event {
+    /** The start of the JSON content. */
+    START_JSON,
+
+    /** The end of the JSON content. */
+    END_JSON,
+
+    /** The start of a JSON object. */
+    START_OBJECT,
+
+    /** The end of a JSON object. */
+    END_OBJECT,
+
+    /** The start of a JSON array. */
+    START_ARRAY,
+
+    /** The end of a JSON array. */
+    END_ARRAY,
+
+    /** The name of a member of a JSON object. */
+    MEMBER_NAME,
+
+    /** A JSON primitive. */
+    PRIMITIVE
+  }
+
+  /**
+   * Advance the cursor to the next event.
+   *
+   * @return The next event, or <code>null</code> if the end of the JSON content has been reached.
+   * @throws E
+   */
+  public Event nextEvent()
+    throws E;
+
+  /**
+   * Retrieve the current event.
+   *
+   * @return The current event, or <code>null</code> if the cursor is not positioned at an event.
+   */
+  public Event getEvent();
+
+  /**
+   * Retrieve the name of the current member.
+   * <p>
+   * This method may only be invoked when the current event is
+   * {@link Event#MEMBER_NAME}.
+   *
+   * @return The name of the current member.
+   * @throws E
+   */
+  public String getMemberName()
+    throws E;
+
+  /**
+   * Retrieve the value of the current primitive.
+   * <p>
+   * This method may only be invoked when the current event is
+   * {@link Event#PRIMITIVE}.  The type of the value is as per the contract
+   * of {@link JsonContentHandler#primitive(Object)}.
+   *
+   * @return The value of the current primitive.
+   * @throws E
+   */
+  public Object getPrimitive()
+    throws E;
+
+  /**
+   * Skip the value at the current position of the cursor.
+   * <p>
+   * If the current event is {@link Event#START_JSON} or
+   * {@link Event#MEMBER_NAME}, the following value is skipped.  If the
+   * current event is {@link Event#START_OBJECT} or {@link Event#START_ARRAY},
+   * the remainder of the object or array is skipped, including its end.  In
+   * all other cases, the value at the current position is already complete
+   * and nothing is skipped.
+   * <p>
+   * Following the invocation of this method, the next invocation of
+   * {@link #nextEvent()} will return the event following the skipped value.
+   *
+   * @throws E
+   */
+  public void skipValue()
+    throws E;
+}
@@ -0,0 +1,40 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+/**
+ * JSON Content Flow Control.
+ * <p>
+ * This interface is implemented by a consumer of JSON content that accepts
+ * the content at its own pace, such as a writer with a bounded number of
+ * output buffers. A producer that can pause, such as the JSON object content
+ * generator of the JSON object module, checks {@link #isReady()} between
+ * values and stops when it returns <code>false</code>, until the consumer
+ * signals by its own means that it is ready again.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public interface JsonContentFlowControl {
+  /**
+   * Determine if the consumer is ready for more JSON content.
+   *
+   * @return <code>true</code> if the consumer is ready.
+   */
+  public boolean isReady();
+}
@@ -0,0 +1,890 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON Content Tape.
+ * <p>
+ * A JSON content tape is a compact recording of a stream of JSON content
+ * events, which is recorded by a {@link JsonContentTapeRecorder} and may be
+ * replayed any number of times into any JSON content handler by a
+ * {@link JsonContentTapePlayer}, without parsing the JSON text again.
+ * <p>
+ * Each event is recorded as an integer, with an opcode in its low bits and
+ * an operand in the remaining bits. The operand of an integer value that
+ * fits into the operand is the value itself, zigzag encoded so that a small
+ * negative value has a small operand, as a small positive value does. The
+ * operand of a member name, a string value or a number that is neither an
+ * integer nor a double value is the index of a string in the string pool,
+ * in which each distinct string is stored once. The operand of any other
+ * integer value or a double value is the index of a long value in the
+ * number pool, which holds the bits of a double value.
+ * <p>
+ * A JSON content tape may be serialized with {@link #toByteArray()} and
+ * deserialized with {@link #fromByteArray(byte[], int, int)}, so that it may
+ * be stored outside of the heap, for example in a direct byte buffer or a
+ * cache, and replayed later. The integers of the serialized form are
+ * variable-length, so that most events occupy a single byte.
+ * <p>
+ * A JSON content tape may be replayed concurrently by any number of threads,
+ * but must not be recorded into while it is replayed.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public final class JsonContentTape {
+  /**
+   * Byte Array Output.
+   */
+  private static class ByteArrayOutput {
+    /** The bytes. */
+    private byte[] bytes;
+
+    /** The number of bytes. */
+    private int length;
+
+    /**
+     * Construct a new Byte Array Output.
+     *
+     * @param capacity The initial capacity.
+     */
+    private ByteArrayOutput(int capacity) {
+      this.bytes = new byte[capacity];
+    }
+
+    /**
+     * Write the given byte.
+     *
+     * @param b The byte.
+     */
+    private void writeByte(int b) {
+      if (this.length == this.bytes.length) {
+        byte[] bytes = new byte[this.bytes.length * 2];
+
+        System.arraycopy(this.bytes, 0, bytes, 0, this.length);
+
+        this.bytes = bytes;
+      }
+
+      this.bytes[this.length++] = (byte)b;
+    }
+
+    /**
+     * Write the given unsigned integer in seven bit groups, least
+     * significant group first.
+     *
+     * @param value The unsigned integer.
+     */
+    private void writeVarInt(int value) {
+      while ((value & ~0x7F) != 0) {
+        this.writeByte(value & 0x7F | 0x80);
+
+        value >>>= 7;
+      }
+
+      this.writeByte(value);
+    }
+
+    /**
+     * Write the given long value, most significant byte first.
+     *
+     * @param value The long value.
+     */
+    private void writeLong(long value) {
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        this.writeByte((int)(value >>> shift));
+      }
+    }
+
+    /**
+     * Write the given string.
+     * <p>
+     * The string is written as its length followed by its characters, each
+     * of which is encoded in one to three bytes as in UTF-8, with the
+     * surrogates encoded separately, so that every string is preserved.
+     *
+     * @param string The string.
+     */
+    private void writeString(String string) {
+      int length = string.length();
+
+      this.writeVarInt(length);
+
+      for (int i = 0; i < length; i++) {
+        char c = string.charAt(i);
+
+        if (c < 0x80) {
+          this.writeByte(c);
+        }
+        else if (c < 0x800) {
+          this.writeByte(0xC0 | c >> 6);
+          this.writeByte(0x80 | c & 0x3F);
+        }
+        else {
+          this.writeByte(0xE0 | c >> 12);
+          this.writeByte(0x80 | c >> 6 & 0x3F);
+          this.writeByte(0x80 | c & 0x3F);
+        }
+      }
+    }
+
+    /**
+     * Retrieve a copy of the written bytes.
+     *
+     * @return The bytes.
+     */
+    private byte[] toByteArray() {
+      byte[] bytes = new byte[this.length];
+
+      System.arraycopy(this.bytes, 0, bytes, 0, this.length);
+
+      return bytes;
+    }
+  }
+
+  /**
+   * Byte Array Input.
+   */
+  private static class ByteArrayInput {
+    /** The bytes. */
+    private final byte[] bytes;
+
+    /** The position of the next byte. */
+    private int position;
+
+    /** The position after the last byte. */
+    private final int limit;
+
+    /**
+     * Construct a new Byte Array Input.
+     *
+     * @param bytes The bytes.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     */
+    private ByteArrayInput(byte[] bytes, int offset, int length) {
+      if (offset < 0 || length < 0 || offset + length > bytes.length) {
+        throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length);
+      }
+
+      this.bytes = bytes;
+      this.position = offset;
+      this.limit = offset + length;
+    }
+
+    /**
+     * Read a byte.
+     *
+     * @return The byte, between 0 and 255 inclusive.
+     */
+    private int readByte() {
+      if (this.position == this.limit) {
+        throw new IllegalArgumentException("Truncated JSON content tape");
+      }
+
+      return this.bytes[this.position++] & 0xFF;
+    }
+
+    /**
+     * Read an unsigned integer written in seven bit groups.
+     *
+     * @return The unsigned integer.
+     */
+    private int readVarInt() {
+      int value = 0;
+
+      for (int shift = 0; shift < 35; shift += 7) {
+        int b = this.readByte();
+
+        value |= (b & 0x7F) << shift;
+
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+
+      throw new IllegalArgumentException("Invalid JSON content tape");
+    }
+
+    /**
+     * Read a count, which must not exceed the number of remaining bytes.
+     *
+     * @return The count.
+     */
+    private int readCount() {
+      int count = this.readVarInt();
+
+      if (count < 0 || count > this.limit - this.position) {
+        throw new IllegalArgumentException("Invalid JSON content tape");
+      }
+
+      return count;
+    }
+
+    /**
+     * Read a long value.
+     *
+     * @return The long value.
+     */
+    private long readLong() {
+      long value = 0;
+
+      for (int i = 0; i < 8; i++) {
+        value = value << 8 | this.readByte();
+      }
+
+      return value;
+    }
+
+    /**
+     * Read a string.
+     *
+     * @return The string.
+     */
+    private String readString() {
+      char[] chars = new char[this.readCount()];
+
+      for (int i = 0; i < chars.length; i++) {
+        int b = this.readByte();
+
+        if (b < 0x80) {
+          chars[i] = (char)b;
+        }
+        else if ((b & 0xE0) == 0xC0) {
+          chars[i] = (char)((b & 0x1F) << 6 | this.readContinuationByte());
+        }
+        else if ((b & 0xF0) == 0xE0) {
+          chars[i] = (char)((b & 0x0F) << 12 | this.readContinuationByte() << 6 | this.readContinuationByte());
+        }
+        else {
+          throw new IllegalArgumentException("Invalid JSON content tape");
+        }
+      }
+
+      return new String(chars);
+    }
+
+    /**
+     * Read the six bits of a continuation byte.
+     *
+     * @return The six bits.
+     */
+    private int readContinuationByte() {
+      int b = this.readByte();
+
+      if ((b & 0xC0) != 0x80) {
+        throw new IllegalArgumentException("Invalid JSON content tape");
+      }
+
+      return b & 0x3F;
+    }
+  }
+
+  /** The default number of events for which space is reserved. */
+  public static final int DEFAULT_CAPACITY = 256;
+
+  /** The opcode of the start of the JSON content. */
+  private static final int START_JSON = 0;
+
+  /** The opcode of the end of the JSON content. */
+  private static final int END_JSON = 1;
+
+  /** The opcode of the start of a JSON object. */
+  private static final int START_OBJECT = 2;
+
+  /** The opcode of the end of a JSON object. */
+  private static final int END_OBJECT = 3;
+
+  /** The opcode of the start of a JSON array. */
+  private static final int START_ARRAY = 4;
+
+  /** The opcode of the end of a JSON array. */
+  private static final int END_ARRAY = 5;
+
+  /** The opcode of the name of a member of a JSON object. */
+  private static final int MEMBER_NAME = 6;
+
+  /** The opcode of a JSON primitive with a <code>null</code> value. */
+  private static final int NULL = 7;
+
+  /** The opcode of a JSON primitive with a <code>false</code> value. */
+  private static final int FALSE = 8;
+
+  /** The opcode of a JSON primitive with a <code>true</code> value. */
+  private static final int TRUE = 9;
+
+  /** The opcode of a JSON primitive with an integer value within the operand. */
+  private static final int INT = 10;
+
+  /** The opcode of a JSON primitive with an integer value within the number pool. */
+  private static final int LONG = 11;
+
+  /** The opcode of a JSON primitive with a double value. */
+  private static final int DOUBLE = 12;
+
+  /** The opcode of a JSON primitive with a string value. */
+  private static final int STRING = 13;
+
+  /** The opcode of a JSON primitive with a big integer value. */
+  private static final int BIG_INTEGER = 14;
+
+  /** The opcode of a JSON primitive with a big decimal value. */
+  private static final int BIG_DECIMAL = 15;
+
+  /** The number of bits of an opcode. */
+  private static final int OPCODE_BITS = 4;
+
+  /** The mask of an opcode. */
+  private static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+
+  /** The smallest integer value within an operand. */
+  private static final int MIN_INT_OPERAND = Integer.MIN_VALUE >> OPCODE_BITS;
+
+  /** The largest integer value within an operand. */
+  private static final int MAX_INT_OPERAND = Integer.MAX_VALUE >> OPCODE_BITS;
+
+  /** The magic number of the serialized form, <code>"JCT1"</code>. */
+  private static final int MAGIC = 0x4A435431;
+
+  /** The events. */
+  private int[] events;
+
+  /** The number of events. */
+  private int eventCount;
+
+  /** The string pool. */
+  private String[] strings;
+
+  /** The number of strings. */
+  private int stringCount;
+
+  /** The number pool. */
+  private long[] numbers;
+
+  /** The number of numbers. */
+  private int numberCount;
+
+  /** The indices of the strings of the string pool. */
+  private Map<String, Integer> stringIndices;
+
+  /**
+   * Construct a new JSON Content Tape.
+   * <p>
+   * This constructor is equivalent to:
+   * <pre>
+   *   new JsonContentTape({@link #DEFAULT_CAPACITY})
+   * </pre>
+   */
+  public JsonContentTape() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Construct a new JSON Content Tape.
+   * <p>
+   * The tape grows as required beyond its initial capacity.
+   *
+   * @param capacity The number of events for which space is reserved.
+   */
+  public JsonContentTape(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity < 1");
+    }
+
+    this.events = new int[capacity];
+    this.strings = new String[Math.max(capacity / 4, 1)];
+    this.numbers = new long[Math.max(capacity / 4, 1)];
+  }
+
+  /**
+   * Retrieve the number of events.
+   *
+   * @return The number of events.
+   */
+  public int getEventCount() {
+    return this.eventCount;
+  }
+
+  /**
+   * Retrieve the number of distinct strings.
+   *
+   * @return The number of distinct strings.
+   */
+  public int getStringCount() {
+    return this.stringCount;
+  }
+
+  /**
+   * Retrieve the number of integer and double values that are stored in the
+   * number pool.
+   *
+   * @return The number of integer and double values.
+   */
+  public int getNumberCount() {
+    return this.numberCount;
+  }
+
+  /**
+   * Remove every event from the tape.
+   * <p>
+   * The space reserved by the tape is retained, so that the tape may be
+   * reused for another recording.
+   */
+  public void clear() {
+    for (int i = 0; i < this.stringCount; i++) {
+      this.strings[i] = null;
+    }
+
+    if (this.stringIndices != null) {
+      this.stringIndices.clear();
+    }
+
+    this.eventCount = 0;
+    this.stringCount = 0;
+    this.numberCount = 0;
+  }
+
+  /**
+   * Serialize the tape into an array of bytes.
+   *
+   * @return The bytes.
+   * @see #fromByteArray(byte[], int, int)
+   */
+  public byte[] toByteArray() {
+    ByteArrayOutput output = new ByteArrayOutput(16 + this.eventCount + this.numberCount * 8);
+
+    for (int shift = 24; shift >= 0; shift -= 8) {
+      output.writeByte(MAGIC >>> shift);
+    }
+
+    output.writeVarInt(this.eventCount);
+    output.writeVarInt(this.stringCount);
+    output.writeVarInt(this.numberCount);
+
+    for (int i = 0; i < this.eventCount; i++) {
+      output.writeVarInt(this.events[i]);
+    }
+
+    for (int i = 0; i < this.stringCount; i++) {
+      output.writeString(this.strings[i]);
+    }
+
+    for (int i = 0; i < this.numberCount; i++) {
+      output.writeLong(this.numbers[i]);
+    }
+
+    return output.toByteArray();
+  }
+
+  /**
+   * Deserialize a tape from the given array of bytes.
+   * <p>
+   * This method is equivalent to:
+   * <pre>
+   *   {@link #fromByteArray(byte[], int, int) fromByteArray}(<code>bytes</code>, <code>0</code>, <code>bytes.length</code>)
+   * </pre>
+   *
+   * @param bytes The bytes.
+   * @return The tape.
+   */
+  public static JsonContentTape fromByteArray(byte[] bytes) {
+    return fromByteArray(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Deserialize a tape from the given range of an array of bytes.
+   * <p>
+   * The bytes must have been produced by {@link #toByteArray()}. The tape is
+   * validated, so that the events of a tape that is deserialized
+   * successfully all refer to strings and numbers of the tape, but the
+   * nesting of the events is not validated.
+   *
+   * @param bytes The bytes.
+   * @param offset The offset of the first byte.
+   * @param length The number of bytes.
+   * @return The tape.
+   * @throws IllegalArgumentException if the bytes are not a valid tape.
+   * @see #toByteArray()
+   */
+  public static JsonContentTape fromByteArray(byte[] bytes, int offset, int length) {
+    ByteArrayInput input = new ByteArrayInput(bytes, offset, length);
+
+    int magic = 0;
+    for (int i = 0; i < 4; i++) {
+      magic = magic << 8 | input.readByte();
+    }
+
+    if (magic != MAGIC) {
+      throw new IllegalArgumentException("Invalid JSON content tape");
+    }
+
+    int eventCount = input.readCount();
+    int stringCount = input.readCount();
+    int numberCount = input.readCount();
+
+    JsonContentTape jsonContentTape = new JsonContentTape(Math.max(eventCount, 1));
+
+    if (jsonContentTape.strings.length < stringCount) {
+      jsonContentTape.strings = new String[stringCount];
+    }
+
+    if (jsonContentTape.numbers.length < numberCount) {
+      jsonContentTape.numbers = new long[numberCount];
+    }
+
+    for (int i = 0; i < eventCount; i++) {
+      int event = input.readVarInt();
+
+      switch (event & OPCODE_MASK) {
+      case MEMBER_NAME:
+      case STRING:
+      case BIG_INTEGER:
+      case BIG_DECIMAL:
+        if (event >>> OPCODE_BITS >= stringCount) {
+          throw new IllegalArgumentException("Invalid JSON content tape");
+        }
+        break;
+
+      case LONG:
+      case DOUBLE:
+        if (event >>> OPCODE_BITS >= numberCount) {
+          throw new IllegalArgumentException("Invalid JSON content tape");
+        }
+        break;
+
+      case INT:
+        break;
+
+      default:
+        if (event >>> OPCODE_BITS != 0) {
+          throw new IllegalArgumentException("Invalid JSON content tape");
+        }
+        break;
+      }
+
+      jsonContentTape.events[i] = event;
+    }
+
+    for (int i = 0; i < stringCount; i++) {
+      jsonContentTape.strings[i] = input.readString();
+    }
+
+    for (int i = 0; i < numberCount; i++) {
+      jsonContentTape.numbers[i] = input.readLong();
+    }
+
+    if (input.position != input.limit) {
+      throw new IllegalArgumentException("Invalid JSON content tape");
+    }
+
+    jsonContentTape.eventCount = eventCount;
+    jsonContentTape.stringCount = stringCount;
+    jsonContentTape.numberCount = numberCount;
+
+    return jsonContentTape;
+  }
+
+  /**
+   * Replay the events into the given JSON content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   */
+  void play(TypedJsonContentHandler jsonContentHandler) {
+    int[] events = this.events;
+    String[] strings = this.strings;
+    long[] numbers = this.numbers;
+
+    for (int i = 0, eventCount = this.eventCount; i < eventCount; i++) {
+      int event = events[i];
+
+      switch (event & OPCODE_MASK) {
+      case START_JSON:
+        jsonContentHandler.startJson();
+        break;
+
+      case END_JSON:
+        jsonContentHandler.endJson();
+        break;
+
+      case START_OBJECT:
+        jsonContentHandler.startObject();
+        break;
+
+      case END_OBJECT:
+        jsonContentHandler.endObject();
+        break;
+
+      case START_ARRAY:
+        jsonContentHandler.startArray();
+        break;
+
+      case END_ARRAY:
+        jsonContentHandler.endArray();
+        break;
+
+      case MEMBER_NAME:
+        jsonContentHandler.memberName(strings[event >>> OPCODE_BITS]);
+        break;
+
+      case NULL:
+        jsonContentHandler.primitiveNull();
+        break;
+
+      case FALSE:
+        jsonContentHandler.primitiveBoolean(false);
+        break;
+
+      case TRUE:
+        jsonContentHandler.primitiveBoolean(true);
+        break;
+
+      case INT:
+        int operand = event >>> OPCODE_BITS;
+
+        jsonContentHandler.primitiveLong(operand >>> 1 ^ -(operand & 1));
+        break;
+
+      case LONG:
+        jsonContentHandler.primitiveLong(numbers[event >>> OPCODE_BITS]);
+        break;
+
+      case DOUBLE:
+        jsonContentHandler.primitiveDouble(Double.longBitsToDouble(numbers[event >>> OPCODE_BITS]));
+        break;
+
+      case STRING:
+        jsonContentHandler.primitiveString(strings[event >>> OPCODE_BITS]);
+        break;
+
+      case BIG_INTEGER:
+        jsonContentHandler.primitive(new BigInteger(strings[event >>> OPCODE_BITS]));
+        break;
+
+      default:
+        jsonContentHandler.primitive(new BigDecimal(strings[event >>> OPCODE_BITS]));
+        break;
+      }
+    }
+  }
+
+  /**
+   * Add the start of the JSON content.
+   */
+  void addStartJson() {
+    this.addEvent(START_JSON);
+  }
+
+  /**
+   * Add the end of the JSON content.
+   */
+  void addEndJson() {
+    this.addEvent(END_JSON);
+  }
+
+  /**
+   * Add the start of a JSON object.
+   */
+  void addStartObject() {
+    this.addEvent(START_OBJECT);
+  }
+
+  /**
+   * Add the end of a JSON object.
+   */
+  void addEndObject() {
+    this.addEvent(END_OBJECT);
+  }
+
+  /**
+   * Add the start of a JSON array.
+   */
+  void addStartArray() {
+    this.addEvent(START_ARRAY);
+  }
+
+  /**
+   * Add the end of a JSON array.
+   */
+  void addEndArray() {
+    this.addEvent(END_ARRAY);
+  }
+
+  /**
+   * Add the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  void addMemberName(String name) {
+    this.addEvent(this.poolString(name) << OPCODE_BITS | MEMBER_NAME);
+  }
+
+  /**
+   * Add a JSON primitive with a <code>null</code> value.
+   */
+  void addNull() {
+    this.addEvent(NULL);
+  }
+
+  /**
+   * Add a JSON primitive with a boolean value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  void addBoolean(boolean value) {
+    this.addEvent(value ? TRUE : FALSE);
+  }
+
+  /**
+   * Add a JSON primitive with an integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  void addLong(long value) {
+    if (value >= MIN_INT_OPERAND && value <= MAX_INT_OPERAND) {
+      this.addEvent(((int)value << 1 ^ (int)value >> 31) << OPCODE_BITS | INT);
+    }
+    else {
+      this.addEvent(this.poolNumber(value) << OPCODE_BITS | LONG);
+    }
+  }
+
+  /**
+   * Add a JSON primitive with a double value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  void addDouble(double value) {
+    this.addEvent(this.poolNumber(Double.doubleToLongBits(value)) << OPCODE_BITS | DOUBLE);
+  }
+
+  /**
+   * Add a JSON primitive with a string value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  void addString(CharSequence value) {
+    this.addEvent(this.poolString(value.toString()) << OPCODE_BITS | STRING);
+  }
+
+  /**
+   * Add a JSON primitive with a big integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  void addBigInteger(BigInteger value) {
+    this.addEvent(this.poolString(value.toString()) << OPCODE_BITS | BIG_INTEGER);
+  }
+
+  /**
+   * Add a JSON primitive with a big decimal value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  void addBigDecimal(BigDecimal value) {
+    this.addEvent(this.poolString(value.toString()) << OPCODE_BITS | BIG_DECIMAL);
+  }
+
+  /**
+   * Add the given event.
+   *
+   * @param event The event.
+   */
+  private void addEvent(int event) {
+    if (this.eventCount == this.events.length) {
+      int[] events = new int[this.events.length * 2];
+
+      System.arraycopy(this.events, 0, events, 0, this.eventCount);
+
+      this.events = events;
+    }
+
+    this.events[this.eventCount++] = event;
+  }
+
+  /**
+   * Add the given string to the string pool, unless it is already in the
+   * string pool.
+   *
+   * @param string The string.
+   * @return The index of the string.
+   */
+  private int poolString(String string) {
+    Map<String, Integer> stringIndices = this.stringIndices;
+
+    if (stringIndices == null) {
+      this.stringIndices = stringIndices = new HashMap<String, Integer>();
+
+      for (int i = 0; i < this.stringCount; i++) {
+        stringIndices.put(this.strings[i], Integer.valueOf(i));
+      }
+    }
+
+    Integer stringIndex = stringIndices.get(string);
+
+    if (stringIndex != null) {
+      return stringIndex.intValue();
+    }
+
+    if (this.stringCount > MAX_INT_OPERAND) {
+      throw new IllegalStateException("Too many strings");
+    }
+
+    if (this.stringCount == this.strings.length) {
+      String[] strings = new String[this.strings.length * 2];
+
+      System.arraycopy(this.strings, 0, strings, 0, this.stringCount);
+
+      this.strings = strings;
+    }
+
+    stringIndices.put(string, Integer.valueOf(this.stringCount));
+
+    this.strings[this.stringCount] = string;
+
+    return this.stringCount++;
+  }
+
+  /**
+   * Add the given long value to the number pool.
+   *
+   * @param value The long value.
+   * @return The index of the long value.
+   */
+  private int poolNumber(long value) {
+    if (this.numberCount > MAX_INT_OPERAND) {
+      throw new IllegalStateException("Too many numbers");
+    }
+
+    if (this.numberCount == this.numbers.length) {
+      long[] numbers = new long[this.numbers.length * 2];
+
+      System.arraycopy(this.numbers, 0, numbers, 0, this.numberCount);
+
+      this.numbers = numbers;
+    }
+
+    this.numbers[this.numberCount] = value;
+
+    return this.numberCount++;
+  }
+}
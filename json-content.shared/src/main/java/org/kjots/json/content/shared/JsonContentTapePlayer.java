@@ -0,0 +1,82 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+/**
+ * JSON Content Tape Player.
+ * <p>
+ * This JSON content generator replays the events of a
+ * {@link JsonContentTape} into its JSON content handler, without parsing or
+ * converting anything other than the numbers that are neither integer nor
+ * double values. The typed events are replayed as such into a JSON content
+ * handler that is a {@link TypedJsonContentHandler}, so that the integer,
+ * boolean and double values are not boxed.
+ * <p>
+ * A JSON content tape player may be reused to replay any number of tapes,
+ * and several JSON content tape players may replay the same tape
+ * concurrently.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonContentTapePlayer extends AbstractJsonContentGenerator {
+  /** The typed JSON content handler. */
+  private TypedJsonContentHandler typedJsonContentHandler;
+
+  /**
+   * Construct a new JSON Content Tape Player.
+   */
+  public JsonContentTapePlayer() {
+  }
+
+  /**
+   * Construct a new JSON Content Tape Player.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   */
+  public JsonContentTapePlayer(JsonContentHandler jsonContentHandler) {
+    this.setJsonContentHandler(jsonContentHandler);
+  }
+
+  /**
+   * Set the JSON content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @see #getJsonContentHandler()
+   */
+  @Override
+  public void setJsonContentHandler(JsonContentHandler jsonContentHandler) {
+    super.setJsonContentHandler(jsonContentHandler);
+
+    this.typedJsonContentHandler = jsonContentHandler != null ? JsonContentUtil.toTypedJsonContentHandler(jsonContentHandler) : null;
+  }
+
+  /**
+   * Replay the events of the given JSON content tape into the JSON content
+   * handler.
+   *
+   * @param jsonContentTape The JSON content tape.
+   */
+  public void play(JsonContentTape jsonContentTape) {
+    if (this.typedJsonContentHandler == null) {
+      throw new IllegalStateException("No JSON content handler");
+    }
+
+    jsonContentTape.play(this.typedJsonContentHandler);
+  }
+}
@@ -0,0 +1,243 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * JSON Content Tape Recorder.
+ * <p>
+ * This JSON content handler records the events that it handles into a
+ * {@link JsonContentTape}, which may then be replayed by a
+ * {@link JsonContentTapePlayer}. The events of any number of JSON texts may
+ * be recorded into the same tape.
+ * <p>
+ * The value of a JSON primitive that is handled by {@link #primitive(Object)}
+ * must be one of the types described by the contract of that method, or a
+ * {@link Double}, a {@link Float}, a {@link Short} or a {@link Byte}, as
+ * accepted by the JSON object properties. A {@link Short} or a {@link Byte}
+ * is replayed as an integer value, and a {@link Float} as the double value
+ * with the same decimal representation.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonContentTapeRecorder implements TypedJsonContentHandler {
+  /** The JSON content tape. */
+  private JsonContentTape jsonContentTape;
+
+  /**
+   * Construct a new JSON Content Tape Recorder.
+   * <p>
+   * The events are recorded into a new JSON content tape.
+   */
+  public JsonContentTapeRecorder() {
+    this(new JsonContentTape());
+  }
+
+  /**
+   * Construct a new JSON Content Tape Recorder.
+   *
+   * @param jsonContentTape The JSON content tape.
+   */
+  public JsonContentTapeRecorder(JsonContentTape jsonContentTape) {
+    this.setJsonContentTape(jsonContentTape);
+  }
+
+  /**
+   * Set the JSON content tape into which the events are recorded.
+   *
+   * @param jsonContentTape The JSON content tape.
+   * @see #getJsonContentTape()
+   */
+  public void setJsonContentTape(JsonContentTape jsonContentTape) {
+    if (jsonContentTape == null) {
+      throw new NullPointerException("jsonContentTape");
+    }
+
+    this.jsonContentTape = jsonContentTape;
+  }
+
+  /**
+   * Retrieve the JSON content tape into which the events are recorded.
+   *
+   * @return The JSON content tape.
+   * @see #setJsonContentTape(JsonContentTape)
+   */
+  public JsonContentTape getJsonContentTape() {
+    return this.jsonContentTape;
+  }
+
+  /**
+   * Handle the start of the JSON content.
+   */
+  @Override
+  public void startJson() {
+    this.jsonContentTape.addStartJson();
+  }
+
+  /**
+   * Handle the end of the JSON content.
+   */
+  @Override
+  public void endJson() {
+    this.jsonContentTape.addEndJson();
+  }
+
+  /**
+   * Handle the start of a JSON object.
+   */
+  @Override
+  public void startObject() {
+    this.jsonContentTape.addStartObject();
+  }
+
+  /**
+   * Handle the end of a JSON object.
+   */
+  @Override
+  public void endObject() {
+    this.jsonContentTape.addEndObject();
+  }
+
+  /**
+   * Handle the start of a JSON array.
+   */
+  @Override
+  public void startArray() {
+    this.jsonContentTape.addStartArray();
+  }
+
+  /**
+   * Handle the end of a JSON array.
+   */
+  @Override
+  public void endArray() {
+    this.jsonContentTape.addEndArray();
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(String name) {
+    if (name == null) {
+      throw new NullPointerException("name");
+    }
+
+    this.jsonContentTape.addMemberName(name);
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(CharSequence name) {
+    this.jsonContentTape.addMemberName(name.toString());
+  }
+
+  /**
+   * Handle a JSON primitive.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitive(Object value) {
+    if (value == null) {
+      this.jsonContentTape.addNull();
+    }
+    else if (value instanceof Boolean) {
+      this.jsonContentTape.addBoolean(((Boolean)value).booleanValue());
+    }
+    else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      this.jsonContentTape.addLong(((Number)value).longValue());
+    }
+    else if (value instanceof Double) {
+      this.jsonContentTape.addDouble(((Double)value).doubleValue());
+    }
+    else if (value instanceof Float) {
+      // Widening the float through its decimal representation preserves the text it is printed as.
+      this.jsonContentTape.addDouble(Double.parseDouble(value.toString()));
+    }
+    else if (value instanceof BigInteger) {
+      this.jsonContentTape.addBigInteger((BigInteger)value);
+    }
+    else if (value instanceof BigDecimal) {
+      this.jsonContentTape.addBigDecimal((BigDecimal)value);
+    }
+    else if (value instanceof String) {
+      this.jsonContentTape.addString((String)value);
+    }
+    else {
+      throw new IllegalArgumentException("Unsupported type: " + value.getClass().getName());
+    }
+  }
+
+  /**
+   * Handle a JSON primitive with a <code>null</code> value.
+   */
+  @Override
+  public void primitiveNull() {
+    this.jsonContentTape.addNull();
+  }
+
+  /**
+   * Handle a JSON primitive with a boolean value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveBoolean(boolean value) {
+    this.jsonContentTape.addBoolean(value);
+  }
+
+  /**
+   * Handle a JSON primitive with an integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveLong(long value) {
+    this.jsonContentTape.addLong(value);
+  }
+
+  /**
+   * Handle a JSON primitive with a double value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveDouble(double value) {
+    this.jsonContentTape.addDouble(value);
+  }
+
+  /**
+   * Handle a JSON primitive with a string value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveString(CharSequence value) {
+    this.jsonContentTape.addString(value);
+  }
+}
@@ -27,6 +27,73 @@ import java.util.Map;
  * @since 1.1
  */
 public class JsonContentUtil {
+  /**
+   * Retrieve the given JSON content handler as a typed JSON content handler.
+   * <p>
+   * If the given JSON content handler implements {@link TypedJsonContentHandler},
+   * it is returned as is. Otherwise, it is adapted by a
+   * {@link TypedJsonContentHandlerAdapter}.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @return The typed JSON content handler.
+   */
+  public static TypedJsonContentHandler toTypedJsonContentHandler(JsonContentHandler jsonContentHandler) {
+    if (jsonContentHandler instanceof TypedJsonContentHandler) {
+      return (TypedJsonContentHandler)jsonContentHandler;
+    }
+    
+    return new TypedJsonContentHandlerAdapter(jsonContentHandler);
+  }
+  
+  /**
+   * Retrieve the given integer value as a number.
+   * <p>
+   * The number is an {@link Integer} if the value lies within the range of
+   * an integer, or a {@link Long} otherwise, as per the contract of
+   * {@link JsonContentHandler#primitive(Object)}.
+   *
+   * @param value The integer value.
+   * @return The number.
+   */
+  public static Number toNumber(long value) {
+    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+      return Integer.valueOf((int)value);
+    }
+    
+    return Long.valueOf(value);
+  }
+  
+  /**
+   * Copy the characters of the given character sequence between the given
+   * indices into the given array.
+   * <p>
+   * The characters of a {@link String} or a {@link CharArraySequence} are
+   * copied in bulk.
+   *
+   * @param charSequence The character sequence.
+   * @param start The index of the first character.
+   * @param end The index after the last character.
+   * @param chars The array.
+   * @param offset The offset within the array.
+   */
+  public static void getChars(CharSequence charSequence, int start, int end, char[] chars, int offset) {
+    if (charSequence instanceof String) {
+      String string = (String)charSequence;
+      
+      string.getChars(start, end, chars, offset);
+    }
+    else if (charSequence instanceof CharArraySequence) {
+      CharArraySequence charArraySequence = (CharArraySequence)charSequence;
+      
+      System.arraycopy(charArraySequence.getChars(), charArraySequence.getOffset() + start, chars, offset, end - start);
+    }
+    else {
+      for (int i = start; i < end; i++) {
+        chars[offset++] = charSequence.charAt(i);
+      }
+    }
+  }
+  
   /**
    * Handle the given value with the given JSON content handler as a complete
    * JSON stream.
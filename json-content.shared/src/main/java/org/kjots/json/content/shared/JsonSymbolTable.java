@@ -0,0 +1,375 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+/**
+ * JSON Symbol Table.
+ * <p>
+ * This class maps the characters of member names to canonical strings, so
+ * that each occurrence of a member name in a JSON text, or in a sequence of
+ * JSON texts, is reported as the same string instance. A reader that uses a
+ * symbol table creates a string only for the first occurrence of each member
+ * name, and the maps that use the member names as keys find them by
+ * identity, without comparing their characters.
+ * <p>
+ * The symbol table is bounded. It has a fixed number of slots, and each
+ * member name may occupy one of a small number of slots determined by its
+ * hash code, which is the same as the hash code of its string. A member name
+ * replaces one of the member names in its slots when they are all occupied,
+ * and a member name that is longer than the maximum symbol length is never
+ * stored, so the symbol table does not grow with the number of distinct
+ * member names.
+ * <p>
+ * A symbol table may be shared by any number of readers and JSON object
+ * builders, including readers in different threads. A race between threads
+ * may only cause a member name to be reported as more than one string
+ * instance.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonSymbolTable {
+  /** The default number of slots. */
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  /** The default maximum length of a symbol. */
+  public static final int DEFAULT_MAX_SYMBOL_LENGTH = 64;
+
+  /** The number of slots that may be occupied by a symbol. */
+  private static final int PROBE_LENGTH = 4;
+
+  /** The symbols. */
+  private final String[] symbols;
+
+  /** The maximum length of a symbol. */
+  private final int maxSymbolLength;
+
+  /**
+   * Construct a new JSON Symbol Table.
+   * <p>
+   * This constructor is equivalent to:
+   * <pre>
+   *   new JsonSymbolTable({@link #DEFAULT_CAPACITY}, {@link #DEFAULT_MAX_SYMBOL_LENGTH})
+   * </pre>
+   */
+  public JsonSymbolTable() {
+    this(DEFAULT_CAPACITY, DEFAULT_MAX_SYMBOL_LENGTH);
+  }
+
+  /**
+   * Construct a new JSON Symbol Table.
+   * <p>
+   * The capacity is rounded up to a power of two.
+   *
+   * @param capacity The number of slots.
+   * @param maxSymbolLength The maximum length of a symbol.
+   */
+  public JsonSymbolTable(int capacity, int maxSymbolLength) {
+    if (capacity < PROBE_LENGTH || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity: " + capacity);
+    }
+
+    if (maxSymbolLength < 0) {
+      throw new IllegalArgumentException("maxSymbolLength < 0");
+    }
+
+    int powerOfTwoCapacity = PROBE_LENGTH;
+    while (powerOfTwoCapacity < capacity) {
+      powerOfTwoCapacity <<= 1;
+    }
+
+    this.symbols = new String[powerOfTwoCapacity];
+    this.maxSymbolLength = maxSymbolLength;
+  }
+
+  /**
+   * Retrieve the number of slots.
+   *
+   * @return The number of slots.
+   */
+  public int getCapacity() {
+    return this.symbols.length;
+  }
+
+  /**
+   * Retrieve the maximum length of a symbol.
+   *
+   * @return The maximum length of a symbol.
+   */
+  public int getMaxSymbolLength() {
+    return this.maxSymbolLength;
+  }
+
+  /**
+   * Retrieve the canonical string of the given characters.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   * @return The canonical string.
+   */
+  public String get(char[] chars, int offset, int length) {
+    if (length > this.maxSymbolLength) {
+      return new String(chars, offset, length);
+    }
+
+    int hashCode = 0;
+    for (int i = 0; i < length; i++) {
+      hashCode = 31 * hashCode + chars[offset + i];
+    }
+
+    String[] symbols = this.symbols;
+    int index = index(hashCode, symbols.length);
+
+    for (int i = 0; i < PROBE_LENGTH; i++) {
+      String symbol = symbols[(index + i) & (symbols.length - 1)];
+
+      if (symbol == null) {
+        break;
+      }
+
+      if (symbol.hashCode() == hashCode && symbol.length() == length && equals(symbol, chars, offset)) {
+        return symbol;
+      }
+    }
+
+    return this.put(new String(chars, offset, length), hashCode);
+  }
+
+  /**
+   * Retrieve the canonical string of the given ASCII characters.
+   * <p>
+   * Each byte is expected to be an ASCII character, as is the case for a
+   * member name of a UTF-8 encoded JSON text that contains no escapes and no
+   * multi-byte sequences.
+   *
+   * @param bytes The bytes of the characters.
+   * @param offset The offset of the first byte.
+   * @param length The number of bytes.
+   * @return The canonical string.
+   */
+  public String get(byte[] bytes, int offset, int length) {
+    if (length > this.maxSymbolLength) {
+      return newString(bytes, offset, length);
+    }
+
+    int hashCode = 0;
+    for (int i = 0; i < length; i++) {
+      hashCode = 31 * hashCode + bytes[offset + i];
+    }
+
+    String[] symbols = this.symbols;
+    int index = index(hashCode, symbols.length);
+
+    for (int i = 0; i < PROBE_LENGTH; i++) {
+      String symbol = symbols[(index + i) & (symbols.length - 1)];
+
+      if (symbol == null) {
+        break;
+      }
+
+      if (symbol.hashCode() == hashCode && symbol.length() == length && equals(symbol, bytes, offset)) {
+        return symbol;
+      }
+    }
+
+    return this.put(newString(bytes, offset, length), hashCode);
+  }
+
+  /**
+   * Retrieve the canonical string of the given character sequence.
+   * <p>
+   * If the character sequence is a string that is not yet in the symbol
+   * table, it becomes the canonical string.
+   *
+   * @param charSequence The character sequence.
+   * @return The canonical string.
+   */
+  public String get(CharSequence charSequence) {
+    int length = charSequence.length();
+
+    if (length > this.maxSymbolLength) {
+      return charSequence.toString();
+    }
+
+    int hashCode;
+    if (charSequence instanceof String) {
+      hashCode = charSequence.hashCode();
+    }
+    else {
+      hashCode = 0;
+      for (int i = 0; i < length; i++) {
+        hashCode = 31 * hashCode + charSequence.charAt(i);
+      }
+    }
+
+    String[] symbols = this.symbols;
+    int index = index(hashCode, symbols.length);
+
+    for (int i = 0; i < PROBE_LENGTH; i++) {
+      String symbol = symbols[(index + i) & (symbols.length - 1)];
+
+      if (symbol == null) {
+        break;
+      }
+
+      if (symbol == charSequence || symbol.hashCode() == hashCode && symbol.length() == length && equals(symbol, charSequence)) {
+        return symbol;
+      }
+    }
+
+    return this.put(charSequence.toString(), hashCode);
+  }
+
+  /**
+   * Remove every symbol from the symbol table.
+   */
+  public void clear() {
+    String[] symbols = this.symbols;
+
+    for (int i = 0; i < symbols.length; i++) {
+      symbols[i] = null;
+    }
+  }
+
+  /**
+   * Put the given symbol into the symbol table.
+   * <p>
+   * The symbol occupies the first free slot of its slots, or replaces the
+   * symbol in one of its slots determined by its hash code if they are all
+   * occupied.
+   *
+   * @param symbol The symbol.
+   * @param hashCode The hash code of the symbol.
+   * @return The symbol.
+   */
+  private String put(String symbol, int hashCode) {
+    String[] symbols = this.symbols;
+    int index = index(hashCode, symbols.length);
+
+    for (int i = 0; i < PROBE_LENGTH; i++) {
+      int slot = (index + i) & (symbols.length - 1);
+
+      if (symbols[slot] == null) {
+        symbols[slot] = symbol;
+
+        return symbol;
+      }
+    }
+
+    symbols[(index + ((hashCode >>> 24) & (PROBE_LENGTH - 1))) & (symbols.length - 1)] = symbol;
+
+    return symbol;
+  }
+
+  /**
+   * Retrieve the index of the first slot of the symbol with the given hash
+   * code.
+   *
+   * @param hashCode The hash code.
+   * @param capacity The number of slots.
+   * @return The index.
+   */
+  private static int index(int hashCode, int capacity) {
+    return (hashCode ^ (hashCode >>> 16)) & (capacity - 1);
+  }
+
+  /**
+   * Determine if the given symbol is equal to the given characters.
+   * <p>
+   * The length of the symbol is expected to be the number of characters.
+   *
+   * @param symbol The symbol.
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @return <code>true</code> if the symbol is equal to the characters.
+   */
+  private static boolean equals(String symbol, char[] chars, int offset) {
+    int length = symbol.length();
+
+    for (int i = 0; i < length; i++) {
+      if (symbol.charAt(i) != chars[offset + i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Determine if the given symbol is equal to the given character sequence.
+   * <p>
+   * The length of the symbol is expected to be the length of the character
+   * sequence.
+   *
+   * @param symbol The symbol.
+   * @param charSequence The character sequence.
+   * @return <code>true</code> if the symbol is equal to the character sequence.
+   */
+  private static boolean equals(String symbol, CharSequence charSequence) {
+    int length = symbol.length();
+
+    for (int i = 0; i < length; i++) {
+      if (symbol.charAt(i) != charSequence.charAt(i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Determine if the given symbol is equal to the given ASCII characters.
+   * <p>
+   * The length of the symbol is expected to be the number of bytes.
+   *
+   * @param symbol The symbol.
+   * @param bytes The bytes of the characters.
+   * @param offset The offset of the first byte.
+   * @return <code>true</code> if the symbol is equal to the characters.
+   */
+  private static boolean equals(String symbol, byte[] bytes, int offset) {
+    int length = symbol.length();
+
+    for (int i = 0; i < length; i++) {
+      if (symbol.charAt(i) != bytes[offset + i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Create a string of the given ASCII characters.
+   *
+   * @param bytes The bytes of the characters.
+   * @param offset The offset of the first byte.
+   * @param length The number of bytes.
+   * @return The string.
+   */
+  private static String newString(byte[] bytes, int offset, int length) {
+    char[] chars = new char[length];
+
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char)bytes[offset + i];
+    }
+
+    return new String(chars);
+  }
+}
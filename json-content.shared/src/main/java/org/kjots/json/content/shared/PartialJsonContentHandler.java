@@ -35,12 +35,18 @@ package org.kjots.json.content.shared;
  * method will never be invoked - thus such a class need not provide an
  * implementation of that method.
  * <p>
+ * The methods of {@link TypedJsonContentHandler} box the value of the JSON
+ * primitive and invoke {@link #primitive(Object)}, or copy the member name
+ * and invoke {@link #memberName(String)}, so that a partial implementation
+ * that only overrides the methods of {@link JsonContentHandler} handles
+ * every event.
+ * <p>
  * Created: 15th February 2010.
  *
  * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
  * @since 1.0
  */
-public abstract class PartialJsonContentHandler implements JsonContentHandler {
+public abstract class PartialJsonContentHandler implements TypedJsonContentHandler {
   /**
    * Handle the start of the JSON content.
    */
@@ -99,6 +105,16 @@ public abstract class PartialJsonContentHandler implements JsonContentHandler {
     throw new UnsupportedOperationException();
   }
   
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(CharSequence name) {
+    this.memberName(name.toString());
+  }
+  
   /**
    * Handle a JSON primitive.
    *
@@ -108,4 +124,52 @@ public abstract class PartialJsonContentHandler implements JsonContentHandler {
   public void primitive(Object value) {
     throw new UnsupportedOperationException();
   }
+  
+  /**
+   * Handle a JSON primitive with a <code>null</code> value.
+   */
+  @Override
+  public void primitiveNull() {
+    this.primitive(null);
+  }
+  
+  /**
+   * Handle a JSON primitive with a boolean value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveBoolean(boolean value) {
+    this.primitive(Boolean.valueOf(value));
+  }
+  
+  /**
+   * Handle a JSON primitive with an integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveLong(long value) {
+    this.primitive(JsonContentUtil.toNumber(value));
+  }
+  
+  /**
+   * Handle a JSON primitive with a double value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveDouble(double value) {
+    this.primitive(Double.valueOf(value));
+  }
+  
+  /**
+   * Handle a JSON primitive with a string value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveString(CharSequence value) {
+    this.primitive(value.toString());
+  }
 }
@@ -0,0 +1,106 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+/**
+ * Typed JSON Content Handler.
+ * <p>
+ * This interface extends {@link JsonContentHandler} with a method for each
+ * type of JSON primitive that takes the value of the JSON primitive unboxed,
+ * so that a generator of JSON content events need not box the value and the
+ * handler need not recover its type.
+ * <p>
+ * Each of these methods is equivalent to an invocation of
+ * {@link #primitive(Object)} with the boxed value, as described by the
+ * contract of that method. A generator of JSON content events that checks
+ * for this interface uses these methods for the values that they represent,
+ * and {@link #primitive(Object)} for all other values, such as the numbers
+ * that are reported as a {@link java.math.BigInteger} or a
+ * {@link java.math.BigDecimal}. A generator that does not check for this
+ * interface may invoke {@link #primitive(Object)} for every value.
+ * <p>
+ * The member names and string values are passed as a {@link CharSequence},
+ * which need not be a string. A generator of JSON content events may pass a
+ * {@link CharArraySequence} that views its own buffer, so that a handler that
+ * only compares or prints the characters need not copy them.
+ * <p>
+ * A JSON content handler that does not implement this interface may be
+ * adapted to it with {@link JsonContentUtil#toTypedJsonContentHandler(JsonContentHandler)}.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public interface TypedJsonContentHandler extends JsonContentHandler {
+  /**
+   * Handle the name of a member of a JSON object.
+   * <p>
+   * This method is equivalent to {@link #memberName(String) memberName}(<code>name.toString()</code>).
+   * The character sequence is only valid for the duration of the call.
+   *
+   * @param name The name of the member.
+   * @see CharArraySequence
+   */
+  public void memberName(CharSequence name);
+
+  /**
+   * Handle a JSON primitive with a <code>null</code> value.
+   * <p>
+   * This method is equivalent to {@link #primitive(Object) primitive}(<code>null</code>).
+   */
+  public void primitiveNull();
+
+  /**
+   * Handle a JSON primitive with a boolean value.
+   * <p>
+   * This method is equivalent to {@link #primitive(Object) primitive}({@link Boolean#valueOf(boolean) Boolean.valueOf}(<code>value</code>)).
+   *
+   * @param value The value of the JSON primitive.
+   */
+  public void primitiveBoolean(boolean value);
+
+  /**
+   * Handle a JSON primitive with an integer value.
+   * <p>
+   * This method is equivalent to {@link #primitive(Object)} with an
+   * {@link Integer} if the value lies within the range of an integer, or a
+   * {@link Long} otherwise.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  public void primitiveLong(long value);
+
+  /**
+   * Handle a JSON primitive with a double value.
+   * <p>
+   * This method is equivalent to {@link #primitive(Object) primitive}({@link Double#valueOf(double) Double.valueOf}(<code>value</code>)).
+   *
+   * @param value The value of the JSON primitive.
+   */
+  public void primitiveDouble(double value);
+
+  /**
+   * Handle a JSON primitive with a string value.
+   * <p>
+   * This method is equivalent to {@link #primitive(Object) primitive}(<code>value.toString()</code>).
+   * The character sequence is only valid for the duration of the call.
+   *
+   * @param value The value of the JSON primitive.
+   * @see CharArraySequence
+   */
+  public void primitiveString(CharSequence value);
+}
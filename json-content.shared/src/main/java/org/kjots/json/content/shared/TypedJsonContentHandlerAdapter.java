@@ -0,0 +1,180 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+/**
+ * Typed JSON Content Handler Adapter.
+ * <p>
+ * This class adapts a {@link JsonContentHandler} to the
+ * {@link TypedJsonContentHandler} interface. Every event is forwarded to the
+ * adapted JSON content handler, and the value of each typed JSON primitive is
+ * boxed and forwarded to {@link JsonContentHandler#primitive(Object)}. Member
+ * names and string values are copied into strings.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ * @see JsonContentUtil#toTypedJsonContentHandler(JsonContentHandler)
+ */
+public class TypedJsonContentHandlerAdapter implements TypedJsonContentHandler {
+  /** The adapted JSON content handler. */
+  private final JsonContentHandler jsonContentHandler;
+
+  /**
+   * Construct a new Typed JSON Content Handler Adapter.
+   *
+   * @param jsonContentHandler The adapted JSON content handler.
+   */
+  public TypedJsonContentHandlerAdapter(JsonContentHandler jsonContentHandler) {
+    this.jsonContentHandler = jsonContentHandler;
+  }
+
+  /**
+   * Retrieve the adapted JSON content handler.
+   *
+   * @return The adapted JSON content handler.
+   */
+  public JsonContentHandler getJsonContentHandler() {
+    return this.jsonContentHandler;
+  }
+
+  /**
+   * Handle the start of the JSON content.
+   */
+  @Override
+  public void startJson() {
+    this.jsonContentHandler.startJson();
+  }
+
+  /**
+   * Handle the end of the JSON content.
+   */
+  @Override
+  public void endJson() {
+    this.jsonContentHandler.endJson();
+  }
+
+  /**
+   * Handle the start of a JSON object.
+   */
+  @Override
+  public void startObject() {
+    this.jsonContentHandler.startObject();
+  }
+
+  /**
+   * Handle the end of a JSON object.
+   */
+  @Override
+  public void endObject() {
+    this.jsonContentHandler.endObject();
+  }
+
+  /**
+   * Handle the start of a JSON array.
+   */
+  @Override
+  public void startArray() {
+    this.jsonContentHandler.startArray();
+  }
+
+  /**
+   * Handle the end of a JSON array.
+   */
+  @Override
+  public void endArray() {
+    this.jsonContentHandler.endArray();
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(String name) {
+    this.jsonContentHandler.memberName(name);
+  }
+
+  /**
+   * Handle the name of a member of a JSON object.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(CharSequence name) {
+    this.jsonContentHandler.memberName(name.toString());
+  }
+
+  /**
+   * Handle a JSON primitive.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitive(Object value) {
+    this.jsonContentHandler.primitive(value);
+  }
+
+  /**
+   * Handle a JSON primitive with a <code>null</code> value.
+   */
+  @Override
+  public void primitiveNull() {
+    this.jsonContentHandler.primitive(null);
+  }
+
+  /**
+   * Handle a JSON primitive with a boolean value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveBoolean(boolean value) {
+    this.jsonContentHandler.primitive(Boolean.valueOf(value));
+  }
+
+  /**
+   * Handle a JSON primitive with an integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveLong(long value) {
+    this.jsonContentHandler.primitive(JsonContentUtil.toNumber(value));
+  }
+
+  /**
+   * Handle a JSON primitive with a double value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveDouble(double value) {
+    this.jsonContentHandler.primitive(Double.valueOf(value));
+  }
+
+  /**
+   * Handle a JSON primitive with a string value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveString(CharSequence value) {
+    this.jsonContentHandler.primitive(value.toString());
+  }
+}
@@ -0,0 +1,310 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chunked JSON Text Builder.
+ * <p>
+ * This JSON text generator builds the same JSON text as the
+ * {@link JsonTextBuilder}, but stores it in a list of fixed-size character
+ * chunks rather than in a single {@link StringBuilder}. The JSON text is
+ * therefore never copied as it grows, and it can be written to a
+ * {@link Sink} chunk by chunk, or read through the {@link CharSequence}
+ * interface of the builder, without the contiguous copy of
+ * {@link #toString()}. The memory used by a JSON text of <i>n</i> characters
+ * is at most <i>n</i> characters plus one chunk, instead of up to four times
+ * <i>n</i> characters for the array doubling and the final copy of a string
+ * builder.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class ChunkedJsonTextBuilder extends JsonTextGenerator implements CharSequence {
+  /**
+   * Sink.
+   * <p>
+   * A sink receives the chunks of a JSON text in order.
+   */
+  public interface Sink {
+    /**
+     * Write the given characters.
+     * <p>
+     * The characters are only valid for the duration of the call.
+     *
+     * @param chars The characters.
+     * @param offset The offset of the first character.
+     * @param length The number of characters.
+     */
+    public void write(char[] chars, int offset, int length);
+
+    /**
+     * Flush the sink after the last chunk of a JSON text.
+     */
+    public void flush();
+  }
+
+  /** The default size of the chunks. */
+  public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+  /** The size of the chunks. */
+  private final int chunkSize;
+
+  /** The chunks. */
+  private final List<char[]> chunks = new ArrayList<char[]>();
+
+  /** The current chunk. */
+  private char[] chunk;
+
+  /** The position within the current chunk. */
+  private int position;
+
+  /** The number of characters in the full chunks. */
+  private int fullChunksLength;
+
+  /**
+   * Construct a new Chunked JSON Text Builder.
+   */
+  public ChunkedJsonTextBuilder() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Construct a new Chunked JSON Text Builder.
+   *
+   * @param chunkSize The size of the chunks.
+   */
+  public ChunkedJsonTextBuilder(int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize < 1");
+    }
+
+    this.chunkSize = chunkSize;
+    this.chunk = new char[chunkSize];
+
+    this.chunks.add(this.chunk);
+  }
+
+  /**
+   * Retrieve the size of the chunks.
+   *
+   * @return The size of the chunks.
+   */
+  public int getChunkSize() {
+    return this.chunkSize;
+  }
+
+  /**
+   * Retrieve the number of chunks.
+   *
+   * @return The number of chunks.
+   */
+  public int getChunkCount() {
+    return this.chunks.size();
+  }
+
+  /**
+   * Write the JSON text to the given sink.
+   * <p>
+   * Each chunk is written with a single call to the sink, after which the
+   * sink is flushed. The JSON text is retained by this builder.
+   *
+   * @param sink The sink.
+   */
+  public void writeTo(Sink sink) {
+    int lastChunkIndex = this.chunks.size() - 1;
+
+    for (int i = 0; i < lastChunkIndex; i++) {
+      sink.write(this.chunks.get(i), 0, this.chunkSize);
+    }
+
+    if (this.position > 0) {
+      sink.write(this.chunk, 0, this.position);
+    }
+
+    sink.flush();
+  }
+
+  /**
+   * Remove the JSON text from this builder.
+   * <p>
+   * The first chunk is retained for the next JSON text.
+   */
+  public void clear() {
+    this.chunk = this.chunks.get(0);
+    this.position = 0;
+    this.fullChunksLength = 0;
+
+    this.chunks.clear();
+    this.chunks.add(this.chunk);
+  }
+
+  /**
+   * Retrieve the number of characters of the JSON text.
+   *
+   * @return The number of characters.
+   */
+  @Override
+  public int length() {
+    return this.fullChunksLength + this.position;
+  }
+
+  /**
+   * Retrieve the character of the JSON text at the given index.
+   *
+   * @param index The index.
+   * @return The character.
+   */
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= this.length()) {
+      throw new IndexOutOfBoundsException("index: " + index);
+    }
+
+    return this.chunks.get(index / this.chunkSize)[index % this.chunkSize];
+  }
+
+  /**
+   * Retrieve the characters of the JSON text between the given indices.
+   *
+   * @param start The index of the first character.
+   * @param end The index after the last character.
+   * @return The characters.
+   */
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > this.length() || start > end) {
+      throw new IndexOutOfBoundsException("start: " + start + ", end: " + end);
+    }
+
+    char[] chars = new char[end - start];
+
+    this.getChars(start, end, chars, 0);
+
+    return new String(chars);
+  }
+
+  /**
+   * Create a string representation of this object.
+   * <p>
+   * The string is a contiguous copy of the JSON text.
+   *
+   * @return The string representation.
+   */
+  @Override
+  public String toString() {
+    return this.subSequence(0, this.length()).toString();
+  }
+
+  /**
+   * Print the given character.
+   *
+   * @param character The character.
+   */
+  @Override
+  protected void print(char character) {
+    if (this.position == this.chunkSize) {
+      this.nextChunk();
+    }
+
+    this.chunk[this.position++] = character;
+  }
+
+  /**
+   * Print the given string.
+   *
+   * @param string The string.
+   */
+  @Override
+  protected void print(String string) {
+    int length = string.length();
+    int offset = 0;
+
+    while (offset < length) {
+      if (this.position == this.chunkSize) {
+        this.nextChunk();
+      }
+
+      int count = Math.min(length - offset, this.chunkSize - this.position);
+
+      string.getChars(offset, offset + count, this.chunk, this.position);
+
+      this.position += count;
+      offset += count;
+    }
+  }
+
+  /**
+   * Print the given characters.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   */
+  @Override
+  protected void print(char[] chars, int offset, int length) {
+    int end = offset + length;
+
+    while (offset < end) {
+      if (this.position == this.chunkSize) {
+        this.nextChunk();
+      }
+
+      int count = Math.min(end - offset, this.chunkSize - this.position);
+
+      System.arraycopy(chars, offset, this.chunk, this.position, count);
+
+      this.position += count;
+      offset += count;
+    }
+  }
+
+  /**
+   * Copy the characters of the JSON text between the given indices into the
+   * given array.
+   *
+   * @param start The index of the first character.
+   * @param end The index after the last character.
+   * @param chars The array.
+   * @param offset The offset within the array.
+   */
+  private void getChars(int start, int end, char[] chars, int offset) {
+    while (start < end) {
+      int chunkOffset = start % this.chunkSize;
+      int count = Math.min(end - start, this.chunkSize - chunkOffset);
+
+      System.arraycopy(this.chunks.get(start / this.chunkSize), chunkOffset, chars, offset, count);
+
+      start += count;
+      offset += count;
+    }
+  }
+
+  /**
+   * Start the next chunk.
+   */
+  private void nextChunk() {
+    this.chunk = new char[this.chunkSize];
+    this.position = 0;
+    this.fullChunksLength += this.chunkSize;
+
+    this.chunks.add(this.chunk);
+  }
+}
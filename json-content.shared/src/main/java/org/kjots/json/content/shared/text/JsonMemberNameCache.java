@@ -0,0 +1,271 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared.text;
+
+/**
+ * JSON Member Name Cache.
+ * <p>
+ * This class maps the member names printed by the {@link JsonTextGenerator}
+ * to their encodings, which are the quoted, escaped member names followed by
+ * the name separator. The member names are keyed by their content, with the
+ * same hash code as their strings, so a member name is found in the cache
+ * whether it is printed again as the same string instance, as an equal
+ * string, or as the characters of a reused buffer. A member name that is the
+ * same string instance as the cached member name is matched without
+ * comparing its characters.
+ * <p>
+ * The cache has a fixed number of slots, and each member name may occupy
+ * one of a small number of slots determined by its hash code. A member name
+ * that is not registered replaces an existing member name that is not
+ * registered when all of its slots are occupied, whereas a registered
+ * member name is never replaced.
+ * <p>
+ * A member name that is not registered is only worth encoding if it is
+ * printed again, so the cache also records the hash codes of the member
+ * names that have been seen, in a two-way set, and a member name is only
+ * admitted when it is seen a second time. Since each set holds the two most
+ * recently seen member names, two member names that share a set and
+ * alternate are both admitted.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+final class JsonMemberNameCache {
+  /** The number of slots. */
+  private static final int CAPACITY = 256;
+
+  /** The number of slots that may be occupied by a member name. */
+  private static final int PROBE_LENGTH = 4;
+
+  /** The number of sets of seen member names. */
+  private static final int SEEN_SET_COUNT = 256;
+
+  /** The member names. */
+  private final String[] names = new String[CAPACITY];
+
+  /** The hash codes of the member names. */
+  private final int[] hashCodes = new int[CAPACITY];
+
+  /** The encodings of the member names. */
+  private final char[][] encodings = new char[CAPACITY][];
+
+  /** The registered flags of the member names. */
+  private final boolean[] registered = new boolean[CAPACITY];
+
+  /** The hash codes of the most recently seen member names of each set. */
+  private final int[] seenHashCodes = new int[SEEN_SET_COUNT];
+
+  /** The hash codes of the previously seen member names of each set. */
+  private final int[] previousSeenHashCodes = new int[SEEN_SET_COUNT];
+
+  /** The slot of the next replacement. */
+  private int replacement;
+
+  /**
+   * Retrieve the encoding of the given member name.
+   *
+   * @param name The member name.
+   * @return The encoding, or <code>null</code> if the member name is not in the cache.
+   */
+  public char[] get(String name) {
+    int hashCode = name.hashCode();
+    int index = index(hashCode);
+
+    for (int i = 0; i < PROBE_LENGTH; i++) {
+      int slot = (index + i) & (CAPACITY - 1);
+      String cachedName = this.names[slot];
+
+      if (cachedName == name || (cachedName != null && this.hashCodes[slot] == hashCode && cachedName.equals(name))) {
+        return this.encodings[slot];
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Retrieve the encoding of the member name with the given characters.
+   *
+   * @param chars The characters.
+   * @param length The number of characters.
+   * @param hashCode The hash code of the characters.
+   * @return The encoding, or <code>null</code> if the member name is not in the cache.
+   * @see #hashCode(char[], int)
+   */
+  public char[] get(char[] chars, int length, int hashCode) {
+    int index = index(hashCode);
+
+    for (int i = 0; i < PROBE_LENGTH; i++) {
+      int slot = (index + i) & (CAPACITY - 1);
+      String cachedName = this.names[slot];
+
+      if (cachedName != null && this.hashCodes[slot] == hashCode && contentEquals(cachedName, chars, length)) {
+        return this.encodings[slot];
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Record that the member name with the given hash code has been seen.
+   * <p>
+   * The member name becomes the most recently seen member name of its set,
+   * so a member name is reported as having been seen before if it is one of
+   * the two most recently seen member names of its set. Since only the hash
+   * codes are recorded, a member name may also be reported as having been
+   * seen before if another member name with the same hash code has been
+   * seen, which only causes it to be admitted early.
+   *
+   * @param hashCode The hash code of the member name.
+   * @return <code>true</code> if the member name has been seen before.
+   */
+  public boolean see(int hashCode) {
+    int set = (hashCode ^ (hashCode >>> 16)) & (SEEN_SET_COUNT - 1);
+
+    if (this.seenHashCodes[set] == hashCode) {
+      return true;
+    }
+
+    boolean seen = this.previousSeenHashCodes[set] == hashCode;
+
+    this.previousSeenHashCodes[set] = this.seenHashCodes[set];
+    this.seenHashCodes[set] = hashCode;
+
+    return seen;
+  }
+
+  /**
+   * Put the encoding of the given member name into the cache.
+   * <p>
+   * The encoding is not cached if every slot of the member name is occupied
+   * by a registered member name.
+   *
+   * @param name The member name.
+   * @param encoding The encoding.
+   * @param register The registered flag.
+   */
+  public void put(String name, char[] encoding, boolean register) {
+    int hashCode = name.hashCode();
+    int index = index(hashCode);
+    int freeSlot = -1;
+
+    for (int i = 0; i < PROBE_LENGTH; i++) {
+      int slot = (index + i) & (CAPACITY - 1);
+
+      if (this.names[slot] == null || (this.hashCodes[slot] == hashCode && this.names[slot].equals(name))) {
+        freeSlot = slot;
+
+        break;
+      }
+    }
+
+    if (freeSlot == -1) {
+      for (int i = 0; i < PROBE_LENGTH; i++) {
+        int slot = (index + (this.replacement + i) % PROBE_LENGTH) & (CAPACITY - 1);
+
+        if (!this.registered[slot]) {
+          freeSlot = slot;
+
+          break;
+        }
+      }
+
+      this.replacement = (this.replacement + 1) % PROBE_LENGTH;
+
+      if (freeSlot == -1) {
+        return;
+      }
+    }
+
+    this.names[freeSlot] = name;
+    this.hashCodes[freeSlot] = hashCode;
+    this.encodings[freeSlot] = encoding;
+    this.registered[freeSlot] |= register;
+  }
+
+  /**
+   * Remove every member name from the cache.
+   */
+  public void clear() {
+    for (int i = 0; i < CAPACITY; i++) {
+      this.names[i] = null;
+      this.hashCodes[i] = 0;
+      this.encodings[i] = null;
+      this.registered[i] = false;
+    }
+
+    for (int i = 0; i < SEEN_SET_COUNT; i++) {
+      this.seenHashCodes[i] = 0;
+      this.previousSeenHashCodes[i] = 0;
+    }
+  }
+
+  /**
+   * Calculate the hash code of the given characters.
+   * <p>
+   * The hash code is the hash code of the string of the characters.
+   *
+   * @param chars The characters.
+   * @param length The number of characters.
+   * @return The hash code.
+   * @see String#hashCode()
+   */
+  public static int hashCode(char[] chars, int length) {
+    int hashCode = 0;
+
+    for (int i = 0; i < length; i++) {
+      hashCode = 31 * hashCode + chars[i];
+    }
+
+    return hashCode;
+  }
+
+  /**
+   * Retrieve the index of the first slot of the member name with the given
+   * hash code.
+   *
+   * @param hashCode The hash code.
+   * @return The index.
+   */
+  private static int index(int hashCode) {
+    return (hashCode ^ (hashCode >>> 16)) & (CAPACITY - 1);
+  }
+
+  /**
+   * Determine if the given string has the given characters.
+   *
+   * @param string The string.
+   * @param chars The characters.
+   * @param length The number of characters.
+   * @return <code>true</code> if the string has the characters.
+   */
+  private static boolean contentEquals(String string, char[] chars, int length) {
+    if (string.length() != length) {
+      return false;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (string.charAt(i) != chars[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
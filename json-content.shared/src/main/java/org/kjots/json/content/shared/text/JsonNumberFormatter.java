@@ -0,0 +1,700 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared.text;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * JSON Number Formatter.
+ * <p>
+ * This class formats the numeric values written by the
+ * {@link JsonTextGenerator} into a reusable character buffer, producing the
+ * same text as the <code>toString()</code> method of the numeric value, or,
+ * when a maximum number of decimal places is set, the same text as the
+ * <code>toString()</code> method of a {@link BigDecimal} created from that
+ * text and set to that scale, but without creating either.
+ * <p>
+ * The values of the integral types are formatted digit by digit. The values
+ * of type {@link Double} are converted to the shortest decimal that rounds
+ * to the same value with the Schubfach algorithm of Raffaello Giulietti,
+ * which is the algorithm of <code>Double.toString(double)</code> from Java 19
+ * onwards. Older Java runtimes occasionally produce a longer decimal for the
+ * same value, in which case this class produces the shorter one. Fixed scale
+ * rounding is performed on the decimal digits with long arithmetic.
+ * <p>
+ * The values of the other types, non-finite values, and the fixed scale
+ * values that {@link BigDecimal} would format in scientific notation are not
+ * formatted by this class, and are left to the original path.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+final class JsonNumberFormatter {
+  /** The minimum exponent of the powers of ten of the Schubfach table. */
+  private static final int K_MIN = -324;
+
+  /** The maximum exponent of the powers of ten of the Schubfach table. */
+  private static final int K_MAX = 292;
+
+  /** The minimum binary exponent of a double. */
+  private static final int Q_MIN = -1074;
+
+  /** The number of bits of the significand of a double. */
+  private static final int P = 53;
+
+  /** The smallest normal significand of a double. */
+  private static final long C_MIN = 1L << (P - 1);
+
+  /** The threshold below which a subnormal significand is scaled by ten. */
+  private static final long C_TINY = 3;
+
+  /** The mask of the lower 63 bits of a long. */
+  private static final long MASK_63 = (1L << 63) - 1;
+
+  /** The powers of ten that fit in a long. */
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  /**
+   * The Schubfach table.
+   * <p>
+   * For each <code>k</code>, the table contains the upper and lower 63 bits
+   * of the 126 bit approximation of <code>10<sup>-k</sup></code>.
+   */
+  private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    BigInteger mask63 = BigInteger.valueOf(MASK_63);
+    for (int k = K_MIN; k <= K_MAX; k++) {
+      int r = flog2pow10(-k) - 125;
+
+      BigInteger g;
+      if (k <= 0) {
+        BigInteger pow10 = BigInteger.TEN.pow(-k);
+
+        g = r >= 0 ? pow10.shiftRight(r) : pow10.shiftLeft(-r);
+      }
+      else {
+        g = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(k));
+      }
+
+      g = g.add(BigInteger.ONE);
+
+      G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+      G[2 * (k - K_MIN) + 1] = g.and(mask63).longValue();
+    }
+  }
+
+  /** The character buffer. */
+  private char[] chars = new char[32];
+
+  /** The decimal significand of the last conversion of a double. */
+  private long decimalSignificand;
+
+  /** The decimal exponent of the last conversion of a double. */
+  private int decimalExponent;
+
+  /**
+   * Retrieve the character buffer.
+   * <p>
+   * The characters of the last formatted value start at the beginning of the
+   * buffer.
+   *
+   * @return The character buffer.
+   */
+  public char[] getChars() {
+    return this.chars;
+  }
+
+  /**
+   * Format the given numeric value.
+   *
+   * @param value The numeric value.
+   * @param maxDecimalPlaces The maximum number of decimal places, or a
+   *   negative value for no maximum.
+   * @param roundingMode The rounding mode of {@link BigDecimal}.
+   * @return The number of characters, or <code>-1</code> if the value was not
+   *   formatted.
+   */
+  public int format(Number value, int maxDecimalPlaces, int roundingMode) {
+    if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      return this.format(value.longValue(), maxDecimalPlaces, roundingMode);
+    }
+    else if (value instanceof Double) {
+      return this.format(value.doubleValue(), maxDecimalPlaces, roundingMode);
+    }
+
+    return -1;
+  }
+
+  /**
+   * Format the given long value.
+   *
+   * @param value The long value.
+   * @param maxDecimalPlaces The maximum number of decimal places, or a
+   *   negative value for no maximum.
+   * @param roundingMode The rounding mode of {@link BigDecimal}.
+   * @return The number of characters, or <code>-1</code> if the value was not
+   *   formatted.
+   */
+  public int format(long value, int maxDecimalPlaces, int roundingMode) {
+    if (maxDecimalPlaces < 0) {
+      return this.formatLong(value);
+    }
+    else if (value != Long.MIN_VALUE) {
+      return this.formatFixed(value < 0, Math.abs(value), 0, maxDecimalPlaces, roundingMode);
+    }
+
+    return -1;
+  }
+
+  /**
+   * Format the given double value.
+   *
+   * @param value The double value.
+   * @param maxDecimalPlaces The maximum number of decimal places, or a
+   *   negative value for no maximum.
+   * @param roundingMode The rounding mode of {@link BigDecimal}.
+   * @return The number of characters, or <code>-1</code> if the value was not
+   *   formatted.
+   */
+  public int format(double value, int maxDecimalPlaces, int roundingMode) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      return -1;
+    }
+
+    if (maxDecimalPlaces < 0) {
+      return this.formatDouble(value);
+    }
+    else if (value == 0) {
+      return this.formatFixed(false, 0, 0, maxDecimalPlaces, roundingMode);
+    }
+    else {
+      this.toDecimal(Math.abs(value));
+
+      return this.formatFixed(value < 0, this.decimalSignificand, this.decimalExponent, maxDecimalPlaces, roundingMode);
+    }
+  }
+
+  /**
+   * Format the given long value.
+   *
+   * @param value The long value.
+   * @return The number of characters.
+   */
+  int formatLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      String string = Long.toString(value);
+
+      string.getChars(0, string.length(), this.chars, 0);
+
+      return string.length();
+    }
+
+    int position = 0;
+    if (value < 0) {
+      this.chars[position++] = '-';
+
+      value = -value;
+    }
+
+    int length = digitCount(value);
+
+    writeDigits(value, this.chars, position, length);
+
+    return position + length;
+  }
+
+  /**
+   * Format the given finite double value.
+   * <p>
+   * The value is formatted with the layout of
+   * <code>Double.toString(double)</code>.
+   *
+   * @param value The double value.
+   * @return The number of characters.
+   */
+  int formatDouble(double value) {
+    char[] chars = this.chars;
+    int position = 0;
+
+    if (value < 0 || value == 0 && 1 / value < 0) {
+      chars[position++] = '-';
+    }
+
+    if (value == 0) {
+      chars[position++] = '0';
+      chars[position++] = '.';
+      chars[position++] = '0';
+
+      return position;
+    }
+
+    this.toDecimal(Math.abs(value));
+
+    long significand = this.decimalSignificand;
+    int length = digitCount(significand);
+    int exponent = length - 1 + this.decimalExponent;
+
+    if (exponent >= -3 && exponent < 7) {
+      if (exponent >= 0) {
+        int integerLength = exponent + 1;
+
+        if (length <= integerLength) {
+          writeDigits(significand, chars, position, length);
+
+          position += length;
+          for (int i = length; i < integerLength; i++) {
+            chars[position++] = '0';
+          }
+
+          chars[position++] = '.';
+          chars[position++] = '0';
+        }
+        else {
+          writeDigits(significand / POWERS_OF_TEN[length - integerLength], chars, position, integerLength);
+
+          position += integerLength;
+          chars[position++] = '.';
+
+          writeDigits(significand % POWERS_OF_TEN[length - integerLength], chars, position, length - integerLength);
+
+          position += length - integerLength;
+        }
+      }
+      else {
+        chars[position++] = '0';
+        chars[position++] = '.';
+        for (int i = -1; i > exponent; i--) {
+          chars[position++] = '0';
+        }
+
+        writeDigits(significand, chars, position, length);
+
+        position += length;
+      }
+    }
+    else {
+      writeDigits(significand / POWERS_OF_TEN[length - 1], chars, position, 1);
+
+      position += 1;
+      chars[position++] = '.';
+
+      if (length > 1) {
+        writeDigits(significand % POWERS_OF_TEN[length - 1], chars, position, length - 1);
+
+        position += length - 1;
+      }
+      else {
+        chars[position++] = '0';
+      }
+
+      chars[position++] = 'E';
+
+      if (exponent < 0) {
+        chars[position++] = '-';
+
+        exponent = -exponent;
+      }
+
+      int exponentLength = digitCount(exponent);
+
+      writeDigits(exponent, chars, position, exponentLength);
+
+      position += exponentLength;
+    }
+
+    return position;
+  }
+
+  /**
+   * Format the given decimal with the given scale.
+   * <p>
+   * The decimal is the value of <code>significand &times; 10<sup>exponent</sup></code>,
+   * negated if the negative flag is set.
+   *
+   * @param negative The negative flag.
+   * @param significand The non-negative significand.
+   * @param exponent The exponent.
+   * @param scale The scale.
+   * @param roundingMode The rounding mode of {@link BigDecimal}.
+   * @return The number of characters, or <code>-1</code> if {@link BigDecimal}
+   *   would format the value in scientific notation.
+   */
+  int formatFixed(boolean negative, long significand, int exponent, int scale, int roundingMode) {
+    long digits;
+    int zeroCount;
+
+    if (exponent >= -scale) {
+      digits = significand;
+      zeroCount = exponent + scale;
+    }
+    else {
+      int droppedCount = -scale - exponent;
+      int length = digitCount(significand);
+
+      long remainder;
+      int comparison;
+      if (droppedCount > length) {
+        digits = 0;
+        remainder = significand;
+        comparison = -1;
+      }
+      else {
+        long divisor = POWERS_OF_TEN[droppedCount];
+
+        digits = significand / divisor;
+        remainder = significand % divisor;
+
+        long half = divisor / 2;
+
+        comparison = remainder < half ? -1 : remainder == half ? 0 : 1;
+      }
+
+      if (remainder != 0 && isIncrement(roundingMode, negative, comparison, digits)) {
+        digits++;
+      }
+
+      zeroCount = 0;
+    }
+
+    if (digits == 0) {
+      zeroCount = 0;
+    }
+
+    int length = digitCount(digits) + zeroCount;
+    if (length - 1 - scale < -6) {
+      return -1;
+    }
+
+    this.ensureCapacity(length + scale + 3);
+
+    char[] chars = this.chars;
+    int position = 0;
+
+    if (negative && digits != 0) {
+      chars[position++] = '-';
+    }
+
+    if (length <= scale) {
+      chars[position++] = '0';
+      chars[position++] = '.';
+      for (int i = length; i < scale; i++) {
+        chars[position++] = '0';
+      }
+    }
+
+    int digitsLength = length - zeroCount;
+    int integerLength = length - scale;
+
+    for (int i = 0; i < length; i++) {
+      if (i == integerLength && integerLength > 0) {
+        chars[position++] = '.';
+      }
+
+      if (i < digitsLength) {
+        chars[position++] = (char)('0' + (digits / POWERS_OF_TEN[digitsLength - 1 - i]) % 10);
+      }
+      else {
+        chars[position++] = '0';
+      }
+    }
+
+    return position;
+  }
+
+  /**
+   * Convert the given positive finite double value to the shortest decimal
+   * that rounds to it.
+   * <p>
+   * The significand and exponent of the decimal are stored in the
+   * {@link #decimalSignificand} and {@link #decimalExponent} fields, with the
+   * trailing zeros of the significand removed.
+   *
+   * @param value The double value.
+   */
+  private void toDecimal(double value) {
+    long bits = Double.doubleToRawLongBits(value);
+    long t = bits & (C_MIN - 1);
+    int bq = (int)(bits >>> (P - 1)) & 0x7FF;
+
+    if (bq != 0) {
+      int mq = -Q_MIN + 1 - bq;
+      long c = C_MIN | t;
+
+      if (0 < mq && mq < P) {
+        long f = c >> mq;
+
+        if (f << mq == c) {
+          this.setDecimal(f, 0);
+
+          return;
+        }
+      }
+
+      this.toDecimal(-mq, c, 0);
+    }
+    else if (t < C_TINY) {
+      this.toDecimal(Q_MIN, 10 * t, -1);
+    }
+    else {
+      this.toDecimal(Q_MIN, t, 0);
+    }
+  }
+
+  /**
+   * Convert the double value <code>c &times; 2<sup>q</sup></code> to the
+   * shortest decimal that rounds to it.
+   *
+   * @param q The binary exponent.
+   * @param c The significand.
+   * @param dk The adjustment of the decimal exponent.
+   */
+  private void toDecimal(int q, long c, int dk) {
+    int out = (int)c & 0x1;
+    long cb = c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+
+    if (c != C_MIN || q == Q_MIN) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    }
+    else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+
+    int h = q + flog2pow10(-k) + 2;
+
+    long g1 = G[2 * (k - K_MIN)];
+    long g0 = G[2 * (k - K_MIN) + 1];
+
+    long vb = rop(g1, g0, cb << h);
+    long vbl = rop(g1, g0, cbl << h);
+    long vbr = rop(g1, g0, cbr << h);
+
+    long s = vb >> 2;
+    if (s >= 100) {
+      long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+      long tp10 = sp10 + 10;
+      boolean upin = vbl + out <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out <= vbr;
+
+      if (upin != wpin) {
+        this.setDecimal(upin ? sp10 : tp10, k);
+
+        return;
+      }
+    }
+
+    long t = s + 1;
+    boolean uin = vbl + out <= s << 2;
+    boolean win = (t << 2) + out <= vbr;
+
+    if (uin != win) {
+      this.setDecimal(uin ? s : t, k + dk);
+
+      return;
+    }
+
+    long cmp = vb - ((s + t) << 1);
+
+    this.setDecimal(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+  }
+
+  /**
+   * Set the decimal significand and exponent, removing the trailing zeros of
+   * the significand.
+   *
+   * @param significand The significand.
+   * @param exponent The exponent.
+   */
+  private void setDecimal(long significand, int exponent) {
+    while (significand % 10 == 0) {
+      significand /= 10;
+      exponent++;
+    }
+
+    this.decimalSignificand = significand;
+    this.decimalExponent = exponent;
+  }
+
+  /**
+   * Ensure that the character buffer has at least the given capacity.
+   *
+   * @param capacity The capacity.
+   */
+  private void ensureCapacity(int capacity) {
+    if (this.chars.length < capacity) {
+      this.chars = new char[Math.max(capacity, this.chars.length * 2)];
+    }
+  }
+
+  /**
+   * Determine if the retained digits of a rounded value are to be
+   * incremented.
+   *
+   * @param roundingMode The rounding mode of {@link BigDecimal}.
+   * @param negative The negative flag.
+   * @param comparison The comparison of the discarded fraction with one half.
+   * @param digits The retained digits.
+   * @return <code>true</code> if the retained digits are to be incremented.
+   */
+  private static boolean isIncrement(int roundingMode, boolean negative, int comparison, long digits) {
+    switch (roundingMode) {
+    case BigDecimal.ROUND_UP:
+      return true;
+
+    case BigDecimal.ROUND_DOWN:
+      return false;
+
+    case BigDecimal.ROUND_CEILING:
+      return !negative;
+
+    case BigDecimal.ROUND_FLOOR:
+      return negative;
+
+    case BigDecimal.ROUND_HALF_UP:
+      return comparison >= 0;
+
+    case BigDecimal.ROUND_HALF_DOWN:
+      return comparison > 0;
+
+    case BigDecimal.ROUND_HALF_EVEN:
+      return comparison > 0 || comparison == 0 && (digits & 0x1) != 0;
+
+    case BigDecimal.ROUND_UNNECESSARY:
+      throw new ArithmeticException("Rounding necessary");
+
+    default:
+      throw new IllegalArgumentException("Invalid rounding mode");
+    }
+  }
+
+  /**
+   * Write the given number of the least significant decimal digits of the
+   * given non-negative value into the given buffer.
+   *
+   * @param value The value.
+   * @param chars The buffer.
+   * @param offset The offset of the first digit.
+   * @param length The number of digits.
+   */
+  private static void writeDigits(long value, char[] chars, int offset, int length) {
+    for (int i = offset + length - 1; i >= offset; i--) {
+      chars[i] = (char)('0' + value % 10);
+
+      value /= 10;
+    }
+  }
+
+  /**
+   * Count the decimal digits of the given non-negative value.
+   *
+   * @param value The value.
+   * @return The number of decimal digits.
+   */
+  private static int digitCount(long value) {
+    int count = 1;
+    while (count < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[count]) {
+      count++;
+    }
+
+    return count;
+  }
+
+  /**
+   * Calculate the rounded odd product of the 126 bit value
+   * <code>g1 &times; 2<sup>63</sup> + g0</code> and the given value, shifted
+   * right by 127 bits.
+   *
+   * @param g1 The upper 63 bits.
+   * @param g0 The lower 63 bits.
+   * @param cp The value.
+   * @return The rounded odd product.
+   */
+  private static long rop(long g1, long g0, long cp) {
+    long x1 = multiplyHigh(g0, cp);
+    long y0 = g1 * cp;
+    long y1 = multiplyHigh(g1, cp);
+    long z = (y0 >>> 1) + x1;
+    long vbp = y1 + (z >>> 63);
+
+    return vbp | (((z & MASK_63) + MASK_63) >>> 63);
+  }
+
+  /**
+   * Calculate the upper 64 bits of the 128 bit product of the given values.
+   *
+   * @param x The first value.
+   * @param y The second value.
+   * @return The upper 64 bits of the product.
+   */
+  private static long multiplyHigh(long x, long y) {
+    long x1 = x >> 32;
+    long x2 = x & 0xFFFFFFFFL;
+    long y1 = y >> 32;
+    long y2 = y & 0xFFFFFFFFL;
+
+    long z2 = x2 * y2;
+    long t = x1 * y2 + (z2 >>> 32);
+    long z1 = t & 0xFFFFFFFFL;
+    long z0 = t >> 32;
+
+    z1 += x2 * y1;
+
+    return x1 * y1 + z0 + (z1 >> 32);
+  }
+
+  /**
+   * Calculate <code>floor(log<sub>10</sub>(2<sup>e</sup>))</code>.
+   *
+   * @param e The exponent.
+   * @return The result.
+   */
+  private static int flog10pow2(int e) {
+    return (int)((e * 661971961083L) >> 41);
+  }
+
+  /**
+   * Calculate <code>floor(log<sub>10</sub>(3/4 &times; 2<sup>e</sup>))</code>.
+   *
+   * @param e The exponent.
+   * @return The result.
+   */
+  private static int flog10threeQuartersPow2(int e) {
+    return (int)((e * 661971961083L - 274743187321L) >> 41);
+  }
+
+  /**
+   * Calculate <code>floor(log<sub>2</sub>(10<sup>e</sup>))</code>.
+   *
+   * @param e The exponent.
+   * @return The result.
+   */
+  private static int flog2pow10(int e) {
+    return (int)((e * 913124641741L) >> 38);
+  }
+}
@@ -72,4 +72,16 @@ public class JsonTextBuilder extends JsonTextGenerator {
   protected void print(String string) {
     this.stringBuilder.append(string);
   }
+  
+  /**
+   * Print the given characters.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   */
+  @Override
+  protected void print(char[] chars, int offset, int length) {
+    this.stringBuilder.append(chars, offset, length);
+  }
 }
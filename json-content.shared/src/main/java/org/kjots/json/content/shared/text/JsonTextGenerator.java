@@ -16,9 +16,13 @@
 package org.kjots.json.content.shared.text;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
-import org.kjots.json.content.shared.JsonContentHandler;
-import org.kjots.json.content.shared.PartialJsonContentHandler;
+import org.kjots.json.content.shared.CharArraySequence;
+import org.kjots.json.content.shared.JsonContentUtil;
+import org.kjots.json.content.shared.TypedJsonContentHandler;
 
 /**
  * JSON Text Generator.
@@ -28,426 +32,221 @@ import org.kjots.json.content.shared.PartialJsonContentHandler;
  * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
  * @since 1.0
  */
-public abstract class JsonTextGenerator implements JsonContentHandler {
+public abstract class JsonTextGenerator implements TypedJsonContentHandler {
   /**
-   * JSON Context.
+   * Escape Profile.
+   * <p>
+   * The escape profile determines which characters of string values are
+   * printed as escape sequences. Every profile escapes the quotation mark,
+   * the reverse solidus and the control characters, using the short escape
+   * sequences where they exist.
    */
-  private abstract class JsonContext extends PartialJsonContentHandler {
-    /** The parent JSON context. */
-    protected final JsonContext parentJsonContext;
-    
-    /** The first entry flag. */
-    private boolean firstEntry = true;
-    
+  public enum EscapeProfile {
     /**
-     * Construct a new JSON Context.
-     *
-     * @param parentJsonContext The parent JSON context.
+     * The default profile, which also escapes the surrogate characters.
+     * <p>
+     * This is the escaping of the JSON text generator prior to the
+     * introduction of the escape profiles.
      */
-    protected JsonContext(JsonContext parentJsonContext) {
-      this.parentJsonContext = parentJsonContext;
-    }
+    DEFAULT(true, false, false),
     
     /**
-     * Close the JSON context.
+     * The minimal profile, which escapes only the characters that must be
+     * escaped, and the surrogate characters that are not part of a
+     * surrogate pair.
      */
-    protected void close() {
-      JsonTextGenerator.this.jsonContext = this.parentJsonContext;
-    }
+    MINIMAL(false, false, false),
     
     /**
-     * Determine if the context is set to the first entry.
-     *
-     * @return <code>true</code> if the context is set to the first entry.
+     * The HTML-safe profile, which also escapes the surrogate characters,
+     * the characters that are significant to HTML and XML
+     * (<code>&lt;</code>, <code>&gt;</code>, <code>&amp;</code> and
+     * <code>'</code>), and the line and paragraph separators, so that the
+     * JSON text may be embedded in an HTML script element.
      */
-    protected boolean isFirstEntry() {
-      return this.firstEntry;
-    }
+    HTML_SAFE(true, false, true),
     
     /**
-     * Advance to the next entry.
+     * The ASCII-only profile, which also escapes every non-ASCII character.
      */
-    protected void nextEntry() {
-      this.firstEntry = false;
-    }
-    
-    /**
-     * Print the given numeric value.
-     *
-     * @param value The numeric value
-     */
-    protected void printNumber(Number value) {
-      String stringValue = value.toString();
-      
-      if (JsonTextGenerator.this.maxDecimalPlaces >= 0) {
-        BigDecimal bigDecimal = new BigDecimal(stringValue);
-        
-        stringValue = bigDecimal.setScale(JsonTextGenerator.this.maxDecimalPlaces, JsonTextGenerator.this.roundingMode).toString();
-      }
-      
-      this.print(stringValue);
-    }
-    
-    /**
-     * Print the given string value.
-     *
-     * @param value The string value.
-     */
-    protected void printString(String value) {
-      this.print('"');
-      
-      for (int i = 0; i < value.length(); i++) {
-        char c = value.charAt(i);
-        
-        if (c <= 0x001F || c == '"' || c == '\\' || (c >= 0xD800 && c <= 0xDFFF)) {
-          this.print('\\');
-          
-          switch (c) {
-          case '\b':
-            this.print('b');
-            break;
-            
-          case '\f':
-            this.print('f');
-            break;
-            
-          case '\n':
-            this.print('n');
-            break;
-            
-          case '\r':
-            this.print('r');
-            break;
-            
-          case '\t':
-            this.print('t');
-            break;
-            
-          case '"':
-          case '\\':
-            this.print(c);
-            break;
-            
-          default:
-            this.print('u');
-            if (c < 0x1000) {
-              this.print('0');
-              if (c < 0x0100) {
-                this.print('0');
-                if (c < 0x0010) {
-                  this.print('0');
-                }
-              }
-            }
-            this.print(Integer.toHexString(c).toUpperCase());
-          }
-        }
-        else {
-          this.print(c);
-        }
-      }
-      
-      this.print('"');
-    }
+    ASCII_ONLY(true, true, false);
     
     /**
-     * Print a space.
+     * The escapes of the ASCII characters.
      * <p>
-     * This method will have no effect if the format flag is <code>false</code>.
+     * Each entry is the character that follows the reverse solidus of the
+     * escape sequence, <code>u</code> for a hexadecimal escape sequence, or
+     * zero if the character is not escaped.
      */
-    protected void printSpace() {
-      if (JsonTextGenerator.this.format) {
-        this.print(" ");
-      }
-    }
+    private final char[] asciiEscapes = new char[128];
     
-    /**
-     * Print an indent.
-     * <p>
-     * This method will have no effect if the format flag is <code>false</code>.
-     */
-    protected void printIndent() {
-      if (JsonTextGenerator.this.format) {
-        int indent = this.getIndent();
-        
-        for (int i = 0; i < indent; i++) {
-          this.print("  ");
-        }
-      }
-    }
+    /** The surrogate escape flag. */
+    private final boolean escapeSurrogates;
     
-    /**
-     * Print a newline.
-     * <p>
-     * This method will have no effect if the format flag is <code>false</code>.
-     */
-    protected void printNewline() {
-      if (JsonTextGenerator.this.format) {
-        this.print("\n");
-      }
-    }
+    /** The non-ASCII escape flag. */
+    private final boolean escapeNonAscii;
     
-    /**
-     * Print the given character.
-     *
-     * @param character The character.
-     */
-    protected void print(char character) {
-      JsonTextGenerator.this.print(character);
-    }
+    /** The HTML-safe flag. */
+    private final boolean htmlSafe;
     
     /**
-     * Print the given string.
-     *
-     * @param string The string,
-     */
-    protected void print(String string) {
-      JsonTextGenerator.this.print(string);
-    }
-
-    /**
-     * Retrieve the indent.
-     *
-     * @return the indent.
-     */
-    private int getIndent() {
-      return this.parentJsonContext != null ? this.parentJsonContext.getIndent() + 1 : -1;
-    }
-  }
-  
-  /**
-   * Root JSON Context.
-   */
-  private class RootJsonContext extends JsonContext {
-    /**
-     * Construct a new Root JSON Context.
+     * Construct a new Escape Profile.
      *
-     * @param parentJsonContext The parent JSON context.
-     */
-    public RootJsonContext(JsonContext parentJsonContext) {
-      super(parentJsonContext);
-    }
-    
-    /**
-     * Handle the end of the JSON content.
+     * @param escapeSurrogates The surrogate escape flag.
+     * @param escapeNonAscii The non-ASCII escape flag.
+     * @param htmlSafe The HTML-safe flag.
      */
-    @Override
-    public void endJson() {
-      this.printNewline();
+    private EscapeProfile(boolean escapeSurrogates, boolean escapeNonAscii, boolean htmlSafe) {
+      this.escapeSurrogates = escapeSurrogates;
+      this.escapeNonAscii = escapeNonAscii;
+      this.htmlSafe = htmlSafe;
       
-      this.close();
-    }
-    
-    /**
-     * Handle the start of a JSON object.
-     */
-    @Override
-    public void startObject() {
-      this.print("{");
-      
-      JsonTextGenerator.this.jsonContext = new ObjectJsonContext(this);
-    }
-    
-    /**
-     * Handle the start of a JSON array.
-     */
-    @Override
-    public void startArray() {
-      this.print("[");
-      
-      JsonTextGenerator.this.jsonContext = new ArrayJsonContext(this);
-    }
-  }
-  
-  /**
-   * Composite JSON Context.
-   */
-  private abstract class CompositeJsonContext extends JsonContext {
-    /**
-     * Handle the start of a JSON object.
-     */
-    @Override
-    public void startObject() {
-      this.beginEntry();
-      
-      this.print("{");
-      
-      JsonTextGenerator.this.jsonContext = new ObjectJsonContext(this);
-    }
-    
-    /**
-     * Handle the start of a JSON array.
-     */
-    @Override
-    public void startArray() {
-      this.beginEntry();
+      for (char c = 0; c < 0x20; c++) {
+        this.asciiEscapes[c] = 'u';
+      }
       
-      this.print("[");
+      this.asciiEscapes['\b'] = 'b';
+      this.asciiEscapes['\f'] = 'f';
+      this.asciiEscapes['\n'] = 'n';
+      this.asciiEscapes['\r'] = 'r';
+      this.asciiEscapes['\t'] = 't';
+      this.asciiEscapes['"'] = '"';
+      this.asciiEscapes['\\'] = '\\';
       
-      JsonTextGenerator.this.jsonContext = new ArrayJsonContext(this);
+      if (htmlSafe) {
+        this.asciiEscapes['<'] = 'u';
+        this.asciiEscapes['>'] = 'u';
+        this.asciiEscapes['&'] = 'u';
+        this.asciiEscapes['\''] = 'u';
+      }
     }
     
     /**
-     * Handle a JSON primitive.
+     * Retrieve the escape of the given character.
+     * <p>
+     * The escape is the character that follows the reverse solidus of the
+     * escape sequence of the given character, <code>u</code> for a
+     * hexadecimal escape sequence, or zero if the character is not escaped.
      *
-     * @param value The value of the JSON primitive.
+     * @param c The character.
+     * @return The escape.
      */
-    @Override
-    public void primitive(Object value) {
-      this.beginEntry();
-      
-      if (value == null) {
-        this.print("null");
+    public char getEscape(char c) {
+      if (c < 0x80) {
+        return this.asciiEscapes[c];
       }
-      else if (value instanceof Boolean) {
-        Boolean booleanValue = (Boolean)value;
-        
-        this.print(booleanValue.booleanValue() ? "true" : "false");
+      else if (c >= 0xD800 && c <= 0xDFFF) {
+        return this.escapeSurrogates ? 'u' : 0;
       }
-      else if (value instanceof Number) {
-        Number numericValue = (Number)value;
-        
-        this.printNumber(numericValue);
-      }
-      else if (value instanceof String) {
-        String stringValue = (String)value;
-        
-        this.printString(stringValue);
-      }
-      else {
-        throw new IllegalStateException("Unsupported primitive type: " + value.getClass().getName());
+      else if (this.escapeNonAscii || this.htmlSafe && (c == 0x2028 || c == 0x2029)) {
+        return 'u';
       }
       
-      this.nextEntry();
+      return 0;
     }
     
     /**
-     * Construct a new Composite JSON Context.
-     *
-     * @param parentJsonContext The parent JSON context.
-     */
-    protected CompositeJsonContext(JsonContext parentJsonContext) {
-      super(parentJsonContext);
-    }
-    
-    /**
-     * Begin an entry.
-     */
-    protected abstract void beginEntry();
-  }
-  
-  /**
-   * Object JSON Context.
-   */
-  private class ObjectJsonContext extends CompositeJsonContext {
-    /** The name of the next member. */
-    private String nextMemberName;
-    
-    /**
-     * Construct a new Object JSON Context.
+     * Retrieve the escape of the character at the given index of the given
+     * string.
+     * <p>
+     * The escape is that of {@link #getEscape(char)}, except that a
+     * surrogate character that is not part of a surrogate pair is escaped
+     * with a hexadecimal escape sequence by every profile, since it has no
+     * encoding of its own in UTF-8 or any other Unicode encoding.
      *
-     * @param parentJsonContext The parent JSON context.
-     */
-    public ObjectJsonContext(JsonContext parentJsonContext) {
-      super(parentJsonContext);
-    }
-    
-    /**
-     * Handle the end of a JSON object.
+     * @param string The string.
+     * @param index The index of the character.
+     * @return The escape.
      */
-    @Override
-    public void endObject() {
-      if (!this.isFirstEntry()) {
-        this.parentJsonContext.printNewline();
-        this.parentJsonContext.printIndent();
-      }
-      
-      this.parentJsonContext.print("}");
+    public char getEscape(CharSequence string, int index) {
+      char c = string.charAt(index);
+      char escape = this.getEscape(c);
       
-      this.parentJsonContext.nextEntry();
+      if (escape == 0 && c >= 0xD800 && c <= 0xDFFF) {
+        boolean paired;
+        if (c <= 0xDBFF) {
+          paired = index + 1 < string.length() && isLowSurrogate(string.charAt(index + 1));
+        }
+        else {
+          paired = index > 0 && isHighSurrogate(string.charAt(index - 1));
+        }
+        
+        if (!paired) {
+          return 'u';
+        }
+      }
       
-      this.close();
+      return escape;
     }
     
     /**
-     * Handle the name of a member of a JSON object.
+     * Determine if the given character is a high surrogate.
      *
-     * @param name The name of the member.
+     * @param c The character.
+     * @return <code>true</code> if the character is a high surrogate.
      */
-    @Override
-    public void memberName(String name) {
-      this.nextMemberName = name;
+    private static boolean isHighSurrogate(char c) {
+      return c >= 0xD800 && c <= 0xDBFF;
     }
     
     /**
-     * Begin an entry.
-     */
-    @Override
-    protected void beginEntry() {
-      if (!this.isFirstEntry()) {
-        this.print(",");
-      }
-      
-      this.printNewline();
-      this.printIndent();
-      this.printString(this.nextMemberName);
-      this.printSpace();
-      this.print(":");
-      this.printSpace();
-    }
-  }
-  
-  /**
-   * Array JSON Context.
-   */
-  private class ArrayJsonContext extends CompositeJsonContext {
-    /**
-     * Construct a new Array JSON Context.
+     * Determine if the given character is a low surrogate.
      *
-     * @param parentJsonContext The parent JSON context.
-     */
-    public ArrayJsonContext(JsonContext parentJsonContext) {
-      super(parentJsonContext);
-    }
-    
-    /**
-     * Handle the end of a JSON array.
-     */
-    @Override
-    public void endArray() {
-      if (!this.isFirstEntry()) {
-        this.parentJsonContext.printNewline();
-        this.parentJsonContext.printIndent();
-      }
-      
-      this.parentJsonContext.print("]");
-      
-      this.parentJsonContext.nextEntry();
-      
-      this.close();
-    }
-    
-    /**
-     * Begin an entry.
+     * @param c The character.
+     * @return <code>true</code> if the character is a low surrogate.
      */
-    @Override
-    protected void beginEntry() {
-      if (!this.isFirstEntry()) {
-        this.print(",");
-      }
-      
-      this.printNewline();
-      this.printIndent();
+    private static boolean isLowSurrogate(char c) {
+      return c >= 0xDC00 && c <= 0xDFFF;
     }
   }
   
-  /** The JSON context. */
-  private JsonContext jsonContext = new JsonContext(null) {
-    @Override
-    public void startJson() {
-      JsonTextGenerator.this.jsonContext = new RootJsonContext(JsonTextGenerator.this.jsonContext);
-    }
-  };
+  /** The hexadecimal digits. */
+  private static final char[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
+  
+  /** The maximum length of an escape sequence. */
+  protected static final int MAX_ESCAPE_LENGTH = 6;
+  
+  /** The root JSON context. */
+  private static final int ROOT_CONTEXT = 0;
+  
+  /** The object JSON context. */
+  private static final int OBJECT_CONTEXT = 1;
+  
+  /** The array JSON context. */
+  private static final int ARRAY_CONTEXT = 2;
+  
+  /** The mask of the type of a JSON context. */
+  private static final int CONTEXT_TYPE_MASK = 3;
+  
+  /** The flag indicating that a JSON context has at least one entry. */
+  private static final int CONTEXT_ENTRY_FLAG = 4;
+  
+  /** The initial depth of the JSON context stack. */
+  private static final int INITIAL_CONTEXT_DEPTH = 16;
+  
+  /** The JSON context stack. */
+  private int[] contexts = new int[INITIAL_CONTEXT_DEPTH];
+  
+  /** The names of the next members, indexed by the depth of the JSON context. */
+  private String[] memberNames = new String[INITIAL_CONTEXT_DEPTH];
+  
+  /** The characters of the names of the next members that were not passed as strings, indexed by the depth of the JSON context. */
+  private char[][] memberNameChars = new char[INITIAL_CONTEXT_DEPTH][];
+  
+  /** The lengths of the names of the next members that were not passed as strings, or <code>-1</code>, indexed by the depth of the JSON context. */
+  private int[] memberNameLengths = new int[INITIAL_CONTEXT_DEPTH];
+  
+  /** The character sequence used to print the names of the members that were not passed as strings. */
+  private final CharArraySequence memberNameSequence = new CharArraySequence();
+  
+  /** The depth of the current JSON context, or <code>-1</code> outside of the JSON content. */
+  private int depth = -1;
+  
+  /** The newline followed by the indentation of the deepest JSON context printed so far. */
+  private char[] newlineIndent = createNewlineIndent(INITIAL_CONTEXT_DEPTH);
+  
+  /** The number formatter. */
+  private final JsonNumberFormatter numberFormatter = new JsonNumberFormatter();
   
   /** The format flag. */
   private boolean format;
@@ -458,12 +257,28 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
   /** The rounding mode of numeric values. */
   private int roundingMode = BigDecimal.ROUND_HALF_UP;
   
+  /** The escape profile of string values. */
+  private EscapeProfile escapeProfile = EscapeProfile.DEFAULT;
+  
+  /** The character buffer of string values. */
+  private char[] stringChars = new char[64];
+  
+  /** The member name cache. */
+  private final JsonMemberNameCache memberNameCache = new JsonMemberNameCache();
+  
+  /** The registered member names. */
+  private final List<String> registeredMemberNames = new ArrayList<String>();
+  
   /**
    * Handle the start of the JSON content.
    */
   @Override
   public void startJson() {
-    this.jsonContext.startJson();
+    if (this.depth != -1) {
+      throw new UnsupportedOperationException();
+    }
+    
+    this.pushContext(ROOT_CONTEXT);
   }
   
   /**
@@ -471,7 +286,15 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
    */
   @Override
   public void endJson() {
-    this.jsonContext.endJson();
+    if (this.getContextType() != ROOT_CONTEXT) {
+      throw new UnsupportedOperationException();
+    }
+    
+    if (this.format) {
+      this.print('\n');
+    }
+    
+    this.depth--;
   }
   
   /**
@@ -479,7 +302,11 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
    */
   @Override
   public void startObject() {
-    this.jsonContext.startObject();
+    this.beginComposite();
+    
+    this.print('{');
+    
+    this.pushContext(OBJECT_CONTEXT);
   }
   
   /**
@@ -487,7 +314,11 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
    */
   @Override
   public void endObject() {
-    this.jsonContext.endObject();
+    if (this.getContextType() != OBJECT_CONTEXT) {
+      throw new UnsupportedOperationException();
+    }
+    
+    this.endComposite('}');
   }
   
   /**
@@ -495,7 +326,11 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
    */
   @Override
   public void startArray() {
-    this.jsonContext.startArray();
+    this.beginComposite();
+    
+    this.print('[');
+    
+    this.pushContext(ARRAY_CONTEXT);
   }
   
   /**
@@ -503,7 +338,11 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
    */
   @Override
   public void endArray() {
-    this.jsonContext.endArray();
+    if (this.getContextType() != ARRAY_CONTEXT) {
+      throw new UnsupportedOperationException();
+    }
+    
+    this.endComposite(']');
   }
   
   /**
@@ -513,17 +352,153 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
    */
   @Override
   public void memberName(String name) {
-    this.jsonContext.memberName(name);
+    if (this.getContextType() != OBJECT_CONTEXT) {
+      throw new UnsupportedOperationException();
+    }
+    
+    this.memberNames[this.depth] = name;
+    this.memberNameLengths[this.depth] = -1;
+  }
+  
+  /**
+   * Handle the name of a member of a JSON object.
+   * <p>
+   * Unless the name of the member is a string, its characters are copied
+   * into a buffer that is reused for each member at the same depth, rather
+   * than into a new string. Such a member name is looked up in the member
+   * name cache by its characters, and a string is only created for it when
+   * it is admitted to the cache.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(CharSequence name) {
+    if (name instanceof String) {
+      this.memberName((String)name);
+      
+      return;
+    }
+    
+    if (this.getContextType() != OBJECT_CONTEXT) {
+      throw new UnsupportedOperationException();
+    }
+    
+    int depth = this.depth;
+    int length = name.length();
+    
+    if (this.memberNameChars[depth] == null || this.memberNameChars[depth].length < length) {
+      this.memberNameChars[depth] = new char[Math.max(length, 16)];
+    }
+    
+    JsonContentUtil.getChars(name, 0, length, this.memberNameChars[depth], 0);
+    
+    this.memberNames[depth] = null;
+    this.memberNameLengths[depth] = length;
   }
   
   /**
    * Handle a JSON primitive.
+   * <p>
+   * The values that have a typed counterpart are handled by the methods of
+   * {@link TypedJsonContentHandler}.
    *
    * @param value The value of the JSON primitive.
    */
   @Override
   public void primitive(Object value) {
-    this.jsonContext.primitive(value);
+    if (value == null) {
+      this.primitiveNull();
+    }
+    else if (value instanceof Boolean) {
+      Boolean booleanValue = (Boolean)value;
+      
+      this.primitiveBoolean(booleanValue.booleanValue());
+    }
+    else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      Number numericValue = (Number)value;
+      
+      this.primitiveLong(numericValue.longValue());
+    }
+    else if (value instanceof Double) {
+      Double doubleValue = (Double)value;
+      
+      this.primitiveDouble(doubleValue.doubleValue());
+    }
+    else if (value instanceof Number) {
+      Number numericValue = (Number)value;
+      
+      this.beginPrimitive();
+      this.printNumber(numericValue);
+      this.endPrimitive();
+    }
+    else if (value instanceof String) {
+      String stringValue = (String)value;
+      
+      this.primitiveString(stringValue);
+    }
+    else {
+      this.beginPrimitive();
+      
+      throw new IllegalStateException("Unsupported primitive type: " + value.getClass().getName());
+    }
+  }
+  
+  /**
+   * Handle a JSON primitive with a <code>null</code> value.
+   */
+  @Override
+  public void primitiveNull() {
+    this.beginPrimitive();
+    this.printNull();
+    this.endPrimitive();
+  }
+  
+  /**
+   * Handle a JSON primitive with a boolean value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveBoolean(boolean value) {
+    this.beginPrimitive();
+    this.printBoolean(value);
+    this.endPrimitive();
+  }
+  
+  /**
+   * Handle a JSON primitive with an integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveLong(long value) {
+    this.beginPrimitive();
+    this.printLong(value);
+    this.endPrimitive();
+  }
+  
+  /**
+   * Handle a JSON primitive with a double value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveDouble(double value) {
+    this.beginPrimitive();
+    this.printDouble(value);
+    this.endPrimitive();
+  }
+  
+  /**
+   * Handle a JSON primitive with a string value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveString(CharSequence value) {
+    this.beginPrimitive();
+    this.printString(value);
+    this.endPrimitive();
   }
   
   /**
@@ -544,6 +519,8 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
    */
   public void setFormat(boolean format) {
     this.format = format;
+    
+    this.resetMemberNameCache();
   }
   
   /**
@@ -585,7 +562,197 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
   public void setRoundingMode(int roundingMode) {
     this.roundingMode = roundingMode;
   }
+  
+  /**
+   * Retrieve the escape profile of string values.
+   *
+   * @return The escape profile of string values.
+   * @see #setEscapeProfile(EscapeProfile)
+   */
+  public EscapeProfile getEscapeProfile() {
+    return this.escapeProfile;
+  }
+  
+  /**
+   * Set the escape profile of string values.
+   *
+   * @param escapeProfile The escape profile of string values.
+   * @see #getEscapeProfile()
+   */
+  public void setEscapeProfile(EscapeProfile escapeProfile) {
+    this.escapeProfile = escapeProfile;
+    
+    this.resetMemberNameCache();
+  }
+  
+  /**
+   * Register the given member names.
+   * <p>
+   * The encodings of the registered member names are computed in advance and
+   * are never evicted from the member name cache, so each occurrence of a
+   * registered member name is printed with a single call to
+   * {@link #printMemberName(char[])}. Member names that are not registered
+   * are printed as string values until the same member name is printed a
+   * second time, when they are cached, but may be evicted by other member
+   * names.
+   *
+   * @param names The member names.
+   */
+  public void registerMemberNames(String... names) {
+    for (String name : names) {
+      this.registeredMemberNames.add(name);
+      
+      this.memberNameCache.put(name, this.encodeMemberName(name), true);
+    }
+  }
 
+  /**
+   * Print the given numeric value.
+   * <p>
+   * The values of the integral types and of type {@link Double} are formatted
+   * into a reusable character buffer by a {@link JsonNumberFormatter}, which
+   * is printed with {@link #print(char[], int, int)}. Any other value is
+   * printed from its string representation, set to the maximum number of
+   * decimal places with a {@link BigDecimal} if required.
+   *
+   * @param value The numeric value
+   */
+  protected void printNumber(Number value) {
+    int length = this.numberFormatter.format(value, this.maxDecimalPlaces, this.roundingMode);
+    if (length >= 0) {
+      this.print(this.numberFormatter.getChars(), 0, length);
+      
+      return;
+    }
+    
+    String stringValue = value.toString();
+    
+    if (this.maxDecimalPlaces >= 0) {
+      BigDecimal bigDecimal = new BigDecimal(stringValue);
+      
+      stringValue = bigDecimal.setScale(this.maxDecimalPlaces, this.roundingMode).toString();
+    }
+    
+    this.print(stringValue);
+  }
+  
+  /**
+   * Print the given long value.
+   * <p>
+   * The value is formatted into a reusable character buffer by a
+   * {@link JsonNumberFormatter}, without boxing, unless it cannot be
+   * formatted to the maximum number of decimal places, in which case it is
+   * printed with {@link #printNumber(Number)}.
+   *
+   * @param value The long value.
+   */
+  protected void printLong(long value) {
+    int length = this.numberFormatter.format(value, this.maxDecimalPlaces, this.roundingMode);
+    if (length >= 0) {
+      this.print(this.numberFormatter.getChars(), 0, length);
+    }
+    else {
+      this.printNumber(Long.valueOf(value));
+    }
+  }
+  
+  /**
+   * Print the given double value.
+   * <p>
+   * The value is formatted into a reusable character buffer by a
+   * {@link JsonNumberFormatter}, without boxing, unless it is not finite, in
+   * which case it is printed with {@link #printNumber(Number)}.
+   *
+   * @param value The double value.
+   */
+  protected void printDouble(double value) {
+    int length = this.numberFormatter.format(value, this.maxDecimalPlaces, this.roundingMode);
+    if (length >= 0) {
+      this.print(this.numberFormatter.getChars(), 0, length);
+    }
+    else {
+      this.printNumber(Double.valueOf(value));
+    }
+  }
+  
+  /**
+   * Print a null value.
+   *
+   * @see #printBoolean(boolean)
+   */
+  protected void printNull() {
+    this.print("null");
+  }
+  
+  /**
+   * Print the given boolean value.
+   * <p>
+   * Subclasses may override this method and {@link #printNull()} to print
+   * the literals from precomputed representations.
+   *
+   * @param value The boolean value.
+   */
+  protected void printBoolean(boolean value) {
+    this.print(value ? "true" : "false");
+  }
+  
+  /**
+   * Print the given string value.
+   * <p>
+   * The string value is printed as a quoted JSON string, escaped according
+   * to the escape profile. Each run of characters that are not escaped is
+   * copied into a character buffer and printed with
+   * {@link #print(char[], int, int)}, so subclasses that can copy runs of
+   * characters more directly may override this method, provided that they
+   * produce the same output.
+   *
+   * @param value The string value.
+   */
+  protected void printString(CharSequence value) {
+    EscapeProfile escapeProfile = this.escapeProfile;
+    int length = value.length();
+    
+    this.print('"');
+    
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      char escape = escapeProfile.getEscape(value, i);
+      
+      if (escape != 0) {
+        char c = value.charAt(i);
+        
+        if (i > start) {
+          this.printChars(value, start, i);
+        }
+        
+        this.print(this.stringChars, 0, writeEscape(c, escape, this.stringChars, 0));
+        
+        start = i + 1;
+      }
+    }
+    
+    if (length > start) {
+      this.printChars(value, start, length);
+    }
+    
+    this.print('"');
+  }
+  
+  /**
+   * Print the given encoded member name.
+   * <p>
+   * The encoded member name is the quoted member name, escaped according to
+   * the escape profile, followed by the name separator. The same array is
+   * passed for each occurrence of a cached member name, so subclasses may
+   * override this method to cache derived encodings by the identity of the
+   * array. The array must not be modified.
+   *
+   * @param memberName The encoded member name.
+   */
+  protected void printMemberName(char[] memberName) {
+    this.print(memberName, 0, memberName.length);
+  }
+  
   /**
    * Print the given character.
    *
@@ -599,4 +766,322 @@ public abstract class JsonTextGenerator implements JsonContentHandler {
    * @param string The string.
    */
   protected abstract void print(String string);
+  
+  /**
+   * Print the given characters.
+   * <p>
+   * This implementation prints a string created from the characters, so
+   * subclasses that can copy the characters directly should override it.
+   *
+   * @param chars The characters.
+   * @param offset The offset of the first character.
+   * @param length The number of characters.
+   */
+  protected void print(char[] chars, int offset, int length) {
+    this.print(new String(chars, offset, length));
+  }
+  
+  /**
+   * Write the escape sequence of the given character into the given buffer.
+   * <p>
+   * The buffer must have room for {@link #MAX_ESCAPE_LENGTH} characters from
+   * the given offset.
+   *
+   * @param c The character.
+   * @param escape The escape of the character.
+   * @param chars The buffer.
+   * @param offset The offset of the escape sequence.
+   * @return The offset after the escape sequence.
+   * @see EscapeProfile#getEscape(char)
+   */
+  protected static int writeEscape(char c, char escape, char[] chars, int offset) {
+    chars[offset++] = '\\';
+    chars[offset++] = escape;
+    
+    if (escape == 'u') {
+      chars[offset++] = HEX_DIGITS[(c >> 12) & 0xF];
+      chars[offset++] = HEX_DIGITS[(c >> 8) & 0xF];
+      chars[offset++] = HEX_DIGITS[(c >> 4) & 0xF];
+      chars[offset++] = HEX_DIGITS[c & 0xF];
+    }
+    
+    return offset;
+  }
+  
+  /**
+   * Encode the given member name.
+   * <p>
+   * The member name is encoded into the character buffer of string values,
+   * so only the encoded member name itself is allocated.
+   *
+   * @param name The member name.
+   * @return The encoded member name.
+   * @see #printMemberName(char[])
+   */
+  private char[] encodeMemberName(String name) {
+    int length = name.length();
+    int maxLength = length * MAX_ESCAPE_LENGTH + 5;
+    
+    if (this.stringChars.length < maxLength) {
+      this.stringChars = new char[Math.max(maxLength, this.stringChars.length * 2)];
+    }
+    
+    char[] chars = this.stringChars;
+    int offset = 0;
+    
+    chars[offset++] = '"';
+    
+    for (int i = 0; i < length; i++) {
+      char c = name.charAt(i);
+      char escape = this.escapeProfile.getEscape(name, i);
+      
+      if (escape != 0) {
+        offset = writeEscape(c, escape, chars, offset);
+      }
+      else {
+        chars[offset++] = c;
+      }
+    }
+    
+    chars[offset++] = '"';
+    
+    if (this.format) {
+      chars[offset++] = ' ';
+      chars[offset++] = ':';
+      chars[offset++] = ' ';
+    }
+    else {
+      chars[offset++] = ':';
+    }
+    
+    char[] memberName = new char[offset];
+    
+    System.arraycopy(chars, 0, memberName, 0, offset);
+    
+    return memberName;
+  }
+  
+  /**
+   * Reset the member name cache to the registered member names.
+   */
+  private void resetMemberNameCache() {
+    this.memberNameCache.clear();
+    
+    for (String name : this.registeredMemberNames) {
+      this.memberNameCache.put(name, this.encodeMemberName(name), true);
+    }
+  }
+  
+  /**
+   * Print the characters of the given string between the given indices.
+   * <p>
+   * The characters of a {@link CharArraySequence} are printed directly from
+   * the array that it views.
+   *
+   * @param string The string.
+   * @param start The index of the first character.
+   * @param end The index after the last character.
+   */
+  private void printChars(CharSequence string, int start, int end) {
+    int length = end - start;
+    
+    if (string instanceof CharArraySequence) {
+      CharArraySequence charArraySequence = (CharArraySequence)string;
+      
+      this.print(charArraySequence.getChars(), charArraySequence.getOffset() + start, length);
+      
+      return;
+    }
+    
+    if (this.stringChars.length < length) {
+      this.stringChars = new char[Math.max(length, this.stringChars.length * 2)];
+    }
+    
+    JsonContentUtil.getChars(string, start, end, this.stringChars, 0);
+    
+    this.print(this.stringChars, 0, length);
+  }
+  
+  /**
+   * Retrieve the type of the current JSON context.
+   *
+   * @return The type of the current JSON context, or <code>-1</code> outside of the JSON content.
+   */
+  private int getContextType() {
+    return this.depth != -1 ? this.contexts[this.depth] & CONTEXT_TYPE_MASK : -1;
+  }
+  
+  /**
+   * Push a JSON context of the given type.
+   *
+   * @param contextType The type of the JSON context.
+   */
+  private void pushContext(int contextType) {
+    int depth = ++this.depth;
+    
+    if (depth == this.contexts.length) {
+      int[] contexts = new int[depth * 2];
+      String[] memberNames = new String[depth * 2];
+      char[][] memberNameChars = new char[depth * 2][];
+      int[] memberNameLengths = new int[depth * 2];
+      
+      System.arraycopy(this.contexts, 0, contexts, 0, depth);
+      System.arraycopy(this.memberNames, 0, memberNames, 0, depth);
+      System.arraycopy(this.memberNameChars, 0, memberNameChars, 0, depth);
+      System.arraycopy(this.memberNameLengths, 0, memberNameLengths, 0, depth);
+      
+      this.contexts = contexts;
+      this.memberNames = memberNames;
+      this.memberNameChars = memberNameChars;
+      this.memberNameLengths = memberNameLengths;
+    }
+    
+    this.contexts[depth] = contextType;
+    this.memberNames[depth] = null;
+    this.memberNameLengths[depth] = -1;
+  }
+  
+  /**
+   * Begin a JSON object or a JSON array in the current JSON context.
+   */
+  private void beginComposite() {
+    int contextType = this.getContextType();
+    
+    if (contextType == OBJECT_CONTEXT || contextType == ARRAY_CONTEXT) {
+      this.beginEntry(contextType);
+    }
+    else if (contextType != ROOT_CONTEXT) {
+      throw new UnsupportedOperationException();
+    }
+  }
+  
+  /**
+   * End the current JSON object or JSON array.
+   *
+   * @param closingCharacter The closing character.
+   */
+  private void endComposite(char closingCharacter) {
+    int depth = this.depth;
+    
+    if ((this.contexts[depth] & CONTEXT_ENTRY_FLAG) != 0) {
+      this.printNewlineIndent(depth - 1);
+    }
+    
+    this.print(closingCharacter);
+    
+    this.memberNames[depth] = null;
+    this.depth = --depth;
+    
+    this.contexts[depth] |= CONTEXT_ENTRY_FLAG;
+  }
+  
+  /**
+   * Begin a JSON primitive in the current JSON context.
+   */
+  private void beginPrimitive() {
+    int contextType = this.getContextType();
+    if (contextType != OBJECT_CONTEXT && contextType != ARRAY_CONTEXT) {
+      throw new UnsupportedOperationException();
+    }
+    
+    this.beginEntry(contextType);
+  }
+  
+  /**
+   * End the current JSON primitive.
+   */
+  private void endPrimitive() {
+    this.contexts[this.depth] |= CONTEXT_ENTRY_FLAG;
+  }
+  
+  /**
+   * Begin an entry of the current JSON object or JSON array.
+   *
+   * @param contextType The type of the current JSON context.
+   */
+  private void beginEntry(int contextType) {
+    int depth = this.depth;
+    
+    if ((this.contexts[depth] & CONTEXT_ENTRY_FLAG) != 0) {
+      this.print(',');
+    }
+    
+    this.printNewlineIndent(depth);
+    
+    if (contextType == OBJECT_CONTEXT && this.memberNameLengths[depth] != -1) {
+      char[] chars = this.memberNameChars[depth];
+      int length = this.memberNameLengths[depth];
+      int hashCode = JsonMemberNameCache.hashCode(chars, length);
+      char[] memberName = this.memberNameCache.get(chars, length, hashCode);
+      
+      if (memberName == null && this.memberNameCache.see(hashCode)) {
+        String name = new String(chars, 0, length);
+        
+        memberName = this.encodeMemberName(name);
+        
+        this.memberNameCache.put(name, memberName, false);
+      }
+      
+      if (memberName != null) {
+        this.printMemberName(memberName);
+      }
+      else {
+        this.printString(this.memberNameSequence.set(chars, 0, length));
+        this.print(this.format ? " : " : ":");
+      }
+    }
+    else if (contextType == OBJECT_CONTEXT) {
+      String name = this.memberNames[depth];
+      char[] memberName = this.memberNameCache.get(name);
+      
+      if (memberName == null && this.memberNameCache.see(name.hashCode())) {
+        memberName = this.encodeMemberName(name);
+        
+        this.memberNameCache.put(name, memberName, false);
+      }
+      
+      if (memberName != null) {
+        this.printMemberName(memberName);
+      }
+      else {
+        this.printString(name);
+        this.print(this.format ? " : " : ":");
+      }
+    }
+  }
+  
+  /**
+   * Print a newline followed by the given indent.
+   * <p>
+   * This method will have no effect if the format flag is <code>false</code>.
+   *
+   * @param indent The indent.
+   */
+  private void printNewlineIndent(int indent) {
+    if (this.format) {
+      int length = 1 + indent * 2;
+      
+      if (this.newlineIndent.length < length) {
+        this.newlineIndent = createNewlineIndent(indent * 2);
+      }
+      
+      this.print(this.newlineIndent, 0, length);
+    }
+  }
+  
+  /**
+   * Create the characters of a newline followed by the given indent.
+   *
+   * @param indent The indent.
+   * @return The characters.
+   */
+  private static char[] createNewlineIndent(int indent) {
+    char[] newlineIndent = new char[1 + indent * 2];
+    
+    Arrays.fill(newlineIndent, ' ');
+    
+    newlineIndent[0] = '\n';
+    
+    return newlineIndent;
+  }
 }
@@ -0,0 +1,146 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+/**
+ * Fan-Out JSON Content Channel Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class FanOutJsonContentChannelTest extends JsonContentSharedTestBase {
+  /** The mock JSON content handler. */
+  @Mock
+  private JsonContentHandler mockJsonContentHandler;
+
+  /** The mock typed JSON content handler. */
+  @Mock
+  private TypedJsonContentHandler mockTypedJsonContentHandler;
+
+  /**
+   * Test the dispatching of events to JSON content handlers.
+   * <p>
+   * This test asserts that each event is dispatched to each JSON content
+   * handler in order, that the typed events are dispatched to a typed JSON
+   * content handler as is, and that they are dispatched to a JSON content
+   * handler that is not typed as boxed values and strings.
+   */
+  @Test
+  public void testDispatch() {
+    FanOutJsonContentChannel fanOutJsonContentChannel = new FanOutJsonContentChannel(this.mockJsonContentHandler, this.mockTypedJsonContentHandler);
+    CharArraySequence name = new CharArraySequence().set("xnamex".toCharArray(), 1, 4);
+
+    assertSame(this.mockJsonContentHandler, fanOutJsonContentChannel.getJsonContentHandler());
+    assertEquals(Arrays.asList(this.mockJsonContentHandler, this.mockTypedJsonContentHandler), fanOutJsonContentChannel.getJsonContentHandlers());
+
+    fanOutJsonContentChannel.startJson();
+    fanOutJsonContentChannel.startObject();
+    fanOutJsonContentChannel.memberName(name);
+    fanOutJsonContentChannel.startArray();
+    fanOutJsonContentChannel.primitiveNull();
+    fanOutJsonContentChannel.primitiveBoolean(true);
+    fanOutJsonContentChannel.primitiveLong(42L);
+    fanOutJsonContentChannel.primitiveDouble(3.14);
+    fanOutJsonContentChannel.primitiveString(name);
+    fanOutJsonContentChannel.primitive("value");
+    fanOutJsonContentChannel.endArray();
+    fanOutJsonContentChannel.memberName("other");
+    fanOutJsonContentChannel.primitive(null);
+    fanOutJsonContentChannel.endObject();
+    fanOutJsonContentChannel.endJson();
+
+    InOrder inOrder = inOrder(this.mockJsonContentHandler, this.mockTypedJsonContentHandler);
+
+    inOrder.verify(this.mockJsonContentHandler).startJson();
+    inOrder.verify(this.mockTypedJsonContentHandler).startJson();
+    inOrder.verify(this.mockJsonContentHandler).startObject();
+    inOrder.verify(this.mockTypedJsonContentHandler).startObject();
+    inOrder.verify(this.mockJsonContentHandler).memberName("name");
+    inOrder.verify(this.mockTypedJsonContentHandler).memberName(name);
+    inOrder.verify(this.mockJsonContentHandler).startArray();
+    inOrder.verify(this.mockTypedJsonContentHandler).startArray();
+    inOrder.verify(this.mockJsonContentHandler).primitive(null);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveNull();
+    inOrder.verify(this.mockJsonContentHandler).primitive(Boolean.TRUE);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveBoolean(true);
+    inOrder.verify(this.mockJsonContentHandler).primitive(Integer.valueOf(42));
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveLong(42L);
+    inOrder.verify(this.mockJsonContentHandler).primitive(Double.valueOf(3.14));
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveDouble(3.14);
+    inOrder.verify(this.mockJsonContentHandler).primitive("name");
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveString(name);
+    inOrder.verify(this.mockJsonContentHandler).primitive("value");
+    inOrder.verify(this.mockTypedJsonContentHandler).primitive("value");
+    inOrder.verify(this.mockJsonContentHandler).endArray();
+    inOrder.verify(this.mockTypedJsonContentHandler).endArray();
+    inOrder.verify(this.mockJsonContentHandler).memberName("other");
+    inOrder.verify(this.mockTypedJsonContentHandler).memberName("other");
+    inOrder.verify(this.mockJsonContentHandler).primitive(null);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitive(null);
+    inOrder.verify(this.mockJsonContentHandler).endObject();
+    inOrder.verify(this.mockTypedJsonContentHandler).endObject();
+    inOrder.verify(this.mockJsonContentHandler).endJson();
+    inOrder.verify(this.mockTypedJsonContentHandler).endJson();
+
+    verifyNoMoreInteractions(this.mockJsonContentHandler, this.mockTypedJsonContentHandler);
+  }
+
+  /**
+   * Test the replacement of the JSON content handlers.
+   * <p>
+   * This test asserts that setting a single JSON content handler replaces
+   * all of the JSON content handlers, and that setting a <code>null</code>
+   * JSON content handler removes them.
+   */
+  @Test
+  public void testSetJsonContentHandler() {
+    FanOutJsonContentChannel fanOutJsonContentChannel = new FanOutJsonContentChannel(this.mockJsonContentHandler, this.mockTypedJsonContentHandler);
+
+    fanOutJsonContentChannel.setJsonContentHandler(this.mockTypedJsonContentHandler);
+    fanOutJsonContentChannel.startArray();
+
+    assertEquals(Arrays.asList(this.mockTypedJsonContentHandler), fanOutJsonContentChannel.getJsonContentHandlers());
+
+    fanOutJsonContentChannel.setJsonContentHandler(null);
+    fanOutJsonContentChannel.endArray();
+
+    assertNull(fanOutJsonContentChannel.getJsonContentHandler());
+    assertTrue(fanOutJsonContentChannel.getJsonContentHandlers().isEmpty());
+
+    InOrder inOrder = inOrder(this.mockJsonContentHandler, this.mockTypedJsonContentHandler);
+
+    inOrder.verify(this.mockTypedJsonContentHandler).startArray();
+
+    verifyNoMoreInteractions(this.mockJsonContentHandler, this.mockTypedJsonContentHandler);
+  }
+}
@@ -19,6 +19,10 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import org.kjots.json.content.shared.text.ChunkedJsonTextBuilderTest;
+import org.kjots.json.content.shared.text.JsonNumberFormatterTest;
+import org.kjots.json.content.shared.text.JsonTextBuilderTest;
+
 /**
  * JSON Content Shared Test Suite.
  * <p>
@@ -29,7 +33,13 @@ import org.junit.runners.Suite.SuiteClasses;
  */
 @RunWith(Suite.class)
 @SuiteClasses({
-  JsonContentUtilTest.class
+  JsonContentUtilTest.class,
+  JsonNumberFormatterTest.class,
+  JsonTextBuilderTest.class,
+  ChunkedJsonTextBuilderTest.class,
+  JsonSymbolTableTest.class,
+  FanOutJsonContentChannelTest.class,
+  JsonContentTapeTest.class
 })
 public class JsonContentSharedTestSuite {
 }
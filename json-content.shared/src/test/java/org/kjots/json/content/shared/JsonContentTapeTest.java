@@ -0,0 +1,288 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+/**
+ * JSON Content Tape Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonContentTapeTest extends JsonContentSharedTestBase {
+  /** The mock JSON content handler. */
+  @Mock
+  private JsonContentHandler mockJsonContentHandler;
+
+  /** The mock typed JSON content handler. */
+  @Mock
+  private TypedJsonContentHandler mockTypedJsonContentHandler;
+
+  /**
+   * Test the recording and the replaying of a JSON content tape.
+   * <p>
+   * This test asserts that the events recorded into a JSON content tape are
+   * replayed as the same events, boxed for a JSON content handler that is
+   * not typed, that each distinct string is stored once, and that only the
+   * integer values that do not fit into an event and the double values are
+   * stored in the number pool.
+   */
+  @Test
+  public void testRecordAndPlay() {
+    JsonContentTape jsonContentTape = this.record();
+
+    assertEquals(20, jsonContentTape.getEventCount());
+    assertEquals(4, jsonContentTape.getStringCount());
+    assertEquals(3, jsonContentTape.getNumberCount());
+
+    new JsonContentTapePlayer(this.mockJsonContentHandler).play(jsonContentTape);
+
+    this.verifyPlay();
+
+    new JsonContentTapePlayer(this.mockTypedJsonContentHandler).play(jsonContentTape);
+
+    InOrder inOrder = inOrder(this.mockTypedJsonContentHandler);
+
+    inOrder.verify(this.mockTypedJsonContentHandler).startJson();
+    inOrder.verify(this.mockTypedJsonContentHandler).startObject();
+    inOrder.verify(this.mockTypedJsonContentHandler).memberName("values");
+    inOrder.verify(this.mockTypedJsonContentHandler).startArray();
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveNull();
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveBoolean(true);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveBoolean(false);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveLong(42L);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveLong(-134217728L);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveLong(134217728L);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveLong(Long.MIN_VALUE);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveDouble(3.14);
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveString("values");
+    inOrder.verify(this.mockTypedJsonContentHandler).primitiveString("Caf\u00E9 \uD83D\uDE00");
+    inOrder.verify(this.mockTypedJsonContentHandler).primitive(new BigInteger("123456789012345678901234567890"));
+    inOrder.verify(this.mockTypedJsonContentHandler).primitive(new BigDecimal("1.50"));
+    inOrder.verify(this.mockTypedJsonContentHandler).endArray();
+    inOrder.verify(this.mockTypedJsonContentHandler).memberName("values");
+    inOrder.verify(this.mockTypedJsonContentHandler).endObject();
+    inOrder.verify(this.mockTypedJsonContentHandler).endJson();
+
+    verifyNoMoreInteractions(this.mockTypedJsonContentHandler);
+
+    jsonContentTape.clear();
+
+    assertEquals(0, jsonContentTape.getEventCount());
+    assertEquals(0, jsonContentTape.getStringCount());
+    assertEquals(0, jsonContentTape.getNumberCount());
+  }
+
+  /**
+   * Test the serialization of a JSON content tape.
+   * <p>
+   * This test asserts that a deserialized JSON content tape replays the same
+   * events as the serialized JSON content tape, and serializes into the same
+   * bytes.
+   */
+  @Test
+  public void testSerialization() {
+    JsonContentTape jsonContentTape = this.record();
+    byte[] bytes = jsonContentTape.toByteArray();
+
+    byte[] paddedBytes = new byte[bytes.length + 2];
+    System.arraycopy(bytes, 0, paddedBytes, 1, bytes.length);
+
+    JsonContentTape deserializedJsonContentTape = JsonContentTape.fromByteArray(paddedBytes, 1, bytes.length);
+
+    assertEquals(jsonContentTape.getEventCount(), deserializedJsonContentTape.getEventCount());
+    assertEquals(jsonContentTape.getStringCount(), deserializedJsonContentTape.getStringCount());
+    assertEquals(jsonContentTape.getNumberCount(), deserializedJsonContentTape.getNumberCount());
+    assertEquals(Arrays.toString(bytes), Arrays.toString(deserializedJsonContentTape.toByteArray()));
+
+    new JsonContentTapePlayer(this.mockJsonContentHandler).play(deserializedJsonContentTape);
+
+    this.verifyPlay();
+
+    JsonContentTapeRecorder jsonContentTapeRecorder = new JsonContentTapeRecorder(deserializedJsonContentTape);
+
+    jsonContentTapeRecorder.memberName("values");
+    jsonContentTapeRecorder.primitiveString(new StringBuilder("other"));
+
+    assertEquals(22, deserializedJsonContentTape.getEventCount());
+    assertEquals(5, deserializedJsonContentTape.getStringCount());
+  }
+
+  /**
+   * Test the serialization of negative integer values.
+   * <p>
+   * This test asserts that a negative integer value within the operand of an
+   * event serializes into as many bytes as the positive integer value of the
+   * same magnitude, and is replayed as the same value.
+   */
+  @Test
+  public void testSerializationOfNegativeIntegers() {
+    for (long value : new long[] { 1, 63, 64, 8191, 134217727 }) {
+      byte[] positiveBytes = record(value).toByteArray();
+      byte[] negativeBytes = record(-value).toByteArray();
+
+      assertEquals(Long.toString(value), positiveBytes.length, negativeBytes.length);
+
+      new JsonContentTapePlayer(this.mockTypedJsonContentHandler).play(JsonContentTape.fromByteArray(negativeBytes));
+
+      verify(this.mockTypedJsonContentHandler).primitiveLong(-value);
+    }
+
+    assertEquals(record(-1).toByteArray().length, record(0).toByteArray().length);
+  }
+
+  /**
+   * Test the deserialization of invalid bytes.
+   * <p>
+   * This test asserts that truncated bytes, bytes with trailing garbage and
+   * bytes that do not start with the magic number are rejected.
+   */
+  @Test
+  public void testInvalidBytes() {
+    byte[] bytes = this.record().toByteArray();
+
+    byte[] trailingBytes = new byte[bytes.length + 1];
+    System.arraycopy(bytes, 0, trailingBytes, 0, bytes.length);
+
+    byte[] invalidBytes = bytes.clone();
+    invalidBytes[0] = 'X';
+
+    for (byte[] candidate : Arrays.asList(trailingBytes, invalidBytes, new byte[0])) {
+      assertInvalid(candidate, 0, candidate.length);
+    }
+
+    for (int length = 0; length < bytes.length; length++) {
+      assertInvalid(bytes, 0, length);
+    }
+  }
+
+  /**
+   * Record the events of the test JSON content into a new JSON content tape.
+   *
+   * @return The JSON content tape.
+   */
+  private JsonContentTape record() {
+    JsonContentTapeRecorder jsonContentTapeRecorder = new JsonContentTapeRecorder();
+
+    jsonContentTapeRecorder.startJson();
+    jsonContentTapeRecorder.startObject();
+    jsonContentTapeRecorder.memberName(new CharArraySequence().set("xvaluesx".toCharArray(), 1, 6));
+    jsonContentTapeRecorder.startArray();
+    jsonContentTapeRecorder.primitiveNull();
+    jsonContentTapeRecorder.primitive(Boolean.TRUE);
+    jsonContentTapeRecorder.primitiveBoolean(false);
+    jsonContentTapeRecorder.primitive(Integer.valueOf(42));
+    jsonContentTapeRecorder.primitiveLong(-134217728L);
+    jsonContentTapeRecorder.primitiveLong(134217728L);
+    jsonContentTapeRecorder.primitive(Long.valueOf(Long.MIN_VALUE));
+    jsonContentTapeRecorder.primitiveDouble(3.14);
+    jsonContentTapeRecorder.primitive("values");
+    jsonContentTapeRecorder.primitiveString(new StringBuilder("Caf\u00E9 \uD83D\uDE00"));
+    jsonContentTapeRecorder.primitive(new BigInteger("123456789012345678901234567890"));
+    jsonContentTapeRecorder.primitive(new BigDecimal("1.50"));
+    jsonContentTapeRecorder.endArray();
+    jsonContentTapeRecorder.memberName("values");
+    jsonContentTapeRecorder.endObject();
+    jsonContentTapeRecorder.endJson();
+
+    return jsonContentTapeRecorder.getJsonContentTape();
+  }
+
+  /**
+   * Record a JSON array with the given integer value into a new JSON content
+   * tape.
+   *
+   * @param value The integer value.
+   * @return The JSON content tape.
+   */
+  private static JsonContentTape record(long value) {
+    JsonContentTapeRecorder jsonContentTapeRecorder = new JsonContentTapeRecorder();
+
+    jsonContentTapeRecorder.startJson();
+    jsonContentTapeRecorder.startArray();
+    jsonContentTapeRecorder.primitiveLong(value);
+    jsonContentTapeRecorder.endArray();
+    jsonContentTapeRecorder.endJson();
+
+    return jsonContentTapeRecorder.getJsonContentTape();
+  }
+
+  /**
+   * Verify that the events of the test JSON content have been replayed into
+   * the mock JSON content handler.
+   */
+  private void verifyPlay() {
+    InOrder inOrder = inOrder(this.mockJsonContentHandler);
+
+    inOrder.verify(this.mockJsonContentHandler).startJson();
+    inOrder.verify(this.mockJsonContentHandler).startObject();
+    inOrder.verify(this.mockJsonContentHandler).memberName("values");
+    inOrder.verify(this.mockJsonContentHandler).startArray();
+    inOrder.verify(this.mockJsonContentHandler).primitive(null);
+    inOrder.verify(this.mockJsonContentHandler).primitive(Boolean.TRUE);
+    inOrder.verify(this.mockJsonContentHandler).primitive(Boolean.FALSE);
+    inOrder.verify(this.mockJsonContentHandler).primitive(Integer.valueOf(42));
+    inOrder.verify(this.mockJsonContentHandler).primitive(Integer.valueOf(-134217728));
+    inOrder.verify(this.mockJsonContentHandler).primitive(Integer.valueOf(134217728));
+    inOrder.verify(this.mockJsonContentHandler).primitive(Long.valueOf(Long.MIN_VALUE));
+    inOrder.verify(this.mockJsonContentHandler).primitive(Double.valueOf(3.14));
+    inOrder.verify(this.mockJsonContentHandler).primitive("values");
+    inOrder.verify(this.mockJsonContentHandler).primitive("Caf\u00E9 \uD83D\uDE00");
+    inOrder.verify(this.mockJsonContentHandler).primitive(new BigInteger("123456789012345678901234567890"));
+    inOrder.verify(this.mockJsonContentHandler).primitive(new BigDecimal("1.50"));
+    inOrder.verify(this.mockJsonContentHandler).endArray();
+    inOrder.verify(this.mockJsonContentHandler).memberName("values");
+    inOrder.verify(this.mockJsonContentHandler).endObject();
+    inOrder.verify(this.mockJsonContentHandler).endJson();
+
+    verifyNoMoreInteractions(this.mockJsonContentHandler);
+  }
+
+  /**
+   * Assert that the given range of bytes is rejected as a JSON content tape.
+   *
+   * @param bytes The bytes.
+   * @param offset The offset of the first byte.
+   * @param length The number of bytes.
+   */
+  private static void assertInvalid(byte[] bytes, int offset, int length) {
+    try {
+      JsonContentTape.fromByteArray(bytes, offset, length);
+
+      fail("IllegalArgumentException expected for length " + length);
+    }
+    catch (IllegalArgumentException iae) {
+      // Expected
+    }
+  }
+}
@@ -15,7 +15,10 @@
  */
 package org.kjots.json.content.shared;
 
+import static junit.framework.Assert.assertSame;
+
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -994,4 +997,39 @@ public class JsonContentUtilTest extends JsonContentSharedTestBase {
     
     verifyNoMoreInteractions(mockJsonContentHandler);
   }
+  
+  /**
+   * Test the {@link JsonContentUtil#toTypedJsonContentHandler(JsonContentHandler)}
+   * method.
+   */
+  @Test
+  public void testToTypedJsonContentHandler() {
+    TypedJsonContentHandler typedJsonContentHandler = JsonContentUtil.toTypedJsonContentHandler(mockJsonContentHandler);
+    
+    typedJsonContentHandler.startArray();
+    typedJsonContentHandler.primitiveNull();
+    typedJsonContentHandler.primitiveBoolean(true);
+    typedJsonContentHandler.primitiveLong(42L);
+    typedJsonContentHandler.primitiveLong(5000000000L);
+    typedJsonContentHandler.primitiveDouble(3.14);
+    typedJsonContentHandler.primitiveString(new StringBuilder("Test String Value"));
+    typedJsonContentHandler.endArray();
+    
+    InOrder inOrder = inOrder(mockJsonContentHandler);
+    
+    inOrder.verify(mockJsonContentHandler).startArray();
+    inOrder.verify(mockJsonContentHandler).primitive(null);
+    inOrder.verify(mockJsonContentHandler).primitive(Boolean.TRUE);
+    inOrder.verify(mockJsonContentHandler).primitive(Integer.valueOf(42));
+    inOrder.verify(mockJsonContentHandler).primitive(Long.valueOf(5000000000L));
+    inOrder.verify(mockJsonContentHandler).primitive(Double.valueOf(3.14));
+    inOrder.verify(mockJsonContentHandler).primitive("Test String Value");
+    inOrder.verify(mockJsonContentHandler).endArray();
+    
+    verifyNoMoreInteractions(mockJsonContentHandler);
+    
+    TypedJsonContentHandler mockTypedJsonContentHandler = mock(TypedJsonContentHandler.class);
+    
+    assertSame(mockTypedJsonContentHandler, JsonContentUtil.toTypedJsonContentHandler(mockTypedJsonContentHandler));
+  }
 }
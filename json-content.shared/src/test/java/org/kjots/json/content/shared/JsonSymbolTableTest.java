@@ -0,0 +1,101 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * JSON Symbol Table Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonSymbolTableTest {
+  /**
+   * Test the retrieval of canonical strings.
+   * <p>
+   * This test asserts that the same characters retrieved from an array of
+   * characters, an array of ASCII bytes and a character sequence are the
+   * same string instance, and that a string that is not yet in the symbol
+   * table becomes the canonical string.
+   */
+  @Test
+  public void testGet() {
+    JsonSymbolTable symbolTable = new JsonSymbolTable();
+
+    char[] chars = "xxmemberxx".toCharArray();
+    byte[] bytes = "yymemberyy".getBytes();
+
+    String symbol = symbolTable.get(chars, 2, 6);
+
+    assertEquals("member", symbol);
+    assertSame(symbol, symbolTable.get(chars, 2, 6));
+    assertSame(symbol, symbolTable.get(bytes, 2, 6));
+    assertSame(symbol, symbolTable.get(new StringBuilder("member")));
+    assertSame(symbol, symbolTable.get(new String("member")));
+
+    String otherSymbol = new String("other");
+
+    assertSame(otherSymbol, symbolTable.get(otherSymbol));
+    assertSame(otherSymbol, symbolTable.get("other".toCharArray(), 0, 5));
+    assertSame(otherSymbol, symbolTable.get(new CharArraySequence().set("other".toCharArray(), 0, 5)));
+
+    String emptySymbol = symbolTable.get(chars, 0, 0);
+
+    assertEquals("", emptySymbol);
+    assertSame(emptySymbol, symbolTable.get(bytes, 5, 0));
+
+    symbolTable.clear();
+
+    assertNotSame(symbol, symbolTable.get(chars, 2, 6));
+  }
+
+  /**
+   * Test the bounds of the symbol table.
+   * <p>
+   * This test asserts that symbols longer than the maximum symbol length are
+   * not stored, and that a symbol table filled beyond its capacity still
+   * returns equal strings, and retains recently retrieved symbols.
+   */
+  @Test
+  public void testBounds() {
+    JsonSymbolTable symbolTable = new JsonSymbolTable(10, 8);
+
+    assertEquals(16, symbolTable.getCapacity());
+    assertEquals(8, symbolTable.getMaxSymbolLength());
+
+    char[] longChars = "longMemberName".toCharArray();
+    String longSymbol = symbolTable.get(longChars, 0, longChars.length);
+
+    assertEquals("longMemberName", longSymbol);
+    assertNotSame(longSymbol, symbolTable.get(longChars, 0, longChars.length));
+    assertNotSame(longSymbol, symbolTable.get(longSymbol.getBytes(), 0, longChars.length));
+
+    for (int i = 0; i < 1000; i++) {
+      char[] chars = ("m" + i).toCharArray();
+      String symbol = symbolTable.get(chars, 0, chars.length);
+
+      assertEquals("m" + i, symbol);
+      assertSame(symbol, symbolTable.get(chars, 0, chars.length));
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared.text;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+import org.junit.Test;
+
+import org.kjots.json.content.shared.JsonContentHandler;
+
+/**
+ * Chunked JSON Text Builder Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class ChunkedJsonTextBuilderTest {
+  /**
+   * String Builder Sink.
+   */
+  private static class StringBuilderSink implements ChunkedJsonTextBuilder.Sink {
+    /** The string builder. */
+    private final StringBuilder stringBuilder = new StringBuilder();
+
+    /** The number of writes. */
+    private int writeCount;
+
+    /** The number of flushes. */
+    private int flushCount;
+
+    /**
+     * Write the given characters.
+     *
+     * @param chars The characters.
+     * @param offset The offset of the first character.
+     * @param length The number of characters.
+     */
+    @Override
+    public void write(char[] chars, int offset, int length) {
+      this.stringBuilder.append(chars, offset, length);
+      this.writeCount++;
+    }
+
+    /**
+     * Flush the sink after the last chunk of a JSON text.
+     */
+    @Override
+    public void flush() {
+      this.flushCount++;
+    }
+  }
+
+  /** The chunk sizes. */
+  private static final int[] CHUNK_SIZES = { 1, 2, 7, 64, ChunkedJsonTextBuilder.DEFAULT_CHUNK_SIZE };
+
+  /**
+   * Test the building of a JSON text in chunks.
+   * <p>
+   * This test asserts that the chunked JSON text builder builds the same JSON
+   * text as the JSON text builder for every chunk size, both compact and
+   * formatted, and that the JSON text written to a sink is written with one
+   * call per chunk.
+   */
+  @Test
+  public void testBuild() {
+    for (boolean format : new boolean[] { false, true }) {
+      JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+      jsonTextBuilder.setFormat(format);
+
+      build(jsonTextBuilder);
+
+      String expectedJsonText = jsonTextBuilder.toString();
+
+      for (int chunkSize : CHUNK_SIZES) {
+        ChunkedJsonTextBuilder chunkedJsonTextBuilder = new ChunkedJsonTextBuilder(chunkSize);
+        StringBuilderSink sink = new StringBuilderSink();
+
+        chunkedJsonTextBuilder.setFormat(format);
+
+        build(chunkedJsonTextBuilder);
+
+        chunkedJsonTextBuilder.writeTo(sink);
+
+        assertEquals(expectedJsonText, chunkedJsonTextBuilder.toString());
+        assertEquals(expectedJsonText, sink.stringBuilder.toString());
+        assertEquals((expectedJsonText.length() + chunkSize - 1) / chunkSize, chunkedJsonTextBuilder.getChunkCount());
+        assertEquals(chunkedJsonTextBuilder.getChunkCount(), sink.writeCount);
+        assertEquals(1, sink.flushCount);
+      }
+    }
+  }
+
+  /**
+   * Test the character sequence view of a chunked JSON text builder.
+   * <p>
+   * This test asserts that the length, the characters and the subsequences
+   * of the chunked JSON text builder are those of the JSON text, including
+   * the subsequences that span chunks.
+   */
+  @Test
+  public void testCharSequence() {
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+    ChunkedJsonTextBuilder chunkedJsonTextBuilder = new ChunkedJsonTextBuilder(5);
+
+    build(jsonTextBuilder);
+    build(chunkedJsonTextBuilder);
+
+    String jsonText = jsonTextBuilder.toString();
+
+    assertEquals(jsonText.length(), chunkedJsonTextBuilder.length());
+
+    for (int i = 0; i < jsonText.length(); i++) {
+      assertEquals(jsonText.charAt(i), chunkedJsonTextBuilder.charAt(i));
+    }
+
+    for (int start = 0; start < 12; start++) {
+      for (int end = start; end < 17; end++) {
+        assertEquals(jsonText.substring(start, end), chunkedJsonTextBuilder.subSequence(start, end).toString());
+      }
+    }
+
+    try {
+      chunkedJsonTextBuilder.charAt(jsonText.length());
+
+      fail("IndexOutOfBoundsException expected");
+    }
+    catch (IndexOutOfBoundsException ioobe) {
+      // Expected
+    }
+  }
+
+  /**
+   * Test the clearing of a chunked JSON text builder.
+   * <p>
+   * This test asserts that a cleared chunked JSON text builder is empty, and
+   * builds the same JSON text again.
+   */
+  @Test
+  public void testClear() {
+    ChunkedJsonTextBuilder chunkedJsonTextBuilder = new ChunkedJsonTextBuilder(8);
+
+    build(chunkedJsonTextBuilder);
+
+    String jsonText = chunkedJsonTextBuilder.toString();
+
+    chunkedJsonTextBuilder.clear();
+
+    assertEquals(0, chunkedJsonTextBuilder.length());
+    assertEquals(1, chunkedJsonTextBuilder.getChunkCount());
+    assertEquals("", chunkedJsonTextBuilder.toString());
+
+    build(chunkedJsonTextBuilder);
+
+    assertEquals(jsonText, chunkedJsonTextBuilder.toString());
+  }
+
+  /**
+   * Build a JSON text with the given JSON content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   */
+  private static void build(JsonContentHandler jsonContentHandler) {
+    jsonContentHandler.startJson();
+    jsonContentHandler.startArray();
+
+    for (int i = 0; i < 20; i++) {
+      jsonContentHandler.startObject();
+      jsonContentHandler.memberName("id");
+      jsonContentHandler.primitive(i);
+      jsonContentHandler.memberName("name");
+      jsonContentHandler.primitive("Name \"" + i + "\" \u00E9\uD83D\uDE00");
+      jsonContentHandler.memberName("values");
+      jsonContentHandler.startArray();
+      jsonContentHandler.primitive(Boolean.TRUE);
+      jsonContentHandler.primitive(null);
+      jsonContentHandler.primitive(2.5);
+      jsonContentHandler.endArray();
+      jsonContentHandler.endObject();
+    }
+
+    jsonContentHandler.endArray();
+    jsonContentHandler.endJson();
+  }
+}
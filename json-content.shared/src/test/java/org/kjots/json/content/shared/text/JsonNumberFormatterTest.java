@@ -0,0 +1,283 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared.text;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * JSON Number Formatter Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonNumberFormatterTest {
+  /** The rounding modes. */
+  private static final int[] ROUNDING_MODES = {
+    BigDecimal.ROUND_UP,
+    BigDecimal.ROUND_DOWN,
+    BigDecimal.ROUND_CEILING,
+    BigDecimal.ROUND_FLOOR,
+    BigDecimal.ROUND_HALF_UP,
+    BigDecimal.ROUND_HALF_DOWN,
+    BigDecimal.ROUND_HALF_EVEN
+  };
+
+  /** The special double values. */
+  private static final double[] SPECIAL_DOUBLES = {
+    0.0, -0.0, 1.0, -1.0, 0.1, 0.001, 0.0001, 1e7, 9999999.0, 1e-3, 9.999e-4, 123456.789,
+    1.005, 2.5, -2.5, 0.125, 1e21, 1e22, 1e23, 2e-44, 4.9e-324,
+    Double.MIN_NORMAL, Double.MAX_VALUE, Double.MIN_VALUE, Math.PI, Math.E, 1.0 / 3,
+    9007199254740991.0, 9007199254740992.0, 1.7976931348623157e308, 5e-324
+  };
+
+  /** The double values with known string representations. */
+  private static final double[] DOUBLES = {
+    0.0, 1.0, 100.0, 0.1, 0.001, 0.0125, 1.0E-4, 1.0E7, 9999999.0, 123456.789, 1.005, 1.0E21, 1.0E23, 2.0E23, 2.0E-44,
+    Double.MAX_VALUE, Double.MIN_VALUE, Double.MIN_NORMAL, Math.PI, 1.0 / 3, 9007199254740992.0, 2 * Double.MIN_VALUE
+  };
+
+  /** The known string representations of the double values. */
+  private static final String[] DOUBLE_STRINGS = {
+    "0.0", "1.0", "100.0", "0.1", "0.001", "0.0125", "1.0E-4", "1.0E7", "9999999.0", "123456.789", "1.005", "1.0E21", "1.0E23", "2.0E23", "2.0E-44",
+    "1.7976931348623157E308", "4.9E-324", "2.2250738585072014E-308", "3.141592653589793", "0.3333333333333333", "9.007199254740992E15", "9.9E-324"
+  };
+
+  /**
+   * Test the formatting of long values.
+   * <p>
+   * This test asserts that the formatted value is the same as the string
+   * representation of the value.
+   */
+  @Test
+  public void testFormatLong() {
+    JsonNumberFormatter jsonNumberFormatter = new JsonNumberFormatter();
+
+    List<Long> values = new ArrayList<Long>();
+    values.add(0L);
+    values.add(Long.MIN_VALUE);
+    values.add(Long.MAX_VALUE);
+    values.add((long)Integer.MIN_VALUE);
+    values.add((long)Integer.MAX_VALUE);
+
+    long powerOfTen = 1;
+    for (int i = 0; i < 19; i++) {
+      values.add(powerOfTen);
+      values.add(powerOfTen - 1);
+      values.add(-powerOfTen);
+
+      powerOfTen *= 10;
+    }
+
+    Random random = new Random(17);
+    for (int i = 0; i < 10000; i++) {
+      values.add(random.nextLong() >> random.nextInt(64));
+    }
+
+    for (Long value : values) {
+      assertEquals(value.toString(), format(jsonNumberFormatter, value, -1, BigDecimal.ROUND_HALF_UP));
+      assertEquals(value.toString(), format(jsonNumberFormatter, Integer.valueOf(value.intValue()), -1, BigDecimal.ROUND_HALF_UP), Integer.toString(value.intValue()));
+    }
+  }
+
+  /**
+   * Test the formatting of double values.
+   * <p>
+   * This test asserts that the formatted value has the layout of
+   * {@link Double#toString(double)}, rounds to the same value, and is no
+   * longer than the string representation of the value, and that it is the
+   * same as the string representation produced by Java 19 and later for a
+   * number of known values.
+   * <p>
+   * The formatted value is not compared with the string representation of
+   * every value, since the string representation is not always the shortest
+   * before Java 19.
+   */
+  @Test
+  public void testFormatDouble() {
+    JsonNumberFormatter jsonNumberFormatter = new JsonNumberFormatter();
+
+    for (double value : createDoubles(100000)) {
+      String expected = Double.toString(value);
+      String actual = format(jsonNumberFormatter, Double.valueOf(value), -1, BigDecimal.ROUND_HALF_UP);
+
+      assertEquals(expected, Double.doubleToLongBits(value), Double.doubleToLongBits(Double.parseDouble(actual)));
+      assertEquals(expected, expected.contains("E"), actual.contains("E"));
+      assertTrue(expected + " " + actual, actual.length() <= expected.length());
+    }
+
+    for (int i = 0; i < DOUBLES.length; i++) {
+      assertEquals(DOUBLE_STRINGS[i], format(jsonNumberFormatter, Double.valueOf(DOUBLES[i]), -1, BigDecimal.ROUND_HALF_UP));
+      assertEquals(DOUBLE_STRINGS[i], "-" + DOUBLE_STRINGS[i], format(jsonNumberFormatter, Double.valueOf(-DOUBLES[i]), -1, BigDecimal.ROUND_HALF_UP));
+    }
+  }
+
+  /**
+   * Test the formatting of numeric values with a maximum number of decimal
+   * places.
+   * <p>
+   * This test asserts that the formatted value is the same as the string
+   * representation of the value set to the maximum number of decimal places
+   * with a {@link BigDecimal}, for each rounding mode, and that a value is not
+   * formatted only if the {@link BigDecimal} would be formatted in scientific
+   * notation.
+   */
+  @Test
+  public void testFormatFixed() {
+    JsonNumberFormatter jsonNumberFormatter = new JsonNumberFormatter();
+
+    List<Number> values = new ArrayList<Number>();
+    for (double value : createDoubles(1000)) {
+      // Only the values for which the string representation is the shortest are comparable
+      if (format(jsonNumberFormatter, Double.valueOf(value), -1, BigDecimal.ROUND_HALF_UP).equals(Double.toString(value))) {
+        values.add(Double.valueOf(value));
+      }
+    }
+
+    Random random = new Random(17);
+    for (int i = 0; i < 1000; i++) {
+      values.add(Double.valueOf((random.nextInt(2000000) - 1000000) / 1000.0));
+      values.add(Double.valueOf((random.nextInt(2000) - 1000) / 8.0));
+      values.add(Integer.valueOf(random.nextInt()));
+      values.add(Long.valueOf(random.nextLong()));
+    }
+
+    values.add(Integer.valueOf(0));
+    values.add(Short.valueOf((short)-5));
+    values.add(Byte.valueOf((byte)7));
+
+    for (Number value : values) {
+      for (int maxDecimalPlaces = 0; maxDecimalPlaces <= 9; maxDecimalPlaces++) {
+        for (int roundingMode : ROUNDING_MODES) {
+          String expected = new BigDecimal(value.toString()).setScale(maxDecimalPlaces, roundingMode).toString();
+          String actual = format(jsonNumberFormatter, value, maxDecimalPlaces, roundingMode);
+
+          if (actual == null) {
+            assertTrue(expected, expected.contains("E"));
+          }
+          else {
+            assertEquals(value + " " + maxDecimalPlaces + " " + roundingMode, expected, actual);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Test the formatting of numeric values with a maximum number of decimal
+   * places and the unnecessary rounding mode.
+   * <p>
+   * This test asserts that an {@link ArithmeticException} is thrown only if
+   * rounding is necessary, as with a {@link BigDecimal}.
+   */
+  @Test
+  public void testFormatFixedUnnecessary() {
+    JsonNumberFormatter jsonNumberFormatter = new JsonNumberFormatter();
+
+    assertEquals("1.50", format(jsonNumberFormatter, Double.valueOf(1.5), 2, BigDecimal.ROUND_UNNECESSARY));
+    assertEquals("42.0", format(jsonNumberFormatter, Integer.valueOf(42), 1, BigDecimal.ROUND_UNNECESSARY));
+
+    try {
+      format(jsonNumberFormatter, Double.valueOf(1.25), 1, BigDecimal.ROUND_UNNECESSARY);
+
+      fail("ArithmeticException expected");
+    }
+    catch (ArithmeticException ae) {
+      // Expected
+    }
+  }
+
+  /**
+   * Test the formatting of numeric values that are not formatted.
+   * <p>
+   * This test asserts that values of other types and non-finite values are
+   * left to the original path.
+   */
+  @Test
+  public void testFormatUnsupported() {
+    JsonNumberFormatter jsonNumberFormatter = new JsonNumberFormatter();
+
+    assertEquals(-1, jsonNumberFormatter.format(Float.valueOf(1.5f), -1, BigDecimal.ROUND_HALF_UP));
+    assertEquals(-1, jsonNumberFormatter.format(new BigDecimal("1.5"), -1, BigDecimal.ROUND_HALF_UP));
+    assertEquals(-1, jsonNumberFormatter.format(BigInteger.TEN, -1, BigDecimal.ROUND_HALF_UP));
+    assertEquals(-1, jsonNumberFormatter.format(Double.valueOf(Double.NaN), -1, BigDecimal.ROUND_HALF_UP));
+    assertEquals(-1, jsonNumberFormatter.format(Double.valueOf(Double.NEGATIVE_INFINITY), 2, BigDecimal.ROUND_HALF_UP));
+  }
+
+  /**
+   * Create the double values.
+   * <p>
+   * The double values consist of the special double values, powers of ten,
+   * values with random bits and values with few significant digits.
+   *
+   * @param randomCount The number of values with random bits.
+   * @return The double values.
+   */
+  private static List<Double> createDoubles(int randomCount) {
+    List<Double> values = new ArrayList<Double>();
+    for (double value : SPECIAL_DOUBLES) {
+      values.add(value);
+      values.add(-value);
+    }
+
+    for (int i = -323; i <= 307; i++) {
+      values.add(Double.parseDouble("1e" + i));
+      values.add(Double.parseDouble("9.5e" + i));
+    }
+
+    Random random = new Random(17);
+    for (int i = 0; i < randomCount; i++) {
+      double value = Double.longBitsToDouble(random.nextLong());
+
+      if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+        values.add(value);
+      }
+    }
+
+    for (int i = 0; i < randomCount / 10; i++) {
+      values.add(random.nextInt(100000) * Math.pow(10, random.nextInt(40) - 20));
+    }
+
+    return values;
+  }
+
+  /**
+   * Format the given numeric value with the given JSON number formatter.
+   *
+   * @param jsonNumberFormatter The JSON number formatter.
+   * @param value The numeric value.
+   * @param maxDecimalPlaces The maximum number of decimal places.
+   * @param roundingMode The rounding mode.
+   * @return The formatted value, or <code>null</code> if the value was not
+   *   formatted.
+   */
+  private static String format(JsonNumberFormatter jsonNumberFormatter, Number value, int maxDecimalPlaces, int roundingMode) {
+    int length = jsonNumberFormatter.format(value, maxDecimalPlaces, roundingMode);
+
+    return length >= 0 ? new String(jsonNumberFormatter.getChars(), 0, length) : null;
+  }
+}
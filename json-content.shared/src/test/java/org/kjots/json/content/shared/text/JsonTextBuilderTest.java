@@ -0,0 +1,646 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.content.shared.text;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+import org.junit.Test;
+
+import org.kjots.json.content.shared.CharArraySequence;
+import org.kjots.json.content.shared.text.JsonTextGenerator.EscapeProfile;
+
+/**
+ * JSON Text Builder Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonTextBuilderTest {
+  /**
+   * Counting JSON Text Builder.
+   * <p>
+   * This JSON text builder counts the member names that are printed from the
+   * member name cache.
+   */
+  private static class CountingJsonTextBuilder extends JsonTextBuilder {
+    /** The number of member names printed from the member name cache. */
+    private int printMemberNameCount;
+
+    /**
+     * Print the given encoded member name.
+     *
+     * @param memberName The encoded member name.
+     */
+    @Override
+    protected void printMemberName(char[] memberName) {
+      this.printMemberNameCount++;
+
+      super.printMemberName(memberName);
+    }
+  }
+
+  /** The string value that exercises the escape profiles. */
+  private static final String STRING_VALUE = "a\"\\/\b\f\n\r\t\u0000\u001F<b>&'\u007F\u00E9\u2028\u2029\u20AC\uD83D\uDE00\uDC00z";
+
+  /**
+   * Test the escaping of a string value with the default escape profile.
+   * <p>
+   * This test asserts that the default escape profile escapes the quotation
+   * mark, the reverse solidus, the control characters and the surrogate
+   * characters.
+   */
+  @Test
+  public void testDefaultEscapeProfile() {
+    assertEquals("[\"a\\\"\\\\/\\b\\f\\n\\r\\t\\u0000\\u001F<b>&'\u007F\u00E9\u2028\u2029\u20AC\\uD83D\\uDE00\\uDC00z\"]", build(EscapeProfile.DEFAULT, STRING_VALUE));
+  }
+
+  /**
+   * Test the escaping of a string value with the minimal escape profile.
+   * <p>
+   * This test asserts that the minimal escape profile escapes only the
+   * quotation mark, the reverse solidus, the control characters and the
+   * surrogate characters that are not part of a surrogate pair.
+   */
+  @Test
+  public void testMinimalEscapeProfile() {
+    assertEquals("[\"a\\\"\\\\/\\b\\f\\n\\r\\t\\u0000\\u001F<b>&'\u007F\u00E9\u2028\u2029\u20AC\uD83D\uDE00\\uDC00z\"]", build(EscapeProfile.MINIMAL, STRING_VALUE));
+  }
+
+  /**
+   * Test the escaping of unpaired surrogates with the minimal escape profile.
+   * <p>
+   * This test asserts that the minimal escape profile escapes each surrogate
+   * character that is not part of a surrogate pair, in string values and in
+   * cached member names, and leaves the surrogate pairs unescaped.
+   */
+  @Test
+  public void testMinimalEscapeProfileUnpairedSurrogates() {
+    assertEquals("[\"\\uD800a\\uDC00\uD83D\uDE00\\uDE00\\uD83D\uD83D\uDE00\\uD83D\"]", build(EscapeProfile.MINIMAL, "\uD800a\uDC00\uD83D\uDE00\uDE00\uD83D\uD83D\uDE00\uD83D"));
+
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    jsonTextBuilder.setEscapeProfile(EscapeProfile.MINIMAL);
+    jsonTextBuilder.registerMemberNames("a\uDC00");
+    jsonTextBuilder.startJson();
+    jsonTextBuilder.startArray();
+    for (int i = 0; i < 2; i++) {
+      jsonTextBuilder.startObject();
+      jsonTextBuilder.memberName("a\uDC00");
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.memberName("\uD83D\uDE00\uD83D");
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.endObject();
+    }
+    jsonTextBuilder.endArray();
+    jsonTextBuilder.endJson();
+
+    assertEquals("[{\"a\\uDC00\":0,\"\uD83D\uDE00\\uD83D\":0},{\"a\\uDC00\":1,\"\uD83D\uDE00\\uD83D\":1}]", jsonTextBuilder.toString());
+  }
+
+  /**
+   * Test the escaping of a string value with the HTML-safe escape profile.
+   * <p>
+   * This test asserts that the HTML-safe escape profile also escapes the
+   * characters that are significant to HTML and the line and paragraph
+   * separators.
+   */
+  @Test
+  public void testHtmlSafeEscapeProfile() {
+    assertEquals("[\"a\\\"\\\\/\\b\\f\\n\\r\\t\\u0000\\u001F\\u003Cb\\u003E\\u0026\\u0027\u007F\u00E9\\u2028\\u2029\u20AC\\uD83D\\uDE00\\uDC00z\"]", build(EscapeProfile.HTML_SAFE, STRING_VALUE));
+  }
+
+  /**
+   * Test the escaping of a string value with the ASCII-only escape profile.
+   * <p>
+   * This test asserts that the ASCII-only escape profile also escapes every
+   * non-ASCII character.
+   */
+  @Test
+  public void testAsciiOnlyEscapeProfile() {
+    assertEquals("[\"a\\\"\\\\/\\b\\f\\n\\r\\t\\u0000\\u001F<b>&'\u007F\\u00E9\\u2028\\u2029\\u20AC\\uD83D\\uDE00\\uDC00z\"]", build(EscapeProfile.ASCII_ONLY, STRING_VALUE));
+  }
+
+  /**
+   * Test the escaping of member names and long string values.
+   * <p>
+   * This test asserts that member names are escaped, and that string values
+   * that are longer than the character buffer are printed intact.
+   */
+  @Test
+  public void testEscapeMemberNameAndLongString() {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      stringBuilder.append((char)('a' + i % 26));
+    }
+
+    String longString = stringBuilder.toString();
+
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    jsonTextBuilder.setEscapeProfile(EscapeProfile.HTML_SAFE);
+    jsonTextBuilder.startJson();
+    jsonTextBuilder.startObject();
+    jsonTextBuilder.memberName("</script>");
+    jsonTextBuilder.primitive(longString + "\n" + longString);
+    jsonTextBuilder.endObject();
+    jsonTextBuilder.endJson();
+
+    assertEquals("{\"\\u003C/script\\u003E\":\"" + longString + "\\n" + longString + "\"}", jsonTextBuilder.toString());
+  }
+
+  /**
+   * Test the printing of cached member names.
+   * <p>
+   * This test asserts that repeated and registered member names are printed
+   * correctly when there are more member names than the member name cache can
+   * hold, and that changes to the escape profile and the format flag are
+   * reflected in the cached member names.
+   */
+  @Test
+  public void testMemberNameCache() {
+    String[] names = new String[1000];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = "<name" + i + ">";
+    }
+
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    jsonTextBuilder.registerMemberNames(names[0], names[1]);
+    jsonTextBuilder.startJson();
+    jsonTextBuilder.startArray();
+    for (int i = 0; i < 3; i++) {
+      jsonTextBuilder.startObject();
+      for (String name : names) {
+        jsonTextBuilder.memberName(name);
+        jsonTextBuilder.primitive(i);
+      }
+      jsonTextBuilder.endObject();
+    }
+    jsonTextBuilder.endArray();
+    jsonTextBuilder.endJson();
+
+    StringBuilder stringBuilder = new StringBuilder("[");
+    for (int i = 0; i < 3; i++) {
+      stringBuilder.append(i > 0 ? ",{" : "{");
+      for (int j = 0; j < names.length; j++) {
+        stringBuilder.append(j > 0 ? ",\"" : "\"").append(names[j]).append("\":").append(i);
+      }
+      stringBuilder.append('}');
+    }
+    stringBuilder.append(']');
+
+    assertEquals(stringBuilder.toString(), jsonTextBuilder.toString());
+
+    jsonTextBuilder = new JsonTextBuilder();
+
+    jsonTextBuilder.registerMemberNames(names[0]);
+    for (int i = 0; i < 2; i++) {
+      jsonTextBuilder.startJson();
+      jsonTextBuilder.startObject();
+      jsonTextBuilder.memberName(names[0]);
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.memberName(names[1]);
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.endObject();
+      jsonTextBuilder.endJson();
+
+      jsonTextBuilder.setEscapeProfile(EscapeProfile.HTML_SAFE);
+      jsonTextBuilder.setFormat(true);
+    }
+
+    assertEquals("{\"<name0>\":0,\"<name1>\":0}{\n  \"\\u003Cname0\\u003E\" : 1,\n  \"\\u003Cname1\\u003E\" : 1\n}\n", jsonTextBuilder.toString());
+  }
+
+  /**
+   * Test the admission of member names to the member name cache.
+   * <p>
+   * This test asserts that a member name that is not registered is printed
+   * as a string value until it is printed a second time, whether as the same
+   * string instance or as an equal string, and that a registered member name
+   * is always printed from the cache.
+   */
+  @Test
+  public void testMemberNameCacheAdmission() {
+    CountingJsonTextBuilder jsonTextBuilder = new CountingJsonTextBuilder();
+
+    String registeredName = "registered";
+    String repeatedName = "repeated";
+
+    jsonTextBuilder.registerMemberNames(registeredName);
+    jsonTextBuilder.startJson();
+    jsonTextBuilder.startArray();
+    for (int i = 0; i < 3; i++) {
+      jsonTextBuilder.startObject();
+      jsonTextBuilder.memberName(registeredName);
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.memberName(repeatedName);
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.memberName(new String("distinct"));
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.endObject();
+    }
+    jsonTextBuilder.endArray();
+    jsonTextBuilder.endJson();
+
+    assertEquals(7, jsonTextBuilder.printMemberNameCount);
+    assertEquals("[{\"registered\":0,\"repeated\":0,\"distinct\":0},{\"registered\":1,\"repeated\":1,\"distinct\":1},{\"registered\":2,\"repeated\":2,\"distinct\":2}]", jsonTextBuilder.toString());
+  }
+
+  /**
+   * Test the admission of alternating member names that share a set of the
+   * seen member names.
+   * <p>
+   * This test asserts that two member names that would evict each other from
+   * a single seen slot are both admitted on their second occurrence.
+   */
+  @Test
+  public void testMemberNameCacheAdmissionOfCollidingNames() {
+    String firstName = "name0";
+    String secondName = null;
+    for (int i = 1; secondName == null; i++) {
+      String name = "name" + i;
+
+      if (seenSet(name) == seenSet(firstName)) {
+        secondName = name;
+      }
+    }
+
+    CountingJsonTextBuilder jsonTextBuilder = new CountingJsonTextBuilder();
+
+    jsonTextBuilder.startJson();
+    jsonTextBuilder.startArray();
+    for (int i = 0; i < 10; i++) {
+      jsonTextBuilder.startObject();
+      jsonTextBuilder.memberName(firstName);
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.memberName(secondName);
+      jsonTextBuilder.primitive(i);
+      jsonTextBuilder.endObject();
+    }
+    jsonTextBuilder.endArray();
+    jsonTextBuilder.endJson();
+
+    assertEquals(18, jsonTextBuilder.printMemberNameCount);
+  }
+
+  /**
+   * Test the caching of member names that are character sequences.
+   * <p>
+   * This test asserts that member names that are passed as the characters of
+   * a reused buffer are admitted to the member name cache on their second
+   * occurrence, and are printed correctly after the buffer has been reused.
+   */
+  @Test
+  public void testMemberNameCacheOfCharSequences() {
+    CountingJsonTextBuilder jsonTextBuilder = new CountingJsonTextBuilder();
+    CharArraySequence charArraySequence = new CharArraySequence();
+    char[] buffer = new char[16];
+
+    jsonTextBuilder.startJson();
+    jsonTextBuilder.startArray();
+    for (int i = 0; i < 3; i++) {
+      jsonTextBuilder.startObject();
+      for (String name : new String[] { "id", "<name>" }) {
+        name.getChars(0, name.length(), buffer, 0);
+
+        jsonTextBuilder.memberName(charArraySequence.set(buffer, 0, name.length()));
+        jsonTextBuilder.primitive(i);
+      }
+      jsonTextBuilder.endObject();
+    }
+    jsonTextBuilder.endArray();
+    jsonTextBuilder.endJson();
+
+    assertEquals(4, jsonTextBuilder.printMemberNameCount);
+    assertEquals("[{\"id\":0,\"<name>\":0},{\"id\":1,\"<name>\":1},{\"id\":2,\"<name>\":2}]", jsonTextBuilder.toString());
+  }
+
+  /**
+   * Test the formatting of nested JSON objects and JSON arrays.
+   * <p>
+   * This test asserts that the entries are indented by their depth, that empty
+   * JSON objects and JSON arrays are printed without a newline, and that the
+   * JSON text builder may be reused once the JSON content has ended.
+   */
+  @Test
+  public void testFormat() {
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    jsonTextBuilder.setFormat(true);
+
+    for (int i = 0; i < 2; i++) {
+      jsonTextBuilder.startJson();
+      jsonTextBuilder.startObject();
+      jsonTextBuilder.memberName("a");
+      jsonTextBuilder.startArray();
+      jsonTextBuilder.primitive(1);
+      jsonTextBuilder.startObject();
+      jsonTextBuilder.endObject();
+      jsonTextBuilder.startArray();
+      jsonTextBuilder.endArray();
+      jsonTextBuilder.endArray();
+      jsonTextBuilder.memberName("b");
+      jsonTextBuilder.startObject();
+      jsonTextBuilder.memberName("c");
+      jsonTextBuilder.primitive(null);
+      jsonTextBuilder.memberName("d");
+      jsonTextBuilder.primitive(Boolean.TRUE);
+      jsonTextBuilder.endObject();
+      jsonTextBuilder.endObject();
+      jsonTextBuilder.endJson();
+    }
+
+    String jsonText = "{\n  \"a\" : [\n    1,\n    {},\n    []\n  ],\n  \"b\" : {\n    \"c\" : null,\n    \"d\" : true\n  }\n}\n";
+
+    assertEquals(jsonText + jsonText, jsonTextBuilder.toString());
+  }
+
+  /**
+   * Test the formatting of deeply nested JSON arrays.
+   * <p>
+   * This test asserts that JSON arrays that are nested more deeply than the
+   * initial depth of the JSON context stack are indented correctly.
+   */
+  @Test
+  public void testFormatDeepNesting() {
+    int depth = 100;
+
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    jsonTextBuilder.setFormat(true);
+    jsonTextBuilder.startJson();
+    for (int i = 0; i < depth; i++) {
+      jsonTextBuilder.startArray();
+    }
+    jsonTextBuilder.primitive("x");
+    for (int i = 0; i < depth; i++) {
+      jsonTextBuilder.endArray();
+    }
+    jsonTextBuilder.endJson();
+
+    StringBuilder stringBuilder = new StringBuilder("[");
+    for (int i = 1; i < depth; i++) {
+      stringBuilder.append('\n').append(indent(i)).append('[');
+    }
+    stringBuilder.append('\n').append(indent(depth)).append("\"x\"");
+    for (int i = depth - 1; i >= 0; i--) {
+      stringBuilder.append('\n').append(indent(i)).append(']');
+    }
+    stringBuilder.append('\n');
+
+    assertEquals(stringBuilder.toString(), jsonTextBuilder.toString());
+  }
+
+  /**
+   * Test the typed primitive methods.
+   * <p>
+   * This test asserts that the typed primitive methods print the same JSON
+   * text as {@link JsonTextGenerator#primitive(Object)} with the boxed values,
+   * with and without a maximum number of decimal places.
+   */
+  @Test
+  public void testTypedPrimitives() {
+    long[] longValues = { 0L, -1L, 42L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE, Long.MIN_VALUE };
+    double[] doubleValues = { 0.0, -0.0, 0.1, 3.14159, -2.5e-3, 1e22, 1.5e-300, Double.MAX_VALUE };
+
+    for (int maxDecimalPlaces : new int[] { -1, 0, 2 }) {
+      JsonTextBuilder typedJsonTextBuilder = new JsonTextBuilder();
+      JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+      typedJsonTextBuilder.setMaxDecimalPlaces(maxDecimalPlaces);
+      jsonTextBuilder.setMaxDecimalPlaces(maxDecimalPlaces);
+
+      typedJsonTextBuilder.startJson();
+      typedJsonTextBuilder.startArray();
+      typedJsonTextBuilder.primitiveNull();
+      typedJsonTextBuilder.primitiveBoolean(true);
+      typedJsonTextBuilder.primitiveBoolean(false);
+      typedJsonTextBuilder.primitiveString(new StringBuilder(STRING_VALUE));
+      for (long longValue : longValues) {
+        typedJsonTextBuilder.primitiveLong(longValue);
+      }
+      for (double doubleValue : doubleValues) {
+        typedJsonTextBuilder.primitiveDouble(doubleValue);
+      }
+      typedJsonTextBuilder.endArray();
+      typedJsonTextBuilder.endJson();
+
+      jsonTextBuilder.startJson();
+      jsonTextBuilder.startArray();
+      jsonTextBuilder.primitive(null);
+      jsonTextBuilder.primitive(Boolean.TRUE);
+      jsonTextBuilder.primitive(Boolean.FALSE);
+      jsonTextBuilder.primitive(STRING_VALUE);
+      for (long longValue : longValues) {
+        jsonTextBuilder.primitive(Long.valueOf(longValue));
+      }
+      for (double doubleValue : doubleValues) {
+        jsonTextBuilder.primitive(Double.valueOf(doubleValue));
+      }
+      jsonTextBuilder.endArray();
+      jsonTextBuilder.endJson();
+
+      assertEquals(jsonTextBuilder.toString(), typedJsonTextBuilder.toString());
+    }
+  }
+
+  /**
+   * Test the handling of member names and string values passed as character
+   * sequences.
+   * <p>
+   * This test asserts that member names and string values passed as a
+   * reused {@link CharArraySequence} print the same JSON text as the same
+   * member names and string values passed as strings, even though the viewed
+   * characters change before the member names are printed.
+   */
+  @Test
+  public void testCharSequences() {
+    String[] names = { "a", STRING_VALUE, "", "member" };
+
+    for (boolean format : new boolean[] { false, true }) {
+      JsonTextBuilder charSequenceJsonTextBuilder = new JsonTextBuilder();
+      JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+      CharArraySequence charArraySequence = new CharArraySequence();
+      char[] chars = new char[64];
+
+      charSequenceJsonTextBuilder.setFormat(format);
+      jsonTextBuilder.setFormat(format);
+
+      charSequenceJsonTextBuilder.startJson();
+      charSequenceJsonTextBuilder.startObject();
+      jsonTextBuilder.startJson();
+      jsonTextBuilder.startObject();
+      for (String name : names) {
+        name.getChars(0, name.length(), chars, 1);
+        charSequenceJsonTextBuilder.memberName(charArraySequence.set(chars, 1, name.length()));
+        jsonTextBuilder.memberName(name);
+
+        charSequenceJsonTextBuilder.startObject();
+        jsonTextBuilder.startObject();
+
+        STRING_VALUE.getChars(0, STRING_VALUE.length(), chars, 2);
+        charSequenceJsonTextBuilder.memberName(charArraySequence.set(chars, 2, STRING_VALUE.length()));
+        jsonTextBuilder.memberName(STRING_VALUE);
+
+        name.getChars(0, name.length(), chars, 3);
+        charSequenceJsonTextBuilder.primitiveString(charArraySequence.set(chars, 3, name.length()));
+        jsonTextBuilder.primitive(name);
+
+        charSequenceJsonTextBuilder.memberName(new StringBuilder(name));
+        jsonTextBuilder.memberName(name);
+
+        charSequenceJsonTextBuilder.primitiveString(new StringBuilder(name));
+        jsonTextBuilder.primitive(name);
+
+        charSequenceJsonTextBuilder.endObject();
+        jsonTextBuilder.endObject();
+      }
+      charSequenceJsonTextBuilder.endObject();
+      charSequenceJsonTextBuilder.endJson();
+      jsonTextBuilder.endObject();
+      jsonTextBuilder.endJson();
+
+      assertEquals(jsonTextBuilder.toString(), charSequenceJsonTextBuilder.toString());
+    }
+  }
+
+  /**
+   * Test the handling of JSON content that is not valid in the current context.
+   * <p>
+   * This test asserts that an {@link UnsupportedOperationException} is thrown
+   * for JSON content that is not valid in the current context, and an
+   * {@link IllegalStateException} is thrown for an unsupported primitive type.
+   */
+  @Test
+  public void testInvalidContent() {
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    assertUnsupported(jsonTextBuilder, "primitive");
+    assertUnsupported(jsonTextBuilder, "startObject");
+    assertUnsupported(jsonTextBuilder, "endJson");
+
+    jsonTextBuilder.startJson();
+
+    assertUnsupported(jsonTextBuilder, "startJson");
+    assertUnsupported(jsonTextBuilder, "primitive");
+    assertUnsupported(jsonTextBuilder, "memberName");
+    assertUnsupported(jsonTextBuilder, "endArray");
+
+    jsonTextBuilder.startArray();
+
+    assertUnsupported(jsonTextBuilder, "memberName");
+    assertUnsupported(jsonTextBuilder, "endObject");
+    assertUnsupported(jsonTextBuilder, "endJson");
+
+    try {
+      jsonTextBuilder.primitive(new Object());
+
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException ise) {
+      // Expected
+    }
+  }
+
+  /**
+   * Assert that the given JSON content is not valid in the current context of
+   * the given JSON text builder.
+   *
+   * @param jsonTextBuilder The JSON text builder.
+   * @param content The name of the JSON content.
+   */
+  private static void assertUnsupported(JsonTextBuilder jsonTextBuilder, String content) {
+    try {
+      if (content.equals("startJson")) {
+        jsonTextBuilder.startJson();
+      }
+      else if (content.equals("endJson")) {
+        jsonTextBuilder.endJson();
+      }
+      else if (content.equals("startObject")) {
+        jsonTextBuilder.startObject();
+      }
+      else if (content.equals("endObject")) {
+        jsonTextBuilder.endObject();
+      }
+      else if (content.equals("endArray")) {
+        jsonTextBuilder.endArray();
+      }
+      else if (content.equals("memberName")) {
+        jsonTextBuilder.memberName("a");
+      }
+      else {
+        jsonTextBuilder.primitive("a");
+      }
+
+      fail("UnsupportedOperationException expected for " + content);
+    }
+    catch (UnsupportedOperationException uoe) {
+      // Expected
+    }
+  }
+
+  /**
+   * Create the indentation of the given depth.
+   *
+   * @param depth The depth.
+   * @return The indentation.
+   */
+  private static String indent(int depth) {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (int i = 0; i < depth; i++) {
+      stringBuilder.append("  ");
+    }
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Retrieve the set of the seen member names of the given member name.
+   *
+   * @param name The member name.
+   * @return The set.
+   */
+  private static int seenSet(String name) {
+    int hashCode = name.hashCode();
+
+    return (hashCode ^ (hashCode >>> 16)) & 255;
+  }
+
+  /**
+   * Build the JSON text of an array of the given string value with the given
+   * escape profile.
+   *
+   * @param escapeProfile The escape profile.
+   * @param value The string value.
+   * @return The JSON text.
+   */
+  private static String build(EscapeProfile escapeProfile, String value) {
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    jsonTextBuilder.setEscapeProfile(escapeProfile);
+    jsonTextBuilder.startJson();
+    jsonTextBuilder.startArray();
+    jsonTextBuilder.primitive(value);
+    jsonTextBuilder.endArray();
+    jsonTextBuilder.endJson();
+
+    return jsonTextBuilder.toString();
+  }
+}
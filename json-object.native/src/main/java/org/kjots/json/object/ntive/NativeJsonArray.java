@@ -18,8 +18,12 @@ package org.kjots.json.object.ntive;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.kjots.json.content.shared.JsonContentHandler;
+
 import org.kjots.json.object.shared.JsonArray;
 import org.kjots.json.object.shared.JsonObject;
+import org.kjots.json.object.shared.content.JsonContentSource;
+import org.kjots.json.object.shared.content.JsonObjectContentGenerator;
 
 /**
  * Native JSON Array.
@@ -29,7 +33,7 @@ import org.kjots.json.object.shared.JsonObject;
  * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
  * @since 1.0
  */
-public class NativeJsonArray extends NativeJsonObject implements JsonArray {
+public class NativeJsonArray extends NativeJsonObject implements JsonArray, JsonContentSource {
   /** The list. */
   protected final LinkedList<Object> list;
   
@@ -398,6 +402,32 @@ public class NativeJsonArray extends NativeJsonObject implements JsonArray {
     this.list.subList(index, index + count).clear();
   }
 
+  /**
+   * Generate the content of this native JSON array.
+   * <p>
+   * This method iterates the list directly, and hands nested JSON objects
+   * back to the given JSON object content generator.
+   *
+   * @param jsonObjectContentGenerator The JSON object content generator.
+   */
+  @Override
+  public void generateContent(JsonObjectContentGenerator jsonObjectContentGenerator) {
+    JsonContentHandler jsonContentHandler = jsonObjectContentGenerator.getJsonContentHandler();
+    
+    jsonContentHandler.startArray();
+    
+    for (Object element : this.list) {
+      if (element instanceof JsonObject) {
+        jsonObjectContentGenerator.handleJsonObject((JsonObject)element);
+      }
+      else {
+        jsonContentHandler.primitive(element);
+      }
+    }
+    
+    jsonContentHandler.endArray();
+  }
+
   /**
    * Construct a new Native JSON Array.
    * 
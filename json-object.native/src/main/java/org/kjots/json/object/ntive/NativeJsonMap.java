@@ -16,9 +16,14 @@
 package org.kjots.json.object.ntive;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
+import org.kjots.json.content.shared.JsonContentHandler;
+
 import org.kjots.json.object.shared.JsonObject;
+import org.kjots.json.object.shared.content.JsonContentSource;
+import org.kjots.json.object.shared.content.JsonObjectContentGenerator;
 
 /**
  * Native JSON Map.
@@ -28,7 +33,7 @@ import org.kjots.json.object.shared.JsonObject;
  * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
  * @since 1.0
  */
-public class NativeJsonMap implements JsonObject {
+public class NativeJsonMap implements JsonObject, JsonContentSource {
   /** The map. */
   protected final HashMap<String, Object> map;
   
@@ -298,6 +303,36 @@ public class NativeJsonMap implements JsonObject {
     return hasPropertyValue;
   }
   
+  /**
+   * Generate the content of this native JSON map.
+   * <p>
+   * This method iterates the entries of the map directly, and hands nested
+   * JSON objects back to the given JSON object content generator.
+   *
+   * @param jsonObjectContentGenerator The JSON object content generator.
+   */
+  @Override
+  public void generateContent(JsonObjectContentGenerator jsonObjectContentGenerator) {
+    JsonContentHandler jsonContentHandler = jsonObjectContentGenerator.getJsonContentHandler();
+    
+    jsonContentHandler.startObject();
+    
+    for (Map.Entry<String, Object> entry : this.map.entrySet()) {
+      Object value = entry.getValue();
+      
+      jsonContentHandler.memberName(entry.getKey());
+      
+      if (value instanceof JsonObject) {
+        jsonObjectContentGenerator.handleJsonObject((JsonObject)value);
+      }
+      else {
+        jsonContentHandler.primitive(value);
+      }
+    }
+    
+    jsonContentHandler.endObject();
+  }
+  
   /**
    * Retrieve the underlying JSON object.
    *
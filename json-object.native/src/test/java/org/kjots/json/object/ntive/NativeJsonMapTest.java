@@ -31,8 +31,11 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import org.kjots.json.content.shared.text.JsonTextBuilder;
+
 import org.kjots.json.object.shared.JsonObject;
 import org.kjots.json.object.shared.JsonObjectFactory;
+import org.kjots.json.object.shared.content.JsonObjectContentGenerator;
 import org.kjots.json.object.simple.SimpleJsonObjectModule;
 
 /**
@@ -444,4 +447,37 @@ public class NativeJsonMapTest {
     assertFalse("testNativeJsonMap.hasProperty(\"testProperty\") != false", testNativeJsonMap.hasProperty("testProperty"));
     assertNull("testNativeJsonMap.testProperty != null", testNativeJsonMap.map.get("testProperty"));
   }
+
+  /**
+   * Test the generation of the content of a native JSON map.
+   * <p>
+   * This test asserts that the native JSON map generates its content from
+   * the map directly, including the content of nested native JSON arrays and
+   * native JSON maps.
+   */
+  @Test
+  public void testGenerateContent() {
+    NativeJsonMap nestedNativeJsonMap = new NativeJsonMap();
+    
+    nestedNativeJsonMap.setStringProperty("testStringProperty", "Test \"String\"");
+    
+    NativeJsonArray nativeJsonArray = new NativeJsonArray();
+    
+    nativeJsonArray.appendBooleanElement(null);
+    nativeJsonArray.appendBooleanElement(true);
+    nativeJsonArray.appendNumberElement(1);
+    nativeJsonArray.appendNumberElement(2.5);
+    nativeJsonArray.appendObjectElement(nestedNativeJsonMap);
+    nativeJsonArray.appendObjectElement(new NativeJsonArray());
+    
+    testNativeJsonMap.setObjectProperty("testArrayProperty", nativeJsonArray);
+    
+    JsonObjectContentGenerator jsonObjectContentGenerator = new JsonObjectContentGenerator();
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+    
+    jsonObjectContentGenerator.setJsonContentHandler(jsonTextBuilder);
+    jsonObjectContentGenerator.generateContent(testNativeJsonMap);
+    
+    assertEquals("{\"testArrayProperty\":[null,true,1,2.5,{\"testStringProperty\":\"Test \\\"String\\\"\"},[]]}", jsonTextBuilder.toString());
+  }
 }
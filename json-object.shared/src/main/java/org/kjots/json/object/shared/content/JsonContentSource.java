@@ -0,0 +1,46 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.object.shared.content;
+
+/**
+ * JSON Content Source.
+ * <p>
+ * A JSON content source is the underlying object of a JSON object that
+ * generates its own content by walking its backing storage directly, with a
+ * single lookup and type check per value, rather than by the property and
+ * element accessors of the JSON object.
+ * <p>
+ * The {@link JsonObjectContentGenerator} uses the JSON content source of a
+ * JSON object, if the underlying object of the JSON object is one.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public interface JsonContentSource {
+  /**
+   * Generate the content of this JSON content source.
+   * <p>
+   * The content of the JSON object or JSON array is sent to the JSON content
+   * handler of the given JSON object content generator, without the start and
+   * the end of the JSON content. Nested values that are JSON objects are
+   * handed back to {@link JsonObjectContentGenerator#handleJsonObject}.
+   *
+   * @param jsonObjectContentGenerator The JSON object content generator.
+   */
+  public void generateContent(JsonObjectContentGenerator jsonObjectContentGenerator);
+}
@@ -15,8 +15,10 @@
  */
 package org.kjots.json.object.shared.content;
 
-import org.kjots.json.content.shared.JsonContentHandler;
+import org.kjots.json.content.shared.JsonContentUtil;
+import org.kjots.json.content.shared.JsonSymbolTable;
 import org.kjots.json.content.shared.PartialJsonContentHandler;
+import org.kjots.json.content.shared.TypedJsonContentHandler;
 
 import org.kjots.json.object.shared.JsonArray;
 import org.kjots.json.object.shared.JsonObject;
@@ -30,7 +32,7 @@ import org.kjots.json.object.shared.JsonObjectFactory;
  * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
  * @since 1.0
  */
-public class JsonObjectBuilder implements JsonContentHandler {
+public class JsonObjectBuilder implements TypedJsonContentHandler {
   /**
    * Duplicate Member Policy.
    * <p>
@@ -72,6 +74,95 @@ public class JsonObjectBuilder implements JsonContentHandler {
     protected void close() {
       JsonObjectBuilder.this.jsonContext = this.parentJsonContext;
     }
+    
+    /**
+     * Handle a JSON primitive.
+     * <p>
+     * The value of the JSON primitive is handled by the method for its type.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitive(Object value) {
+      if (value == null) {
+        this.primitiveNull();
+      }
+      else if (value instanceof Boolean) {
+        Boolean booleanValue = (Boolean)value;
+        
+        this.primitiveBoolean(booleanValue.booleanValue());
+      }
+      else if (value instanceof Number) {
+        Number numberValue = (Number)value;
+        
+        this.primitiveNumber(numberValue);
+      }
+      else if (value instanceof String) {
+        String stringValue = (String)value;
+        
+        this.primitiveString(stringValue);
+      }
+      else {
+        throw new IllegalStateException("Unsupported primitive type: " + value.getClass().getName());
+      }
+    }
+    
+    /**
+     * Handle a JSON primitive with a <code>null</code> value.
+     */
+    @Override
+    public void primitiveNull() {
+      throw new UnsupportedOperationException();
+    }
+    
+    /**
+     * Handle a JSON primitive with a boolean value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveBoolean(boolean value) {
+      throw new UnsupportedOperationException();
+    }
+    
+    /**
+     * Handle a JSON primitive with an integer value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveLong(long value) {
+      this.primitiveNumber(JsonContentUtil.toNumber(value));
+    }
+    
+    /**
+     * Handle a JSON primitive with a double value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveDouble(double value) {
+      this.primitiveNumber(Double.valueOf(value));
+    }
+    
+    /**
+     * Handle a JSON primitive with a string value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveString(CharSequence value) {
+      throw new UnsupportedOperationException();
+    }
+    
+    /**
+     * Handle a JSON primitive with a numeric value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    public void primitiveNumber(Number value) {
+      throw new UnsupportedOperationException();
+    }
   }
   
   /**
@@ -230,6 +321,12 @@ public class JsonObjectBuilder implements JsonContentHandler {
      */
     @Override
     public void memberName(String name) {
+      JsonSymbolTable symbolTable = JsonObjectBuilder.this.symbolTable;
+      
+      if (symbolTable != null) {
+        name = symbolTable.get(name);
+      }
+      
       if (this.jsonObject.hasProperty(name)) {
         switch (JsonObjectBuilder.this.duplicateMemberPolicy) {
         case ERROR:
@@ -239,43 +336,86 @@ public class JsonObjectBuilder implements JsonContentHandler {
       
       this.nextMemberName = name;
     }
+    
+    /**
+     * Handle the name of a member of a JSON object.
+     * <p>
+     * If there is a symbol table, the name of the member is looked up without
+     * being copied into a string.
+     *
+     * @param name The name of the member.
+     */
+    @Override
+    public void memberName(CharSequence name) {
+      JsonSymbolTable symbolTable = JsonObjectBuilder.this.symbolTable;
+      
+      this.memberName(symbolTable != null ? symbolTable.get(name) : name.toString());
+    }
 
     /**
-     * Handle a JSON primitive.
+     * Handle a JSON primitive with a <code>null</code> value.
+     */
+    @Override
+    public void primitiveNull() {
+      if (!this.isIgnoredPrimitive()) {
+        this.jsonObject.setObjectProperty(this.nextMemberName, null);
+      }
+    }
+    
+    /**
+     * Handle a JSON primitive with a boolean value.
      *
      * @param value The value of the JSON primitive.
      */
     @Override
-    public void primitive(Object value) {
+    public void primitiveBoolean(boolean value) {
+      if (!this.isIgnoredPrimitive()) {
+        this.jsonObject.setBooleanProperty(this.nextMemberName, value);
+      }
+    }
+    
+    /**
+     * Handle a JSON primitive with a string value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveString(CharSequence value) {
+      if (!this.isIgnoredPrimitive()) {
+        this.jsonObject.setStringProperty(this.nextMemberName, value.toString());
+      }
+    }
+    
+    /**
+     * Handle a JSON primitive with a numeric value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveNumber(Number value) {
+      if (!this.isIgnoredPrimitive()) {
+        this.jsonObject.setNumberProperty(this.nextMemberName, value);
+      }
+    }
+    
+    /**
+     * Determine if the JSON primitive of the next member is ignored.
+     * <p>
+     * The JSON primitive is ignored if the JSON object already has the member
+     * and the duplicate member policy is to merge or to ignore.
+     *
+     * @return <code>true</code> if the JSON primitive is ignored.
+     */
+    private boolean isIgnoredPrimitive() {
       if (this.jsonObject.hasProperty(this.nextMemberName)) {
         switch (JsonObjectBuilder.this.duplicateMemberPolicy) {
         case MERGE:
         case IGNORE:
-          return;
+          return true;
         }
       }
       
-      if (value == null) {
-        this.jsonObject.setObjectProperty(this.nextMemberName, null);
-      }
-      else if (value instanceof Boolean) {
-        Boolean booleanValue = (Boolean)value;
-        
-        this.jsonObject.setBooleanProperty(this.nextMemberName, booleanValue.booleanValue());
-      }
-      else if (value instanceof Number) {
-        Number numberValue = (Number)value;
-        
-        this.jsonObject.setNumberProperty(this.nextMemberName, numberValue);
-      }
-      else if (value instanceof String) {
-        String stringValue = (String)value;
-        
-        this.jsonObject.setStringProperty(this.nextMemberName, stringValue);
-      }
-      else {
-        throw new IllegalStateException("Unsupported primitive type: " + value.getClass().getName());
-      }
+      return false;
     }
   }
   
@@ -331,33 +471,41 @@ public class JsonObjectBuilder implements JsonContentHandler {
     }
 
     /**
-     * Handle a JSON primitive.
+     * Handle a JSON primitive with a <code>null</code> value.
+     */
+    @Override
+    public void primitiveNull() {
+      this.jsonArray.setObjectElement(this.jsonArray.getLength(), null);
+    }
+    
+    /**
+     * Handle a JSON primitive with a boolean value.
      *
      * @param value The value of the JSON primitive.
      */
     @Override
-    public void primitive(Object value) {
-      if (value == null) {
-        this.jsonArray.setObjectElement(this.jsonArray.getLength(), null);
-      }
-      else if (value instanceof Boolean) {
-        Boolean booleanValue = (Boolean)value;
-        
-        this.jsonArray.setBooleanElement(this.jsonArray.getLength(), booleanValue.booleanValue());
-      }
-      else if (value instanceof Number) {
-        Number numberValue = (Number)value;
-        
-        this.jsonArray.setNumberElement(this.jsonArray.getLength(), numberValue);
-      }
-      else if (value instanceof String) {
-        String stringValue = (String)value;
-        
-        this.jsonArray.setStringElement(this.jsonArray.getLength(), stringValue);
-      }
-      else {
-        throw new IllegalStateException("Unsupported primitive type: " + value.getClass().getName());
-      }
+    public void primitiveBoolean(boolean value) {
+      this.jsonArray.setBooleanElement(this.jsonArray.getLength(), value);
+    }
+    
+    /**
+     * Handle a JSON primitive with a string value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveString(CharSequence value) {
+      this.jsonArray.setStringElement(this.jsonArray.getLength(), value.toString());
+    }
+    
+    /**
+     * Handle a JSON primitive with a numeric value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveNumber(Number value) {
+      this.jsonArray.setNumberElement(this.jsonArray.getLength(), value);
     }
   }
   
@@ -392,6 +540,40 @@ public class JsonObjectBuilder implements JsonContentHandler {
     public void primitive(Object value) {
     }
     
+    /**
+     * Handle a JSON primitive with a <code>null</code> value.
+     */
+    @Override
+    public void primitiveNull() {
+    }
+    
+    /**
+     * Handle a JSON primitive with a boolean value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveBoolean(boolean value) {
+    }
+    
+    /**
+     * Handle a JSON primitive with a string value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveString(CharSequence value) {
+    }
+    
+    /**
+     * Handle a JSON primitive with a numeric value.
+     *
+     * @param value The value of the JSON primitive.
+     */
+    @Override
+    public void primitiveNumber(Number value) {
+    }
+    
     /**
      * Construct a new Non-operational JSON Context.
      *
@@ -457,6 +639,15 @@ public class JsonObjectBuilder implements JsonContentHandler {
     @Override
     public void memberName(String name) {
     }
+    
+    /**
+     * Handle the name of a member of a JSON object.
+     *
+     * @param name The name of the member.
+     */
+    @Override
+    public void memberName(CharSequence name) {
+    }
   }
   
   /**
@@ -509,6 +700,9 @@ public class JsonObjectBuilder implements JsonContentHandler {
   /** The JSON object. */
   private JsonObject jsonObject;
   
+  /** The symbol table of member names. */
+  private JsonSymbolTable symbolTable;
+  
   /**
    * Construct a new JSON Object Builder.
    */
@@ -593,6 +787,18 @@ public class JsonObjectBuilder implements JsonContentHandler {
     this.jsonContext.memberName(name);
   }
   
+  /**
+   * Handle the name of a member of a JSON object.
+   * <p>
+   * The name of the member is only copied into a string if it is stored.
+   *
+   * @param name The name of the member.
+   */
+  @Override
+  public void memberName(CharSequence name) {
+    this.jsonContext.memberName(name);
+  }
+  
   /**
    * Handle a JSON primitive.
    *
@@ -603,6 +809,54 @@ public class JsonObjectBuilder implements JsonContentHandler {
     this.jsonContext.primitive(value);
   }
   
+  /**
+   * Handle a JSON primitive with a <code>null</code> value.
+   */
+  @Override
+  public void primitiveNull() {
+    this.jsonContext.primitiveNull();
+  }
+  
+  /**
+   * Handle a JSON primitive with a boolean value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveBoolean(boolean value) {
+    this.jsonContext.primitiveBoolean(value);
+  }
+  
+  /**
+   * Handle a JSON primitive with an integer value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveLong(long value) {
+    this.jsonContext.primitiveLong(value);
+  }
+  
+  /**
+   * Handle a JSON primitive with a double value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveDouble(double value) {
+    this.jsonContext.primitiveDouble(value);
+  }
+  
+  /**
+   * Handle a JSON primitive with a string value.
+   *
+   * @param value The value of the JSON primitive.
+   */
+  @Override
+  public void primitiveString(CharSequence value) {
+    this.jsonContext.primitiveString(value);
+  }
+  
   /**
    * Retrieve the duplicate member policy.
    *
@@ -631,4 +885,28 @@ public class JsonObjectBuilder implements JsonContentHandler {
   public JsonObject getJsonObject() {
     return this.jsonObject;
   }
+  
+  /**
+   * Retrieve the symbol table of member names.
+   *
+   * @return The symbol table, or <code>null</code>.
+   * @see #setSymbolTable(JsonSymbolTable)
+   */
+  public JsonSymbolTable getSymbolTable() {
+    return this.symbolTable;
+  }
+  
+  /**
+   * Set the symbol table of member names.
+   * <p>
+   * If the symbol table is not <code>null</code>, the name of each member
+   * that is stored in a JSON object is replaced by its canonical string from
+   * the symbol table, so that the JSON objects built from records with the
+   * same members share the strings of the member names.
+   *
+   * @param symbolTable The symbol table, or <code>null</code>.
+   */
+  public void setSymbolTable(JsonSymbolTable symbolTable) {
+    this.symbolTable = symbolTable;
+  }
 }
@@ -15,7 +15,12 @@
  */
 package org.kjots.json.object.shared.content;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.kjots.json.content.shared.AbstractJsonContentGenerator;
+import org.kjots.json.content.shared.JsonContentFlowControl;
 
 import org.kjots.json.object.shared.JsonArray;
 import org.kjots.json.object.shared.JsonObject;
@@ -23,12 +28,55 @@ import org.kjots.json.object.shared.JsonObject;
 /**
  * JSON Object Content Generator.
  * <p>
+ * The content of a JSON object whose underlying object is a
+ * {@link JsonContentSource} is generated by the JSON content source, which
+ * walks the backing storage of the JSON object directly. The content of any
+ * other JSON object is generated through its property and element accessors.
+ * <p>
+ * The content may also be generated subject to a
+ * {@link JsonContentFlowControl}, in which case the JSON objects and JSON
+ * arrays are walked with an explicit stack rather than by recursion, so that
+ * the generation can pause between values whenever the flow control is not
+ * ready, and continue with {@link #resumeContent()} once it is.
+ * <p>
  * Created: 15th February 2010.
  *
  * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
  * @since 1.0
  */
 public class JsonObjectContentGenerator extends AbstractJsonContentGenerator {
+  /**
+   * Frame.
+   * <p>
+   * A frame holds the position of the generation within a JSON object or a
+   * JSON array.
+   */
+  private static final class Frame {
+    /** The JSON object, if the frame is of a JSON object. */
+    private JsonObject jsonObject;
+    
+    /** The iterator of the property names of the JSON object. */
+    private Iterator<String> propertyNames;
+    
+    /** The JSON array, if the frame is of a JSON array. */
+    private JsonArray jsonArray;
+    
+    /** The index of the next element of the JSON array. */
+    private int index;
+  }
+  
+  /** The frames of the generation subject to flow control. */
+  private final List<Frame> frames = new ArrayList<Frame>();
+  
+  /** The depth of the generation subject to flow control. */
+  private int depth = -1;
+  
+  /** The flow control. */
+  private JsonContentFlowControl flowControl;
+  
+  /** The resuming flag. */
+  private boolean resuming;
+  
   /**
    * Generate the content for the given JSON object.
    *
@@ -44,36 +92,127 @@ public class JsonObjectContentGenerator extends AbstractJsonContentGenerator {
     }
   }
   
+  /**
+   * Generate the content for the given JSON object subject to the given flow
+   * control.
+   * <p>
+   * The flow control is checked before each member of a JSON object and each
+   * element of a JSON array, and the generation pauses when the flow control
+   * is not ready. The generation is then continued by
+   * {@link #resumeContent()}, typically when the consumer signals that it is
+   * ready again. The JSON object must not be modified while the generation is
+   * paused.
+   * <p>
+   * The content of every JSON object is generated through its property and
+   * element accessors, since a {@link JsonContentSource} generates all of its
+   * content in a single call.
+   * <p>
+   * If the JSON content handler throws an exception, the generation is
+   * abandoned, so that this generator may be used again.
+   *
+   * @param jsonObject The JSON object.
+   * @param flowControl The flow control.
+   * @return <code>true</code> if the content has been generated, or <code>false</code> if the generation has paused.
+   * @throws IllegalStateException
+   */
+  public boolean generateContent(JsonObject jsonObject, JsonContentFlowControl flowControl) {
+    if (this.depth != -1) {
+      throw new IllegalStateException("Generation paused");
+    }
+    
+    if (jsonObject == null) {
+      return true;
+    }
+    
+    this.flowControl = flowControl;
+    
+    boolean completed = false;
+    try {
+      this.jsonContentHandler.startJson();
+      
+      this.pushFrame(jsonObject);
+      
+      completed = true;
+    }
+    finally {
+      if (!completed) {
+        this.clearFrames();
+      }
+    }
+    
+    return this.resumeContent();
+  }
+  
+  /**
+   * Resume the generation of the content that has paused.
+   * <p>
+   * This method will have no effect if the generation has not paused, or if
+   * it is called by the consumer while a value is being generated, so it may
+   * be called whenever the consumer signals that it is ready, but it must not
+   * be called concurrently with the generation.
+   * <p>
+   * If the JSON content handler throws an exception, the generation is
+   * abandoned, so that this generator may be used again.
+   *
+   * @return <code>true</code> if the content has been generated, or <code>false</code> if the generation has not completed.
+   */
+  public boolean resumeContent() {
+    if (this.resuming) {
+      return false;
+    }
+    
+    boolean completed = false;
+    
+    this.resuming = true;
+    try {
+      boolean generated = this.generateEntries();
+      
+      completed = true;
+      
+      return generated;
+    }
+    finally {
+      this.resuming = false;
+      
+      if (!completed) {
+        this.clearFrames();
+      }
+    }
+  }
+  
+  /**
+   * Determine if the generation of the content has paused.
+   *
+   * @return <code>true</code> if the generation has paused.
+   */
+  public boolean isPaused() {
+    return this.depth != -1 && !this.resuming;
+  }
+  
   /**
    * Handle the given JSON object.
+   * <p>
+   * This method generates the content of the given JSON object without the
+   * start and the end of the JSON content.
    *
    * @param jsonObject The JSON object.
+   * @see JsonContentSource#generateContent(JsonObjectContentGenerator)
    */
-  private void handleJsonObject(JsonObject jsonObject) {
-    if (jsonObject.isArray()) {
+  public void handleJsonObject(JsonObject jsonObject) {
+    Object object = jsonObject.getObject();
+    
+    if (object instanceof JsonContentSource) {
+      JsonContentSource jsonContentSource = (JsonContentSource)object;
+      
+      jsonContentSource.generateContent(this);
+    }
+    else if (jsonObject.isArray()) {
       JsonArray jsonArray = jsonObject.cast(JsonArray.class);
       
       this.jsonContentHandler.startArray();
       
       for (int i = 0; i < jsonArray.getLength(); i++) {
-        if (jsonArray.isNullElement(i)) {
-          this.jsonContentHandler.primitive(null);
-        }
-        else if (jsonArray.isBooleanElement(i)) {
-          this.jsonContentHandler.primitive(Boolean.valueOf(jsonArray.getBooleanElement(i)));
-        }
-        else if (jsonArray.isNumberElement(i)) {
-          this.jsonContentHandler.primitive(jsonArray.getNumberElement(i));
-        }
-        else if (jsonArray.isStringElement(i)) {
-          this.jsonContentHandler.primitive(jsonArray.getStringElement(i));
-        }
-        else if (jsonArray.isObjectElement(i)) {
-          this.handleJsonObject(jsonArray.getObjectElement(i));
-        }
-        else {
-          assert false : "Unreachable condition";
-        }
+        this.handleElement(jsonArray, i, false);
       }
       
       this.jsonContentHandler.endArray();
@@ -82,29 +221,188 @@ public class JsonObjectContentGenerator extends AbstractJsonContentGenerator {
       this.jsonContentHandler.startObject();
       
       for (String propertyName : jsonObject.getPropertyNames()) {
-        this.jsonContentHandler.memberName(propertyName);
-        
-        if (jsonObject.isNullProperty(propertyName)) {
-          this.jsonContentHandler.primitive(null);
-        }
-        else if (jsonObject.isBooleanProperty(propertyName)) {
-          this.jsonContentHandler.primitive(Boolean.valueOf(jsonObject.getBooleanProperty(propertyName)));
-        }
-        else if (jsonObject.isNumberProperty(propertyName)) {
-          this.jsonContentHandler.primitive(jsonObject.getNumberProperty(propertyName));
-        }
-        else if (jsonObject.isStringProperty(propertyName)) {
-          this.jsonContentHandler.primitive(jsonObject.getStringProperty(propertyName));
-        }
-        else if (jsonObject.isObjectProperty(propertyName)) {
-          this.handleJsonObject(jsonObject.getObjectProperty(propertyName));
-        }
-        else {
-          assert false : "Unreachable condition";
-        }
+        this.handleProperty(jsonObject, propertyName, false);
       }
       
       this.jsonContentHandler.endObject();
     }
   }
+  
+  /**
+   * Generate the entries of the JSON objects and JSON arrays on the stack of
+   * frames until the stack is empty or the flow control is not ready.
+   *
+   * @return <code>true</code> if the stack is empty.
+   */
+  private boolean generateEntries() {
+    while (this.depth != -1) {
+      Frame frame = this.frames.get(this.depth);
+      
+      if (frame.jsonArray != null ? frame.index == frame.jsonArray.getLength() : !frame.propertyNames.hasNext()) {
+        this.popFrame(frame);
+      }
+      else if (!this.flowControl.isReady()) {
+        return false;
+      }
+      else if (frame.jsonArray != null) {
+        this.handleElement(frame.jsonArray, frame.index++, true);
+      }
+      else {
+        this.handleProperty(frame.jsonObject, frame.propertyNames.next(), true);
+      }
+    }
+    
+    return true;
+  }
+  
+  /**
+   * Handle the element of the given JSON array at the given index.
+   * <p>
+   * A JSON object element is either pushed onto the stack of frames or
+   * handled recursively.
+   *
+   * @param jsonArray The JSON array.
+   * @param index The index.
+   * @param push The flag that indicates that a JSON object element is to be pushed onto the stack of frames.
+   */
+  private void handleElement(JsonArray jsonArray, int index, boolean push) {
+    if (jsonArray.isNullElement(index)) {
+      this.jsonContentHandler.primitive(null);
+    }
+    else if (jsonArray.isBooleanElement(index)) {
+      this.jsonContentHandler.primitive(Boolean.valueOf(jsonArray.getBooleanElement(index)));
+    }
+    else if (jsonArray.isNumberElement(index)) {
+      this.jsonContentHandler.primitive(jsonArray.getNumberElement(index));
+    }
+    else if (jsonArray.isStringElement(index)) {
+      this.jsonContentHandler.primitive(jsonArray.getStringElement(index));
+    }
+    else if (jsonArray.isObjectElement(index)) {
+      this.handleObject(jsonArray.getObjectElement(index), push);
+    }
+    else {
+      assert false : "Unreachable condition";
+    }
+  }
+  
+  /**
+   * Handle the property of the given JSON object with the given name.
+   * <p>
+   * A JSON object property is either pushed onto the stack of frames or
+   * handled recursively.
+   *
+   * @param jsonObject The JSON object.
+   * @param propertyName The property name.
+   * @param push The flag that indicates that a JSON object property is to be pushed onto the stack of frames.
+   */
+  private void handleProperty(JsonObject jsonObject, String propertyName, boolean push) {
+    this.jsonContentHandler.memberName(propertyName);
+    
+    if (jsonObject.isNullProperty(propertyName)) {
+      this.jsonContentHandler.primitive(null);
+    }
+    else if (jsonObject.isBooleanProperty(propertyName)) {
+      this.jsonContentHandler.primitive(Boolean.valueOf(jsonObject.getBooleanProperty(propertyName)));
+    }
+    else if (jsonObject.isNumberProperty(propertyName)) {
+      this.jsonContentHandler.primitive(jsonObject.getNumberProperty(propertyName));
+    }
+    else if (jsonObject.isStringProperty(propertyName)) {
+      this.jsonContentHandler.primitive(jsonObject.getStringProperty(propertyName));
+    }
+    else if (jsonObject.isObjectProperty(propertyName)) {
+      this.handleObject(jsonObject.getObjectProperty(propertyName), push);
+    }
+    else {
+      assert false : "Unreachable condition";
+    }
+  }
+  
+  /**
+   * Handle the given nested JSON object.
+   *
+   * @param jsonObject The JSON object.
+   * @param push The flag that indicates that the JSON object is to be pushed onto the stack of frames.
+   */
+  private void handleObject(JsonObject jsonObject, boolean push) {
+    if (push) {
+      this.pushFrame(jsonObject);
+    }
+    else {
+      this.handleJsonObject(jsonObject);
+    }
+  }
+  
+  /**
+   * Push a frame of the given JSON object onto the stack of frames.
+   * <p>
+   * The frames are reused, so the stack only allocates a frame for each new
+   * maximum depth.
+   *
+   * @param jsonObject The JSON object.
+   */
+  private void pushFrame(JsonObject jsonObject) {
+    if (++this.depth == this.frames.size()) {
+      this.frames.add(new Frame());
+    }
+    
+    Frame frame = this.frames.get(this.depth);
+    
+    if (jsonObject.isArray()) {
+      frame.jsonArray = jsonObject.cast(JsonArray.class);
+      frame.index = 0;
+      
+      this.jsonContentHandler.startArray();
+    }
+    else {
+      frame.jsonObject = jsonObject;
+      frame.propertyNames = jsonObject.getPropertyNames().iterator();
+      
+      this.jsonContentHandler.startObject();
+    }
+  }
+  
+  /**
+   * Pop the given frame from the stack of frames.
+   * <p>
+   * The end of the JSON content is handled when the last frame is popped.
+   *
+   * @param frame The frame.
+   */
+  private void popFrame(Frame frame) {
+    if (frame.jsonArray != null) {
+      frame.jsonArray = null;
+      
+      this.jsonContentHandler.endArray();
+    }
+    else {
+      frame.jsonObject = null;
+      frame.propertyNames = null;
+      
+      this.jsonContentHandler.endObject();
+    }
+    
+    if (--this.depth == -1) {
+      this.flowControl = null;
+      
+      this.jsonContentHandler.endJson();
+    }
+  }
+  
+  /**
+   * Clear the stack of frames of a generation that has been abandoned.
+   */
+  private void clearFrames() {
+    for (int i = 0; i < this.frames.size(); i++) {
+      Frame frame = this.frames.get(i);
+      
+      frame.jsonObject = null;
+      frame.propertyNames = null;
+      frame.jsonArray = null;
+    }
+    
+    this.depth = -1;
+    this.flowControl = null;
+  }
 }
@@ -17,6 +17,12 @@ package org.kjots.json.object.simple;
 
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
+
+import org.kjots.json.content.shared.JsonContentHandler;
+
+import org.kjots.json.object.shared.content.JsonContentSource;
+import org.kjots.json.object.shared.content.JsonObjectContentGenerator;
 
 /**
  * Simple JSON Value.
@@ -26,7 +32,7 @@ import java.util.LinkedList;
  * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
  * @since 1.0
  */
-public final class SimpleJsonValue {
+public final class SimpleJsonValue implements JsonContentSource {
   /** The map. */
   private final HashMap<String, Object> map;
   
@@ -69,6 +75,19 @@ public final class SimpleJsonValue {
     return this.list;
   }
 
+  /**
+   * Generate the content of this simple JSON value.
+   * <p>
+   * This method iterates the list or the entries of the map directly, and
+   * generates the content of nested simple JSON values recursively.
+   *
+   * @param jsonObjectContentGenerator The JSON object content generator.
+   */
+  @Override
+  public void generateContent(JsonObjectContentGenerator jsonObjectContentGenerator) {
+    this.generateContent(jsonObjectContentGenerator.getJsonContentHandler());
+  }
+  
   /**
    * Determine if this object is equal to the given object.
    *
@@ -110,6 +129,53 @@ public final class SimpleJsonValue {
     return this.list != null ? this.list.toString() : this.map.toString();
   }
   
+  /**
+   * Generate the content of this simple JSON value with the given JSON
+   * content handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   */
+  private void generateContent(JsonContentHandler jsonContentHandler) {
+    if (this.list != null) {
+      jsonContentHandler.startArray();
+      
+      for (Object element : this.list) {
+        generateValueContent(jsonContentHandler, element);
+      }
+      
+      jsonContentHandler.endArray();
+    }
+    else {
+      jsonContentHandler.startObject();
+      
+      for (Map.Entry<String, Object> entry : this.map.entrySet()) {
+        jsonContentHandler.memberName(entry.getKey());
+        
+        generateValueContent(jsonContentHandler, entry.getValue());
+      }
+      
+      jsonContentHandler.endObject();
+    }
+  }
+  
+  /**
+   * Generate the content of the given value with the given JSON content
+   * handler.
+   *
+   * @param jsonContentHandler The JSON content handler.
+   * @param value The value.
+   */
+  private static void generateValueContent(JsonContentHandler jsonContentHandler, Object value) {
+    if (value instanceof SimpleJsonValue) {
+      SimpleJsonValue simpleJsonValue = (SimpleJsonValue)value;
+      
+      simpleJsonValue.generateContent(jsonContentHandler);
+    }
+    else {
+      jsonContentHandler.primitive(value);
+    }
+  }
+  
   /**
    * Construct a new Simple JSON Value.
    * <p>
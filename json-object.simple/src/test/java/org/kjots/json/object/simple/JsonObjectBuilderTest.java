@@ -0,0 +1,201 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.object.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.google.inject.Guice;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.kjots.json.content.shared.CharArraySequence;
+import org.kjots.json.content.shared.JsonSymbolTable;
+
+import org.kjots.json.object.shared.JsonArray;
+import org.kjots.json.object.shared.JsonObject;
+import org.kjots.json.object.shared.content.JsonObjectBuilder;
+
+/**
+ * JSON Object Builder Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class JsonObjectBuilderTest {
+  /**
+   * Set up the JSON object builder test.
+   */
+  @Before
+  public void setUp() {
+    Guice.createInjector(new SimpleJsonObjectModule());
+  }
+
+  /**
+   * Test the building of typed JSON primitives.
+   * <p>
+   * This test asserts that the values of the JSON primitives handled by
+   * {@link JsonObjectBuilder#primitiveLong(long)} and
+   * {@link JsonObjectBuilder#primitiveDouble(double)} are stored as the
+   * numbers that a reader would report for them, both as the properties of
+   * a JSON object and as the elements of a JSON array.
+   */
+  @Test
+  public void testTypedPrimitives() {
+    JsonObjectBuilder jsonObjectBuilder = new JsonObjectBuilder();
+
+    jsonObjectBuilder.startJson();
+    jsonObjectBuilder.startObject();
+    jsonObjectBuilder.memberName("int");
+    jsonObjectBuilder.primitiveLong(-42);
+    jsonObjectBuilder.memberName("long");
+    jsonObjectBuilder.primitiveLong(1L << 40);
+    jsonObjectBuilder.memberName("double");
+    jsonObjectBuilder.primitiveDouble(2.5);
+    jsonObjectBuilder.memberName("array");
+    jsonObjectBuilder.startArray();
+    jsonObjectBuilder.primitiveLong(Integer.MAX_VALUE);
+    jsonObjectBuilder.primitiveLong(Long.MIN_VALUE);
+    jsonObjectBuilder.primitiveDouble(-0.125);
+    jsonObjectBuilder.endArray();
+    jsonObjectBuilder.endObject();
+    jsonObjectBuilder.endJson();
+
+    JsonObject jsonObject = jsonObjectBuilder.getJsonObject();
+
+    assertEquals(Integer.valueOf(-42), jsonObject.getNumberProperty("int"));
+    assertEquals(Long.valueOf(1L << 40), jsonObject.getNumberProperty("long"));
+    assertEquals(Double.valueOf(2.5), jsonObject.getNumberProperty("double"));
+
+    JsonArray jsonArray = jsonObject.getObjectProperty("array").cast(JsonArray.class);
+
+    assertEquals(3, jsonArray.getLength());
+    assertEquals(Integer.valueOf(Integer.MAX_VALUE), jsonArray.getNumberElement(0));
+    assertEquals(Long.valueOf(Long.MIN_VALUE), jsonArray.getNumberElement(1));
+    assertEquals(Double.valueOf(-0.125), jsonArray.getNumberElement(2));
+  }
+
+  /**
+   * Test the building of member names and string values from a reused
+   * character sequence.
+   * <p>
+   * This test asserts that the member names and the string values handled
+   * as a {@link CharArraySequence} over a single buffer, which is
+   * overwritten for each event as a reader overwrites its buffer, are
+   * copied by the JSON object builder rather than retained.
+   */
+  @Test
+  public void testReusedCharSequence() {
+    char[] buffer = new char[16];
+    CharArraySequence charArraySequence = new CharArraySequence();
+    JsonObjectBuilder jsonObjectBuilder = new JsonObjectBuilder();
+
+    jsonObjectBuilder.startJson();
+    jsonObjectBuilder.startObject();
+    jsonObjectBuilder.memberName(fill(charArraySequence, buffer, "alpha"));
+    jsonObjectBuilder.primitiveString(fill(charArraySequence, buffer, "one"));
+    jsonObjectBuilder.memberName(fill(charArraySequence, buffer, "bravo"));
+    jsonObjectBuilder.primitiveLong(2);
+    jsonObjectBuilder.memberName(fill(charArraySequence, buffer, "charlie"));
+    jsonObjectBuilder.startObject();
+    jsonObjectBuilder.memberName(fill(charArraySequence, buffer, "delta"));
+    jsonObjectBuilder.primitiveString(fill(charArraySequence, buffer, "four"));
+    jsonObjectBuilder.endObject();
+    jsonObjectBuilder.endObject();
+    jsonObjectBuilder.endJson();
+
+    fill(charArraySequence, buffer, "zzzzzzzzzzzzzzzz");
+
+    JsonObject jsonObject = jsonObjectBuilder.getJsonObject();
+
+    assertEquals(3, jsonObject.getPropertyNames().size());
+    assertTrue(jsonObject.getPropertyNames().containsAll(Arrays.asList("alpha", "bravo", "charlie")));
+    assertEquals("one", jsonObject.getStringProperty("alpha"));
+    assertEquals(Integer.valueOf(2), jsonObject.getNumberProperty("bravo"));
+
+    JsonObject nestedJsonObject = jsonObject.getObjectProperty("charlie");
+
+    assertEquals(Collections.singleton("delta"), nestedJsonObject.getPropertyNames());
+    assertEquals("four", nestedJsonObject.getStringProperty("delta"));
+  }
+
+  /**
+   * Test the canonicalisation of member names by a symbol table.
+   * <p>
+   * This test asserts that the member names of the JSON objects built by
+   * JSON object builders that share a symbol table are the instances held
+   * by the symbol table, whether the member names are handled as strings or
+   * as a reused character sequence.
+   */
+  @Test
+  public void testSymbolTable() {
+    char[] buffer = new char[16];
+    CharArraySequence charArraySequence = new CharArraySequence();
+    JsonSymbolTable symbolTable = new JsonSymbolTable();
+    JsonObject[] jsonObjects = new JsonObject[2];
+
+    for (int i = 0; i < jsonObjects.length; i++) {
+      JsonObjectBuilder jsonObjectBuilder = new JsonObjectBuilder();
+
+      jsonObjectBuilder.setSymbolTable(symbolTable);
+
+      jsonObjectBuilder.startJson();
+      jsonObjectBuilder.startObject();
+      jsonObjectBuilder.memberName(new String("alpha"));
+      jsonObjectBuilder.primitiveLong(i);
+      jsonObjectBuilder.memberName(fill(charArraySequence, buffer, "bravo"));
+      jsonObjectBuilder.primitiveDouble(i + 0.5);
+      jsonObjectBuilder.endObject();
+      jsonObjectBuilder.endJson();
+
+      jsonObjects[i] = jsonObjectBuilder.getJsonObject();
+    }
+
+    for (int i = 0; i < jsonObjects.length; i++) {
+      JsonObject jsonObject = jsonObjects[i];
+
+      assertEquals(2, jsonObject.getPropertyNames().size());
+      assertEquals(Integer.valueOf(i), jsonObject.getNumberProperty("alpha"));
+      assertEquals(Double.valueOf(i + 0.5), jsonObject.getNumberProperty("bravo"));
+
+      for (String propertyName : jsonObject.getPropertyNames()) {
+        assertSame(symbolTable.get(propertyName), propertyName);
+      }
+    }
+  }
+
+  /**
+   * Fill the given buffer with the given string, and set the given character
+   * array sequence to view it.
+   *
+   * @param charArraySequence The character array sequence.
+   * @param buffer The buffer.
+   * @param string The string.
+   * @return The character array sequence.
+   */
+  private static CharArraySequence fill(CharArraySequence charArraySequence, char[] buffer, String string) {
+    string.getChars(0, string.length(), buffer, 0);
+
+    return charArraySequence.set(buffer, 0, string.length());
+  }
+}
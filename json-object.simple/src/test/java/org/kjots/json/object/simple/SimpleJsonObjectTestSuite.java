@@ -41,7 +41,10 @@ import org.kjots.json.object.simple.impl.SimpleJsonStringMapImplTest;
 @RunWith(Suite.class)
 @SuiteClasses({
   SimpleJsonObjectTestSuite.SimpleJsonObjectGeneratorTestSuite.class,
-  SimpleJsonObjectTestSuite.SimpleJsonObjectImplTestSuite.class
+  SimpleJsonObjectTestSuite.SimpleJsonObjectImplTestSuite.class,
+  
+  SimpleJsonValueTest.class,
+  JsonObjectBuilderTest.class
 })
 public class SimpleJsonObjectTestSuite {
   /**
@@ -0,0 +1,270 @@
+/* 
+ * Copyright © 2026 Karl J. Ots <kjots@kjots.org>
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kjots.json.object.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.inject.Guice;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.kjots.json.content.io.AsyncJsonWriter;
+import org.kjots.json.content.shared.JsonContentFlowControl;
+import org.kjots.json.content.shared.text.JsonTextBuilder;
+
+import org.kjots.json.object.shared.JsonArray;
+import org.kjots.json.object.shared.JsonObject;
+import org.kjots.json.object.shared.JsonObjectFactory;
+import org.kjots.json.object.shared.JsonObjectUtil;
+import org.kjots.json.object.shared.content.JsonObjectContentGenerator;
+
+/**
+ * Simple JSON Value Test.
+ * <p>
+ * Created: 17th October 2026.
+ *
+ * @author <a href="mailto:kjots@kjots.org">Karl J. Ots &lt;kjots@kjots.org&gt;</a>
+ * @since 1.2
+ */
+public class SimpleJsonValueTest {
+  /**
+   * Set up the simple JSON value test.
+   */
+  @Before
+  public void setUp() {
+    Guice.createInjector(new SimpleJsonObjectModule());
+  }
+
+  /**
+   * Test the generation of the content of a simple JSON value.
+   * <p>
+   * This test asserts that the simple JSON value generates its content from
+   * the map and the list directly, including the content of nested simple
+   * JSON values.
+   */
+  @Test
+  public void testGenerateContent() {
+    JsonObject nestedJsonObject = JsonObjectFactory.get().createJsonObject();
+
+    nestedJsonObject.setStringProperty("testStringProperty", "Test \"String\"");
+
+    JsonArray jsonArray = JsonObjectFactory.get().createJsonArray();
+
+    jsonArray.appendBooleanElement(null);
+    jsonArray.appendBooleanElement(true);
+    jsonArray.appendNumberElement(1);
+    jsonArray.appendNumberElement(2.5);
+    jsonArray.appendObjectElement(nestedJsonObject);
+    jsonArray.appendObjectElement(JsonObjectFactory.get().createJsonArray());
+
+    JsonObject jsonObject = JsonObjectFactory.get().createJsonObject();
+
+    jsonObject.setObjectProperty("testArrayProperty", jsonArray);
+
+    assertEquals("{\"testArrayProperty\":[null,true,1,2.5,{\"testStringProperty\":\"Test \\\"String\\\"\"},[]]}", toJsonText(jsonObject));
+  }
+
+  /**
+   * Test the cloning of a simple JSON value with many properties.
+   * <p>
+   * This test asserts that a JSON object cloned from the generated content
+   * of a simple JSON value is equal to the original JSON object, and that
+   * both generate the same content.
+   */
+  @Test
+  public void testGenerateContentClone() {
+    JsonArray jsonArray = JsonObjectFactory.get().createJsonArray();
+
+    for (int i = 0; i < 100; i++) {
+      JsonObject jsonObject = JsonObjectFactory.get().createJsonObject();
+
+      jsonObject.setNumberProperty("id", i);
+      jsonObject.setStringProperty("name", "Name " + i);
+      jsonObject.setBooleanProperty("flag", i % 2 == 0);
+      jsonObject.setObjectProperty("nested", i % 3 == 1 ? jsonArray.getObjectElement(i - 1) : null);
+
+      jsonArray.appendObjectElement(jsonObject);
+    }
+
+    JsonArray clonedJsonArray = JsonObjectUtil.clone(jsonArray);
+
+    assertEquals(jsonArray, clonedJsonArray);
+    assertEquals(toJsonText(jsonArray), toJsonText(clonedJsonArray));
+  }
+
+  /**
+   * Test the generation of the content of a large simple JSON value subject
+   * to the flow control of an asynchronous JSON writer.
+   * <p>
+   * This test asserts that the generation pauses whenever the pool of the
+   * asynchronous JSON writer is exhausted, so that the number of pending
+   * buffers never exceeds the buffer count, that the generation is resumed
+   * by the listener of the writer, and that the consumed bytes are the JSON
+   * text of the JSON object.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testGenerateContentWithFlowControl()
+    throws Exception {
+    JsonArray jsonArray = JsonObjectFactory.get().createJsonArray();
+
+    for (int i = 0; i < 1000; i++) {
+      JsonObject jsonObject = JsonObjectFactory.get().createJsonObject();
+
+      jsonObject.setNumberProperty("id", i);
+      jsonObject.setStringProperty("name", "Name " + i);
+      jsonObject.setObjectProperty("tags", JsonObjectFactory.get().createJsonArray());
+
+      jsonArray.appendObjectElement(jsonObject);
+    }
+
+    final int bufferCount = 2;
+    final JsonObjectContentGenerator jsonObjectContentGenerator = new JsonObjectContentGenerator();
+    final AsyncJsonWriter asyncJsonWriter = new AsyncJsonWriter(64, bufferCount);
+    final int[] writableCount = new int[1];
+
+    asyncJsonWriter.setListener(new AsyncJsonWriter.Listener() {
+      @Override
+      public void bufferQueued(AsyncJsonWriter asyncJsonWriter) {
+      }
+
+      @Override
+      public void writable(AsyncJsonWriter asyncJsonWriter) {
+        writableCount[0]++;
+
+        jsonObjectContentGenerator.resumeContent();
+      }
+    });
+
+    jsonObjectContentGenerator.setJsonContentHandler(asyncJsonWriter);
+
+    assertFalse(jsonObjectContentGenerator.generateContent(jsonArray, asyncJsonWriter));
+    assertTrue(jsonObjectContentGenerator.isPaused());
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    int maxPendingBufferCount = 0;
+
+    for (;;) {
+      List<ByteBuffer> buffers = new ArrayList<ByteBuffer>();
+      for (ByteBuffer buffer = asyncJsonWriter.poll(); buffer != null; buffer = asyncJsonWriter.poll()) {
+        buffers.add(buffer);
+      }
+
+      if (buffers.isEmpty()) {
+        break;
+      }
+
+      maxPendingBufferCount = Math.max(maxPendingBufferCount, buffers.size());
+
+      for (ByteBuffer buffer : buffers) {
+        outputStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+
+        asyncJsonWriter.release(buffer);
+      }
+    }
+
+    assertFalse(jsonObjectContentGenerator.isPaused());
+    assertEquals(bufferCount, maxPendingBufferCount);
+    assertTrue(writableCount[0] > 100);
+    assertEquals(toJsonText(jsonArray), outputStream.toString("UTF-8"));
+  }
+
+  /**
+   * Test the generation of the content of a simple JSON value subject to
+   * flow control when the JSON content handler fails.
+   * <p>
+   * This test asserts that the exception of the JSON content handler is
+   * thrown by the generation, that the generation is abandoned rather than
+   * paused, and that the JSON object content generator then generates the
+   * content of the JSON object again.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testGenerateContentWithFlowControlFailure()
+    throws Exception {
+    JsonArray jsonArray = JsonObjectFactory.get().createJsonArray();
+
+    for (int i = 0; i < 10; i++) {
+      JsonObject jsonObject = JsonObjectFactory.get().createJsonObject();
+
+      jsonObject.setNumberProperty("id", i);
+      jsonObject.setObjectProperty("tags", JsonObjectFactory.get().createJsonArray());
+
+      jsonArray.appendObjectElement(jsonObject);
+    }
+
+    JsonContentFlowControl flowControl = new JsonContentFlowControl() {
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+    };
+
+    JsonObjectContentGenerator jsonObjectContentGenerator = new JsonObjectContentGenerator();
+
+    jsonObjectContentGenerator.setJsonContentHandler(new JsonTextBuilder() {
+      @Override
+      public void endArray() {
+        throw new IllegalStateException();
+      }
+    });
+
+    try {
+      jsonObjectContentGenerator.generateContent(jsonArray, flowControl);
+
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException ise) {
+      // Expected
+    }
+
+    assertFalse(jsonObjectContentGenerator.isPaused());
+
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    jsonObjectContentGenerator.setJsonContentHandler(jsonTextBuilder);
+
+    assertTrue(jsonObjectContentGenerator.generateContent(jsonArray, flowControl));
+    assertEquals(toJsonText(jsonArray), jsonTextBuilder.toString());
+  }
+
+  /**
+   * Generate the JSON text of the given JSON object.
+   *
+   * @param jsonObject The JSON object.
+   * @return The JSON text.
+   */
+  private static String toJsonText(JsonObject jsonObject) {
+    JsonObjectContentGenerator jsonObjectContentGenerator = new JsonObjectContentGenerator();
+    JsonTextBuilder jsonTextBuilder = new JsonTextBuilder();
+
+    jsonObjectContentGenerator.setJsonContentHandler(jsonTextBuilder);
+    jsonObjectContentGenerator.generateContent(jsonObject);
+
+    return jsonTextBuilder.toString();
+  }
+}